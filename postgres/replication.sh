@@ -0,0 +1,5 @@
+#!/bin/bash
+# Executado apenas na criacao do volume do primario: libera conexoes de replicacao
+# para o servico postgres-replica (pg_basebackup e streaming).
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
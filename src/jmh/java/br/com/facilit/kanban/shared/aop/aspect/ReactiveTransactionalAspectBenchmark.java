@@ -0,0 +1,191 @@
+package br.com.facilit.kanban.shared.aop.aspect;
+
+import br.com.facilit.kanban.shared.aop.ReactiveTransactional;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do {@link ReactiveTransactionalAspect} por chamada, sem banco de dados.
+ *
+ * <p>O operador transacional apenas repassa o pipeline, de modo que a diferença entre os cenários é
+ * o trabalho do próprio aspecto ao montar e executar um {@code Mono}:</p>
+ * <ul>
+ *     <li>{@code direct} — o serviço sem proxy, referência</li>
+ *     <li>{@code legacy} — o aspecto anterior: anotação resolvida a cada chamada, UUID por transação
+ *     e três logs em {@code INFO}</li>
+ *     <li>{@code cached} — o aspecto atual com a medição desligada (padrão)</li>
+ *     <li>{@code cachedWithMetrics} — o aspecto atual com {@code facilit.transaction.metrics-enabled=true}</li>
+ * </ul>
+ *
+ * <p>Os logs vão para um appender que apenas formata a mensagem, sem E/S: o custo do caminho anterior
+ * em produção, que escreve no console e no OpenTelemetry, é maior que o medido aqui.</p>
+ *
+ * <pre>
+ * mvn -Pjmh -DskipTests verify
+ * </pre>
+ *
+ * @author Antonio Neto
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveTransactionalAspectBenchmark {
+
+    private Service direct;
+    private Service legacy;
+    private Service cached;
+    private Service cachedWithMetrics;
+
+    @Setup
+    public void setUp() {
+        Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.INFO);
+        FormattingAppender appender = new FormattingAppender();
+        appender.setContext(root.getLoggerContext());
+        appender.start();
+        root.addAppender(appender);
+
+        TransactionalOperator operator = new PassThroughOperator();
+        direct = new Service();
+        legacy = proxy(new LegacyAspect(operator));
+        cached = proxy(new ReactiveTransactionalAspect(operator, null, new SimpleMeterRegistry(), false));
+        cachedWithMetrics = proxy(new ReactiveTransactionalAspect(operator, null, new SimpleMeterRegistry(), true));
+    }
+
+    private static Service proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Service());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Benchmark
+    public Integer direct() {
+        return direct.find().block();
+    }
+
+    @Benchmark
+    public Integer legacy() {
+        return legacy.find().block();
+    }
+
+    @Benchmark
+    public Integer cached() {
+        return cached.find().block();
+    }
+
+    @Benchmark
+    public Integer cachedWithMetrics() {
+        return cachedWithMetrics.find().block();
+    }
+
+    /** Serviço com um método transacional trivial. */
+    public static class Service {
+
+        @ReactiveTransactional
+        public Mono<Integer> find() {
+            return Mono.just(1).map(value -> value + 1);
+        }
+    }
+
+    /** Operador que não abre transação: isola o custo do aspecto. */
+    static final class PassThroughOperator implements TransactionalOperator {
+
+        @Override
+        public <T> Flux<T> transactional(Flux<T> flux) {
+            return flux;
+        }
+
+        @Override
+        public <T> Mono<T> transactional(Mono<T> mono) {
+            return mono;
+        }
+
+        @Override
+        public <T> Flux<T> execute(TransactionCallback<T> action) {
+            return Flux.defer(() -> Flux.from(action.doInTransaction(null)));
+        }
+    }
+
+    /** Appender sem E/S que formata cada mensagem, como os appenders reais. */
+    static final class FormattingAppender extends AppenderBase<ILoggingEvent> {
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            event.getFormattedMessage();
+        }
+    }
+
+    /** Caminho anterior do aspecto, para comparação. */
+    @Aspect
+    static class LegacyAspect {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(LegacyAspect.class);
+
+        private final TransactionalOperator txOperator;
+
+        LegacyAspect(TransactionalOperator txOperator) {
+            this.txOperator = txOperator;
+        }
+
+        @Around(value = "@annotation(transactional)", argNames = "pjp,transactional")
+        public Object applyTransaction(ProceedingJoinPoint pjp, ReactiveTransactional transactional) throws Throwable {
+            String txId = UUID.randomUUID().toString();
+            log.info("Iniciando transação reativa | txId={}, readOnly={}", txId, transactional.readOnly());
+
+            Object result = pjp.proceed();
+            TransactionalOperator operator = operatorFor(transactional);
+            Duration timeout = transactional.timeout() > 0 ? Duration.ofSeconds(transactional.timeout()) : null;
+
+            if (result instanceof Mono<?> monoResult) {
+                Mono<?> mono = monoResult
+                        .doOnSubscribe(s -> log.info("Executando Mono | txId={}", txId))
+                        .doOnError(err -> log.error("Rollback Mono | txId={} | motivo={}", txId, err.getMessage()))
+                        .doOnSuccess(v -> log.info("Commit Mono | txId={}", txId));
+                return (timeout == null ? mono : mono.timeout(timeout)).as(operator::transactional);
+            }
+            throw new IllegalStateException("@ReactiveTransactional só pode ser usado com Mono ou Flux.");
+        }
+
+        private TransactionalOperator operatorFor(ReactiveTransactional transactional) {
+            if (!transactional.readOnly()
+                    && transactional.isolation() == Isolation.DEFAULT
+                    && transactional.timeout() == TransactionDefinition.TIMEOUT_DEFAULT) {
+                return txOperator;
+            }
+            throw new IllegalStateException("O benchmark cobre apenas métodos sem atributos.");
+        }
+    }
+}
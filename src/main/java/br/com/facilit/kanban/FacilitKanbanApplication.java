@@ -2,8 +2,10 @@ package br.com.facilit.kanban;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class FacilitKanbanApplication {
 
 	public static void main(String[] args) {
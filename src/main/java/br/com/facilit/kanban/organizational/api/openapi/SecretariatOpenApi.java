@@ -4,6 +4,7 @@ import br.com.facilit.kanban.organizational.domain.dto.SecretariatDTO;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -32,6 +33,7 @@ public interface SecretariatOpenApi {
      * Cria uma nova Secretaria no sistema.
      *
      * @param request objeto contendo os dados para criação de uma nova Secretaria
+     * @param idempotencyKey chave de idempotência opcional
      * @return {@link Mono} contendo os dados da Secretaria criada
      */
     @Operation(
@@ -44,12 +46,16 @@ public interface SecretariatOpenApi {
                             content = @Content(schema = @Schema(implementation = SecretariatDTO.Response.class))
                     ),
                     @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+                    @ApiResponse(responseCode = "422", description = "Idempotency-Key já usada com outra requisição"),
                     @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
             }
     )
     Mono<SecretariatDTO.Response> create(
             @Parameter(description = "Dados da nova Secretaria")
-            SecretariatDTO.Request request
+            SecretariatDTO.Request request,
+            @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                    description = "Chave (até 255 caracteres) que torna a criação idempotente; repetições devolvem a mesma resposta")
+            String idempotencyKey
     );
 
     /**
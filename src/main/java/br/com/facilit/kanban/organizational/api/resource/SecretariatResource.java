@@ -5,6 +5,7 @@ import br.com.facilit.kanban.organizational.application.ppi.SecretariatPort;
 import br.com.facilit.kanban.organizational.domain.dto.SecretariatDTO;
 import br.com.facilit.kanban.shared.aop.ReactiveTransactional;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
+import br.com.facilit.kanban.shared.idempotency.IdempotencyService;
 import io.github.kelari.atg.annotation.ApiTestCase;
 import io.github.kelari.atg.annotation.ApiTestSpec;
 import io.github.kelari.atg.annotation.KelariGenerateApiTest;
@@ -43,11 +44,16 @@ import java.util.UUID;
 public class SecretariatResource implements SecretariatOpenApi {
 
     private final SecretariatPort secretariatPort;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Cria uma nova Secretaria no sistema.
      *
+     * <p>Quando o header {@code Idempotency-Key} é informado, repetições da mesma requisição
+     * devolvem a Secretaria criada na primeira chamada.</p>
+     *
      * @param request objeto contendo os dados necessários para criação
+     * @param idempotencyKey chave de idempotência opcional enviada pelo cliente
      * @return {@link Mono} contendo os dados da Secretaria criada
      */
     @ApiTestSpec(
@@ -84,8 +90,10 @@ public class SecretariatResource implements SecretariatOpenApi {
     @PostMapping
     @ReactiveTransactional
     @ResponseStatus(HttpStatus.CREATED)
-    public Mono<SecretariatDTO.Response> create(@Valid @RequestBody SecretariatDTO.Request request) {
-        return secretariatPort.create(request);
+    public Mono<SecretariatDTO.Response> create(@Valid @RequestBody SecretariatDTO.Request request,
+                                                @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("secretariat", idempotencyKey, request, SecretariatDTO.Response.class,
+                () -> secretariatPort.create(request));
     }
 
     /**
@@ -3,6 +3,8 @@ package br.com.facilit.kanban.people.api.openapi;
 import br.com.facilit.kanban.people.domain.dto.AccountableDTO;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -32,11 +34,15 @@ public interface AccountableOpenApi {
                     @ApiResponse(responseCode = "201", description = "Responsável criado com sucesso",
                             content = @Content(schema = @Schema(implementation = AccountableDTO.Response.class))),
                     @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+                    @ApiResponse(responseCode = "422", description = "Idempotency-Key já usada com outra requisição"),
                     @ApiResponse(responseCode = "409", description = "Email já cadastrado"),
                     @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
             }
     )
-    public Mono<AccountableDTO.Response> create(AccountableDTO.Request request);
+    public Mono<AccountableDTO.Response> create(AccountableDTO.Request request,
+                                                @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                                                        description = "Chave (até 255 caracteres) que torna a criação idempotente; repetições devolvem a mesma resposta")
+                                                String idempotencyKey);
 
     @Operation(
             summary = "Listar responsáveis",
@@ -5,6 +5,7 @@ import br.com.facilit.kanban.people.application.ppi.AccountablePort;
 import br.com.facilit.kanban.people.domain.dto.AccountableDTO;
 import br.com.facilit.kanban.shared.aop.ReactiveTransactional;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
+import br.com.facilit.kanban.shared.idempotency.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -31,18 +32,25 @@ import java.util.UUID;
 public class AccountableResource implements AccountableOpenApi {
 
     private final AccountablePort accountablePort;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Cria um novo responsável no sistema.
      *
+     * <p>Quando o header {@code Idempotency-Key} é informado, repetições da mesma requisição
+     * devolvem o responsável criado na primeira chamada.</p>
+     *
      * @param request objeto contendo os dados para criação do responsável
+     * @param idempotencyKey chave de idempotência opcional enviada pelo cliente
      * @return um {@link Mono} emitindo o DTO de resposta do responsável criado
      */
     @PostMapping
     @ReactiveTransactional
     @ResponseStatus(HttpStatus.CREATED)
-    public Mono<AccountableDTO.Response> create(@Valid @RequestBody AccountableDTO.Request request) {
-        return accountablePort.create(request);
+    public Mono<AccountableDTO.Response> create(@Valid @RequestBody AccountableDTO.Request request,
+                                                @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("accountable", idempotencyKey, request, AccountableDTO.Response.class,
+                () -> accountablePort.create(request));
     }
 
     /**
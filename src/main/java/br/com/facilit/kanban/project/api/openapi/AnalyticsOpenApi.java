@@ -0,0 +1,182 @@
+package br.com.facilit.kanban.project.api.openapi;
+
+import br.com.facilit.kanban.project.domain.dto.ProjectAnalyticsDTO;
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Tag(
+        name = "Indicadores de Fluxo API",
+        description = "Indicadores de fluxo dos projetos calculados a partir do histórico de status"
+)
+public interface AnalyticsOpenApi {
+
+    /**
+     * Percentis de lead time e cycle time por secretaria.
+     *
+     * @param secretariatId secretaria para filtrar (opcional)
+     * @param from primeiro dia da janela (opcional)
+     * @param to último dia da janela (opcional)
+     * @return percentis por secretaria
+     */
+    @Operation(
+            summary = "Percentis de lead time e cycle time",
+            description = "Retorna p50, p85 e p95, em dias, do lead time (criação até conclusão) e do cycle time "
+                    + "(primeira entrada em EM_ANDAMENTO até conclusão) dos projetos concluídos na janela, por secretaria. "
+                    + "Calculado a partir de histogramas diários consolidados; sem datas, considera os últimos 90 dias.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Percentis por secretaria",
+                            content = @Content(schema = @Schema(implementation = ProjectAnalyticsDTO.Flow.class))),
+                    @ApiResponse(responseCode = "422", description = "Janela inválida")
+            }
+    )
+    public Mono<ProjectAnalyticsDTO.Flow> flow(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId,
+            @Parameter(description = "Primeiro dia da janela, UTC (opcional)", example = "2025-01-01") LocalDate from,
+            @Parameter(description = "Último dia da janela, UTC (opcional)", example = "2025-03-31") LocalDate to
+    );
+
+    /**
+     * Dados do diagrama de fluxo cumulativo.
+     *
+     * @param secretariatId secretaria para filtrar (opcional)
+     * @param from primeiro dia da janela (opcional)
+     * @param to último dia da janela (opcional)
+     * @return um ponto por dia e secretaria
+     */
+    @Operation(
+            summary = "Dados do diagrama de fluxo cumulativo (CFD)",
+            description = "Retorna, para cada dia e secretaria, a quantidade de projetos em cada status ao fim do dia (UTC). "
+                    + "Os dias são consolidados uma vez por noite; a resposta termina no último dia consolidado. "
+                    + "Sem datas, considera os últimos 90 dias. Aceita application/x-ndjson para receber um ponto por linha.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Pontos do diagrama",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectAnalyticsDTO.CfdDay.class)))),
+                    @ApiResponse(responseCode = "422", description = "Janela inválida")
+            }
+    )
+    public Flux<ProjectAnalyticsDTO.CfdDay> cfd(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId,
+            @Parameter(description = "Primeiro dia da janela, UTC (opcional)", example = "2025-01-01") LocalDate from,
+            @Parameter(description = "Último dia da janela, UTC (opcional)", example = "2025-03-31") LocalDate to
+    );
+
+    /**
+     * Previsão de entrega dos projetos em aberto de uma secretaria.
+     *
+     * @param secretariatId ID da secretaria
+     * @return datas de entrega por nível de confiança
+     */
+    @Operation(
+            summary = "Previsão de entrega dos projetos em aberto",
+            description = "Estima, por simulação de Monte Carlo, as datas em que todos os projetos em aberto da secretaria "
+                    + "(PLANEJADO, EM_ANDAMENTO e ATRASADO) estarão concluídos, com 50%, 85% e 95% de confiança. "
+                    + "Cada tentativa sorteia dias do throughput diário dos últimos 90 dias encerrados. "
+                    + "O resultado fica em cache até a próxima alteração de status ou secretaria de um projeto da secretaria.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Previsão da secretaria",
+                            content = @Content(schema = @Schema(implementation = ProjectAnalyticsDTO.Forecast.class)))
+            }
+    )
+    public Mono<ProjectAnalyticsDTO.Forecast> forecast(
+            @Parameter(description = "ID da secretaria", example = "1") Long secretariatId
+    );
+
+    /**
+     * Relatório de atrasos por secretaria.
+     *
+     * @param secretariatId secretaria para filtrar (opcional)
+     * @return indicadores de atraso por secretaria
+     */
+    @Operation(
+            summary = "Relatório de atrasos por secretaria",
+            description = "Retorna, por secretaria, o total e a média de dias de atraso, a quantidade de projetos atrasados "
+                    + "e a média do percentual de tempo restante dos projetos em aberto. Projetos cancelados não são considerados. "
+                    + "O relatório fica em cache até a próxima escrita em projetos, ou por até 5 minutos.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Indicadores por secretaria",
+                            content = @Content(schema = @Schema(implementation = ProjectAnalyticsDTO.DelayReport.class)))
+            }
+    )
+    public Mono<ProjectAnalyticsDTO.DelayReport> delay(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId
+    );
+
+    /**
+     * Projetos por status e histograma de dias de atraso, calculados em memória.
+     *
+     * @param secretariatId secretaria para filtrar (opcional)
+     * @param status status para filtrar (opcional)
+     * @return contagens e tamanho do snapshot
+     */
+    @Operation(
+            summary = "Indicadores do portfólio em memória",
+            description = "Conta os projetos por status e por faixa de dias de atraso varrendo o snapshot colunar mantido em "
+                    + "memória, sem consultar o banco. O snapshot é atualizado pelas notificações de alteração de projetos, "
+                    + "com leitura eventual. A resposta inclui o tamanho do snapshot e a duração da varredura.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Indicadores do portfólio",
+                            content = @Content(schema = @Schema(implementation = ProjectAnalyticsDTO.PortfolioStats.class)))
+            }
+    )
+    public Mono<ProjectAnalyticsDTO.PortfolioStats> portfolio(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId,
+            @Parameter(description = "Status (opcional)") StatusProject status
+    );
+
+    /**
+     * Carga de trabalho dos responsáveis de uma secretaria.
+     *
+     * @param secretariatId ID da secretaria
+     * @param from primeiro dia do período (opcional)
+     * @param to último dia do período (opcional)
+     * @return projetos ativos por responsável
+     */
+    @Operation(
+            summary = "Carga de trabalho dos responsáveis",
+            description = "Retorna, para cada responsável da secretaria, quantos projetos ativos (PLANEJADO, EM_ANDAMENTO e "
+                    + "ATRASADO) têm período previsto sobreposto ao período informado, do mais ao menos carregado. "
+                    + "Responsáveis sem projetos no período aparecem com zero. Sem datas, considera os próximos 30 dias. "
+                    + "O resultado fica em cache até a próxima alteração de projetos ou de equipes.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Carga de trabalho por responsável",
+                            content = @Content(schema = @Schema(implementation = ProjectAnalyticsDTO.Workload.class))),
+                    @ApiResponse(responseCode = "422", description = "Período inválido")
+            }
+    )
+    public Mono<ProjectAnalyticsDTO.Workload> workload(
+            @Parameter(description = "ID da secretaria", example = "1") Long secretariatId,
+            @Parameter(description = "Primeiro dia do período, UTC (opcional)", example = "2025-04-01") LocalDate from,
+            @Parameter(description = "Último dia do período, UTC (opcional)", example = "2025-04-30") LocalDate to
+    );
+
+    /**
+     * Caminho crítico dos projetos de uma secretaria.
+     *
+     * @param secretariatId ID da secretaria
+     * @return datas mais cedo e mais tarde de cada projeto
+     */
+    @Operation(
+            summary = "Caminho crítico da secretaria",
+            description = "Calcula, a partir das datas previstas e das dependências entre projetos, o início e o término "
+                    + "mais cedo e mais tarde de cada projeto datado e não cancelado da secretaria, sua folga e se é crítico. "
+                    + "Projetos em um ciclo de dependências, ou que dependem de um, são marcados como bloqueados. "
+                    + "O resultado fica em cache até a próxima alteração de projetos ou de dependências da secretaria.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Caminho crítico",
+                            content = @Content(schema = @Schema(implementation = ProjectAnalyticsDTO.CriticalPath.class)))
+            }
+    )
+    public Mono<ProjectAnalyticsDTO.CriticalPath> criticalPath(
+            @Parameter(description = "ID da secretaria", example = "1") Long secretariatId
+    );
+}
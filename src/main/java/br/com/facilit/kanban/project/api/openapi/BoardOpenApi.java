@@ -0,0 +1,204 @@
+package br.com.facilit.kanban.project.api.openapi;
+
+import br.com.facilit.kanban.project.domain.dto.ProjectBoardDTO;
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(
+        name = "Quadro Kanban API",
+        description = "Operações relacionadas ao quadro Kanban de projetos"
+)
+public interface BoardOpenApi {
+
+    /**
+     * Monta o quadro Kanban.
+     *
+     * @param secretariatId secretaria para filtrar os projetos (opcional)
+     * @param limit quantidade máxima de cards por coluna
+     * @return colunas do quadro
+     */
+    @Operation(
+            summary = "Monta o quadro Kanban",
+            description = "Retorna todas as colunas de status com o total de projetos e os primeiros cards de cada uma, "
+                    + "calculadas em uma única consulta. Aceita application/x-ndjson para receber uma coluna por linha.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Colunas do quadro",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectBoardDTO.Column.class))))
+            }
+    )
+    public Flux<ProjectBoardDTO.Column> board(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId,
+            @Parameter(description = "Quantidade máxima de cards por coluna (1 a 100)") int limit
+    );
+
+    /**
+     * Acompanha as alterações do quadro em tempo real.
+     *
+     * @param secretariatId secretaria para filtrar os eventos (opcional)
+     * @return fluxo de eventos SSE
+     */
+    @Operation(
+            summary = "Alterações do quadro em tempo real (SSE)",
+            description = "Fluxo text/event-stream com as alterações de projetos, alimentado por LISTEN/NOTIFY do Postgres. "
+                    + "Substitui o polling das listagens. Ao receber RESYNC, o cliente deve recarregar o quadro.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Fluxo de eventos",
+                            content = @Content(mediaType = "text/event-stream",
+                                    schema = @Schema(implementation = ProjectBoardDTO.Event.class)))
+            }
+    )
+    public Flux<ServerSentEvent<ProjectBoardDTO.Event>> events(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId
+    );
+
+    /**
+     * Acompanha os prazos alcançados pelos projetos em tempo real.
+     *
+     * @param secretariatId secretaria para filtrar os prazos (opcional)
+     * @return fluxo de eventos SSE
+     */
+    @Operation(
+            summary = "Prazos alcançados pelos projetos em tempo real (SSE)",
+            description = "Fluxo text/event-stream com um evento START quando um projeto ativo alcança o início previsto "
+                    + "e THERM quando alcança o término previsto. Os prazos das próximas horas ficam em uma roda de "
+                    + "temporização em memória e são reagendados a cada alteração de datas.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Fluxo de prazos",
+                            content = @Content(mediaType = "text/event-stream",
+                                    schema = @Schema(implementation = ProjectBoardDTO.Deadline.class)))
+            }
+    )
+    public Flux<ServerSentEvent<ProjectBoardDTO.Deadline>> deadlines(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId
+    );
+
+    /**
+     * Monta o quadro em raias.
+     *
+     * @param limit quantidade máxima de cards por célula
+     * @return raias do quadro
+     */
+    @Operation(
+            summary = "Monta o quadro em raias (secretaria × status)",
+            description = "Retorna uma raia por secretaria com uma célula por status, cada uma com o total de projetos, "
+                    + "os primeiros cards e um cursor para os seguintes, calculados em uma única consulta. "
+                    + "Aceita application/x-ndjson para receber uma raia por linha.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Raias do quadro",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectBoardDTO.Lane.class))))
+            }
+    )
+    public Flux<ProjectBoardDTO.Lane> swimlanes(
+            @Parameter(description = "Quantidade máxima de cards por célula (1 a 50)") int limit
+    );
+
+    /**
+     * Pagina os cards de uma célula do quadro em raias.
+     *
+     * @param secretariatId secretaria da célula
+     * @param status status da célula
+     * @param cursor cursor da célula ou da página anterior (opcional)
+     * @param limit quantidade máxima de cards
+     * @return página de cards
+     */
+    @Operation(
+            summary = "Cards de uma célula do quadro em raias",
+            description = "Retorna os cards da célula após o cursor, na ordem da coluna. Sem cursor, começa do primeiro card.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Página de cards",
+                            content = @Content(schema = @Schema(implementation = ProjectBoardDTO.CellPage.class))),
+                    @ApiResponse(responseCode = "422", description = "Cursor inválido", content = @Content)
+            }
+    )
+    public Mono<ProjectBoardDTO.CellPage> cell(
+            @Parameter(description = "ID da secretaria") Long secretariatId,
+            @Parameter(description = "Status da célula") StatusProject status,
+            @Parameter(description = "Cursor da célula ou da página anterior (opcional)") String cursor,
+            @Parameter(description = "Quantidade máxima de cards (1 a 100)") int limit
+    );
+
+    /**
+     * Quantidade de projetos por status.
+     *
+     * @param secretariatId secretaria para filtrar (opcional)
+     * @return total e quantidade por status
+     */
+    @Operation(
+            summary = "Indicadores de projetos por status",
+            description = "Retorna o total de projetos e a quantidade por status, servidos a partir de contadores "
+                    + "mantidos incrementalmente, sem agregação sobre a tabela de projetos.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Indicadores",
+                            content = @Content(schema = @Schema(implementation = ProjectBoardDTO.Counters.class)))
+            }
+    )
+    public Mono<ProjectBoardDTO.Counters> counters(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId
+    );
+
+    /**
+     * Define o limite de WIP de uma coluna.
+     *
+     * @param request coluna e quantidade máxima de projetos
+     * @return limite gravado
+     */
+    @Operation(
+            summary = "Define o limite de WIP de uma coluna",
+            description = "Cria ou substitui a quantidade máxima de projetos de uma secretaria em um status. "
+                    + "Entradas na coluna além do limite (criação, troca de status ou edição) são recusadas com 422; "
+                    + "projetos que já estão na coluna não são afetados.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Limite gravado",
+                            content = @Content(schema = @Schema(implementation = ProjectBoardDTO.WipLimit.class))),
+                    @ApiResponse(responseCode = "422", description = "Dados inválidos", content = @Content)
+            }
+    )
+    public Mono<ProjectBoardDTO.WipLimit> setWipLimit(ProjectBoardDTO.WipLimit request);
+
+    /**
+     * Lista os limites de WIP.
+     *
+     * @param secretariatId secretaria para filtrar (opcional)
+     * @return limites e ocupação atual
+     */
+    @Operation(
+            summary = "Lista os limites de WIP",
+            description = "Retorna os limites definidos com a ocupação atual de cada coluna. Colunas sem registro não têm limite.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Limites de WIP",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectBoardDTO.WipLimit.class))))
+            }
+    )
+    public Flux<ProjectBoardDTO.WipLimit> wipLimits(
+            @Parameter(description = "ID da secretaria (opcional)") Long secretariatId
+    );
+
+    /**
+     * Remove o limite de WIP de uma coluna.
+     *
+     * @param secretariatId secretaria da coluna
+     * @param status status da coluna
+     * @return vazio ao concluir
+     */
+    @Operation(
+            summary = "Remove o limite de WIP de uma coluna",
+            description = "A coluna passa a não ter limite.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Limite removido"),
+                    @ApiResponse(responseCode = "404", description = "Coluna sem limite definido", content = @Content)
+            }
+    )
+    public Mono<Void> removeWipLimit(
+            @Parameter(description = "ID da secretaria") Long secretariatId,
+            @Parameter(description = "Status da coluna") StatusProject status
+    );
+}
@@ -1,10 +1,15 @@
 package br.com.facilit.kanban.project.api.openapi;
 
+import br.com.facilit.kanban.project.domain.dto.ProjectBoardDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectChangesDTO;
 import br.com.facilit.kanban.project.domain.dto.ProjectDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectDependencyDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectTeamDTO;
 import br.com.facilit.kanban.project.domain.enums.StatusProject;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -13,8 +18,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(
@@ -27,6 +35,7 @@ public interface ProjectOpenApi {
      * Cria um novo projeto.
      *
      * @param request dados do projeto a ser criado
+     * @param idempotencyKey chave de idempotência opcional
      * @return projeto criado
      */
     @Operation(
@@ -43,13 +52,17 @@ public interface ProjectOpenApi {
                     @ApiResponse(responseCode = "201", description = "Projeto criado com sucesso",
                             content = @Content(schema = @Schema(implementation = ProjectDTO.Response.class))),
                     @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+                    @ApiResponse(responseCode = "422", description = "Idempotency-Key já usada com outra requisição"),
                     @ApiResponse(responseCode = "401", description = "Não autorizado"),
                     @ApiResponse(responseCode = "403", description = "Proibido"),
                     @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
             }
     )
     public Mono<ProjectDTO.Response> create(
-            @Parameter(description = "Dados do projeto a ser criado") ProjectDTO.Request request
+            @Parameter(description = "Dados do projeto a ser criado") ProjectDTO.Request request,
+            @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                    description = "Chave (até 255 caracteres) que torna a criação idempotente; repetições devolvem a mesma resposta")
+            String idempotencyKey
     );
 
     /**
@@ -69,6 +82,29 @@ public interface ProjectOpenApi {
                                                         @RequestParam(defaultValue = "20") int size,
                                                         @RequestParam(defaultValue = "name") String sort);
 
+    /**
+     * Sincronização incremental de projetos.
+     *
+     * @param since token da sincronização anterior (opcional)
+     * @param limit quantidade máxima de alterações
+     * @return alterações e próximo token
+     */
+    @Operation(
+            summary = "Sincronização incremental de projetos",
+            description = "Retorna os projetos criados/alterados (UPSERT) e excluídos (DELETE) após o token informado, "
+                    + "em ordem. Sem token, percorre todos os projetos. Enquanto hasMore for verdadeiro, repita a chamada "
+                    + "com o token devolvido. Aplique as alterações pelo UUID do projeto.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Alterações",
+                            content = @Content(schema = @Schema(implementation = ProjectChangesDTO.Page.class))),
+                    @ApiResponse(responseCode = "422", description = "Token inválido", content = @Content)
+            }
+    )
+    public Mono<ProjectChangesDTO.Page> changes(
+            @Parameter(description = "Token devolvido pela sincronização anterior (opcional)") String since,
+            @Parameter(description = "Quantidade máxima de alterações (1 a 1000)") int limit
+    );
+
     /**
      * Busca um projeto pelo ID.
      *
@@ -115,6 +151,7 @@ public interface ProjectOpenApi {
      *
      * @param id identificador único do projeto
      * @param status novo status do projeto
+     * @param actor responsável pela alteração
      * @return projeto com status atualizado
      */
     @Operation(
@@ -128,6 +165,232 @@ public interface ProjectOpenApi {
     )
     public Mono<ProjectDTO.Response> changeStatus(
             @Parameter(description = "ID do projeto") UUID id,
-            @Parameter(description = "Novo status do projeto") StatusProject status
+            @Parameter(description = "Novo status do projeto") StatusProject status,
+            @Parameter(in = ParameterIn.HEADER, name = "X-Actor",
+                    description = "Responsável pela alteração, registrado no histórico de status")
+            String actor
+    );
+
+    /**
+     * Altera o status de um projeto agrupando trocas sucessivas.
+     *
+     * @param id identificador único do projeto
+     * @param status novo status do projeto
+     * @param actor responsável pela alteração
+     * @return projeto com o status efetivamente gravado
+     */
+    @Operation(
+            summary = "Altera o status de um projeto (modo agrupado)",
+            description = "Trocas de status do mesmo projeto dentro de uma janela curta são agrupadas em memória "
+                    + "e apenas a última é gravada. Todas as requisições da janela recebem o status gravado, "
+                    + "que pode ser diferente do enviado.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Status do projeto atualizado",
+                            content = @Content(schema = @Schema(implementation = ProjectDTO.Response.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+            }
+    )
+    public Mono<ProjectDTO.Response> changeStatusCoalesced(
+            @Parameter(description = "ID do projeto") UUID id,
+            @Parameter(description = "Novo status do projeto") StatusProject status,
+            @Parameter(in = ParameterIn.HEADER, name = "X-Actor",
+                    description = "Responsável pela alteração; no modo agrupado, vale o da última troca da janela")
+            String actor
+    );
+
+    /**
+     * Reposiciona um card na coluna do seu status.
+     *
+     * @param id identificador único do projeto
+     * @param request vizinhos do card na nova posição
+     * @return nova posição do card
+     */
+    @Operation(
+            summary = "Reposiciona um card na coluna",
+            description = "Move o card para entre os vizinhos informados, na mesma coluna. Apenas o card movido é gravado.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Card reposicionado",
+                            content = @Content(schema = @Schema(implementation = ProjectBoardDTO.Position.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado"),
+                    @ApiResponse(responseCode = "422", description = "Vizinhos inválidos ou em outra coluna")
+            }
+    )
+    public Mono<ProjectBoardDTO.Position> reorder(
+            @Parameter(description = "ID do projeto") UUID id,
+            @Parameter(description = "Vizinhos na nova posição") ProjectBoardDTO.Reorder request
+    );
+
+    /**
+     * Reposiciona um card na coluna agrupando reposicionamentos sucessivos.
+     *
+     * @param id identificador único do projeto
+     * @param request vizinhos do card na nova posição
+     * @return posição efetivamente gravada
+     */
+    @Operation(
+            summary = "Reposiciona um card na coluna (modo agrupado)",
+            description = "Reposicionamentos do mesmo card dentro de uma janela curta são agrupados em memória "
+                    + "e apenas os últimos vizinhos são gravados. Todas as requisições da janela recebem a posição "
+                    + "gravada, que pode ser diferente da enviada.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Card reposicionado",
+                            content = @Content(schema = @Schema(implementation = ProjectBoardDTO.Position.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado"),
+                    @ApiResponse(responseCode = "422", description = "Vizinhos inválidos ou em outra coluna")
+            }
+    )
+    public Mono<ProjectBoardDTO.Position> reorderCoalesced(
+            @Parameter(description = "ID do projeto") UUID id,
+            @Parameter(description = "Vizinhos na nova posição") ProjectBoardDTO.Reorder request
+    );
+
+    /**
+     * Vincula responsáveis à equipe de um projeto.
+     *
+     * @param id identificador único do projeto
+     * @param request UUIDs dos responsáveis
+     * @return quantidade de vínculos criados
+     */
+    @Operation(
+            summary = "Vincula responsáveis ao projeto",
+            description = "Vincula uma lista de responsáveis à equipe do projeto em uma única operação. "
+                    + "Responsáveis já vinculados ou inexistentes são ignorados.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Responsáveis vinculados",
+                            content = @Content(schema = @Schema(implementation = ProjectTeamDTO.Result.class))),
+                    @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+            }
+    )
+    public Mono<ProjectTeamDTO.Result> assignTeam(
+            @Parameter(description = "ID do projeto") UUID id,
+            @Parameter(description = "Responsáveis a vincular") ProjectTeamDTO.Request request
+    );
+
+    /**
+     * Desvincula responsáveis da equipe de um projeto.
+     *
+     * @param id identificador único do projeto
+     * @param accountableIds UUIDs dos responsáveis
+     * @return quantidade de vínculos removidos
+     */
+    @Operation(
+            summary = "Desvincula responsáveis do projeto",
+            description = "Remove uma lista de responsáveis da equipe do projeto em uma única operação.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Responsáveis desvinculados",
+                            content = @Content(schema = @Schema(implementation = ProjectTeamDTO.Result.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+            }
+    )
+    public Mono<ProjectTeamDTO.Result> unassignTeam(
+            @Parameter(description = "ID do projeto") UUID id,
+            @Parameter(description = "UUIDs dos responsáveis a desvincular") List<UUID> accountableIds
+    );
+
+    /**
+     * Lista a equipe de um projeto.
+     *
+     * @param id identificador único do projeto
+     * @return responsáveis vinculados
+     */
+    @Operation(
+            summary = "Lista a equipe do projeto",
+            description = "Retorna os responsáveis vinculados ao projeto.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Equipe do projeto",
+                            content = @Content(schema = @Schema(implementation = ProjectTeamDTO.Member.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+            }
+    )
+    public Flux<ProjectTeamDTO.Member> team(
+            @Parameter(description = "ID do projeto") UUID id
+    );
+
+    /**
+     * Linha do tempo dos projetos.
+     *
+     * @param from primeiro dia da janela
+     * @param to último dia da janela
+     * @return projetos da janela, em ordem de início previsto
+     */
+    @Operation(
+            summary = "Linha do tempo dos projetos",
+            description = "Retorna os projetos cujo período previsto (início previsto a término previsto) se sobrepõe à janela "
+                    + "informada, em ordem de início previsto. Projetos sem alguma das datas previstas não aparecem. "
+                    + "Aceita application/x-ndjson para receber um projeto por linha.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Projetos da janela",
+                            content = @Content(schema = @Schema(implementation = ProjectDTO.Response.class))),
+                    @ApiResponse(responseCode = "422", description = "Janela inválida")
+            }
+    )
+    public Flux<ProjectDTO.Response> timeline(
+            @Parameter(description = "Primeiro dia da janela, UTC", example = "2025-01-01") LocalDate from,
+            @Parameter(description = "Último dia da janela, UTC", example = "2025-03-31") LocalDate to
+    );
+
+    /**
+     * Vincula projetos dos quais um projeto depende.
+     *
+     * @param id identificador único do projeto
+     * @param request UUIDs dos projetos predecessores
+     * @return quantidade de dependências criadas
+     */
+    @Operation(
+            summary = "Vincula dependências ao projeto",
+            description = "Registra projetos que devem terminar antes do início do projeto, em uma única operação. "
+                    + "Dependências já existentes, projetos inexistentes e o próprio projeto são ignorados.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Dependências vinculadas",
+                            content = @Content(schema = @Schema(implementation = ProjectDependencyDTO.Result.class))),
+                    @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado"),
+                    @ApiResponse(responseCode = "422", description = "A dependência criaria um ciclo entre projetos")
+            }
+    )
+    public Mono<ProjectDependencyDTO.Result> addDependencies(
+            @Parameter(description = "ID do projeto") UUID id,
+            @Parameter(description = "Projetos predecessores") ProjectDependencyDTO.Request request
+    );
+
+    /**
+     * Remove projetos dos quais um projeto depende.
+     *
+     * @param id identificador único do projeto
+     * @param dependsOn UUIDs dos projetos predecessores
+     * @return quantidade de dependências removidas
+     */
+    @Operation(
+            summary = "Remove dependências do projeto",
+            description = "Remove uma lista de dependências do projeto em uma única operação.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Dependências removidas",
+                            content = @Content(schema = @Schema(implementation = ProjectDependencyDTO.Result.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+            }
+    )
+    public Mono<ProjectDependencyDTO.Result> removeDependencies(
+            @Parameter(description = "ID do projeto") UUID id,
+            @Parameter(description = "UUIDs dos projetos predecessores a remover") List<UUID> dependsOn
+    );
+
+    /**
+     * Lista as dependências diretas de um projeto.
+     *
+     * @param id identificador único do projeto
+     * @return projetos predecessores
+     */
+    @Operation(
+            summary = "Lista as dependências do projeto",
+            description = "Retorna os projetos dos quais o projeto depende diretamente, em ordem de término previsto.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Dependências do projeto",
+                            content = @Content(schema = @Schema(implementation = ProjectDependencyDTO.Dependency.class))),
+                    @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+            }
+    )
+    public Flux<ProjectDependencyDTO.Dependency> dependencies(
+            @Parameter(description = "ID do projeto") UUID id
     );
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package br.com.facilit.kanban.project.api.resource;
+
+import br.com.facilit.kanban.project.api.openapi.AnalyticsOpenApi;
+import br.com.facilit.kanban.project.application.ppi.ProjectPort;
+import br.com.facilit.kanban.project.domain.dto.ProjectAnalyticsDTO;
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Recurso REST dos indicadores de fluxo de projetos.
+ * <p>
+ * Os indicadores são lidos de consolidações diárias mantidas por tarefas agendadas,
+ * e não dos eventos brutos, para que janelas longas continuem baratas.
+ * </p>
+ *
+ * <p>Base da URL: {@code /api/analytics}</p>
+ *
+ * @author Antonio Neto
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsResource implements AnalyticsOpenApi {
+
+    private final ProjectPort projectPort;
+
+    /**
+     * Percentis de lead time e cycle time por secretaria.
+     *
+     * <pre>
+     * GET /api/analytics/flow?secretariatId=1&from=2025-01-01&to=2025-03-31
+     * </pre>
+     *
+     * @param secretariatId secretaria para filtrar (opcional).
+     * @param from primeiro dia da janela (opcional).
+     * @param to último dia da janela (opcional).
+     * @return {@link Mono} com os percentis por secretaria.
+     */
+    @GetMapping("/flow")
+    public Mono<ProjectAnalyticsDTO.Flow> flow(@RequestParam(required = false) Long secretariatId,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return projectPort.flowMetrics(secretariatId, from, to);
+    }
+
+    /**
+     * Dados do diagrama de fluxo cumulativo.
+     *
+     * <pre>
+     * GET /api/analytics/cfd?secretariatId=1&from=2025-01-01&to=2025-03-31
+     * </pre>
+     *
+     * @param secretariatId secretaria para filtrar (opcional).
+     * @param from primeiro dia da janela (opcional).
+     * @param to último dia da janela (opcional).
+     * @return {@link Flux} com um ponto por dia e secretaria.
+     */
+    @GetMapping(path = "/cfd", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProjectAnalyticsDTO.CfdDay> cfd(@RequestParam(required = false) Long secretariatId,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return projectPort.cfd(secretariatId, from, to);
+    }
+
+    /**
+     * Previsão de entrega dos projetos em aberto de uma secretaria.
+     *
+     * <pre>
+     * GET /api/analytics/forecast/1
+     * </pre>
+     *
+     * @param secretariatId ID da secretaria.
+     * @return {@link Mono} com as datas de entrega por nível de confiança.
+     */
+    @GetMapping("/forecast/{secretariatId}")
+    public Mono<ProjectAnalyticsDTO.Forecast> forecast(@PathVariable Long secretariatId) {
+        return projectPort.forecast(secretariatId);
+    }
+
+    /**
+     * Relatório de atrasos por secretaria.
+     *
+     * <pre>
+     * GET /api/analytics/delay?secretariatId=1
+     * </pre>
+     *
+     * @param secretariatId secretaria para filtrar (opcional).
+     * @return {@link Mono} com os indicadores de atraso por secretaria.
+     */
+    @GetMapping("/delay")
+    public Mono<ProjectAnalyticsDTO.DelayReport> delay(@RequestParam(required = false) Long secretariatId) {
+        return projectPort.delayReport(secretariatId);
+    }
+
+    /**
+     * Projetos por status e histograma de dias de atraso, calculados em memória.
+     *
+     * <pre>
+     * GET /api/analytics/portfolio?secretariatId=1&status=EM_ANDAMENTO
+     * </pre>
+     *
+     * @param secretariatId secretaria para filtrar (opcional).
+     * @param status status para filtrar (opcional).
+     * @return {@link Mono} com as contagens e o tamanho do snapshot.
+     */
+    @GetMapping("/portfolio")
+    public Mono<ProjectAnalyticsDTO.PortfolioStats> portfolio(@RequestParam(required = false) Long secretariatId,
+                                                              @RequestParam(required = false) StatusProject status) {
+        return projectPort.portfolioStats(secretariatId, status);
+    }
+
+    /**
+     * Carga de trabalho dos responsáveis de uma secretaria.
+     *
+     * <pre>
+     * GET /api/analytics/workload/1?from=2025-04-01&to=2025-04-30
+     * </pre>
+     *
+     * @param secretariatId ID da secretaria.
+     * @param from primeiro dia do período (opcional).
+     * @param to último dia do período (opcional).
+     * @return {@link Mono} com os projetos ativos por responsável.
+     */
+    @GetMapping("/workload/{secretariatId}")
+    public Mono<ProjectAnalyticsDTO.Workload> workload(@PathVariable Long secretariatId,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return projectPort.workload(secretariatId, from, to);
+    }
+
+    /**
+     * Caminho crítico dos projetos de uma secretaria.
+     *
+     * <pre>
+     * GET /api/analytics/critical-path/1
+     * </pre>
+     *
+     * @param secretariatId ID da secretaria.
+     * @return {@link Mono} com as datas mais cedo e mais tarde de cada projeto.
+     */
+    @GetMapping("/critical-path/{secretariatId}")
+    public Mono<ProjectAnalyticsDTO.CriticalPath> criticalPath(@PathVariable Long secretariatId) {
+        return projectPort.criticalPath(secretariatId);
+    }
+}
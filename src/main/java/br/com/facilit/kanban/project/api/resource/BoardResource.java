@@ -0,0 +1,201 @@
+package br.com.facilit.kanban.project.api.resource;
+
+import br.com.facilit.kanban.project.api.openapi.BoardOpenApi;
+import br.com.facilit.kanban.project.application.ppi.ProjectPort;
+import br.com.facilit.kanban.project.domain.dto.ProjectBoardDTO;
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.shared.aop.ReactiveTransactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Recurso REST do quadro Kanban de projetos.
+ * <p>
+ * Substitui as chamadas de listagem por coluna: o quadro inteiro é montado por uma
+ * única consulta e as colunas são transmitidas ao cliente à medida que ficam prontas.
+ * </p>
+ *
+ * @author Antonio Neto
+ */
+@RestController
+@RequestMapping("/api/board")
+public class BoardResource implements BoardOpenApi {
+
+    private final ProjectPort projectPort;
+    private final Duration heartbeat;
+
+    public BoardResource(ProjectPort projectPort,
+                         @Value("${facilit.project-changes.heartbeat:PT15S}") Duration heartbeat) {
+        this.projectPort = projectPort;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Monta o quadro Kanban com uma coluna por status.
+     *
+     * <pre>
+     * GET /api/board?secretariatId=1&limit=20
+     * </pre>
+     *
+     * @param secretariatId secretaria para filtrar os projetos (opcional).
+     * @param limit quantidade máxima de cards por coluna.
+     * @return {@link Flux} com as colunas do quadro.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProjectBoardDTO.Column> board(@RequestParam(required = false) Long secretariatId,
+                                              @RequestParam(defaultValue = "20") int limit) {
+        return projectPort.board(secretariatId, limit);
+    }
+
+    /**
+     * Acompanha as alterações do quadro Kanban via Server-Sent Events.
+     *
+     * <p>Todos os clientes da instância compartilham uma única escuta do Postgres. Um comentário
+     * de keep-alive é enviado a cada {@code facilit.project-changes.heartbeat} para manter a
+     * conexão aberta em proxies.</p>
+     *
+     * @param secretariatId secretaria para filtrar os eventos (opcional).
+     * @return {@link Flux} infinito de eventos SSE.
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ProjectBoardDTO.Event>> events(@RequestParam(required = false) Long secretariatId) {
+        Flux<ServerSentEvent<ProjectBoardDTO.Event>> events = projectPort.boardEvents(secretariatId)
+                .map(event -> ServerSentEvent.<ProjectBoardDTO.Event>builder()
+                        .event(event.op())
+                        .data(event)
+                        .build());
+        Flux<ServerSentEvent<ProjectBoardDTO.Event>> heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<ProjectBoardDTO.Event>builder().comment("heartbeat").build());
+        return Flux.merge(events, heartbeats);
+    }
+
+    /**
+     * Acompanha os prazos alcançados pelos projetos via Server-Sent Events.
+     *
+     * <p>Um evento {@code START} ou {@code THERM} é enviado quando um projeto ativo alcança o início
+     * ou o término previsto. Os prazos são agendados em memória e reagendados a cada alteração de
+     * datas, sem consultas periódicas por cliente.</p>
+     *
+     * @param secretariatId secretaria para filtrar os prazos (opcional).
+     * @return {@link Flux} infinito de eventos SSE.
+     */
+    @GetMapping(path = "/deadlines", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ProjectBoardDTO.Deadline>> deadlines(@RequestParam(required = false) Long secretariatId) {
+        Flux<ServerSentEvent<ProjectBoardDTO.Deadline>> deadlines = projectPort.deadlineEvents(secretariatId)
+                .map(deadline -> ServerSentEvent.<ProjectBoardDTO.Deadline>builder()
+                        .event(deadline.kind())
+                        .data(deadline)
+                        .build());
+        Flux<ServerSentEvent<ProjectBoardDTO.Deadline>> heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<ProjectBoardDTO.Deadline>builder().comment("heartbeat").build());
+        return Flux.merge(deadlines, heartbeats);
+    }
+
+    /**
+     * Monta o quadro em raias: uma raia por secretaria e uma célula por status.
+     *
+     * <pre>
+     * GET /api/board/swimlanes?limit=5
+     * </pre>
+     *
+     * @param limit quantidade máxima de cards por célula.
+     * @return {@link Flux} com as raias do quadro.
+     */
+    @GetMapping(path = "/swimlanes", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProjectBoardDTO.Lane> swimlanes(@RequestParam(defaultValue = "5") int limit) {
+        return projectPort.swimlanes(limit);
+    }
+
+    /**
+     * Pagina os cards de uma célula do quadro em raias a partir do cursor da célula.
+     *
+     * <pre>
+     * GET /api/board/swimlanes/1/EM_ANDAMENTO?cursor=MDAwMDAwMDAzVnw0Mg&limit=20
+     * </pre>
+     *
+     * @param secretariatId secretaria da célula.
+     * @param status status da célula.
+     * @param cursor cursor da célula ou da página anterior (opcional).
+     * @param limit quantidade máxima de cards.
+     * @return {@link Mono} com a página de cards.
+     */
+    @GetMapping("/swimlanes/{secretariatId}/{status}")
+    public Mono<ProjectBoardDTO.CellPage> cell(@PathVariable Long secretariatId,
+                                               @PathVariable StatusProject status,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") int limit) {
+        return projectPort.cell(secretariatId, status, cursor, limit);
+    }
+
+    /**
+     * Quantidade de projetos por status, para os indicadores do dashboard.
+     *
+     * @param secretariatId secretaria para filtrar (opcional).
+     * @return {@link Mono} com o total e a quantidade por status.
+     */
+    @GetMapping("/counters")
+    public Mono<ProjectBoardDTO.Counters> counters(@RequestParam(required = false) Long secretariatId) {
+        return projectPort.counters(secretariatId);
+    }
+
+    /**
+     * Define o limite de WIP de uma coluna (secretaria, status).
+     *
+     * <pre>
+     * PUT /api/board/wip-limits
+     * { "secretariatId": 1, "status": "EM_ANDAMENTO", "maxProjects": 5 }
+     * </pre>
+     *
+     * @param request coluna e quantidade máxima de projetos.
+     * @return {@link Mono} com o limite gravado.
+     */
+    @PutMapping("/wip-limits")
+    @ReactiveTransactional
+    public Mono<ProjectBoardDTO.WipLimit> setWipLimit(@RequestBody ProjectBoardDTO.WipLimit request) {
+        return projectPort.setWipLimit(request);
+    }
+
+    /**
+     * Lista os limites de WIP definidos, com a ocupação atual de cada coluna.
+     *
+     * @param secretariatId secretaria para filtrar (opcional).
+     * @return {@link Flux} com os limites.
+     */
+    @GetMapping("/wip-limits")
+    public Flux<ProjectBoardDTO.WipLimit> wipLimits(@RequestParam(required = false) Long secretariatId) {
+        return projectPort.wipLimits(secretariatId);
+    }
+
+    /**
+     * Remove o limite de WIP de uma coluna, que passa a não ter limite.
+     *
+     * <pre>
+     * DELETE /api/board/wip-limits?secretariatId=1&status=EM_ANDAMENTO
+     * </pre>
+     *
+     * @param secretariatId secretaria da coluna.
+     * @param status status da coluna.
+     * @return {@link Mono} vazio ao concluir.
+     */
+    @DeleteMapping("/wip-limits")
+    @ReactiveTransactional
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> removeWipLimit(@RequestParam Long secretariatId, @RequestParam StatusProject status) {
+        return projectPort.removeWipLimit(secretariatId, status);
+    }
+}
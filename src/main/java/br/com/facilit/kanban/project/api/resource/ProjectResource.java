@@ -2,21 +2,30 @@ package br.com.facilit.kanban.project.api.resource;
 
 import br.com.facilit.kanban.project.api.openapi.ProjectOpenApi;
 import br.com.facilit.kanban.project.application.ppi.ProjectPort;
+import br.com.facilit.kanban.project.domain.dto.ProjectBoardDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectChangesDTO;
 import br.com.facilit.kanban.project.domain.dto.ProjectDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectDependencyDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectTeamDTO;
 import br.com.facilit.kanban.project.domain.enums.StatusProject;
 import br.com.facilit.kanban.shared.aop.ReactiveTransactional;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
+import br.com.facilit.kanban.shared.idempotency.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -34,19 +43,29 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ProjectResource implements ProjectOpenApi {
 
+    /** Header opcional com o responsável pela troca de status, gravado em {@code project_status_history}. */
+    private static final String ACTOR_HEADER = "X-Actor";
+
     private final ProjectPort projectPort;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Cria um novo projeto com base nos dados enviados.
      *
+     * <p>Quando o header {@code Idempotency-Key} é informado, repetições da mesma requisição
+     * devolvem o projeto criado na primeira chamada, sem criar duplicatas.</p>
+     *
      * @param request objeto contendo os dados necessários para criar o projeto.
+     * @param idempotencyKey chave de idempotência opcional enviada pelo cliente.
      * @return {@link Mono} contendo o projeto criado no formato {@link ProjectDTO.Response}.
      */
     @PostMapping
     @ReactiveTransactional
     @ResponseStatus(HttpStatus.CREATED)
-    public Mono<ProjectDTO.Response> create(@Valid @RequestBody ProjectDTO.Request request) {
-        return projectPort.create(request);
+    public Mono<ProjectDTO.Response> create(@Valid @RequestBody ProjectDTO.Request request,
+                                            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("project", idempotencyKey, request, ProjectDTO.Response.class,
+                () -> projectPort.create(request));
     }
 
     /**
@@ -61,10 +80,14 @@ public class ProjectResource implements ProjectOpenApi {
      * </pre>
      * </p>
      *
+     * <p>A página e o total são lidos em uma única transação no primário, nunca na réplica: a listagem
+     * costuma ser consultada logo após uma criação ou alteração e precisa refletir essa escrita.</p>
+     *
      * @param pageable objeto {@link Pageable} contendo número da página, tamanho da página e ordenação
      * @return {@link Mono} contendo uma {@link org.springframework.data.domain.Page} de {@link ProjectDTO.Response}
      */
     @GetMapping
+    @ReactiveTransactional
     public Mono<PageResponse<ProjectDTO.Response>> list(@RequestParam(defaultValue = "0") int page,
                                                         @RequestParam(defaultValue = "20") int size,
                                                         @RequestParam(defaultValue = "name") String sort){
@@ -72,6 +95,45 @@ public class ProjectResource implements ProjectOpenApi {
         return projectPort.list(pageable);
     }
 
+    /**
+     * Sincronização incremental: devolve apenas os projetos alterados e excluídos após o token
+     * recebido na chamada anterior, em vez de baixar novamente as páginas inteiras.
+     *
+     * <pre>
+     * GET /api/projects/changes?since=1052.17&limit=100
+     * </pre>
+     *
+     * @param since token da sincronização anterior (omitir na primeira chamada).
+     * @param limit quantidade máxima de alterações por chamada.
+     * @return {@link Mono} com as alterações e o próximo token.
+     */
+    @GetMapping("/changes")
+    public Mono<ProjectChangesDTO.Page> changes(@RequestParam(required = false) String since,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        return projectPort.changes(since, limit);
+    }
+
+    /**
+     * Linha do tempo: projetos cujo período previsto se sobrepõe à janela, em ordem de início previsto.
+     *
+     * <pre>
+     * GET /api/projects/timeline?from=2025-01-01&to=2025-03-31
+     * </pre>
+     *
+     * <p>Executada em transação somente leitura, servida pela réplica quando configurada. Nesse caso
+     * a resposta pode não refletir as escritas mais recentes, ainda não replicadas; a defasagem é o
+     * atraso de replicação ({@code replay_lag} em {@code pg_stat_replication}).</p>
+     *
+     * @param from primeiro dia da janela.
+     * @param to último dia da janela.
+     * @return {@link Flux} com os projetos da janela.
+     */
+    @GetMapping(path = "/timeline", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ReactiveTransactional(readOnly = true)
+    public Flux<ProjectDTO.Response> timeline(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return projectPort.timeline(from, to);
+    }
 
     /**
      * Busca um projeto existente pelo seu identificador único.
@@ -102,11 +164,150 @@ public class ProjectResource implements ProjectOpenApi {
      *
      * @param id identificador único do projeto.
      * @param status novo status a ser aplicado ao projeto.
+     * @param actor responsável pela alteração, registrado no histórico de status.
      * @return {@link Mono} contendo o projeto após alteração de status.
      */
     @PatchMapping("/{id}/status")
     @ReactiveTransactional
-    public Mono<ProjectDTO.Response> changeStatus(@PathVariable UUID id, @RequestParam StatusProject status) {
-        return projectPort.changeStatus(id, status);
+    public Mono<ProjectDTO.Response> changeStatus(@PathVariable UUID id, @RequestParam StatusProject status,
+                                                  @RequestHeader(name = ACTOR_HEADER, required = false) String actor) {
+        return projectPort.changeStatus(id, status, actor);
+    }
+
+    /**
+     * Atualiza o status de um projeto agrupando trocas sucessivas.
+     *
+     * <p>Modo opcional para o arrastar de cards: trocas do mesmo projeto dentro da janela
+     * {@code facilit.coalescing.window} resultam em um único {@code UPDATE} com o último status.
+     * Não usa {@link ReactiveTransactional}, pois a transação é aberta apenas na gravação.</p>
+     *
+     * @param id identificador único do projeto.
+     * @param status novo status a ser aplicado ao projeto.
+     * @param actor responsável pela alteração, registrado no histórico de status.
+     * @return {@link Mono} contendo o projeto com o status efetivamente gravado.
+     */
+    @PatchMapping("/{id}/status/coalesced")
+    public Mono<ProjectDTO.Response> changeStatusCoalesced(@PathVariable UUID id, @RequestParam StatusProject status,
+                                                           @RequestHeader(name = ACTOR_HEADER, required = false) String actor) {
+        return projectPort.changeStatusCoalesced(id, status, actor);
+    }
+
+    /**
+     * Reposiciona um card dentro da coluna do seu status.
+     *
+     * <p>A nova posição é dada pelos vizinhos ({@code after} acima, {@code before} abaixo) e
+     * apenas a chave de ordenação do card movido é gravada.</p>
+     *
+     * @param id identificador único do projeto.
+     * @param request vizinhos do card na nova posição.
+     * @return {@link Mono} com a nova posição do card.
+     */
+    @PatchMapping("/{id}/rank")
+    @ReactiveTransactional
+    public Mono<ProjectBoardDTO.Position> reorder(@PathVariable UUID id, @RequestBody ProjectBoardDTO.Reorder request) {
+        return projectPort.reorder(id, request);
+    }
+
+    /**
+     * Reposiciona um card agrupando reposicionamentos sucessivos.
+     *
+     * <p>Modo opcional para o arrastar de cards: posições do mesmo card dentro da janela
+     * {@code facilit.coalescing.window} resultam em uma única gravação com os últimos vizinhos.
+     * Não usa {@link ReactiveTransactional}, pois a transação é aberta apenas na gravação.</p>
+     *
+     * @param id identificador único do projeto.
+     * @param request vizinhos do card na nova posição.
+     * @return {@link Mono} com a posição efetivamente gravada.
+     */
+    @PatchMapping("/{id}/rank/coalesced")
+    public Mono<ProjectBoardDTO.Position> reorderCoalesced(@PathVariable UUID id, @RequestBody ProjectBoardDTO.Reorder request) {
+        return projectPort.reorderCoalesced(id, request);
+    }
+
+    /**
+     * Vincula responsáveis à equipe do projeto.
+     *
+     * <p>Todos os vínculos são gravados com um único comando SQL, independentemente
+     * da quantidade de responsáveis informados.</p>
+     *
+     * @param id identificador único do projeto.
+     * @param request UUIDs dos responsáveis.
+     * @return {@link Mono} com a quantidade de vínculos criados.
+     */
+    @PostMapping("/{id}/accountables")
+    @ReactiveTransactional
+    public Mono<ProjectTeamDTO.Result> assignTeam(@PathVariable UUID id, @Valid @RequestBody ProjectTeamDTO.Request request) {
+        return projectPort.assignTeam(id, request);
+    }
+
+    /**
+     * Desvincula responsáveis da equipe do projeto.
+     *
+     * <pre>
+     * DELETE /api/projects/{id}/accountables?accountableIds=uuid1,uuid2
+     * </pre>
+     *
+     * @param id identificador único do projeto.
+     * @param accountableIds UUIDs dos responsáveis.
+     * @return {@link Mono} com a quantidade de vínculos removidos.
+     */
+    @DeleteMapping("/{id}/accountables")
+    @ReactiveTransactional
+    public Mono<ProjectTeamDTO.Result> unassignTeam(@PathVariable UUID id, @RequestParam List<UUID> accountableIds) {
+        return projectPort.unassignTeam(id, accountableIds);
+    }
+
+    /**
+     * Lista a equipe do projeto.
+     *
+     * @param id identificador único do projeto.
+     * @return {@link Flux} com os responsáveis vinculados.
+     */
+    @GetMapping("/{id}/accountables")
+    public Flux<ProjectTeamDTO.Member> team(@PathVariable UUID id) {
+        return projectPort.team(id);
+    }
+
+    /**
+     * Vincula projetos dos quais o projeto depende.
+     *
+     * <p>A gravação é recusada com {@code 422} se criar um ciclo de dependências.</p>
+     *
+     * @param id identificador único do projeto.
+     * @param request UUIDs dos projetos predecessores.
+     * @return {@link Mono} com a quantidade de dependências criadas.
+     */
+    @PostMapping("/{id}/dependencies")
+    @ReactiveTransactional
+    public Mono<ProjectDependencyDTO.Result> addDependencies(@PathVariable UUID id, @Valid @RequestBody ProjectDependencyDTO.Request request) {
+        return projectPort.addDependencies(id, request);
+    }
+
+    /**
+     * Remove projetos dos quais o projeto depende.
+     *
+     * <pre>
+     * DELETE /api/projects/{id}/dependencies?dependsOn=uuid1,uuid2
+     * </pre>
+     *
+     * @param id identificador único do projeto.
+     * @param dependsOn UUIDs dos projetos predecessores.
+     * @return {@link Mono} com a quantidade de dependências removidas.
+     */
+    @DeleteMapping("/{id}/dependencies")
+    @ReactiveTransactional
+    public Mono<ProjectDependencyDTO.Result> removeDependencies(@PathVariable UUID id, @RequestParam List<UUID> dependsOn) {
+        return projectPort.removeDependencies(id, dependsOn);
+    }
+
+    /**
+     * Lista os projetos dos quais o projeto depende diretamente.
+     *
+     * @param id identificador único do projeto.
+     * @return {@link Flux} com os projetos predecessores.
+     */
+    @GetMapping("/{id}/dependencies")
+    public Flux<ProjectDependencyDTO.Dependency> dependencies(@PathVariable UUID id) {
+        return projectPort.dependencies(id);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,182 @@
+package br.com.facilit.kanban.project.api.rsocket;
+
+import br.com.facilit.kanban.project.application.ppi.ProjectPort;
+import br.com.facilit.kanban.project.domain.dto.ProjectBoardDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectDTO;
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.shared.aop.ReactiveTransactional;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.exception.ClientAlreadyExistsException;
+import br.com.facilit.kanban.shared.exception.InvalidRequestException;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import io.rsocket.exceptions.ApplicationErrorException;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Endpoint RSocket do módulo de projetos, exposto ao lado do HTTP.
+ *
+ * <p>Reutiliza o {@link ProjectPort}, portanto as regras são as mesmas dos recursos REST.
+ * Clientes desktop usam uma única conexão TCP multiplexada, com backpressure por stream:</p>
+ * <ul>
+ *     <li><strong>request-response</strong> — CRUD e troca de status</li>
+ *     <li><strong>request-stream</strong> — colunas do quadro e alterações em tempo real</li>
+ *     <li><strong>request-channel</strong> — movimentação de cards</li>
+ * </ul>
+ *
+ * <p>Os payloads são validados como nos endpoints REST. Erros chegam ao cliente apenas com mensagens
+ * estáveis: as das exceções de negócio ou uma mensagem genérica; a causa original é apenas registrada
+ * no log.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ProjectRSocketController {
+
+    private static final int DEFAULT_BOARD_LIMIT = 20;
+    private static final String INVALID_PAYLOAD = "Dados inválidos";
+    private static final String INTERNAL_ERROR = "Erro interno ao processar a requisição";
+
+    private final ProjectPort projectPort;
+    private final TransactionalOperator txOperator;
+
+    /**
+     * Cria um novo projeto.
+     *
+     * @param request dados do projeto
+     * @return {@link Mono} com o projeto criado
+     */
+    @MessageMapping("projects.create")
+    @ReactiveTransactional
+    public Mono<ProjectDTO.Response> create(@Valid @Payload ProjectDTO.Request request) {
+        return projectPort.create(request);
+    }
+
+    /**
+     * Busca um projeto pelo UUID.
+     *
+     * @param id UUID do projeto
+     * @return {@link Mono} com o projeto encontrado
+     */
+    @MessageMapping("projects.find.{id}")
+    public Mono<ProjectDTO.Response> find(@DestinationVariable UUID id) {
+        return projectPort.find(id);
+    }
+
+    /**
+     * Atualiza os dados de um projeto.
+     *
+     * @param id UUID do projeto
+     * @param request novos dados do projeto
+     * @return {@link Mono} com o projeto atualizado
+     */
+    @MessageMapping("projects.update.{id}")
+    @ReactiveTransactional
+    public Mono<ProjectDTO.Response> update(@DestinationVariable UUID id, @Valid @Payload ProjectDTO.Request request) {
+        return projectPort.update(id, request);
+    }
+
+    /**
+     * Altera o status de um projeto.
+     *
+     * @param id UUID do projeto
+     * @param status novo status
+     * @return {@link Mono} com o projeto atualizado
+     */
+    @MessageMapping("projects.status.{id}")
+    @ReactiveTransactional
+    public Mono<ProjectDTO.Response> changeStatus(@DestinationVariable UUID id, @Payload StatusProject status) {
+        return projectPort.changeStatus(id, status, null);
+    }
+
+    /**
+     * Colunas do quadro Kanban (request-stream).
+     *
+     * <p>As colunas são produzidas conforme a demanda do cliente: a consulta ao banco só
+     * avança à medida que o cliente solicita novos elementos.</p>
+     *
+     * @param query filtro opcional por secretaria e quantidade de cards por coluna
+     * @return {@link Flux} com as colunas do quadro
+     */
+    @MessageMapping("board")
+    public Flux<ProjectBoardDTO.Column> board(@Payload(required = false) ProjectBoardDTO.Query query) {
+        Long secretariatId = query == null ? null : query.secretariatId();
+        int limit = query == null || query.limit() == null ? DEFAULT_BOARD_LIMIT : query.limit();
+        return projectPort.board(secretariatId, limit);
+    }
+
+    /**
+     * Alterações do quadro em tempo real (request-stream).
+     *
+     * @param query filtro opcional por secretaria
+     * @return {@link Flux} infinito com as alterações dos projetos
+     */
+    @MessageMapping("board.events")
+    public Flux<ProjectBoardDTO.Event> boardEvents(@Payload(required = false) ProjectBoardDTO.Query query) {
+        return projectPort.boardEvents(query == null ? null : query.secretariatId());
+    }
+
+    /**
+     * Movimentação de cards (request-channel).
+     *
+     * <p>Cada movimento é aplicado em sua própria transação, na ordem de chegada; o próximo
+     * movimento só é solicitado ao cliente quando o anterior termina. Falhas são devolvidas
+     * no resultado do movimento correspondente e não encerram o canal.</p>
+     *
+     * @param moves movimentos enviados pelo cliente
+     * @return {@link Flux} com o resultado de cada movimento
+     */
+    @MessageMapping("board.moves")
+    public Flux<ProjectBoardDTO.MoveResult> moves(@Payload Flux<ProjectBoardDTO.Move> moves) {
+        return moves.concatMap(move -> projectPort.changeStatus(move.uuid(), move.status(), null)
+                .as(txOperator::transactional)
+                .map(response -> new ProjectBoardDTO.MoveResult(response.uuid(), response.status(), null))
+                .onErrorResume(error -> {
+                    log.warn("Falha ao mover card | uuid={}, status={}, motivo={}", move.uuid(), move.status(), error.getMessage());
+                    return Mono.just(new ProjectBoardDTO.MoveResult(move.uuid(), null, clientMessage(error)));
+                }));
+    }
+
+    /**
+     * Converte as falhas dos demais endpoints em um erro RSocket com mensagem estável.
+     *
+     * @param error falha do endpoint
+     * @return {@link Mono} com o erro devolvido ao cliente
+     */
+    @MessageExceptionHandler
+    public Mono<Void> handleException(Throwable error) {
+        return Mono.error(new ApplicationErrorException(clientMessage(error)));
+    }
+
+    /**
+     * Mensagem que pode ser enviada ao cliente: as exceções de negócio carregam mensagens escritas
+     * para o usuário; qualquer outra falha (SQL, driver, timeout) é substituída por uma mensagem genérica.
+     */
+    private static String clientMessage(Throwable error) {
+        if (error instanceof NotFoundResourceException
+                || error instanceof BusinessRuleException
+                || error instanceof ClientAlreadyExistsException
+                || error instanceof InvalidRequestException) {
+            return error.getMessage();
+        }
+        if (error instanceof MethodArgumentNotValidException) {
+            return INVALID_PAYLOAD;
+        }
+        log.error("Erro inesperado no endpoint RSocket: {}", error.getMessage(), error);
+        return INTERNAL_ERROR;
+    }
+}
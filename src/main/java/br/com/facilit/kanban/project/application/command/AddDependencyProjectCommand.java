@@ -0,0 +1,36 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando responsável por vincular dependências a um projeto.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface AddDependencyProjectCommand extends Serializable
+        permits AddDependencyProjectCommand.Input, AddDependencyProjectCommand.Output {
+
+    /**
+     * UUID do projeto dependente e UUIDs dos projetos predecessores.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            UUID uuid,
+            List<UUID> dependsOn
+    ) implements AddDependencyProjectCommand {}
+
+    /**
+     * Quantidade de dependências alteradas.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            UUID uuid,
+            long affected
+    ) implements AddDependencyProjectCommand {}
+}
@@ -0,0 +1,36 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando responsável por vincular responsáveis da equipe do projeto.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface AssignTeamProjectCommand extends Serializable
+        permits AssignTeamProjectCommand.Input, AssignTeamProjectCommand.Output {
+
+    /**
+     * UUID do projeto e UUIDs dos responsáveis.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            UUID uuid,
+            List<UUID> accountableIds
+    ) implements AssignTeamProjectCommand {}
+
+    /**
+     * Quantidade de vínculos alterados.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            UUID uuid,
+            long affected
+    ) implements AssignTeamProjectCommand {}
+}
@@ -0,0 +1,37 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Comando responsável por acompanhar as alterações do quadro Kanban em tempo real.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e cada alteração emitida (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface BoardEventsProjectCommand extends Serializable
+        permits BoardEventsProjectCommand.Input, BoardEventsProjectCommand.Output {
+
+    /**
+     * Filtro opcional por secretaria.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId
+    ) implements BoardEventsProjectCommand {}
+
+    /**
+     * Alteração ocorrida em um projeto.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            String op,
+            UUID uuid,
+            String status,
+            String oldStatus,
+            Long secretariatId
+    ) implements BoardEventsProjectCommand {}
+}
@@ -0,0 +1,51 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando responsável por montar o quadro Kanban de projetos.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output), uma coluna por status.
+ *
+ * @author Antonio Neto
+ */
+public sealed interface BoardProjectCommand extends Serializable
+        permits BoardProjectCommand.Input, BoardProjectCommand.Output, BoardProjectCommand.Card {
+
+    /**
+     * Filtro opcional por secretaria e quantidade de cards por coluna.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId,
+            int limit
+    ) implements BoardProjectCommand {}
+
+    /**
+     * Coluna do quadro: status, total de projetos e primeiros cards.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            String status,
+            long total,
+            List<Card> cards
+    ) implements BoardProjectCommand {}
+
+    /**
+     * Card de projeto exibido em uma coluna.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Card(
+            UUID uuid,
+            String name,
+            Instant expectedStart,
+            Instant expectedThermal,
+            Integer daysLate,
+            Long secretariatId
+    ) implements BoardProjectCommand {}
+}
@@ -0,0 +1,42 @@
+package br.com.facilit.kanban.project.application.command;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Comando responsável por paginar os cards de uma célula (secretaria, status) do quadro em raias.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface CellProjectCommand extends Serializable
+        permits CellProjectCommand.Input, CellProjectCommand.Output {
+
+    /**
+     * Célula, cursor devolvido pela página anterior (ou {@code null}) e tamanho da página.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId,
+            StatusProject status,
+            String cursor,
+            int limit
+    ) implements CellProjectCommand {}
+
+    /**
+     * Página de cards da célula e cursor da próxima página, ausente na última.
+     * O total da célula é ausente quando a página está vazia.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            Long secretariatId,
+            String status,
+            Long total,
+            List<BoardProjectCommand.Card> cards,
+            String cursor
+    ) implements CellProjectCommand {}
+}
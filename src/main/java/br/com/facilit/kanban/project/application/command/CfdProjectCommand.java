@@ -0,0 +1,39 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Comando responsável pelos dados do diagrama de fluxo cumulativo (CFD).
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface CfdProjectCommand extends Serializable
+        permits CfdProjectCommand.Input, CfdProjectCommand.Output {
+
+    /**
+     * Filtro opcional por secretaria e janela de dias (UTC), com início e fim inclusivos.
+     * Sem datas, a janela são os últimos 90 dias.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId,
+            LocalDate from,
+            LocalDate to
+    ) implements CfdProjectCommand {}
+
+    /**
+     * Quantidade de projetos por status de uma secretaria ao fim do dia.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            LocalDate day,
+            Long secretariatId,
+            Map<String, Long> byStatus
+    ) implements CfdProjectCommand {}
+}
@@ -20,11 +20,13 @@ public sealed interface ChangeStatusProjectCommand extends Serializable
     /**
      * Dados necessários para criar um novo projeto.
      * Representa uma ação do cliente para solicitar criação.
+     * O {@code actor} é gravado no histórico de status e pode ser nulo.
      */
     @JsonInclude(JsonInclude.Include.NON_NULL)
     record Input(
             UUID uuid,
-            StatusProject status
+            StatusProject status,
+            String actor
     ) implements ChangeStatusProjectCommand {}
 
     /**
@@ -0,0 +1,65 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando responsável pela sincronização incremental de projetos.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface ChangesProjectCommand extends Serializable
+        permits ChangesProjectCommand.Input, ChangesProjectCommand.Change, ChangesProjectCommand.Output {
+
+    /** Operação de um projeto criado ou alterado. */
+    String UPSERT = "UPSERT";
+
+    /** Operação de um projeto excluído. */
+    String DELETE = "DELETE";
+
+    /**
+     * Token da última sincronização do cliente (vazio na primeira) e tamanho da página.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            String since,
+            int limit
+    ) implements ChangesProjectCommand {}
+
+    /**
+     * Alteração de um projeto; em exclusões apenas {@code op}, {@code uuid} e {@code secretariatId}
+     * são preenchidos.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Change(
+            String op,
+            long changeSeq,
+            long id,
+            UUID uuid,
+            String name,
+            String status,
+            Instant expectedStart,
+            Instant expectedThermal,
+            Instant startActual,
+            Instant thermalActual,
+            Integer daysLate,
+            Double percentageOfTimeRemaining,
+            Long secretariatId
+    ) implements ChangesProjectCommand {}
+
+    /**
+     * Alterações em ordem, o token a enviar na próxima sincronização e se há mais alterações.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            List<Change> changes,
+            String token,
+            boolean hasMore
+    ) implements ChangesProjectCommand {}
+}
@@ -0,0 +1,35 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Comando responsável por consultar a quantidade de projetos por status.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface CountersProjectCommand extends Serializable
+        permits CountersProjectCommand.Input, CountersProjectCommand.Output {
+
+    /**
+     * Filtro opcional por secretaria.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId
+    ) implements CountersProjectCommand {}
+
+    /**
+     * Total geral e quantidade de projetos por status.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            Long secretariatId,
+            long total,
+            Map<String, Long> byStatus
+    ) implements CountersProjectCommand {}
+}
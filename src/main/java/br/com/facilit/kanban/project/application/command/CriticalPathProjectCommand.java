@@ -0,0 +1,54 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando responsável pelo caminho crítico dos projetos de uma secretaria.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface CriticalPathProjectCommand extends Serializable
+        permits CriticalPathProjectCommand.Input, CriticalPathProjectCommand.Node, CriticalPathProjectCommand.Output {
+
+    /**
+     * Secretaria consultada.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId
+    ) implements CriticalPathProjectCommand {}
+
+    /**
+     * Datas de um projeto. Projetos bloqueados por um ciclo não têm datas.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Node(
+            UUID uuid,
+            String name,
+            String status,
+            LocalDate earliestStart,
+            LocalDate earliestFinish,
+            LocalDate latestStart,
+            LocalDate latestFinish,
+            Integer slackDays,
+            boolean critical,
+            boolean blocked
+    ) implements CriticalPathProjectCommand {}
+
+    /**
+     * Término previsto da secretaria e datas de cada projeto, em ordem de início mais cedo.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            Long secretariatId,
+            LocalDate finish,
+            List<Node> projects
+    ) implements CriticalPathProjectCommand {}
+}
@@ -0,0 +1,39 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Comando responsável por acompanhar os prazos alcançados pelos projetos em tempo real.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e cada prazo emitido (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface DeadlineEventsProjectCommand extends Serializable
+        permits DeadlineEventsProjectCommand.Input, DeadlineEventsProjectCommand.Output {
+
+    /**
+     * Filtro opcional por secretaria.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId
+    ) implements DeadlineEventsProjectCommand {}
+
+    /**
+     * Prazo alcançado por um projeto.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            String kind,
+            UUID uuid,
+            String name,
+            String status,
+            Long secretariatId,
+            LocalDateTime at
+    ) implements DeadlineEventsProjectCommand {}
+}
@@ -0,0 +1,47 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Comando responsável pelo relatório de atrasos por secretaria.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface DelayReportProjectCommand extends Serializable
+        permits DelayReportProjectCommand.Input, DelayReportProjectCommand.Delay, DelayReportProjectCommand.Output {
+
+    /**
+     * Filtro opcional por secretaria.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId
+    ) implements DelayReportProjectCommand {}
+
+    /**
+     * Agregados de atraso de uma secretaria.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Delay(
+            Long secretariatId,
+            long totalProjects,
+            long overdueProjects,
+            long lateProjects,
+            long totalDaysLate,
+            Double averageDaysLate,
+            Double averagePercentageOfTimeRemaining
+    ) implements DelayReportProjectCommand {}
+
+    /**
+     * Agregados das secretarias com projetos, em ordem de secretaria.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            List<Delay> secretariats
+    ) implements DelayReportProjectCommand {}
+}
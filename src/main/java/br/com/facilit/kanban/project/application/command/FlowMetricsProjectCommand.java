@@ -0,0 +1,61 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Comando responsável pelos percentis de lead time e cycle time por secretaria.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface FlowMetricsProjectCommand extends Serializable
+        permits FlowMetricsProjectCommand.Input, FlowMetricsProjectCommand.Percentiles,
+                FlowMetricsProjectCommand.Flow, FlowMetricsProjectCommand.Output {
+
+    /**
+     * Filtro opcional por secretaria e janela de dias (UTC), com início e fim inclusivos.
+     * Sem datas, a janela são os últimos 90 dias.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId,
+            LocalDate from,
+            LocalDate to
+    ) implements FlowMetricsProjectCommand {}
+
+    /**
+     * Quantidade de conclusões e percentis, em dias. Os percentis são nulos sem conclusões.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Percentiles(
+            long count,
+            Double p50,
+            Double p85,
+            Double p95
+    ) implements FlowMetricsProjectCommand {}
+
+    /**
+     * Lead time e cycle time de uma secretaria.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Flow(
+            Long secretariatId,
+            Percentiles leadTime,
+            Percentiles cycleTime
+    ) implements FlowMetricsProjectCommand {}
+
+    /**
+     * Janela efetiva e métricas das secretarias com conclusões na janela.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            LocalDate from,
+            LocalDate to,
+            List<Flow> secretariats
+    ) implements FlowMetricsProjectCommand {}
+}
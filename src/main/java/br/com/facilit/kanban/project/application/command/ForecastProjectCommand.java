@@ -0,0 +1,43 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Comando responsável pela previsão de entrega dos projetos em aberto de uma secretaria.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface ForecastProjectCommand extends Serializable
+        permits ForecastProjectCommand.Input, ForecastProjectCommand.Output {
+
+    /**
+     * Secretaria cujos projetos em aberto serão simulados.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId
+    ) implements ForecastProjectCommand {}
+
+    /**
+     * Datas em que todos os projetos em aberto estarão concluídos, por nível de confiança.
+     * Uma data nula indica que o nível não é atingido dentro do horizonte da simulação.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            Long secretariatId,
+            long openProjects,
+            int trials,
+            int historyDays,
+            long completedInHistory,
+            LocalDate p50,
+            LocalDate p85,
+            LocalDate p95,
+            LocalDateTime generatedAt
+    ) implements ForecastProjectCommand {}
+}
@@ -0,0 +1,37 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Comando responsável por listar as dependências de um projeto.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface ListDependencyProjectCommand extends Serializable
+        permits ListDependencyProjectCommand.Input, ListDependencyProjectCommand.Output {
+
+    /**
+     * UUID do projeto consultado.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            UUID uuid
+    ) implements ListDependencyProjectCommand {}
+
+    /**
+     * Projeto do qual o projeto consultado depende.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            UUID uuid,
+            String name,
+            String status,
+            Instant expectedThermal
+    ) implements ListDependencyProjectCommand {}
+}
@@ -0,0 +1,37 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Comando responsável por listar a equipe de um projeto.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface ListTeamProjectCommand extends Serializable
+        permits ListTeamProjectCommand.Input, ListTeamProjectCommand.Output {
+
+    /**
+     * UUID do projeto consultado.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            UUID uuid
+    ) implements ListTeamProjectCommand {}
+
+    /**
+     * Responsável que faz parte da equipe.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            UUID uuid,
+            String name,
+            String email,
+            String role,
+            Long secretariatId
+    ) implements ListTeamProjectCommand {}
+}
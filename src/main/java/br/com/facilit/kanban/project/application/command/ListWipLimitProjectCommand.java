@@ -0,0 +1,35 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+/**
+ * Comando responsável por listar os limites de WIP definidos.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface ListWipLimitProjectCommand extends Serializable
+        permits ListWipLimitProjectCommand.Input, ListWipLimitProjectCommand.Output {
+
+    /**
+     * Filtro opcional por secretaria.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId
+    ) implements ListWipLimitProjectCommand {}
+
+    /**
+     * Limite da coluna e sua ocupação atual.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            Long secretariatId,
+            String status,
+            int maxProjects,
+            long current
+    ) implements ListWipLimitProjectCommand {}
+}
@@ -0,0 +1,41 @@
+package br.com.facilit.kanban.project.application.command;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Comando responsável pelos indicadores calculados sobre o snapshot colunar de projetos.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface PortfolioStatsProjectCommand extends Serializable
+        permits PortfolioStatsProjectCommand.Input, PortfolioStatsProjectCommand.Output {
+
+    /**
+     * Filtro opcional por secretaria e status.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId,
+            StatusProject status
+    ) implements PortfolioStatsProjectCommand {}
+
+    /**
+     * Contagens e histograma dos projetos filtrados, com o tamanho do snapshot.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            long matched,
+            Map<String, Long> byStatus,
+            Map<String, Long> daysLate,
+            int snapshotRows,
+            long snapshotBytes,
+            long bytesPerMillionProjects,
+            long scanMicros
+    ) implements PortfolioStatsProjectCommand {}
+}
@@ -0,0 +1,36 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando responsável por remover dependências de um projeto.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface RemoveDependencyProjectCommand extends Serializable
+        permits RemoveDependencyProjectCommand.Input, RemoveDependencyProjectCommand.Output {
+
+    /**
+     * UUID do projeto dependente e UUIDs dos projetos predecessores.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            UUID uuid,
+            List<UUID> dependsOn
+    ) implements RemoveDependencyProjectCommand {}
+
+    /**
+     * Quantidade de dependências alteradas.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            UUID uuid,
+            long affected
+    ) implements RemoveDependencyProjectCommand {}
+}
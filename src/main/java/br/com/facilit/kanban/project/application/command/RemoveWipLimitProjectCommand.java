@@ -0,0 +1,26 @@
+package br.com.facilit.kanban.project.application.command;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+/**
+ * Comando responsável por remover o limite de WIP de uma coluna (secretaria, status).
+ * Contém a estrutura de entrada (Input) necessária para a operação;
+ * a operação não possui retorno.
+ *
+ * @author Antonio Neto
+ */
+public sealed interface RemoveWipLimitProjectCommand extends Serializable
+        permits RemoveWipLimitProjectCommand.Input {
+
+    /**
+     * Coluna cujo limite será removido.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId,
+            StatusProject status
+    ) implements RemoveWipLimitProjectCommand {}
+}
@@ -0,0 +1,37 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Comando responsável por reposicionar um card dentro da coluna do seu status.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface ReorderProjectCommand extends Serializable
+        permits ReorderProjectCommand.Input, ReorderProjectCommand.Output {
+
+    /**
+     * Card movido e seus novos vizinhos; ao menos um vizinho deve ser informado.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            UUID uuid,
+            UUID after,
+            UUID before
+    ) implements ReorderProjectCommand {}
+
+    /**
+     * Nova posição do card.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            UUID uuid,
+            String status,
+            String rank
+    ) implements ReorderProjectCommand {}
+}
@@ -0,0 +1,37 @@
+package br.com.facilit.kanban.project.application.command;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+/**
+ * Comando responsável por definir o limite de WIP de uma coluna (secretaria, status).
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface SetWipLimitProjectCommand extends Serializable
+        permits SetWipLimitProjectCommand.Input, SetWipLimitProjectCommand.Output {
+
+    /**
+     * Coluna e quantidade máxima de projetos.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId,
+            StatusProject status,
+            Integer maxProjects
+    ) implements SetWipLimitProjectCommand {}
+
+    /**
+     * Limite gravado.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            Long secretariatId,
+            String status,
+            int maxProjects
+    ) implements SetWipLimitProjectCommand {}
+}
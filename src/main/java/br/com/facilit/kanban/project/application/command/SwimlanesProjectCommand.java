@@ -0,0 +1,47 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Comando responsável por montar o quadro em raias: uma raia por secretaria e
+ * uma coluna por status.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output), uma raia por secretaria.
+ *
+ * @author Antonio Neto
+ */
+public sealed interface SwimlanesProjectCommand extends Serializable
+        permits SwimlanesProjectCommand.Input, SwimlanesProjectCommand.Output, SwimlanesProjectCommand.Cell {
+
+    /**
+     * Quantidade de cards por célula.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            int limit
+    ) implements SwimlanesProjectCommand {}
+
+    /**
+     * Raia do quadro: secretaria e suas células, na ordem dos status.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            Long secretariatId,
+            String secretariatName,
+            List<Cell> cells
+    ) implements SwimlanesProjectCommand {}
+
+    /**
+     * Célula (secretaria, status): total, primeiros cards e cursor para os seguintes.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Cell(
+            String status,
+            long total,
+            List<BoardProjectCommand.Card> cards,
+            String cursor
+    ) implements SwimlanesProjectCommand {}
+}
@@ -0,0 +1,45 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Comando responsável pela linha do tempo dos projetos.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface TimelineProjectCommand extends Serializable
+        permits TimelineProjectCommand.Input, TimelineProjectCommand.Output {
+
+    /**
+     * Janela de dias (UTC), com início e fim inclusivos.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            LocalDate from,
+            LocalDate to
+    ) implements TimelineProjectCommand {}
+
+    /**
+     * Projeto cujo período previsto se sobrepõe à janela.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            String name,
+            String status,
+            UUID uuid,
+            Instant expectedStart,
+            Instant expectedThermal,
+            Instant startActual,
+            Instant thermalActual,
+            Integer daysLate,
+            Double percentageOfTimeRemaining,
+            Long secretariatId
+    ) implements TimelineProjectCommand {}
+}
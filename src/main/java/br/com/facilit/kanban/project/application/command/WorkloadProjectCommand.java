@@ -0,0 +1,52 @@
+package br.com.facilit.kanban.project.application.command;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando responsável pela carga de trabalho dos responsáveis de uma secretaria.
+ * Contém a estrutura de entrada (Input) necessária para a operação
+ * e o retorno esperado após a conclusão (Output).
+ *
+ * @author Antonio Neto
+ */
+public sealed interface WorkloadProjectCommand extends Serializable
+        permits WorkloadProjectCommand.Input, WorkloadProjectCommand.Accountable, WorkloadProjectCommand.Output {
+
+    /**
+     * Secretaria e período (UTC), com início e fim inclusivos.
+     * Sem datas, o período são os próximos 30 dias a partir de hoje.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Input(
+            Long secretariatId,
+            LocalDate from,
+            LocalDate to
+    ) implements WorkloadProjectCommand {}
+
+    /**
+     * Projetos ativos de um responsável no período.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Accountable(
+            UUID uuid,
+            String name,
+            String role,
+            long activeProjects
+    ) implements WorkloadProjectCommand {}
+
+    /**
+     * Período efetivo e responsáveis da secretaria, do mais ao menos carregado.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Output(
+            Long secretariatId,
+            LocalDate from,
+            LocalDate to,
+            List<Accountable> accountables
+    ) implements WorkloadProjectCommand {}
+}
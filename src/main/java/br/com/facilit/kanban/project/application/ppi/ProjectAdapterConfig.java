@@ -1,7 +1,12 @@
 package br.com.facilit.kanban.project.application.ppi;
 
 import br.com.facilit.kanban.project.application.command.*;
+import br.com.facilit.kanban.project.domain.dto.ProjectAnalyticsDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectBoardDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectChangesDTO;
 import br.com.facilit.kanban.project.domain.dto.ProjectDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectDependencyDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectTeamDTO;
 import br.com.facilit.kanban.project.domain.enums.StatusProject;
 import br.com.facilit.kanban.project.mapping.ProjectMapper;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
@@ -12,8 +17,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -39,6 +47,33 @@ public class ProjectAdapterConfig {
      * @param findProject caso de uso responsável pela consulta de projeto por UUID
      * @param updateProject caso de uso responsável pela atualização de dados de um projeto
      * @param changeStatusProject caso de uso responsável pela troca de status do projeto
+     * @param coalescedChangeStatusProject caso de uso que agrupa trocas de status sucessivas do projeto
+     * @param reorderProject caso de uso responsável por reposicionar o card na coluna
+     * @param coalescedReorderProject caso de uso que agrupa reposicionamentos sucessivos do card
+     * @param assignTeamProject caso de uso responsável por vincular responsáveis ao projeto
+     * @param unassignTeamProject caso de uso responsável por desvincular responsáveis do projeto
+     * @param listTeamProject caso de uso responsável por listar a equipe do projeto
+     * @param boardProject caso de uso responsável por montar o quadro Kanban
+     * @param boardEventsProject caso de uso responsável pelas alterações do quadro em tempo real
+     * @param countersProject caso de uso responsável pela quantidade de projetos por status
+     * @param setWipLimitProject caso de uso responsável por definir o limite de WIP de uma coluna
+     * @param listWipLimitProject caso de uso responsável por listar os limites de WIP
+     * @param removeWipLimitProject caso de uso responsável por remover o limite de WIP de uma coluna
+     * @param changesProject caso de uso responsável pela sincronização incremental de projetos
+     * @param swimlanesProject caso de uso responsável por montar o quadro em raias
+     * @param cellProject caso de uso responsável por paginar uma célula do quadro em raias
+     * @param flowMetricsProject caso de uso responsável pelos percentis de lead time e cycle time
+     * @param cfdProject caso de uso responsável pelos dados do diagrama de fluxo cumulativo
+     * @param forecastProject caso de uso responsável pela previsão de entrega dos projetos em aberto
+     * @param delayReportProject caso de uso responsável pelo relatório de atrasos por secretaria
+     * @param portfolioStatsProject caso de uso responsável pelos indicadores do portfólio sobre o snapshot colunar
+     * @param timelineProject caso de uso responsável pela linha do tempo dos projetos
+     * @param workloadProject caso de uso responsável pela carga de trabalho dos responsáveis
+     * @param addDependencyProject caso de uso responsável por vincular dependências ao projeto
+     * @param removeDependencyProject caso de uso responsável por remover dependências do projeto
+     * @param listDependencyProject caso de uso responsável por listar as dependências do projeto
+     * @param criticalPathProject caso de uso responsável pelo caminho crítico dos projetos de uma secretaria
+     * @param deadlineEventsProject caso de uso responsável pelos prazos alcançados pelos projetos em tempo real
      * @return implementação concreta de {@link ProjectPort}
      */
     @Bean("projectAdpter")
@@ -51,7 +86,61 @@ public class ProjectAdapterConfig {
                                      @Qualifier("updateProjectUseCase")
                                      IUseCase<UpdateProjectCommand.Input, Mono<UpdateProjectCommand.Output>> updateProject,
                                      @Qualifier("changeStatusProjectUseCase")
-                                     IUseCase<ChangeStatusProjectCommand.Input, Mono<ChangeStatusProjectCommand.Output>> changeStatusProject) {
+                                     IUseCase<ChangeStatusProjectCommand.Input, Mono<ChangeStatusProjectCommand.Output>> changeStatusProject,
+                                     @Qualifier("coalescedChangeStatusProjectUseCase")
+                                     IUseCase<ChangeStatusProjectCommand.Input, Mono<ChangeStatusProjectCommand.Output>> coalescedChangeStatusProject,
+                                     @Qualifier("reorderProjectUseCase")
+                                     IUseCase<ReorderProjectCommand.Input, Mono<ReorderProjectCommand.Output>> reorderProject,
+                                     @Qualifier("coalescedReorderProjectUseCase")
+                                     IUseCase<ReorderProjectCommand.Input, Mono<ReorderProjectCommand.Output>> coalescedReorderProject,
+                                     @Qualifier("assignTeamProjectUseCase")
+                                     IUseCase<AssignTeamProjectCommand.Input, Mono<AssignTeamProjectCommand.Output>> assignTeamProject,
+                                     @Qualifier("unassignTeamProjectUseCase")
+                                     IUseCase<UnassignTeamProjectCommand.Input, Mono<UnassignTeamProjectCommand.Output>> unassignTeamProject,
+                                     @Qualifier("listTeamProjectUseCase")
+                                     IUseCase<ListTeamProjectCommand.Input, Flux<ListTeamProjectCommand.Output>> listTeamProject,
+                                     @Qualifier("boardProjectUseCase")
+                                     IUseCase<BoardProjectCommand.Input, Flux<BoardProjectCommand.Output>> boardProject,
+                                     @Qualifier("boardEventsProjectUseCase")
+                                     IUseCase<BoardEventsProjectCommand.Input, Flux<BoardEventsProjectCommand.Output>> boardEventsProject,
+                                     @Qualifier("countersProjectUseCase")
+                                     IUseCase<CountersProjectCommand.Input, Mono<CountersProjectCommand.Output>> countersProject,
+                                     @Qualifier("setWipLimitProjectUseCase")
+                                     IUseCase<SetWipLimitProjectCommand.Input, Mono<SetWipLimitProjectCommand.Output>> setWipLimitProject,
+                                     @Qualifier("listWipLimitProjectUseCase")
+                                     IUseCase<ListWipLimitProjectCommand.Input, Flux<ListWipLimitProjectCommand.Output>> listWipLimitProject,
+                                     @Qualifier("removeWipLimitProjectUseCase")
+                                     IUseCase<RemoveWipLimitProjectCommand.Input, Mono<Void>> removeWipLimitProject,
+                                     @Qualifier("changesProjectUseCase")
+                                     IUseCase<ChangesProjectCommand.Input, Mono<ChangesProjectCommand.Output>> changesProject,
+                                     @Qualifier("swimlanesProjectUseCase")
+                                     IUseCase<SwimlanesProjectCommand.Input, Flux<SwimlanesProjectCommand.Output>> swimlanesProject,
+                                     @Qualifier("cellProjectUseCase")
+                                     IUseCase<CellProjectCommand.Input, Mono<CellProjectCommand.Output>> cellProject,
+                                     @Qualifier("flowMetricsProjectUseCase")
+                                     IUseCase<FlowMetricsProjectCommand.Input, Mono<FlowMetricsProjectCommand.Output>> flowMetricsProject,
+                                     @Qualifier("cfdProjectUseCase")
+                                     IUseCase<CfdProjectCommand.Input, Flux<CfdProjectCommand.Output>> cfdProject,
+                                     @Qualifier("forecastProjectUseCase")
+                                     IUseCase<ForecastProjectCommand.Input, Mono<ForecastProjectCommand.Output>> forecastProject,
+                                     @Qualifier("delayReportProjectUseCase")
+                                     IUseCase<DelayReportProjectCommand.Input, Mono<DelayReportProjectCommand.Output>> delayReportProject,
+                                     @Qualifier("portfolioStatsProjectUseCase")
+                                     IUseCase<PortfolioStatsProjectCommand.Input, Mono<PortfolioStatsProjectCommand.Output>> portfolioStatsProject,
+                                     @Qualifier("timelineProjectUseCase")
+                                     IUseCase<TimelineProjectCommand.Input, Flux<TimelineProjectCommand.Output>> timelineProject,
+                                     @Qualifier("workloadProjectUseCase")
+                                     IUseCase<WorkloadProjectCommand.Input, Mono<WorkloadProjectCommand.Output>> workloadProject,
+                                     @Qualifier("addDependencyProjectUseCase")
+                                     IUseCase<AddDependencyProjectCommand.Input, Mono<AddDependencyProjectCommand.Output>> addDependencyProject,
+                                     @Qualifier("removeDependencyProjectUseCase")
+                                     IUseCase<RemoveDependencyProjectCommand.Input, Mono<RemoveDependencyProjectCommand.Output>> removeDependencyProject,
+                                     @Qualifier("listDependencyProjectUseCase")
+                                     IUseCase<ListDependencyProjectCommand.Input, Flux<ListDependencyProjectCommand.Output>> listDependencyProject,
+                                     @Qualifier("criticalPathProjectUseCase")
+                                     IUseCase<CriticalPathProjectCommand.Input, Mono<CriticalPathProjectCommand.Output>> criticalPathProject,
+                                     @Qualifier("deadlineEventsProjectUseCase")
+                                     IUseCase<DeadlineEventsProjectCommand.Input, Flux<DeadlineEventsProjectCommand.Output>> deadlineEventsProject) {
 
         return new ProjectPort() {
 
@@ -95,10 +184,253 @@ public class ProjectAdapterConfig {
              * {@inheritDoc}
              */
             @Override
-            public Mono<ProjectDTO.Response> changeStatus(UUID id, StatusProject status) {
-                ChangeStatusProjectCommand.Input input = ProjectMapper.ChangeStatus.REQUEST_TO_INPUT.apply(id, status);
+            public Mono<ProjectChangesDTO.Page> changes(String since, int limit) {
+                ChangesProjectCommand.Input input = new ChangesProjectCommand.Input(since, limit);
+                return changesProject.execute(input).map(ProjectMapper.Changes.OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectDTO.Response> changeStatus(UUID id, StatusProject status, String actor) {
+                ChangeStatusProjectCommand.Input input = new ChangeStatusProjectCommand.Input(id, status, actor);
                 return changeStatusProject.execute(input).map(ProjectMapper.ChangeStatus.OUTPUT_TO_RESPONSE);
             }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectDTO.Response> changeStatusCoalesced(UUID id, StatusProject status, String actor) {
+                ChangeStatusProjectCommand.Input input = new ChangeStatusProjectCommand.Input(id, status, actor);
+                return coalescedChangeStatusProject.execute(input).map(ProjectMapper.ChangeStatus.OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectBoardDTO.Position> reorder(UUID id, ProjectBoardDTO.Reorder request) {
+                ReorderProjectCommand.Input input = ProjectMapper.Board.REORDER_TO_INPUT.apply(id, request);
+                return reorderProject.execute(input).map(ProjectMapper.Board.REORDER_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectBoardDTO.Position> reorderCoalesced(UUID id, ProjectBoardDTO.Reorder request) {
+                ReorderProjectCommand.Input input = ProjectMapper.Board.REORDER_TO_INPUT.apply(id, request);
+                return coalescedReorderProject.execute(input).map(ProjectMapper.Board.REORDER_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectTeamDTO.Result> assignTeam(UUID id, ProjectTeamDTO.Request request) {
+                AssignTeamProjectCommand.Input input = ProjectMapper.Team.REQUEST_TO_ASSIGN_INPUT.apply(id, request);
+                return assignTeamProject.execute(input).map(ProjectMapper.Team.ASSIGN_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectTeamDTO.Result> unassignTeam(UUID id, List<UUID> accountableIds) {
+                UnassignTeamProjectCommand.Input input = ProjectMapper.Team.REQUEST_TO_UNASSIGN_INPUT.apply(id, accountableIds);
+                return unassignTeamProject.execute(input).map(ProjectMapper.Team.UNASSIGN_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectTeamDTO.Member> team(UUID id) {
+                ListTeamProjectCommand.Input input = new ListTeamProjectCommand.Input(id);
+                return listTeamProject.execute(input).map(ProjectMapper.Team.OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectBoardDTO.Column> board(Long secretariatId, int limit) {
+                BoardProjectCommand.Input input = new BoardProjectCommand.Input(secretariatId, limit);
+                return boardProject.execute(input).map(ProjectMapper.Board.OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectBoardDTO.Event> boardEvents(Long secretariatId) {
+                BoardEventsProjectCommand.Input input = new BoardEventsProjectCommand.Input(secretariatId);
+                return boardEventsProject.execute(input).map(ProjectMapper.Board.EVENT_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectBoardDTO.Lane> swimlanes(int limit) {
+                SwimlanesProjectCommand.Input input = new SwimlanesProjectCommand.Input(limit);
+                return swimlanesProject.execute(input).map(ProjectMapper.Swimlane.OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectBoardDTO.CellPage> cell(Long secretariatId, StatusProject status, String cursor, int limit) {
+                CellProjectCommand.Input input = new CellProjectCommand.Input(secretariatId, status, cursor, limit);
+                return cellProject.execute(input).map(ProjectMapper.Swimlane.CELL_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectBoardDTO.Counters> counters(Long secretariatId) {
+                CountersProjectCommand.Input input = new CountersProjectCommand.Input(secretariatId);
+                return countersProject.execute(input).map(ProjectMapper.Board.COUNTERS_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectBoardDTO.WipLimit> setWipLimit(ProjectBoardDTO.WipLimit request) {
+                SetWipLimitProjectCommand.Input input = ProjectMapper.WipLimit.REQUEST_TO_SET_INPUT.apply(request);
+                return setWipLimitProject.execute(input).map(ProjectMapper.WipLimit.SET_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectBoardDTO.WipLimit> wipLimits(Long secretariatId) {
+                ListWipLimitProjectCommand.Input input = new ListWipLimitProjectCommand.Input(secretariatId);
+                return listWipLimitProject.execute(input).map(ProjectMapper.WipLimit.LIST_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<Void> removeWipLimit(Long secretariatId, StatusProject status) {
+                RemoveWipLimitProjectCommand.Input input = new RemoveWipLimitProjectCommand.Input(secretariatId, status);
+                return removeWipLimitProject.execute(input);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectAnalyticsDTO.Flow> flowMetrics(Long secretariatId, LocalDate from, LocalDate to) {
+                FlowMetricsProjectCommand.Input input = new FlowMetricsProjectCommand.Input(secretariatId, from, to);
+                return flowMetricsProject.execute(input).map(ProjectMapper.Analytics.FLOW_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectAnalyticsDTO.CfdDay> cfd(Long secretariatId, LocalDate from, LocalDate to) {
+                CfdProjectCommand.Input input = new CfdProjectCommand.Input(secretariatId, from, to);
+                return cfdProject.execute(input).map(ProjectMapper.Analytics.CFD_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectAnalyticsDTO.Forecast> forecast(Long secretariatId) {
+                ForecastProjectCommand.Input input = new ForecastProjectCommand.Input(secretariatId);
+                return forecastProject.execute(input).map(ProjectMapper.Analytics.FORECAST_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectAnalyticsDTO.DelayReport> delayReport(Long secretariatId) {
+                DelayReportProjectCommand.Input input = new DelayReportProjectCommand.Input(secretariatId);
+                return delayReportProject.execute(input).map(ProjectMapper.Analytics.DELAY_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectAnalyticsDTO.PortfolioStats> portfolioStats(Long secretariatId, StatusProject status) {
+                PortfolioStatsProjectCommand.Input input = new PortfolioStatsProjectCommand.Input(secretariatId, status);
+                return portfolioStatsProject.execute(input).map(ProjectMapper.Analytics.PORTFOLIO_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectDTO.Response> timeline(LocalDate from, LocalDate to) {
+                TimelineProjectCommand.Input input = new TimelineProjectCommand.Input(from, to);
+                return timelineProject.execute(input).map(ProjectMapper.Timeline.OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectAnalyticsDTO.Workload> workload(Long secretariatId, LocalDate from, LocalDate to) {
+                WorkloadProjectCommand.Input input = new WorkloadProjectCommand.Input(secretariatId, from, to);
+                return workloadProject.execute(input).map(ProjectMapper.Analytics.WORKLOAD_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectDependencyDTO.Result> addDependencies(UUID id, ProjectDependencyDTO.Request request) {
+                AddDependencyProjectCommand.Input input = ProjectMapper.Dependency.REQUEST_TO_ADD_INPUT.apply(id, request);
+                return addDependencyProject.execute(input).map(ProjectMapper.Dependency.ADD_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectDependencyDTO.Result> removeDependencies(UUID id, List<UUID> dependsOn) {
+                RemoveDependencyProjectCommand.Input input = ProjectMapper.Dependency.REQUEST_TO_REMOVE_INPUT.apply(id, dependsOn);
+                return removeDependencyProject.execute(input).map(ProjectMapper.Dependency.REMOVE_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectDependencyDTO.Dependency> dependencies(UUID id) {
+                ListDependencyProjectCommand.Input input = new ListDependencyProjectCommand.Input(id);
+                return listDependencyProject.execute(input).map(ProjectMapper.Dependency.OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Mono<ProjectAnalyticsDTO.CriticalPath> criticalPath(Long secretariatId) {
+                CriticalPathProjectCommand.Input input = new CriticalPathProjectCommand.Input(secretariatId);
+                return criticalPathProject.execute(input).map(ProjectMapper.Analytics.CRITICAL_PATH_OUTPUT_TO_RESPONSE);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Flux<ProjectBoardDTO.Deadline> deadlineEvents(Long secretariatId) {
+                DeadlineEventsProjectCommand.Input input = new DeadlineEventsProjectCommand.Input(secretariatId);
+                return deadlineEventsProject.execute(input).map(ProjectMapper.Deadline.OUTPUT_TO_RESPONSE);
+            }
         };
     }
 }
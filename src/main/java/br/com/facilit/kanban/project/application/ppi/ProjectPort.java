@@ -1,12 +1,20 @@
 package br.com.facilit.kanban.project.application.ppi;
 
+import br.com.facilit.kanban.project.domain.dto.ProjectAnalyticsDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectBoardDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectChangesDTO;
 import br.com.facilit.kanban.project.domain.dto.ProjectDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectDependencyDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectTeamDTO;
 import br.com.facilit.kanban.project.domain.enums.StatusProject;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -49,12 +57,257 @@ public interface ProjectPort {
      */
     Mono<ProjectDTO.Response> update(UUID id, ProjectDTO.Request request);
 
+    /**
+     * Sincronização incremental: projetos alterados e excluídos após o token informado.
+     *
+     * @param since token devolvido pela sincronização anterior, ou {@code null} na primeira
+     * @param limit quantidade máxima de alterações
+     * @return {@link Mono} com as alterações e o próximo token
+     */
+    Mono<ProjectChangesDTO.Page> changes(String since, int limit);
+
     /**
      * Altera o status de um projeto existente.
      *
      * @param id UUID do projeto a ser alterado
      * @param status novo {@link StatusProject} a ser aplicado
+     * @param actor responsável pela alteração, ou {@code null} se desconhecido
      * @return {@link Mono} contendo o {@link ProjectDTO.Response} atualizado com o novo status
      */
-    Mono<ProjectDTO.Response> changeStatus(UUID id, StatusProject status);
-}
\ No newline at end of file
+    Mono<ProjectDTO.Response> changeStatus(UUID id, StatusProject status, String actor);
+
+    /**
+     * Altera o status de um projeto agrupando trocas sucessivas do mesmo projeto
+     * dentro de uma janela curta; apenas o último status é gravado.
+     *
+     * @param id UUID do projeto a ser alterado
+     * @param status novo {@link StatusProject} a ser aplicado
+     * @param actor responsável pela alteração, ou {@code null} se desconhecido
+     * @return {@link Mono} contendo o {@link ProjectDTO.Response} com o status efetivamente gravado
+     */
+    Mono<ProjectDTO.Response> changeStatusCoalesced(UUID id, StatusProject status, String actor);
+
+    /**
+     * Reposiciona um card dentro da coluna do seu status, gravando apenas o card movido.
+     *
+     * @param id UUID do projeto movido
+     * @param request vizinhos do card na nova posição
+     * @return {@link Mono} com a nova posição do card
+     */
+    Mono<ProjectBoardDTO.Position> reorder(UUID id, ProjectBoardDTO.Reorder request);
+
+    /**
+     * Reposiciona um card agrupando reposicionamentos sucessivos do mesmo card dentro de uma
+     * janela curta; apenas os últimos vizinhos são gravados.
+     *
+     * @param id UUID do projeto movido
+     * @param request vizinhos do card na nova posição
+     * @return {@link Mono} com a posição efetivamente gravada
+     */
+    Mono<ProjectBoardDTO.Position> reorderCoalesced(UUID id, ProjectBoardDTO.Reorder request);
+
+    /**
+     * Vincula responsáveis à equipe do projeto em uma única operação.
+     *
+     * @param id UUID do projeto
+     * @param request DTO com os UUIDs dos responsáveis
+     * @return {@link Mono} com a quantidade de vínculos criados
+     */
+    Mono<ProjectTeamDTO.Result> assignTeam(UUID id, ProjectTeamDTO.Request request);
+
+    /**
+     * Desvincula responsáveis da equipe do projeto em uma única operação.
+     *
+     * @param id UUID do projeto
+     * @param accountableIds UUIDs dos responsáveis
+     * @return {@link Mono} com a quantidade de vínculos removidos
+     */
+    Mono<ProjectTeamDTO.Result> unassignTeam(UUID id, List<UUID> accountableIds);
+
+    /**
+     * Lista a equipe do projeto.
+     *
+     * @param id UUID do projeto
+     * @return {@link Flux} com os responsáveis vinculados
+     */
+    Flux<ProjectTeamDTO.Member> team(UUID id);
+
+    /**
+     * Monta o quadro Kanban com uma coluna por status.
+     *
+     * @param secretariatId secretaria para filtrar os projetos, ou {@code null} para todas
+     * @param limit quantidade máxima de cards por coluna
+     * @return {@link Flux} com as colunas do quadro, na ordem de {@link StatusProject}
+     */
+    Flux<ProjectBoardDTO.Column> board(Long secretariatId, int limit);
+
+    /**
+     * Acompanha as alterações do quadro Kanban em tempo real.
+     *
+     * @param secretariatId secretaria para filtrar os eventos, ou {@code null} para todas
+     * @return {@link Flux} infinito com as alterações dos projetos
+     */
+    Flux<ProjectBoardDTO.Event> boardEvents(Long secretariatId);
+
+    /**
+     * Monta o quadro em raias: uma raia por secretaria e uma célula por status.
+     *
+     * @param limit quantidade máxima de cards por célula
+     * @return {@link Flux} com as raias, em ordem de nome da secretaria
+     */
+    Flux<ProjectBoardDTO.Lane> swimlanes(int limit);
+
+    /**
+     * Pagina os cards de uma célula (secretaria, status) do quadro em raias.
+     *
+     * @param secretariatId secretaria da célula
+     * @param status status da célula
+     * @param cursor cursor devolvido pela célula ou pela página anterior, ou {@code null} para o início
+     * @param limit quantidade máxima de cards
+     * @return {@link Mono} com a página e o cursor da próxima
+     */
+    Mono<ProjectBoardDTO.CellPage> cell(Long secretariatId, StatusProject status, String cursor, int limit);
+
+    /**
+     * Quantidade de projetos por status, servida a partir do espelho em memória.
+     *
+     * @param secretariatId secretaria para filtrar, ou {@code null} para todas
+     * @return {@link Mono} com o total e a quantidade por status
+     */
+    Mono<ProjectBoardDTO.Counters> counters(Long secretariatId);
+
+    /**
+     * Define o limite de WIP de uma coluna (secretaria, status).
+     *
+     * @param request coluna e quantidade máxima de projetos
+     * @return {@link Mono} com o limite gravado
+     */
+    Mono<ProjectBoardDTO.WipLimit> setWipLimit(ProjectBoardDTO.WipLimit request);
+
+    /**
+     * Lista os limites de WIP definidos, com a ocupação atual de cada coluna.
+     *
+     * @param secretariatId secretaria para filtrar, ou {@code null} para todas
+     * @return {@link Flux} com os limites
+     */
+    Flux<ProjectBoardDTO.WipLimit> wipLimits(Long secretariatId);
+
+    /**
+     * Remove o limite de WIP de uma coluna, que passa a não ter limite.
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     * @return {@link Mono} vazio ao concluir
+     */
+    Mono<Void> removeWipLimit(Long secretariatId, StatusProject status);
+
+    /**
+     * Percentis de lead time e cycle time por secretaria em uma janela de dias.
+     *
+     * @param secretariatId secretaria para filtrar, ou {@code null} para todas
+     * @param from primeiro dia da janela (UTC), ou {@code null} para 90 dias antes de {@code to}
+     * @param to último dia da janela (UTC), ou {@code null} para hoje
+     * @return {@link Mono} com os percentis por secretaria
+     */
+    Mono<ProjectAnalyticsDTO.Flow> flowMetrics(Long secretariatId, LocalDate from, LocalDate to);
+
+    /**
+     * Dados do diagrama de fluxo cumulativo: projetos por status, por secretaria, ao fim de cada dia.
+     *
+     * @param secretariatId secretaria para filtrar, ou {@code null} para todas
+     * @param from primeiro dia da janela (UTC), ou {@code null} para 90 dias antes de {@code to}
+     * @param to último dia da janela (UTC), ou {@code null} para hoje
+     * @return {@link Flux} com um ponto por dia e secretaria, em ordem de dia
+     */
+    Flux<ProjectAnalyticsDTO.CfdDay> cfd(Long secretariatId, LocalDate from, LocalDate to);
+
+    /**
+     * Previsão de entrega dos projetos em aberto de uma secretaria, por simulação de Monte Carlo
+     * sobre o throughput diário histórico.
+     *
+     * @param secretariatId secretaria
+     * @return {@link Mono} com as datas de entrega por nível de confiança
+     */
+    Mono<ProjectAnalyticsDTO.Forecast> forecast(Long secretariatId);
+
+    /**
+     * Relatório de atrasos por secretaria: total e média de dias de atraso, projetos atrasados
+     * e média do percentual de tempo restante.
+     *
+     * @param secretariatId secretaria para filtrar, ou {@code null} para todas
+     * @return {@link Mono} com os indicadores por secretaria
+     */
+    Mono<ProjectAnalyticsDTO.DelayReport> delayReport(Long secretariatId);
+
+    /**
+     * Projetos por status e histograma de dias de atraso, calculados sobre o snapshot colunar em memória.
+     *
+     * @param secretariatId secretaria para filtrar, ou {@code null} para todas
+     * @param status status para filtrar, ou {@code null} para todos
+     * @return {@link Mono} com as contagens e o tamanho do snapshot
+     */
+    Mono<ProjectAnalyticsDTO.PortfolioStats> portfolioStats(Long secretariatId, StatusProject status);
+
+    /**
+     * Linha do tempo: projetos cujo período previsto se sobrepõe à janela, em ordem de início previsto.
+     *
+     * @param from primeiro dia da janela (UTC)
+     * @param to último dia da janela (UTC)
+     * @return {@link Flux} com os projetos da janela
+     */
+    Flux<ProjectDTO.Response> timeline(LocalDate from, LocalDate to);
+
+    /**
+     * Carga de trabalho dos responsáveis de uma secretaria: projetos ativos de cada um com período
+     * previsto sobreposto ao período informado.
+     *
+     * @param secretariatId secretaria
+     * @param from primeiro dia do período (UTC), ou {@code null} para hoje
+     * @param to último dia do período (UTC), ou {@code null} para 30 dias a partir de {@code from}
+     * @return {@link Mono} com os projetos ativos por responsável
+     */
+    Mono<ProjectAnalyticsDTO.Workload> workload(Long secretariatId, LocalDate from, LocalDate to);
+
+    /**
+     * Vincula projetos dos quais o projeto depende. Dependências que criariam um ciclo são recusadas.
+     *
+     * @param id UUID do projeto dependente
+     * @param request DTO com os UUIDs dos projetos predecessores
+     * @return {@link Mono} com a quantidade de dependências criadas
+     */
+    Mono<ProjectDependencyDTO.Result> addDependencies(UUID id, ProjectDependencyDTO.Request request);
+
+    /**
+     * Remove projetos dos quais o projeto depende.
+     *
+     * @param id UUID do projeto dependente
+     * @param dependsOn UUIDs dos projetos predecessores
+     * @return {@link Mono} com a quantidade de dependências removidas
+     */
+    Mono<ProjectDependencyDTO.Result> removeDependencies(UUID id, List<UUID> dependsOn);
+
+    /**
+     * Lista os projetos dos quais o projeto depende diretamente.
+     *
+     * @param id UUID do projeto
+     * @return {@link Flux} com os projetos predecessores
+     */
+    Flux<ProjectDependencyDTO.Dependency> dependencies(UUID id);
+
+    /**
+     * Caminho crítico dos projetos de uma secretaria: datas mais cedo e mais tarde, folga e
+     * projetos bloqueados por ciclos de dependências.
+     *
+     * @param secretariatId secretaria
+     * @return {@link Mono} com as datas de cada projeto
+     */
+    Mono<ProjectAnalyticsDTO.CriticalPath> criticalPath(Long secretariatId);
+
+    /**
+     * Acompanha os prazos (início e término previstos) alcançados pelos projetos ativos em tempo real.
+     *
+     * @param secretariatId secretaria para filtrar os prazos, ou {@code null} para todas
+     * @return {@link Flux} infinito com os prazos alcançados
+     */
+    Flux<ProjectBoardDTO.Deadline> deadlineEvents(Long secretariatId);
+}
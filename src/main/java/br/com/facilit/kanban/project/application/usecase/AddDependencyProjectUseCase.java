@@ -0,0 +1,63 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.AddDependencyProjectCommand;
+import br.com.facilit.kanban.project.infra.repository.ProjectDependencyRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso responsável por vincular dependências a um projeto.
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Localiza o projeto pelo UUID informado</li>
+ *     <li>Se não existir, lança {@link NotFoundResourceException}</li>
+ *     <li>Obtém o advisory lock das dependências, serializando gravações concorrentes</li>
+ *     <li>Grava todas as dependências com um único {@code INSERT ... SELECT}</li>
+ *     <li>Se o projeto passar a depender de si mesmo, lança {@link BusinessRuleException}
+ *     e a transação desfaz a gravação</li>
+ * </ol>
+ *
+ * <p>Projetos inexistentes ou dependências já gravadas são ignorados, tornando a operação idempotente.
+ * Deve ser executado dentro de uma transação.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("addDependencyProjectUseCase")
+public class AddDependencyProjectUseCase implements IUseCase<AddDependencyProjectCommand.Input, Mono<AddDependencyProjectCommand.Output>> {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectDependencyRepository projectDependencyRepository;
+
+    @Override
+    public Mono<AddDependencyProjectCommand.Output> execute(AddDependencyProjectCommand.Input input) {
+        log.info("Vinculando dependências ao projeto | uuid={}, total={}", input.uuid(), input.dependsOn().size());
+
+        return projectRepository.findByUuid(input.uuid().toString())
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Projeto não encontrado para vínculo de dependências | uuid={}", input.uuid());
+                    return Mono.error(new NotFoundResourceException("Projeto não encontrado"));
+                }))
+                .flatMap(project -> projectDependencyRepository.lock()
+                        .then(projectDependencyRepository.add(project.getId(), input.dependsOn()))
+                        .flatMap(affected -> affected == 0
+                                ? Mono.just(affected)
+                                : projectDependencyRepository.hasCycle(project.getId())
+                                        .flatMap(cycle -> cycle
+                                                ? Mono.error(new BusinessRuleException("A dependência criaria um ciclo entre projetos"))
+                                                : Mono.just(affected))))
+                .map(affected -> new AddDependencyProjectCommand.Output(input.uuid(), affected))
+                .doOnSuccess(output -> log.info("Dependências vinculadas ao projeto: {}", output))
+                .doOnError(error -> log.error("Erro ao vincular dependências ao projeto: {}", error.getMessage(), error));
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.AssignTeamProjectCommand;
+import br.com.facilit.kanban.project.infra.repository.ProjectAccountablesRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso responsável por vincular responsáveis à equipe de um projeto.
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Localiza o projeto pelo UUID informado</li>
+ *     <li>Se não existir, lança {@link NotFoundResourceException}</li>
+ *     <li>Grava todos os vínculos com um único {@code INSERT ... SELECT unnest}</li>
+ *     <li>Retorna a quantidade de vínculos criados</li>
+ * </ol>
+ *
+ * <p>Responsáveis inexistentes ou já vinculados são ignorados, tornando a operação idempotente.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("assignTeamProjectUseCase")
+public class AssignTeamProjectUseCase implements IUseCase<AssignTeamProjectCommand.Input, Mono<AssignTeamProjectCommand.Output>> {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectAccountablesRepository projectAccountablesRepository;
+
+    @Override
+    public Mono<AssignTeamProjectCommand.Output> execute(AssignTeamProjectCommand.Input input) {
+        log.info("Vinculando responsáveis ao projeto | uuid={}, total={}", input.uuid(), input.accountableIds().size());
+
+        return projectRepository.findByUuid(input.uuid().toString())
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Projeto não encontrado para vínculo de equipe | uuid={}", input.uuid());
+                    return Mono.error(new NotFoundResourceException("Projeto não encontrado"));
+                }))
+                .flatMap(project -> projectAccountablesRepository.assign(project.getId(), input.accountableIds()))
+                .map(affected -> new AssignTeamProjectCommand.Output(input.uuid(), affected))
+                .doOnSuccess(output -> log.info("Responsáveis vinculados ao projeto: {}", output))
+                .doOnError(error -> log.error("Erro ao vincular responsáveis ao projeto: {}", error.getMessage(), error));
+    }
+}
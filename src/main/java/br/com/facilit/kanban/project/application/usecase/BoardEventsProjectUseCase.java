@@ -0,0 +1,42 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.BoardEventsProjectCommand;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso responsável por entregar as alterações do quadro Kanban em tempo real.
+ *
+ * <p>Não consulta o banco: cada cliente assina o fluxo compartilhado de
+ * {@link ProjectChangeListener}, opcionalmente filtrado por secretaria. O filtro aceita tanto a secretaria
+ * atual quanto a anterior do projeto, para que quem acompanha a secretaria de origem também receba
+ * a saída do card. Eventos de ressincronização são sempre entregues.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("boardEventsProjectUseCase")
+public class BoardEventsProjectUseCase implements IUseCase<BoardEventsProjectCommand.Input, Flux<BoardEventsProjectCommand.Output>> {
+
+    private final ProjectChangeListener projectChangeListener;
+
+    @Override
+    public Flux<BoardEventsProjectCommand.Output> execute(BoardEventsProjectCommand.Input input) {
+        return projectChangeListener.events()
+                .filter(event -> event.isResync()
+                        || input.secretariatId() == null
+                        || input.secretariatId().equals(event.secretariatId())
+                        || input.secretariatId().equals(event.oldSecretariatId()))
+                .map(ProjectMapper.Board.EVENT_TO_OUTPUT)
+                .doOnSubscribe(s -> log.info("Cliente conectado aos eventos do quadro | secretariatId={}", input.secretariatId()))
+                .doFinally(signal -> log.info("Cliente desconectado dos eventos do quadro | sinal={}", signal));
+    }
+}
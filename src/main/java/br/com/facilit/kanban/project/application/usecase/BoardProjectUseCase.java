@@ -0,0 +1,60 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.BoardProjectCommand;
+import br.com.facilit.kanban.project.domain.po.ProjectBoardRowPO;
+import br.com.facilit.kanban.project.infra.repository.ProjectBoardRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Caso de uso responsável por montar o quadro Kanban de projetos.
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Limita a quantidade de cards por coluna a {@link #MAX_LIMIT}</li>
+ *     <li>Executa uma única consulta que devolve os cards de todas as colunas</li>
+ *     <li>Agrupa as linhas consecutivas de mesmo status em uma coluna, à medida que chegam</li>
+ * </ol>
+ *
+ * <p>Cada coluna é emitida assim que suas linhas terminam, sem aguardar o quadro completo.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("boardProjectUseCase")
+public class BoardProjectUseCase implements IUseCase<BoardProjectCommand.Input, Flux<BoardProjectCommand.Output>> {
+
+    /** Quantidade máxima de cards por coluna. */
+    static final int MAX_LIMIT = 100;
+
+    private final ProjectBoardRepository projectBoardRepository;
+
+    @Override
+    public Flux<BoardProjectCommand.Output> execute(BoardProjectCommand.Input input) {
+        int limit = Math.max(1, Math.min(input.limit(), MAX_LIMIT));
+        log.info("Montando quadro Kanban | secretariatId={}, limit={}", input.secretariatId(), limit);
+
+        return projectBoardRepository.findBoard(input.secretariatId(), limit)
+                .bufferUntilChanged(ProjectBoardRowPO::status)
+                .map(this::toColumn)
+                .doOnError(error -> log.error("Erro ao montar quadro Kanban: {}", error.getMessage(), error));
+    }
+
+    private BoardProjectCommand.Output toColumn(List<ProjectBoardRowPO> rows) {
+        ProjectBoardRowPO first = rows.get(0);
+        List<BoardProjectCommand.Card> cards = rows.stream()
+                .filter(row -> !row.isEmpty())
+                .map(ProjectMapper.Board.PO_TO_CARD)
+                .toList();
+        return new BoardProjectCommand.Output(first.status(), first.total(), cards);
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.CellProjectCommand;
+import br.com.facilit.kanban.project.domain.po.ProjectSwimlaneRowPO;
+import br.com.facilit.kanban.project.infra.repository.ProjectSwimlaneRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.rank.RankCursor;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Caso de uso responsável por paginar os cards de uma célula (secretaria, status) do quadro em raias.
+ *
+ * <p>A página é lida a partir do cursor com {@code (rank, id) > (:rank, :id)}, pelo índice
+ * {@code idx_project_secretariat_status_rank}, sem {@code OFFSET}: o custo de cada página
+ * independe da sua profundidade. Um card a mais é lido para saber se existe próxima página.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("cellProjectUseCase")
+public class CellProjectUseCase implements IUseCase<CellProjectCommand.Input, Mono<CellProjectCommand.Output>> {
+
+    /** Quantidade máxima de cards por página. */
+    static final int MAX_LIMIT = 100;
+
+    private final ProjectSwimlaneRepository projectSwimlaneRepository;
+
+    @Override
+    public Mono<CellProjectCommand.Output> execute(CellProjectCommand.Input input) {
+        RankCursor after;
+        try {
+            after = input.cursor() == null || input.cursor().isBlank() ? null : RankCursor.decode(input.cursor());
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new BusinessRuleException("Cursor inválido"));
+        }
+        int limit = Math.max(1, Math.min(input.limit(), MAX_LIMIT));
+        String status = input.status().name();
+
+        return projectSwimlaneRepository.findCell(input.secretariatId(), status,
+                        after == null ? null : after.rank(), after == null ? null : after.id(), limit + 1)
+                .collectList()
+                .map(rows -> toPage(input, status, rows, limit))
+                .doOnError(error -> log.error("Erro ao paginar célula do quadro: {}", error.getMessage(), error));
+    }
+
+    private CellProjectCommand.Output toPage(CellProjectCommand.Input input, String status,
+                                             List<ProjectSwimlaneRowPO> rows, int limit) {
+        List<ProjectSwimlaneRowPO> shown = rows.size() > limit ? rows.subList(0, limit) : rows;
+        Long total = rows.isEmpty() ? null : rows.get(0).total();
+        return new CellProjectCommand.Output(
+                input.secretariatId(),
+                status,
+                total,
+                shown.stream().map(ProjectMapper.Swimlane.PO_TO_CARD).toList(),
+                SwimlanesProjectUseCase.cursor(rows, shown, limit)
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.CfdProjectCommand;
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.po.ProjectCfdRowPO;
+import br.com.facilit.kanban.project.infra.repository.ProjectCfdRepository;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caso de uso responsável pelos dados do diagrama de fluxo cumulativo (CFD).
+ *
+ * <p>Os dados vêm de {@code project_cfd_daily}, consolidada uma vez por dia: a janela termina
+ * no último dia consolidado, mesmo que {@code to} seja posterior. Cada dia de cada secretaria
+ * traz todos os status de {@link StatusProject}, na ordem do enum, inclusive os sem projetos.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("cfdProjectUseCase")
+public class CfdProjectUseCase implements IUseCase<CfdProjectCommand.Input, Flux<CfdProjectCommand.Output>> {
+
+    private static final int DEFAULT_DAYS = 90;
+
+    private final ProjectCfdRepository projectCfdRepository;
+
+    @Override
+    public Flux<CfdProjectCommand.Output> execute(CfdProjectCommand.Input input) {
+        LocalDate to = input.to() == null ? LocalDate.now(ZoneOffset.UTC) : input.to();
+        LocalDate from = input.from() == null ? to.minusDays(DEFAULT_DAYS - 1) : input.from();
+        if (from.isAfter(to)) {
+            return Flux.error(new BusinessRuleException("A data inicial deve ser anterior ou igual à data final"));
+        }
+
+        return projectCfdRepository.findDays(input.secretariatId(), from, to)
+                .bufferUntilChanged(row -> List.of(row.day(), row.secretariatId()))
+                .map(CfdProjectUseCase::toOutput)
+                .doOnError(error -> log.error("Erro ao consultar o diagrama de fluxo cumulativo: {}", error.getMessage(), error));
+    }
+
+    private static CfdProjectCommand.Output toOutput(List<ProjectCfdRowPO> rows) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (StatusProject status : StatusProject.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        rows.forEach(row -> byStatus.merge(row.status(), row.total(), Long::sum));
+        ProjectCfdRowPO first = rows.get(0);
+        return new CfdProjectCommand.Output(first.day(), first.secretariatId(), byStatus);
+    }
+}
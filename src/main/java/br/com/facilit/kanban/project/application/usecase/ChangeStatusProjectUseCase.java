@@ -1,9 +1,13 @@
 package br.com.facilit.kanban.project.application.usecase;
 
 import br.com.facilit.kanban.project.application.command.ChangeStatusProjectCommand;
+import br.com.facilit.kanban.project.infra.counter.WipLimitRegistry;
+import br.com.facilit.kanban.project.infra.repository.ProjectRankRepository;
 import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusCounterRepository;
 import br.com.facilit.kanban.project.mapping.ProjectMapper;
 import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.exception.WipLimitExceededException;
 import br.com.facilit.kanban.shared.usecase.IUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,10 +26,13 @@ import reactor.core.publisher.Mono;
  *
  * <p><strong>Fluxo do processo:</strong></p>
  * <ol>
- *     <li>Localiza o projeto pelo UUID informado</li>
+ *     <li>Localiza o projeto pelo UUID informado, bloqueando a linha até o fim da transação</li>
  *     <li>Se não existir, lança {@link NotFoundResourceException}</li>
- *     <li>Atualiza apenas o status do projeto com base no input recebido</li>
- *     <li>Persiste a alteração no repositório reativo</li>
+ *     <li>Reserva uma vaga na coluna de destino em memória; se estiver cheia, lança {@link WipLimitExceededException}</li>
+ *     <li>Gera uma chave após o último card da coluna de destino, com o lock compartilhado da coluna</li>
+ *     <li>Atualiza o status e a posição do projeto e registra a transição em {@code project_status_history},
+ *     com um único comando</li>
+ *     <li>Move o projeto entre os contadores de status na mesma transação, com a garantia do limite de WIP no banco</li>
  *     <li>Converte a entidade atualizada para DTO de saída e retorna</li>
  * </ol>
  *
@@ -35,6 +42,7 @@ import reactor.core.publisher.Mono;
  * @return {@link Mono} contendo o DTO atualizado do projeto após salvar no banco
  *
  * @throws NotFoundResourceException caso o projeto não seja localizado pelo UUID
+ * @throws WipLimitExceededException caso a coluna de destino tenha atingido o limite de WIP
  *
  * @author Antonio Neto
  */
@@ -45,6 +53,9 @@ import reactor.core.publisher.Mono;
 public class ChangeStatusProjectUseCase implements IUseCase<ChangeStatusProjectCommand.Input, Mono<ChangeStatusProjectCommand.Output>> {
 
     private final ProjectRepository projectRepository;
+    private final ProjectRankRepository projectRankRepository;
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
+    private final WipLimitRegistry wipLimitRegistry;
 
     /**
      * Caso de uso responsável por alterar o status de um projeto.
@@ -56,14 +67,24 @@ public class ChangeStatusProjectUseCase implements IUseCase<ChangeStatusProjectC
     public Mono<ChangeStatusProjectCommand.Output> execute(ChangeStatusProjectCommand.Input input) {
         log.info("Alterando status do projeto. UUID: {}, Novo Status: {}", input.uuid(), input.status());
 
-        return projectRepository.findByUuid(input.uuid().toString())
+        return projectRepository.findByUuidForUpdate(input.uuid().toString())
                 .switchIfEmpty(Mono.defer(() -> {
                     log.warn("Projeto não encontrado para alteração de status. UUID: {}", input.uuid());
                     return Mono.error(new NotFoundResourceException("Projeto não encontrado"));
                 }))
                 .doOnNext(po -> log.info("Projeto encontrado: {}", po.getName()))
-                .map(project -> ProjectMapper.ChangeStatus.INPUT_TO_PO.apply(project, input))
-                .flatMap(projectRepository::save)
+                .flatMap(project -> wipLimitRegistry
+                        .reserve(project.getSecretariatId(), project.getStatus(),
+                                project.getSecretariatId(), input.status().name())
+                        .then(Mono.defer(() -> projectRankRepository.appendRank(input.status().name())))
+                        .flatMap(rank -> projectRepository.updateStatus(input.uuid().toString(),
+                                input.status().name(), rank, input.actor()))
+                        .flatMap(saved -> projectStatusCounterRepository
+                                .move(project.getSecretariatId(), project.getStatus(),
+                                        saved.getSecretariatId(), saved.getStatus())
+                                .flatMap(admitted -> admitted
+                                        ? Mono.just(saved)
+                                        : Mono.error(new WipLimitExceededException(saved.getSecretariatId(), saved.getStatus())))))
                 .map(ProjectMapper.ChangeStatus.PO_TO_OUTPUT)
                 .doOnSuccess(output -> log.info("Status do projeto atualizado com sucesso"))
                 .doOnError(error -> log.error("Erro ao alterar status do projeto: {}", error.getMessage(), error));
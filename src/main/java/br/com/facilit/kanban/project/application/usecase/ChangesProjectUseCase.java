@@ -0,0 +1,110 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.ChangesProjectCommand;
+import br.com.facilit.kanban.project.infra.repository.ProjectChangeRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Caso de uso responsável pela sincronização incremental de projetos.
+ *
+ * <p>Em vez de baixar novamente as páginas inteiras, o cliente envia o token recebido na
+ * sincronização anterior e recebe apenas os projetos alterados depois dele, além das
+ * exclusões. Sem token, a primeira chamada percorre todos os projetos, página a página.</p>
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Lê o horizonte de leitura ({@link ProjectChangeRepository#horizon()})</li>
+ *     <li>Busca, pelo índice de {@code change_seq}, até {@code limit + 1} projetos alterados e
+ *     até {@code limit + 1} exclusões após o token</li>
+ *     <li>Intercala as duas listas pela posição ({@code change_seq}, {@code id}) e devolve as
+ *     primeiras {@code limit}; a sobra indica que há mais alterações</li>
+ *     <li>O novo token é a posição da última alteração devolvida</li>
+ * </ol>
+ *
+ * <p>O token tem o formato {@code <change_seq>.<id>} e deve ser tratado como opaco pelos clientes.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("changesProjectUseCase")
+public class ChangesProjectUseCase implements IUseCase<ChangesProjectCommand.Input, Mono<ChangesProjectCommand.Output>> {
+
+    /** Quantidade máxima de alterações por chamada. */
+    static final int MAX_LIMIT = 1000;
+
+    private static final Comparator<ChangesProjectCommand.Change> POSITION = Comparator
+            .comparingLong(ChangesProjectCommand.Change::changeSeq)
+            .thenComparingLong(ChangesProjectCommand.Change::id);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectChangeRepository projectChangeRepository;
+
+    @Override
+    public Mono<ChangesProjectCommand.Output> execute(ChangesProjectCommand.Input input) {
+        long[] since;
+        try {
+            since = parse(input.since());
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new BusinessRuleException("Token de sincronização inválido"));
+        }
+        int limit = Math.max(1, Math.min(input.limit(), MAX_LIMIT));
+
+        return projectChangeRepository.horizon()
+                .flatMap(horizon -> Mono.zip(
+                        projectRepository.findChangedAfter(since[0], since[1], horizon, limit + 1)
+                                .map(ProjectMapper.Changes.PO_TO_CHANGE)
+                                .collectList(),
+                        projectChangeRepository.findTombstonesAfter(since[0], since[1], horizon, limit + 1)
+                                .map(ProjectMapper.Changes.TOMBSTONE_TO_CHANGE)
+                                .collectList()))
+                .map(lists -> page(lists.getT1(), lists.getT2(), limit, input.since()))
+                .doOnSuccess(output -> log.debug("Sincronização incremental | since={}, alterações={}, token={}",
+                        input.since(), output.changes().size(), output.token()))
+                .doOnError(error -> log.error("Erro na sincronização incremental: {}", error.getMessage(), error));
+    }
+
+    private static ChangesProjectCommand.Output page(List<ChangesProjectCommand.Change> upserts,
+                                                     List<ChangesProjectCommand.Change> deletes,
+                                                     int limit, String since) {
+        List<ChangesProjectCommand.Change> merged = new ArrayList<>(upserts.size() + deletes.size());
+        merged.addAll(upserts);
+        merged.addAll(deletes);
+        merged.sort(POSITION);
+
+        boolean hasMore = merged.size() > limit;
+        List<ChangesProjectCommand.Change> changes = hasMore ? merged.subList(0, limit) : merged;
+        if (changes.isEmpty()) {
+            return new ChangesProjectCommand.Output(List.of(), since == null ? "" : since, false);
+        }
+        ChangesProjectCommand.Change last = changes.get(changes.size() - 1);
+        return new ChangesProjectCommand.Output(List.copyOf(changes), last.changeSeq() + "." + last.id(), hasMore);
+    }
+
+    private static long[] parse(String token) {
+        if (token == null || token.isBlank()) {
+            return new long[]{Long.MIN_VALUE, Long.MIN_VALUE};
+        }
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            throw new IllegalArgumentException(token);
+        }
+        return new long[]{
+                Long.parseLong(token.substring(0, separator)),
+                Long.parseLong(token.substring(separator + 1))
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.ChangeStatusProjectCommand;
+import br.com.facilit.kanban.project.infra.counter.WipLimitRegistry;
+import br.com.facilit.kanban.project.infra.repository.ProjectRankRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusCounterRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.coalescing.CoalescingProperties;
+import br.com.facilit.kanban.shared.coalescing.WriteCoalescer;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.exception.WipLimitExceededException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Variante opcional de {@link ChangeStatusProjectUseCase} que agrupa trocas de status
+ * sucessivas do mesmo projeto.
+ *
+ * <p>Quando o usuário arrasta um card várias vezes em sequência, cada troca de status
+ * dentro da janela {@code facilit.coalescing.window} substitui a anterior em memória, e
+ * apenas o último status é gravado, com um único {@code UPDATE} em transação própria, no fim da
+ * coluna de destino. O histórico
+ * de status registra apenas a transição gravada, com o responsável da última troca da janela.
+ * Todos os clientes da janela recebem o projeto com o status efetivamente gravado.</p>
+ *
+ * <p>Por aguardar a janela antes de gravar, este caso de uso não deve ser executado dentro de
+ * {@link br.com.facilit.kanban.shared.aop.ReactiveTransactional}: a transação é aberta apenas
+ * no momento da gravação. As garantias de durabilidade estão descritas em {@link WriteCoalescer}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@Qualifier("coalescedChangeStatusProjectUseCase")
+public class CoalescedChangeStatusProjectUseCase implements IUseCase<ChangeStatusProjectCommand.Input, Mono<ChangeStatusProjectCommand.Output>> {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectRankRepository projectRankRepository;
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
+    private final WipLimitRegistry wipLimitRegistry;
+    private final TransactionalOperator txOperator;
+    private final WriteCoalescer<UUID, ChangeStatusProjectCommand.Input, ChangeStatusProjectCommand.Output> coalescer;
+
+    public CoalescedChangeStatusProjectUseCase(ProjectRepository projectRepository,
+                                               ProjectRankRepository projectRankRepository,
+                                               ProjectStatusCounterRepository projectStatusCounterRepository,
+                                               WipLimitRegistry wipLimitRegistry,
+                                               TransactionalOperator txOperator,
+                                               CoalescingProperties properties) {
+        this.projectRepository = projectRepository;
+        this.projectRankRepository = projectRankRepository;
+        this.projectStatusCounterRepository = projectStatusCounterRepository;
+        this.wipLimitRegistry = wipLimitRegistry;
+        this.txOperator = txOperator;
+        this.coalescer = new WriteCoalescer<>(properties.window(), this::write);
+    }
+
+    /**
+     * Registra a troca de status e aguarda a gravação da janela correspondente.
+     *
+     * @param input dados necessários para alteração (id + novo status)
+     * @return saída reativa com o status efetivamente gravado
+     */
+    @Override
+    public Mono<ChangeStatusProjectCommand.Output> execute(ChangeStatusProjectCommand.Input input) {
+        log.info("Agrupando alteração de status do projeto. UUID: {}, Novo Status: {}", input.uuid(), input.status());
+        return coalescer.submit(input.uuid(), input);
+    }
+
+    private Mono<ChangeStatusProjectCommand.Output> write(UUID uuid, ChangeStatusProjectCommand.Input input) {
+        String status = input.status().name();
+        return projectRepository.findByUuidForUpdate(uuid.toString())
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Projeto não encontrado para alteração de status. UUID: {}", uuid);
+                    return Mono.error(new NotFoundResourceException("Projeto não encontrado"));
+                }))
+                .flatMap(project -> wipLimitRegistry
+                        .reserve(project.getSecretariatId(), project.getStatus(), project.getSecretariatId(), status)
+                        .then(Mono.defer(() -> projectRankRepository.appendRank(status)))
+                        .flatMap(rank -> projectRepository.updateStatus(uuid.toString(), status, rank, input.actor()))
+                        .flatMap(saved -> projectStatusCounterRepository
+                                .move(project.getSecretariatId(), project.getStatus(),
+                                        saved.getSecretariatId(), saved.getStatus())
+                                .flatMap(admitted -> admitted
+                                        ? Mono.just(saved)
+                                        : Mono.error(new WipLimitExceededException(saved.getSecretariatId(), saved.getStatus())))))
+                .map(ProjectMapper.ChangeStatus.PO_TO_OUTPUT)
+                .as(txOperator::transactional)
+                .doOnSuccess(output -> log.info("Status agrupado do projeto gravado. UUID: {}, Status: {}", uuid, status))
+                .doOnError(error -> log.error("Erro ao gravar status agrupado do projeto: {}", error.getMessage(), error));
+    }
+}
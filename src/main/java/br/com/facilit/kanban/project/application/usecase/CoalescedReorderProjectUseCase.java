@@ -0,0 +1,55 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.ReorderProjectCommand;
+import br.com.facilit.kanban.shared.coalescing.CoalescingProperties;
+import br.com.facilit.kanban.shared.coalescing.WriteCoalescer;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Variante opcional de {@link ReorderProjectUseCase} que agrupa reposicionamentos sucessivos
+ * do mesmo card.
+ *
+ * <p>Enquanto o usuário arrasta um card pela coluna, cada nova posição dentro da janela
+ * {@code facilit.coalescing.window} substitui a anterior em memória, e apenas os últimos vizinhos
+ * informados são gravados, por {@link ReorderProjectUseCase} em transação própria. Todos os clientes
+ * da janela recebem a posição efetivamente gravada.</p>
+ *
+ * <p>Assim como {@link CoalescedChangeStatusProjectUseCase}, não deve ser executado dentro de
+ * {@link br.com.facilit.kanban.shared.aop.ReactiveTransactional}. As garantias de durabilidade
+ * estão descritas em {@link WriteCoalescer}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@Qualifier("coalescedReorderProjectUseCase")
+public class CoalescedReorderProjectUseCase implements IUseCase<ReorderProjectCommand.Input, Mono<ReorderProjectCommand.Output>> {
+
+    private final WriteCoalescer<UUID, ReorderProjectCommand.Input, ReorderProjectCommand.Output> coalescer;
+
+    public CoalescedReorderProjectUseCase(ReorderProjectUseCase reorderProjectUseCase,
+                                          TransactionalOperator txOperator,
+                                          CoalescingProperties properties) {
+        this.coalescer = new WriteCoalescer<>(properties.window(),
+                (uuid, input) -> reorderProjectUseCase.execute(input).as(txOperator::transactional));
+    }
+
+    /**
+     * Registra o reposicionamento e aguarda a gravação da janela correspondente.
+     *
+     * @param input card movido e seus novos vizinhos
+     * @return saída reativa com a posição efetivamente gravada
+     */
+    @Override
+    public Mono<ReorderProjectCommand.Output> execute(ReorderProjectCommand.Input input) {
+        log.info("Agrupando reposicionamento de card | uuid={}, after={}, before={}", input.uuid(), input.after(), input.before());
+        return coalescer.submit(input.uuid(), input);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.CountersProjectCommand;
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.infra.counter.ProjectStatusCounterMirror;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caso de uso responsável pelos indicadores de quantidade de projetos por status.
+ *
+ * <p>Os valores vêm do espelho em memória {@link ProjectStatusCounterMirror}, sem acesso
+ * ao banco. Todos os status de {@link StatusProject} são devolvidos, na ordem do enum,
+ * inclusive os que não possuem projetos.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("countersProjectUseCase")
+public class CountersProjectUseCase implements IUseCase<CountersProjectCommand.Input, Mono<CountersProjectCommand.Output>> {
+
+    private final ProjectStatusCounterMirror projectStatusCounterMirror;
+
+    @Override
+    public Mono<CountersProjectCommand.Output> execute(CountersProjectCommand.Input input) {
+        return Mono.fromSupplier(() -> {
+            Map<String, Long> snapshot = projectStatusCounterMirror.snapshot(input.secretariatId());
+            Map<String, Long> byStatus = new LinkedHashMap<>();
+            for (StatusProject status : StatusProject.values()) {
+                byStatus.put(status.name(), snapshot.getOrDefault(status.name(), 0L));
+            }
+            long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+            return new CountersProjectCommand.Output(input.secretariatId(), total, byStatus);
+        });
+    }
+}
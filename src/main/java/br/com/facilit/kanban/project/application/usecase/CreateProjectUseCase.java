@@ -2,8 +2,15 @@ package br.com.facilit.kanban.project.application.usecase;
 
 import br.com.facilit.kanban.project.application.command.CreateProjectCommand;
 import br.com.facilit.kanban.project.domain.po.ProjectPO;
+import br.com.facilit.kanban.project.infra.counter.WipLimitRegistry;
+import br.com.facilit.kanban.project.infra.repository.ProjectRankRepository;
 import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusCounterRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusHistoryRepository;
 import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.exception.WipLimitExceededException;
+import br.com.facilit.kanban.shared.rank.FractionalRank;
 import br.com.facilit.kanban.shared.usecase.IUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +18,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -18,7 +26,13 @@ import java.util.UUID;
  *
  * <p>Fluxo:<br>
  * Converte Input para entidade persistente<br>
+ * Reserva uma vaga na coluna em memória, respeitando o limite de WIP<br>
+ * Posiciona o card no fim da coluna do seu status<br>
  * Persiste o registro no repositório reativo<br>
+ * Admite o projeto no contador de (secretaria, status) na mesma transação; se o limite de WIP
+ * for atingido, lança {@link WipLimitExceededException} e a transação é desfeita<br>
+ * Registra a entrada no status inicial em {@code project_status_history}<br>
+ * Relê o projeto de {@code project_view}, com o atraso e o percentual de tempo restante calculados<br>
  * Retorna DTO de saída encapsulado em {@link Mono}<br>
  * Logs de sucesso e erro são gerados para rastreabilidade</p>
  *
@@ -33,6 +47,10 @@ import java.util.UUID;
 public class CreateProjectUseCase implements IUseCase<CreateProjectCommand.Input, Mono<CreateProjectCommand.Output>> {
 
     private final ProjectRepository projectRepository;
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
+    private final ProjectRankRepository projectRankRepository;
+    private final WipLimitRegistry wipLimitRegistry;
+    private final ProjectStatusHistoryRepository projectStatusHistoryRepository;
 
     @Override
     public Mono<CreateProjectCommand.Output> execute(CreateProjectCommand.Input input) {
@@ -40,11 +58,28 @@ public class CreateProjectUseCase implements IUseCase<CreateProjectCommand.Input
 
         ProjectPO projectPO = ProjectMapper.Create.INPUT_TO_PO.apply(input);
         projectPO.setUuid(UUID.randomUUID());
+        projectPO.setCreatedAt(LocalDateTime.now());
 
-        return projectRepository.save(projectPO)
+        return wipLimitRegistry.reserve(projectPO.getSecretariatId(), projectPO.getStatus())
+                .then(projectRankRepository.findLastRank(projectPO.getStatus()))
+                .map(last -> FractionalRank.between(last, null))
+                .defaultIfEmpty(FractionalRank.spread(1))
+                .flatMap(rank -> {
+                    projectPO.setRank(rank);
+                    return projectRepository.save(projectPO);
+                })
+                .flatMap(saved -> projectStatusCounterRepository
+                        .admit(saved.getSecretariatId(), saved.getStatus())
+                        .flatMap(admitted -> admitted
+                                ? Mono.just(saved)
+                                : Mono.error(new WipLimitExceededException(saved.getSecretariatId(), saved.getStatus()))))
+                .flatMap(saved -> projectStatusHistoryRepository
+                        .append(saved.getId(), null, saved.getSecretariatId(), null, saved.getStatus(), null)
+                        .thenReturn(saved))
+                .flatMap(saved -> projectRepository.findCurrentById(saved.getId()))
                 .map(ProjectMapper.Create.PO_TO_OUTPUT)
                 .doOnSuccess(output -> log.info("Projeto criado com sucesso: {}", output))
-                .onErrorMap(error -> {
+                .onErrorMap(error -> !(error instanceof BusinessRuleException), error -> {
                     log.error("Erro ao criar projeto: {}", error.getMessage(), error);
                     return new RuntimeException("Falha ao criar projeto");
                 });
@@ -0,0 +1,131 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.CriticalPathProjectCommand;
+import br.com.facilit.kanban.project.domain.po.ProjectGraphEdgePO;
+import br.com.facilit.kanban.project.domain.po.ProjectGraphNodePO;
+import br.com.facilit.kanban.project.domain.po.ProjectScheduleNodePO;
+import br.com.facilit.kanban.project.infra.graph.ProjectScheduleCache;
+import br.com.facilit.kanban.project.infra.repository.ProjectDependencyRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.schedule.CriticalPath;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caso de uso responsável pelo caminho crítico dos projetos de uma secretaria.
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Carrega, em paralelo, os projetos datados da secretaria e as dependências entre eles</li>
+ *     <li>Converte o grafo em arrays de inteiros: cada projeto é um índice, a duração é o número
+ *     de dias entre início e término previstos e o início mínimo é o próprio início previsto</li>
+ *     <li>Calcula as datas com {@link CriticalPath} e guarda o resultado em {@link ProjectScheduleCache}
+ *     até a próxima alteração de projetos ou dependências da secretaria</li>
+ * </ol>
+ *
+ * <p>Projetos cancelados, sem datas previstas ou de outras secretarias não entram no grafo; as
+ * dependências que os envolvem são ignoradas.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("criticalPathProjectUseCase")
+public class CriticalPathProjectUseCase implements IUseCase<CriticalPathProjectCommand.Input, Mono<CriticalPathProjectCommand.Output>> {
+
+    private final ProjectDependencyRepository projectDependencyRepository;
+    private final ProjectScheduleCache projectScheduleCache;
+
+    @Override
+    public Mono<CriticalPathProjectCommand.Output> execute(CriticalPathProjectCommand.Input input) {
+        if (input.secretariatId() == null) {
+            return Mono.error(new BusinessRuleException("A secretaria é obrigatória para o caminho crítico"));
+        }
+
+        return projectScheduleCache.get(input.secretariatId(), this::load)
+                .map(nodes -> new CriticalPathProjectCommand.Output(
+                        input.secretariatId(),
+                        nodes.stream()
+                                .map(ProjectScheduleNodePO::earliestFinish)
+                                .filter(Objects::nonNull)
+                                .max(Comparator.naturalOrder())
+                                .orElse(null),
+                        nodes.stream().map(ProjectMapper.Dependency.SCHEDULE_TO_NODE).toList()))
+                .doOnError(error -> log.error("Erro ao calcular o caminho crítico: {}", error.getMessage(), error));
+    }
+
+    private Mono<List<ProjectScheduleNodePO>> load(Long secretariatId) {
+        log.info("Calculando caminho crítico | secretariatId={}", secretariatId);
+        return Mono.zip(
+                        projectDependencyRepository.findNodes(secretariatId).collectList(),
+                        projectDependencyRepository.findEdges(secretariatId).collectList())
+                .map(graph -> schedule(graph.getT1(), graph.getT2()));
+    }
+
+    private static List<ProjectScheduleNodePO> schedule(List<ProjectGraphNodePO> nodes, List<ProjectGraphEdgePO> edges) {
+        int n = nodes.size();
+        Map<Long, Integer> index = new HashMap<>(n * 2);
+        int[] duration = new int[n];
+        int[] notBefore = new int[n];
+        for (int i = 0; i < n; i++) {
+            ProjectGraphNodePO node = nodes.get(i);
+            index.put(node.id(), i);
+            long start = node.expectedStart().toLocalDate().toEpochDay();
+            notBefore[i] = (int) start;
+            duration[i] = (int) Math.max(0, node.expectedTherm().toLocalDate().toEpochDay() - start);
+        }
+
+        int[] predecessors = new int[edges.size()];
+        int[] successors = new int[edges.size()];
+        int m = 0;
+        for (ProjectGraphEdgePO edge : edges) {
+            Integer from = index.get(edge.dependsOnId());
+            Integer to = index.get(edge.projectId());
+            if (from != null && to != null) {
+                predecessors[m] = from;
+                successors[m++] = to;
+            }
+        }
+
+        CriticalPath.Schedule schedule = CriticalPath.compute(duration, notBefore,
+                Arrays.copyOf(predecessors, m), Arrays.copyOf(successors, m));
+
+        List<ProjectScheduleNodePO> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ProjectGraphNodePO node = nodes.get(i);
+            if (schedule.blocked(i)) {
+                result.add(new ProjectScheduleNodePO(node.uuid(), node.name(), node.status(),
+                        null, null, null, null, null, false, true));
+            } else {
+                int slack = schedule.slack(i);
+                result.add(new ProjectScheduleNodePO(node.uuid(), node.name(), node.status(),
+                        LocalDate.ofEpochDay(schedule.earliestStart()[i]),
+                        LocalDate.ofEpochDay(schedule.earliestFinish()[i]),
+                        LocalDate.ofEpochDay(schedule.latestStart()[i]),
+                        LocalDate.ofEpochDay(schedule.latestFinish()[i]),
+                        slack, slack == 0, false));
+            }
+        }
+        result.sort(Comparator.comparing(ProjectScheduleNodePO::blocked)
+                .thenComparing(ProjectScheduleNodePO::earliestStart, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(ProjectScheduleNodePO::name, Comparator.nullsLast(Comparator.naturalOrder())));
+        log.info("Caminho crítico calculado | projetos={}, dependências={}, bloqueados={}",
+                n, m, n - schedule.resolved());
+        return List.copyOf(result);
+    }
+}
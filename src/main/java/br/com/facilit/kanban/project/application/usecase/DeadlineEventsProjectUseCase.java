@@ -0,0 +1,37 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.DeadlineEventsProjectCommand;
+import br.com.facilit.kanban.project.infra.deadline.ProjectDeadlineScheduler;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso responsável por entregar os prazos alcançados pelos projetos em tempo real.
+ *
+ * <p>Não consulta o banco: cada cliente assina o fluxo compartilhado de
+ * {@link ProjectDeadlineScheduler}, opcionalmente filtrado por secretaria.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("deadlineEventsProjectUseCase")
+public class DeadlineEventsProjectUseCase implements IUseCase<DeadlineEventsProjectCommand.Input, Flux<DeadlineEventsProjectCommand.Output>> {
+
+    private final ProjectDeadlineScheduler projectDeadlineScheduler;
+
+    @Override
+    public Flux<DeadlineEventsProjectCommand.Output> execute(DeadlineEventsProjectCommand.Input input) {
+        return projectDeadlineScheduler.events()
+                .filter(event -> input.secretariatId() == null || input.secretariatId().equals(event.secretariatId()))
+                .map(ProjectMapper.Deadline.EVENT_TO_OUTPUT)
+                .doOnSubscribe(s -> log.info("Cliente conectado aos prazos dos projetos | secretariatId={}", input.secretariatId()))
+                .doFinally(signal -> log.info("Cliente desconectado dos prazos dos projetos | sinal={}", signal));
+    }
+}
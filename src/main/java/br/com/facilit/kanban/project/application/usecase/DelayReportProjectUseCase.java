@@ -0,0 +1,50 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.DelayReportProjectCommand;
+import br.com.facilit.kanban.project.domain.po.ProjectDelayPO;
+import br.com.facilit.kanban.project.infra.analytics.ProjectDelayReportCache;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso responsável pelo relatório de atrasos por secretaria: total e média de dias de
+ * atraso, quantidade de projetos atrasados e média do percentual de tempo restante.
+ *
+ * <p>O relatório de todas as secretarias é servido por {@link ProjectDelayReportCache}; o filtro
+ * por secretaria é aplicado sobre o relatório em cache, sem nova consulta.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("delayReportProjectUseCase")
+public class DelayReportProjectUseCase implements IUseCase<DelayReportProjectCommand.Input, Mono<DelayReportProjectCommand.Output>> {
+
+    private final ProjectDelayReportCache projectDelayReportCache;
+
+    @Override
+    public Mono<DelayReportProjectCommand.Output> execute(DelayReportProjectCommand.Input input) {
+        return projectDelayReportCache.get()
+                .map(report -> new DelayReportProjectCommand.Output(report.stream()
+                        .filter(delay -> input.secretariatId() == null || input.secretariatId().equals(delay.secretariatId()))
+                        .map(DelayReportProjectUseCase::toDelay)
+                        .toList()))
+                .doOnError(error -> log.error("Erro ao montar o relatório de atrasos: {}", error.getMessage(), error));
+    }
+
+    private static DelayReportProjectCommand.Delay toDelay(ProjectDelayPO po) {
+        return new DelayReportProjectCommand.Delay(
+                po.secretariatId(),
+                po.totalProjects(),
+                po.overdueProjects(),
+                po.lateProjects(),
+                po.totalDaysLate(),
+                po.averageDaysLate(),
+                po.averagePercentageOfTimeRemaining());
+    }
+}
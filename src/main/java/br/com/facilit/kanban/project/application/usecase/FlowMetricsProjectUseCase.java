@@ -0,0 +1,110 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.FlowMetricsProjectCommand;
+import br.com.facilit.kanban.project.domain.po.ProjectFlowBucketPO;
+import br.com.facilit.kanban.project.infra.repository.AnalyticsWatermarkRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectFlowRepository;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caso de uso responsável pelos percentis (p50, p85, p95) de lead time e cycle time por secretaria.
+ *
+ * <p>Os percentis saem da soma dos histogramas diários de {@code project_flow_daily}: uma janela
+ * de anos lê alguns milhares de linhas em vez dos eventos de conclusão. Os dias ainda não
+ * consolidados são calculados a partir do histórico de status.</p>
+ *
+ * <p>Os buckets são logarítmicos ({@code project_flow_bucket}): cada percentil é o ponto médio
+ * do bucket em que cai, com erro relativo de até ~5%.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("flowMetricsProjectUseCase")
+public class FlowMetricsProjectUseCase implements IUseCase<FlowMetricsProjectCommand.Input, Mono<FlowMetricsProjectCommand.Output>> {
+
+    private static final int DEFAULT_DAYS = 90;
+    private static final double BUCKET_BASE = 1.1;
+    private static final String LEAD = "LEAD";
+    private static final String CYCLE = "CYCLE";
+
+    private final ProjectFlowRepository projectFlowRepository;
+    private final AnalyticsWatermarkRepository analyticsWatermarkRepository;
+
+    @Override
+    public Mono<FlowMetricsProjectCommand.Output> execute(FlowMetricsProjectCommand.Input input) {
+        LocalDate to = input.to() == null ? LocalDate.now(ZoneOffset.UTC) : input.to();
+        LocalDate from = input.from() == null ? to.minusDays(DEFAULT_DAYS - 1) : input.from();
+        if (from.isAfter(to)) {
+            return Mono.error(new BusinessRuleException("A data inicial deve ser anterior ou igual à data final"));
+        }
+
+        return analyticsWatermarkRepository.find(AnalyticsWatermarkRepository.FLOW)
+                .map(last -> last.plusDays(1))
+                .defaultIfEmpty(from)
+                .flatMapMany(rolledUpTo -> projectFlowRepository
+                        .findHistogram(input.secretariatId(), from, to.plusDays(1), rolledUpTo))
+                .collect(LinkedHashMap<Long, Map<String, List<ProjectFlowBucketPO>>>::new, (grouped, bucket) -> grouped
+                        .computeIfAbsent(bucket.secretariatId(), id -> new LinkedHashMap<>())
+                        .computeIfAbsent(bucket.metric(), metric -> new ArrayList<>())
+                        .add(bucket))
+                .map(grouped -> {
+                    List<FlowMetricsProjectCommand.Flow> flows = new ArrayList<>(grouped.size());
+                    grouped.forEach((secretariatId, metrics) -> flows.add(new FlowMetricsProjectCommand.Flow(
+                            secretariatId,
+                            percentiles(metrics.getOrDefault(LEAD, List.of())),
+                            percentiles(metrics.getOrDefault(CYCLE, List.of())))));
+                    return new FlowMetricsProjectCommand.Output(from, to, flows);
+                })
+                .doOnError(error -> log.error("Erro ao calcular lead time e cycle time: {}", error.getMessage(), error));
+    }
+
+    /**
+     * Percentis de um histograma com os buckets em ordem crescente.
+     */
+    private static FlowMetricsProjectCommand.Percentiles percentiles(List<ProjectFlowBucketPO> buckets) {
+        long count = buckets.stream().mapToLong(ProjectFlowBucketPO::total).sum();
+        if (count == 0) {
+            return new FlowMetricsProjectCommand.Percentiles(0, null, null, null);
+        }
+        return new FlowMetricsProjectCommand.Percentiles(count,
+                percentile(buckets, count, 0.50),
+                percentile(buckets, count, 0.85),
+                percentile(buckets, count, 0.95));
+    }
+
+    private static Double percentile(List<ProjectFlowBucketPO> buckets, long count, double quantile) {
+        long rank = (long) Math.ceil(quantile * count);
+        long cumulative = 0;
+        for (ProjectFlowBucketPO bucket : buckets) {
+            cumulative += bucket.total();
+            if (cumulative >= rank) {
+                return days(bucket.bucket());
+            }
+        }
+        return days(buckets.get(buckets.size() - 1).bucket());
+    }
+
+    /**
+     * Ponto médio do bucket, em dias. Inverso de {@code floor(ln(1 + horas) / ln(1.1))}.
+     */
+    private static double days(int bucket) {
+        double lower = Math.pow(BUCKET_BASE, bucket) - 1;
+        double upper = Math.pow(BUCKET_BASE, bucket + 1) - 1;
+        return Math.round((lower + upper) / 2 / 24 * 100) / 100.0;
+    }
+}
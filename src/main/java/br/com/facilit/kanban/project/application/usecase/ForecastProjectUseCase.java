@@ -0,0 +1,122 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.ForecastProjectCommand;
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.po.ProjectForecastPO;
+import br.com.facilit.kanban.project.domain.po.ProjectThroughputPO;
+import br.com.facilit.kanban.project.infra.counter.ProjectStatusCounterMirror;
+import br.com.facilit.kanban.project.infra.forecast.ForecastProperties;
+import br.com.facilit.kanban.project.infra.forecast.ProjectForecastCache;
+import br.com.facilit.kanban.project.infra.repository.ProjectForecastRepository;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.forecast.ThroughputSimulation;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Caso de uso responsável pela previsão de entrega dos projetos em aberto de uma secretaria.
+ *
+ * <p>A previsão é uma simulação de Monte Carlo: cada tentativa sorteia dias do throughput
+ * diário dos últimos {@code facilit.forecast.history-days} dias encerrados até somar a
+ * quantidade de projetos em aberto ({@code PLANEJADO}, {@code EM_ANDAMENTO} e {@code ATRASADO}).
+ * As datas devolvidas são os percentis 50, 85 e 95 dos dias simulados, contados a partir de hoje.</p>
+ *
+ * <p>As tentativas executam no pool {@code forecastPool}, fora do event loop; o resultado fica
+ * em cache por secretaria até a próxima escrita que altere seus projetos.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@Qualifier("forecastProjectUseCase")
+public class ForecastProjectUseCase implements IUseCase<ForecastProjectCommand.Input, Mono<ForecastProjectCommand.Output>> {
+
+    private static final List<String> OPEN = List.of(
+            StatusProject.PLANEJADO.name(), StatusProject.EM_ANDAMENTO.name(), StatusProject.ATRASADO.name());
+
+    private final ProjectForecastRepository projectForecastRepository;
+    private final ProjectStatusCounterMirror projectStatusCounterMirror;
+    private final ProjectForecastCache projectForecastCache;
+    private final ForecastProperties properties;
+    private final ForkJoinPool forecastPool;
+    private final Scheduler forecastScheduler;
+
+    public ForecastProjectUseCase(ProjectForecastRepository projectForecastRepository,
+                                  ProjectStatusCounterMirror projectStatusCounterMirror,
+                                  ProjectForecastCache projectForecastCache,
+                                  ForecastProperties properties,
+                                  @Qualifier("forecastPool") ForkJoinPool forecastPool) {
+        this.projectForecastRepository = projectForecastRepository;
+        this.projectStatusCounterMirror = projectStatusCounterMirror;
+        this.projectForecastCache = projectForecastCache;
+        this.properties = properties;
+        this.forecastPool = forecastPool;
+        this.forecastScheduler = Schedulers.fromExecutorService(forecastPool, "forecast");
+    }
+
+    @Override
+    public Mono<ForecastProjectCommand.Output> execute(ForecastProjectCommand.Input input) {
+        if (input.secretariatId() == null) {
+            return Mono.error(new BusinessRuleException("A secretaria é obrigatória para a previsão de entrega"));
+        }
+
+        return projectForecastCache.get(input.secretariatId(), this::simulate)
+                .map(this::toOutput)
+                .doOnError(error -> log.error("Erro ao calcular a previsão de entrega: {}", error.getMessage(), error));
+    }
+
+    private Mono<ProjectForecastPO> simulate(Long secretariatId) {
+        long open = OPEN.stream().mapToLong(status -> projectStatusCounterMirror.count(secretariatId, status)).sum();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        return projectForecastRepository.findDailyThroughput(secretariatId, today.minusDays(properties.historyDays()), today)
+                .map(ProjectThroughputPO::total)
+                .collectList()
+                .publishOn(forecastScheduler)
+                .map(totals -> {
+                    int[] history = totals.stream().mapToInt(Integer::intValue).toArray();
+                    long started = System.nanoTime();
+                    int[] days = ThroughputSimulation.run(forecastPool, history, (int) Math.min(open, Integer.MAX_VALUE),
+                            properties.trials(), properties.horizonDays(), ThreadLocalRandom.current().nextLong());
+                    log.debug("Previsão de entrega simulada | secretaria={}, abertos={}, tentativas={}, ms={}",
+                            secretariatId, open, days.length, (System.nanoTime() - started) / 1_000_000);
+                    return new ProjectForecastPO(secretariatId, open, totals.stream().mapToLong(Integer::longValue).sum(),
+                            days(days, 0.50), days(days, 0.85), days(days, 0.95), LocalDateTime.now(ZoneOffset.UTC));
+                });
+    }
+
+    private ForecastProjectCommand.Output toOutput(ProjectForecastPO forecast) {
+        LocalDate start = forecast.generatedAt().toLocalDate();
+        return new ForecastProjectCommand.Output(
+                forecast.secretariatId(),
+                forecast.openProjects(),
+                properties.trials(),
+                properties.historyDays(),
+                forecast.completedInHistory(),
+                date(start, forecast.p50Days()),
+                date(start, forecast.p85Days()),
+                date(start, forecast.p95Days()),
+                forecast.generatedAt());
+    }
+
+    private static Integer days(int[] sortedDays, double quantile) {
+        int days = ThroughputSimulation.percentile(sortedDays, quantile);
+        return days == ThroughputSimulation.NOT_FINISHED ? null : days;
+    }
+
+    private static LocalDate date(LocalDate start, Integer days) {
+        return days == null ? null : start.plusDays(days);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.ListDependencyProjectCommand;
+import br.com.facilit.kanban.project.infra.repository.ProjectDependencyRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso responsável por listar as dependências diretas de um projeto.
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("listDependencyProjectUseCase")
+public class ListDependencyProjectUseCase implements IUseCase<ListDependencyProjectCommand.Input, Flux<ListDependencyProjectCommand.Output>> {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectDependencyRepository projectDependencyRepository;
+
+    @Override
+    public Flux<ListDependencyProjectCommand.Output> execute(ListDependencyProjectCommand.Input input) {
+        log.info("Consultando dependências do projeto | uuid={}", input.uuid());
+
+        return projectRepository.findByUuid(input.uuid().toString())
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Projeto não encontrado para consulta de dependências | uuid={}", input.uuid());
+                    return Mono.error(new NotFoundResourceException("Projeto não encontrado"));
+                }))
+                .flatMapMany(project -> projectDependencyRepository.findDependencies(input.uuid()))
+                .map(ProjectMapper.Dependency.PO_TO_OUTPUT)
+                .doOnError(error -> log.error("Erro ao consultar dependências do projeto: {}", error.getMessage(), error));
+    }
+}
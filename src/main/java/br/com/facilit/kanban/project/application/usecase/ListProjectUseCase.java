@@ -44,6 +44,9 @@ import java.util.List;
 @Qualifier("listProjectUseCase")
 public class ListProjectUseCase implements IUseCase<ListProjectCommand.Input, Mono<Page<ListProjectCommand.Output>>> {
 
+    /** Visão com o atraso e o percentual de tempo restante calculados na leitura. */
+    private static final String PROJECT_VIEW = "project_view";
+
     private final R2dbcEntityTemplate template;
 
     @Override
@@ -59,6 +62,7 @@ public class ListProjectUseCase implements IUseCase<ListProjectCommand.Input, Mo
                 .offset(pageable.getOffset());
 
         Mono<List<ProjectPO>> results = template.select(ProjectPO.class)
+                .from(PROJECT_VIEW)
                 .matching(query)
                 .all()
                 .collectList()
@@ -0,0 +1,44 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.ListTeamProjectCommand;
+import br.com.facilit.kanban.project.infra.repository.ProjectAccountablesRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso responsável por listar a equipe (responsáveis vinculados) de um projeto.
+ *
+ * <p>A equipe é obtida com uma única consulta ({@code project LEFT JOIN project_has_accountable
+ * LEFT JOIN accountable}); a ausência de linhas indica que o projeto não existe e resulta em
+ * {@link NotFoundResourceException}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("listTeamProjectUseCase")
+public class ListTeamProjectUseCase implements IUseCase<ListTeamProjectCommand.Input, Flux<ListTeamProjectCommand.Output>> {
+
+    private final ProjectAccountablesRepository projectAccountablesRepository;
+
+    @Override
+    public Flux<ListTeamProjectCommand.Output> execute(ListTeamProjectCommand.Input input) {
+        log.info("Consultando equipe do projeto | uuid={}", input.uuid());
+
+        return projectAccountablesRepository.findTeam(input.uuid())
+                .switchIfEmpty(Flux.error(() -> {
+                    log.warn("Projeto não encontrado para consulta de equipe | uuid={}", input.uuid());
+                    return new NotFoundResourceException("Projeto não encontrado");
+                }))
+                .filter(member -> !member.isEmpty())
+                .map(ProjectMapper.Team.PO_TO_OUTPUT)
+                .doOnError(error -> log.error("Erro ao consultar equipe do projeto: {}", error.getMessage(), error));
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.ListWipLimitProjectCommand;
+import br.com.facilit.kanban.project.infra.counter.ProjectStatusCounterMirror;
+import br.com.facilit.kanban.project.infra.repository.WipLimitRepository;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso responsável por listar os limites de WIP definidos.
+ *
+ * <p>Os limites são lidos da tabela {@code wip_limit}; a ocupação de cada coluna vem do
+ * espelho em memória {@link ProjectStatusCounterMirror}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("listWipLimitProjectUseCase")
+public class ListWipLimitProjectUseCase implements IUseCase<ListWipLimitProjectCommand.Input, Flux<ListWipLimitProjectCommand.Output>> {
+
+    private final WipLimitRepository wipLimitRepository;
+    private final ProjectStatusCounterMirror projectStatusCounterMirror;
+
+    @Override
+    public Flux<ListWipLimitProjectCommand.Output> execute(ListWipLimitProjectCommand.Input input) {
+        return wipLimitRepository.findAll()
+                .filter(limit -> input.secretariatId() == null || input.secretariatId().equals(limit.secretariatId()))
+                .map(limit -> new ListWipLimitProjectCommand.Output(
+                        limit.secretariatId(),
+                        limit.status(),
+                        limit.maxProjects(),
+                        projectStatusCounterMirror.count(limit.secretariatId(), limit.status())
+                ))
+                .doOnError(error -> log.error("Erro ao listar limites de WIP: {}", error.getMessage(), error));
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.PortfolioStatsProjectCommand;
+import br.com.facilit.kanban.project.domain.po.ProjectSnapshotStatsPO;
+import br.com.facilit.kanban.project.infra.snapshot.ProjectColumnarSnapshot;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Caso de uso responsável pelos indicadores do portfólio calculados sobre o snapshot colunar:
+ * projetos por status e histograma de dias de atraso, com filtro opcional por secretaria e status.
+ *
+ * <p>A varredura é feita em memória, sem consultar o banco; o resultado reflete as alterações
+ * já aplicadas ao {@link ProjectColumnarSnapshot}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("portfolioStatsProjectUseCase")
+public class PortfolioStatsProjectUseCase implements IUseCase<PortfolioStatsProjectCommand.Input, Mono<PortfolioStatsProjectCommand.Output>> {
+
+    private static final long MILLION = 1_000_000L;
+
+    private final ProjectColumnarSnapshot projectColumnarSnapshot;
+
+    @Override
+    public Mono<PortfolioStatsProjectCommand.Output> execute(PortfolioStatsProjectCommand.Input input) {
+        return Mono.fromSupplier(() -> projectColumnarSnapshot.stats(input.secretariatId(), input.status(),
+                        LocalDate.now(ZoneOffset.UTC)))
+                .map(PortfolioStatsProjectUseCase::toOutput)
+                .doOnError(error -> log.error("Erro ao calcular os indicadores do portfólio: {}", error.getMessage(), error));
+    }
+
+    private static PortfolioStatsProjectCommand.Output toOutput(ProjectSnapshotStatsPO stats) {
+        return new PortfolioStatsProjectCommand.Output(
+                stats.matched(),
+                stats.byStatus(),
+                stats.daysLate(),
+                stats.rows(),
+                stats.footprintBytes(),
+                stats.rows() == 0 ? 0L : stats.footprintBytes() * MILLION / stats.rows(),
+                stats.scanNanos() / 1_000);
+    }
+}
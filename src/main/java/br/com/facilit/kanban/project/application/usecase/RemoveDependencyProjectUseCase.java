@@ -0,0 +1,52 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.RemoveDependencyProjectCommand;
+import br.com.facilit.kanban.project.infra.repository.ProjectDependencyRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso responsável por remover dependências de um projeto.
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Localiza o projeto pelo UUID informado</li>
+ *     <li>Se não existir, lança {@link NotFoundResourceException}</li>
+ *     <li>Remove todas as dependências com um único {@code DELETE ... = ANY}</li>
+ *     <li>Retorna a quantidade de dependências removidas</li>
+ * </ol>
+ *
+ * <p>Remover dependências nunca cria ciclos, por isso o advisory lock não é necessário.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("removeDependencyProjectUseCase")
+public class RemoveDependencyProjectUseCase implements IUseCase<RemoveDependencyProjectCommand.Input, Mono<RemoveDependencyProjectCommand.Output>> {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectDependencyRepository projectDependencyRepository;
+
+    @Override
+    public Mono<RemoveDependencyProjectCommand.Output> execute(RemoveDependencyProjectCommand.Input input) {
+        log.info("Removendo dependências do projeto | uuid={}, total={}", input.uuid(), input.dependsOn().size());
+
+        return projectRepository.findByUuid(input.uuid().toString())
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Projeto não encontrado para remoção de dependências | uuid={}", input.uuid());
+                    return Mono.error(new NotFoundResourceException("Projeto não encontrado"));
+                }))
+                .flatMap(project -> projectDependencyRepository.remove(project.getId(), input.dependsOn()))
+                .map(affected -> new RemoveDependencyProjectCommand.Output(input.uuid(), affected))
+                .doOnSuccess(output -> log.info("Dependências removidas do projeto: {}", output))
+                .doOnError(error -> log.error("Erro ao remover dependências do projeto: {}", error.getMessage(), error));
+    }
+}
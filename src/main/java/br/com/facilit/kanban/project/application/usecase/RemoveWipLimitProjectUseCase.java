@@ -0,0 +1,44 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.RemoveWipLimitProjectCommand;
+import br.com.facilit.kanban.project.infra.counter.WipLimitRegistry;
+import br.com.facilit.kanban.project.infra.repository.WipLimitRepository;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.transaction.TransactionCallbacks;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso responsável por remover o limite de WIP de uma coluna (secretaria, status),
+ * que passa a não ter limite.
+ *
+ * @throws NotFoundResourceException caso a coluna não possua limite definido
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("removeWipLimitProjectUseCase")
+public class RemoveWipLimitProjectUseCase implements IUseCase<RemoveWipLimitProjectCommand.Input, Mono<Void>> {
+
+    private final WipLimitRepository wipLimitRepository;
+    private final WipLimitRegistry wipLimitRegistry;
+
+    @Override
+    public Mono<Void> execute(RemoveWipLimitProjectCommand.Input input) {
+        log.info("Removendo limite de WIP: {}", input);
+
+        String status = input.status().name();
+        return wipLimitRepository.delete(input.secretariatId(), status)
+                .flatMap(removed -> removed
+                        ? TransactionCallbacks.afterCommit(() -> wipLimitRegistry.remove(input.secretariatId(), status))
+                        : Mono.error(new NotFoundResourceException("Limite de WIP não encontrado")))
+                .doOnSuccess(unused -> log.info("Limite de WIP removido: {}", input))
+                .doOnError(error -> log.error("Erro ao remover limite de WIP: {}", error.getMessage(), error));
+    }
+}
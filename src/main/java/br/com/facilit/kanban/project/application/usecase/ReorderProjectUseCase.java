@@ -0,0 +1,105 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.ReorderProjectCommand;
+import br.com.facilit.kanban.project.domain.po.ProjectRankPO;
+import br.com.facilit.kanban.project.infra.repository.ProjectRankRepository;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.rank.FractionalRank;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Caso de uso responsável por reposicionar um card dentro da coluna do seu status.
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Obtém o lock compartilhado da coluna do card, impedindo um rebalanceamento simultâneo</li>
+ *     <li>Lê a posição do card e dos vizinhos informados em uma única consulta</li>
+ *     <li>Valida que todos existem e estão na mesma coluna</li>
+ *     <li>Calcula uma chave entre as chaves dos vizinhos com {@link FractionalRank}</li>
+ *     <li>Grava apenas a chave do card movido</li>
+ * </ol>
+ *
+ * <p>Deve ser executado dentro de uma transação, pois o lock da coluna é liberado no commit.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("reorderProjectUseCase")
+public class ReorderProjectUseCase implements IUseCase<ReorderProjectCommand.Input, Mono<ReorderProjectCommand.Output>> {
+
+    private final ProjectRankRepository projectRankRepository;
+
+    @Override
+    public Mono<ReorderProjectCommand.Output> execute(ReorderProjectCommand.Input input) {
+        log.info("Reposicionando card | uuid={}, after={}, before={}", input.uuid(), input.after(), input.before());
+
+        if (input.after() == null && input.before() == null) {
+            return Mono.error(new BusinessRuleException("Informe ao menos um vizinho (after ou before)"));
+        }
+
+        List<UUID> uuids = new ArrayList<>();
+        uuids.add(input.uuid());
+        if (input.after() != null) uuids.add(input.after());
+        if (input.before() != null) uuids.add(input.before());
+
+        return projectRankRepository.findByUuids(List.of(input.uuid()))
+                .next()
+                .switchIfEmpty(Mono.error(() -> new NotFoundResourceException("Projeto não encontrado")))
+                // Lê novamente as posições já com a coluna bloqueada: um rebalanceamento pode ter ocorrido antes do lock
+                .flatMap(moved -> projectRankRepository.lockColumnShared(moved.status()))
+                .then(projectRankRepository.findByUuids(uuids).collectMap(ProjectRankPO::uuid))
+                .flatMap(positions -> reorder(input, positions))
+                .doOnSuccess(output -> log.info("Card reposicionado: {}", output))
+                .doOnError(error -> log.error("Erro ao reposicionar card: {}", error.getMessage()));
+    }
+
+    private Mono<ReorderProjectCommand.Output> reorder(ReorderProjectCommand.Input input, Map<UUID, ProjectRankPO> positions) {
+        ProjectRankPO moved = positions.get(input.uuid());
+        if (moved == null) {
+            return Mono.error(new NotFoundResourceException("Projeto não encontrado"));
+        }
+        ProjectRankPO after = neighbor(input.after(), positions);
+        ProjectRankPO before = neighbor(input.before(), positions);
+        if ((after != null && !Objects.equals(after.status(), moved.status()))
+                || (before != null && !Objects.equals(before.status(), moved.status()))) {
+            return Mono.error(new BusinessRuleException("Os vizinhos devem estar na mesma coluna do card"));
+        }
+
+        String rank;
+        try {
+            rank = FractionalRank.between(after == null ? null : after.rank(), before == null ? null : before.rank());
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new BusinessRuleException("Vizinhos fora de ordem: 'after' deve estar acima de 'before'"));
+        }
+
+        return projectRankRepository.updateRank(moved.id(), moved.status(), rank)
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(new ReorderProjectCommand.Output(moved.uuid(), moved.status(), rank))
+                        : Mono.error(new BusinessRuleException("O card mudou de coluna durante a reordenação")));
+    }
+
+    private static ProjectRankPO neighbor(UUID uuid, Map<UUID, ProjectRankPO> positions) {
+        if (uuid == null) {
+            return null;
+        }
+        ProjectRankPO position = positions.get(uuid);
+        if (position == null) {
+            throw new NotFoundResourceException("Projeto vizinho não encontrado: " + uuid);
+        }
+        return position;
+    }
+}
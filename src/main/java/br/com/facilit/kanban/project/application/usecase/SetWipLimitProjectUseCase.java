@@ -0,0 +1,53 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.SetWipLimitProjectCommand;
+import br.com.facilit.kanban.project.infra.counter.WipLimitRegistry;
+import br.com.facilit.kanban.project.infra.repository.WipLimitRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.transaction.TransactionCallbacks;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso responsável por definir o limite de WIP de uma coluna (secretaria, status).
+ *
+ * <p>O limite é gravado em {@code wip_limit}, onde passa a valer imediatamente para a garantia
+ * do banco, e é aplicado ao {@link WipLimitRegistry} desta instância após o commit. As demais
+ * instâncias o recebem na próxima recarga. Um limite menor que a ocupação atual não remove
+ * projetos da coluna; apenas impede novas entradas.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("setWipLimitProjectUseCase")
+public class SetWipLimitProjectUseCase implements IUseCase<SetWipLimitProjectCommand.Input, Mono<SetWipLimitProjectCommand.Output>> {
+
+    private final WipLimitRepository wipLimitRepository;
+    private final WipLimitRegistry wipLimitRegistry;
+
+    @Override
+    public Mono<SetWipLimitProjectCommand.Output> execute(SetWipLimitProjectCommand.Input input) {
+        log.info("Definindo limite de WIP: {}", input);
+
+        if (input.secretariatId() == null || input.status() == null || input.maxProjects() == null) {
+            return Mono.error(new BusinessRuleException("Informe secretaria, status e quantidade máxima de projetos"));
+        }
+        if (input.maxProjects() < 0) {
+            return Mono.error(new BusinessRuleException("A quantidade máxima de projetos não pode ser negativa"));
+        }
+
+        return wipLimitRepository.upsert(input.secretariatId(), input.status().name(), input.maxProjects())
+                .flatMap(saved -> TransactionCallbacks.afterCommit(() -> wipLimitRegistry.put(saved))
+                        .thenReturn(saved))
+                .map(ProjectMapper.WipLimit.PO_TO_SET_OUTPUT)
+                .doOnSuccess(output -> log.info("Limite de WIP definido: {}", output))
+                .doOnError(error -> log.error("Erro ao definir limite de WIP: {}", error.getMessage(), error));
+    }
+}
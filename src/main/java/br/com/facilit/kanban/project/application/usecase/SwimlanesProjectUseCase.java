@@ -0,0 +1,92 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.BoardProjectCommand;
+import br.com.facilit.kanban.project.application.command.SwimlanesProjectCommand;
+import br.com.facilit.kanban.project.domain.po.ProjectSwimlaneRowPO;
+import br.com.facilit.kanban.project.infra.repository.ProjectSwimlaneRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.rank.RankCursor;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caso de uso responsável por montar o quadro em raias (secretaria × status).
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Limita a quantidade de cards por célula a {@link #MAX_LIMIT}</li>
+ *     <li>Executa uma única consulta que devolve {@code limit + 1} cards de cada célula</li>
+ *     <li>Agrupa as linhas consecutivas de mesma secretaria em uma raia, à medida que chegam</li>
+ *     <li>Em cada célula, o card excedente indica que há mais cards: ele é descartado e a célula
+ *     recebe o cursor do último card exibido, usado por {@link CellProjectUseCase}</li>
+ * </ol>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("swimlanesProjectUseCase")
+public class SwimlanesProjectUseCase implements IUseCase<SwimlanesProjectCommand.Input, Flux<SwimlanesProjectCommand.Output>> {
+
+    /** Quantidade máxima de cards por célula. */
+    static final int MAX_LIMIT = 50;
+
+    private final ProjectSwimlaneRepository projectSwimlaneRepository;
+
+    @Override
+    public Flux<SwimlanesProjectCommand.Output> execute(SwimlanesProjectCommand.Input input) {
+        int limit = Math.max(1, Math.min(input.limit(), MAX_LIMIT));
+        log.info("Montando quadro em raias | limit={}", limit);
+
+        return projectSwimlaneRepository.findSwimlanes(limit + 1)
+                .bufferUntilChanged(ProjectSwimlaneRowPO::secretariatId)
+                .map(rows -> toLane(rows, limit))
+                .doOnError(error -> log.error("Erro ao montar quadro em raias: {}", error.getMessage(), error));
+    }
+
+    private SwimlanesProjectCommand.Output toLane(List<ProjectSwimlaneRowPO> rows, int limit) {
+        ProjectSwimlaneRowPO first = rows.get(0);
+        List<SwimlanesProjectCommand.Cell> cells = new ArrayList<>();
+        List<ProjectSwimlaneRowPO> cell = new ArrayList<>();
+        for (ProjectSwimlaneRowPO row : rows) {
+            if (!cell.isEmpty() && !cell.get(0).status().equals(row.status())) {
+                cells.add(toCell(cell, limit));
+                cell = new ArrayList<>();
+            }
+            cell.add(row);
+        }
+        cells.add(toCell(cell, limit));
+        return new SwimlanesProjectCommand.Output(first.secretariatId(), first.secretariatName(), cells);
+    }
+
+    private SwimlanesProjectCommand.Cell toCell(List<ProjectSwimlaneRowPO> rows, int limit) {
+        ProjectSwimlaneRowPO first = rows.get(0);
+        List<ProjectSwimlaneRowPO> shown = rows.stream()
+                .filter(row -> !row.isEmpty())
+                .limit(limit)
+                .toList();
+        List<BoardProjectCommand.Card> cards = shown.stream()
+                .map(ProjectMapper.Swimlane.PO_TO_CARD)
+                .toList();
+        return new SwimlanesProjectCommand.Cell(first.status(), first.total(), cards, cursor(rows, shown, limit));
+    }
+
+    /**
+     * Cursor do último card exibido, apenas se a célula tiver mais cards que o limite.
+     */
+    static String cursor(List<ProjectSwimlaneRowPO> fetched, List<ProjectSwimlaneRowPO> shown, int limit) {
+        if (fetched.size() <= limit || shown.isEmpty()) {
+            return null;
+        }
+        ProjectSwimlaneRowPO last = shown.get(shown.size() - 1);
+        return new RankCursor(last.rank(), last.id()).encode();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.TimelineProjectCommand;
+import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso responsável pela linha do tempo: projetos cujo período previsto
+ * ({@code expected_start} a {@code expected_therm}) se sobrepõe à janela informada.
+ *
+ * <p>A sobreposição é resolvida pelo índice GiST {@code idx_project_period}; os projetos são
+ * transmitidos em ordem de início previsto, à medida que são lidos do banco.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("timelineProjectUseCase")
+public class TimelineProjectUseCase implements IUseCase<TimelineProjectCommand.Input, Flux<TimelineProjectCommand.Output>> {
+
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public Flux<TimelineProjectCommand.Output> execute(TimelineProjectCommand.Input input) {
+        if (input.from() == null || input.to() == null) {
+            return Flux.error(new BusinessRuleException("As datas inicial e final da linha do tempo são obrigatórias"));
+        }
+        if (input.from().isAfter(input.to())) {
+            return Flux.error(new BusinessRuleException("A data inicial deve ser anterior ou igual à data final"));
+        }
+
+        return projectRepository.findTimeline(input.from().atStartOfDay(), input.to().plusDays(1).atStartOfDay())
+                .map(ProjectMapper.Timeline.PO_TO_OUTPUT)
+                .doOnError(error -> log.error("Erro ao consultar a linha do tempo: {}", error.getMessage(), error));
+    }
+}
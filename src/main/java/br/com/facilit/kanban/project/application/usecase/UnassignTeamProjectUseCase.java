@@ -0,0 +1,50 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.UnassignTeamProjectCommand;
+import br.com.facilit.kanban.project.infra.repository.ProjectAccountablesRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso responsável por desvincular responsáveis da equipe de um projeto.
+ *
+ * <p><strong>Fluxo do processo:</strong></p>
+ * <ol>
+ *     <li>Localiza o projeto pelo UUID informado</li>
+ *     <li>Se não existir, lança {@link NotFoundResourceException}</li>
+ *     <li>Remove todos os vínculos com um único {@code DELETE ... = ANY}</li>
+ *     <li>Retorna a quantidade de vínculos removidos</li>
+ * </ol>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("unassignTeamProjectUseCase")
+public class UnassignTeamProjectUseCase implements IUseCase<UnassignTeamProjectCommand.Input, Mono<UnassignTeamProjectCommand.Output>> {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectAccountablesRepository projectAccountablesRepository;
+
+    @Override
+    public Mono<UnassignTeamProjectCommand.Output> execute(UnassignTeamProjectCommand.Input input) {
+        log.info("Desvinculando responsáveis do projeto | uuid={}, total={}", input.uuid(), input.accountableIds().size());
+
+        return projectRepository.findByUuid(input.uuid().toString())
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("Projeto não encontrado para desvínculo de equipe | uuid={}", input.uuid());
+                    return Mono.error(new NotFoundResourceException("Projeto não encontrado"));
+                }))
+                .flatMap(project -> projectAccountablesRepository.unassign(project.getId(), input.accountableIds()))
+                .map(affected -> new UnassignTeamProjectCommand.Output(input.uuid(), affected))
+                .doOnSuccess(output -> log.info("Responsáveis desvinculados do projeto: {}", output))
+                .doOnError(error -> log.error("Erro ao desvincular responsáveis do projeto: {}", error.getMessage(), error));
+    }
+}
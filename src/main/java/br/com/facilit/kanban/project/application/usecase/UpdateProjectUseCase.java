@@ -2,8 +2,15 @@ package br.com.facilit.kanban.project.application.usecase;
 
 import br.com.facilit.kanban.project.application.command.UpdateProjectCommand;
 import br.com.facilit.kanban.project.domain.po.ProjectPO;
+import br.com.facilit.kanban.project.infra.counter.WipLimitRegistry;
+import br.com.facilit.kanban.project.infra.deadline.ProjectDeadlineScheduler;
 import br.com.facilit.kanban.project.infra.repository.ProjectRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusCounterRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusHistoryRepository;
 import br.com.facilit.kanban.project.mapping.ProjectMapper;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.exception.WipLimitExceededException;
+import br.com.facilit.kanban.shared.transaction.TransactionCallbacks;
 import br.com.facilit.kanban.shared.usecase.IUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +27,11 @@ import java.time.LocalDateTime;
  * Busca o projeto pelo UUID<br>
  * Atualiza os campos com os dados do Input<br>
  * Persiste as alterações no repositório reativo<br>
+ * Move o projeto entre os contadores de (secretaria, status) na mesma transação, se necessário,
+ * respeitando o limite de WIP da coluna de destino<br>
+ * Registra a transição em {@code project_status_history}, se o status ou a secretaria mudou<br>
+ * Após o commit, reagenda os prazos do projeto em {@link ProjectDeadlineScheduler}<br>
+ * Relê o projeto de {@code project_view}, com o atraso e o percentual de tempo restante calculados<br>
  * Retorna DTO de saída encapsulado em {@link Mono}<br>
  * Logs de sucesso e erro são gerados para rastreabilidade</p>
  *
@@ -34,22 +46,46 @@ import java.time.LocalDateTime;
 public class UpdateProjectUseCase implements IUseCase<UpdateProjectCommand.Input, Mono<UpdateProjectCommand.Output>> {
 
     private final ProjectRepository projectRepository;
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
+    private final WipLimitRegistry wipLimitRegistry;
+    private final ProjectStatusHistoryRepository projectStatusHistoryRepository;
+    private final ProjectDeadlineScheduler projectDeadlineScheduler;
 
     @Override
     public Mono<UpdateProjectCommand.Output> execute(UpdateProjectCommand.Input input) {
         log.info("Iniciando atualização do projeto: {}", input);
 
-        return projectRepository.findByUuid(input.uuid().toString())
+        return projectRepository.findByUuidForUpdate(input.uuid().toString())
                 .switchIfEmpty(Mono.error(new RuntimeException("Projeto não encontrado")))
                 .flatMap(existingProject -> {
                     ProjectPO projectPO = ProjectMapper.Update.INPUT_TO_PO.apply(input);
                     projectPO.setId(existingProject.getId());
+                    projectPO.setUuid(existingProject.getUuid());
+                    projectPO.setCreatedAt(existingProject.getCreatedAt());
+                    projectPO.setRank(existingProject.getRank());
                     projectPO.setUpdatedAt(LocalDateTime.now());
-                    return projectRepository.save(existingProject);
+                    return wipLimitRegistry
+                            .reserve(existingProject.getSecretariatId(), existingProject.getStatus(),
+                                    projectPO.getSecretariatId(), projectPO.getStatus())
+                            .then(Mono.defer(() -> projectRepository.save(projectPO)))
+                            .flatMap(saved -> projectStatusCounterRepository
+                                    .move(existingProject.getSecretariatId(), existingProject.getStatus(),
+                                            saved.getSecretariatId(), saved.getStatus())
+                                    .flatMap(admitted -> admitted
+                                            ? Mono.just(saved)
+                                            : Mono.error(new WipLimitExceededException(saved.getSecretariatId(), saved.getStatus()))))
+                            .flatMap(saved -> projectStatusHistoryRepository
+                                    .append(saved.getId(), existingProject.getSecretariatId(), saved.getSecretariatId(),
+                                            existingProject.getStatus(), saved.getStatus(), null)
+                                    .thenReturn(saved))
+                            .flatMap(saved -> TransactionCallbacks
+                                    .afterCommit(() -> projectDeadlineScheduler.schedule(ProjectMapper.Deadline.PO_TO_DEADLINE.apply(saved)))
+                                    .thenReturn(saved));
                 })
+                .flatMap(saved -> projectRepository.findCurrentById(saved.getId()))
                 .map(ProjectMapper.Update.PO_TO_OUTPUT)
                 .doOnSuccess(output -> log.info("Projeto atualizado com sucesso: {}", output))
-                .onErrorMap(error -> {
+                .onErrorMap(error -> !(error instanceof BusinessRuleException), error -> {
                     log.error("Erro ao atualizar projeto: {}", error.getMessage(), error);
                     return new RuntimeException("Falha ao atualizar projeto");
                 });
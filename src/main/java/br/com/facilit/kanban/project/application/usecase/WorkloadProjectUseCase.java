@@ -0,0 +1,52 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.WorkloadProjectCommand;
+import br.com.facilit.kanban.project.infra.analytics.AccountableWorkloadCache;
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
+import br.com.facilit.kanban.shared.usecase.IUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Caso de uso responsável pela carga de trabalho dos responsáveis de uma secretaria: quantos
+ * projetos ativos de cada um têm período previsto sobreposto ao período informado.
+ *
+ * <p>A contagem é uma única agregação no banco, servida por {@link AccountableWorkloadCache}
+ * até a próxima alteração de projetos ou de equipes.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Qualifier("workloadProjectUseCase")
+public class WorkloadProjectUseCase implements IUseCase<WorkloadProjectCommand.Input, Mono<WorkloadProjectCommand.Output>> {
+
+    private static final int DEFAULT_DAYS = 30;
+
+    private final AccountableWorkloadCache accountableWorkloadCache;
+
+    @Override
+    public Mono<WorkloadProjectCommand.Output> execute(WorkloadProjectCommand.Input input) {
+        if (input.secretariatId() == null) {
+            return Mono.error(new BusinessRuleException("A secretaria é obrigatória para a carga de trabalho"));
+        }
+        LocalDate from = input.from() == null ? LocalDate.now(ZoneOffset.UTC) : input.from();
+        LocalDate to = input.to() == null ? from.plusDays(DEFAULT_DAYS - 1) : input.to();
+        if (from.isAfter(to)) {
+            return Mono.error(new BusinessRuleException("A data inicial deve ser anterior ou igual à data final"));
+        }
+
+        return accountableWorkloadCache.get(input.secretariatId(), from, to)
+                .map(workload -> new WorkloadProjectCommand.Output(input.secretariatId(), from, to, workload.stream()
+                        .map(po -> new WorkloadProjectCommand.Accountable(po.uuid(), po.name(), po.role(), po.activeProjects()))
+                        .toList()))
+                .doOnError(error -> log.error("Erro ao calcular a carga de trabalho: {}", error.getMessage(), error));
+    }
+}
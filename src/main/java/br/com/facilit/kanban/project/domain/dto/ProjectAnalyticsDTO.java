@@ -0,0 +1,355 @@
+package br.com.facilit.kanban.project.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTOs dos indicadores de fluxo de projetos.
+ *
+ * @see ProjectAnalyticsDTO.Flow
+ * @see ProjectAnalyticsDTO.SecretariatFlow
+ * @see ProjectAnalyticsDTO.Percentiles
+ * @see ProjectAnalyticsDTO.CfdDay
+ * @see ProjectAnalyticsDTO.Forecast
+ * @see ProjectAnalyticsDTO.DelayReport
+ * @see ProjectAnalyticsDTO.SecretariatDelay
+ * @see ProjectAnalyticsDTO.PortfolioStats
+ * @see ProjectAnalyticsDTO.Workload
+ * @see ProjectAnalyticsDTO.AccountableWorkload
+ * @see ProjectAnalyticsDTO.CriticalPath
+ * @see ProjectAnalyticsDTO.CriticalPathNode
+ */
+@Schema(
+        name = "ProjectAnalyticsDTO",
+        description = "DTO base para os indicadores de fluxo de Projetos."
+)
+public sealed interface ProjectAnalyticsDTO extends Serializable
+        permits ProjectAnalyticsDTO.Flow, ProjectAnalyticsDTO.SecretariatFlow, ProjectAnalyticsDTO.Percentiles,
+                ProjectAnalyticsDTO.CfdDay, ProjectAnalyticsDTO.Forecast,
+                ProjectAnalyticsDTO.DelayReport, ProjectAnalyticsDTO.SecretariatDelay, ProjectAnalyticsDTO.PortfolioStats,
+                ProjectAnalyticsDTO.Workload, ProjectAnalyticsDTO.AccountableWorkload,
+                ProjectAnalyticsDTO.CriticalPath, ProjectAnalyticsDTO.CriticalPathNode {
+
+    /**
+     * Lead time e cycle time por secretaria em uma janela de dias.
+     */
+    @Schema(
+            name = "ProjectFlow",
+            description = "Percentis de lead time e cycle time por secretaria na janela informada."
+    )
+    record Flow(
+
+            @Schema(description = "Primeiro dia da janela (UTC, inclusivo).", example = "2025-01-01")
+            LocalDate from,
+
+            @Schema(description = "Último dia da janela (UTC, inclusivo).", example = "2025-03-31")
+            LocalDate to,
+
+            @Schema(description = "Secretarias com projetos concluídos na janela.")
+            List<SecretariatFlow> secretariats
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Indicadores de uma secretaria.
+     */
+    @Schema(
+            name = "ProjectSecretariatFlow",
+            description = "Lead time (criação até conclusão) e cycle time (início até conclusão) de uma secretaria."
+    )
+    record SecretariatFlow(
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Tempo entre a criação e a conclusão.")
+            Percentiles leadTime,
+
+            @Schema(description = "Tempo entre a primeira entrada em EM_ANDAMENTO e a conclusão.")
+            Percentiles cycleTime
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Percentis de uma métrica, em dias.
+     */
+    @Schema(
+            name = "ProjectFlowPercentiles",
+            description = "Quantidade de conclusões e percentis em dias (aproximados, erro relativo de até ~5%)."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Percentiles(
+
+            @Schema(description = "Quantidade de conclusões consideradas.", example = "37")
+            long count,
+
+            @Schema(description = "Mediana, em dias.", example = "12.4")
+            Double p50,
+
+            @Schema(description = "Percentil 85, em dias.", example = "30.1")
+            Double p85,
+
+            @Schema(description = "Percentil 95, em dias.", example = "47.9")
+            Double p95
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Ponto do diagrama de fluxo cumulativo.
+     */
+    @Schema(
+            name = "ProjectCfdDay",
+            description = "Quantidade de projetos por status de uma secretaria ao fim de um dia (UTC)."
+    )
+    record CfdDay(
+
+            @Schema(description = "Dia (UTC).", example = "2025-03-31")
+            LocalDate day,
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Quantidade de projetos por status, na ordem do fluxo.",
+                    example = "{\"PLANEJADO\": 4, \"EM_ANDAMENTO\": 7, \"ATRASADO\": 1, \"CANCELADO\": 0, \"CONCLUIDO\": 12}")
+            Map<String, Long> byStatus
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Previsão de entrega dos projetos em aberto de uma secretaria.
+     */
+    @Schema(
+            name = "ProjectForecast",
+            description = "Datas em que todos os projetos em aberto de uma secretaria estarão concluídos, por nível de "
+                    + "confiança, estimadas por simulação de Monte Carlo sobre o throughput diário histórico."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Forecast(
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Projetos em aberto (PLANEJADO, EM_ANDAMENTO e ATRASADO).", example = "23")
+            long openProjects,
+
+            @Schema(description = "Quantidade de tentativas simuladas.", example = "20000")
+            int trials,
+
+            @Schema(description = "Dias encerrados de throughput usados como amostra.", example = "90")
+            int historyDays,
+
+            @Schema(description = "Conclusões no período histórico.", example = "41")
+            long completedInHistory,
+
+            @Schema(description = "Data com 50% de confiança (UTC); ausente se além do horizonte.", example = "2025-05-10")
+            LocalDate p50,
+
+            @Schema(description = "Data com 85% de confiança (UTC); ausente se além do horizonte.", example = "2025-06-02")
+            LocalDate p85,
+
+            @Schema(description = "Data com 95% de confiança (UTC); ausente se além do horizonte.", example = "2025-06-19")
+            LocalDate p95,
+
+            @Schema(description = "Instante da simulação (UTC).", example = "2025-03-31T14:05:00")
+            LocalDateTime generatedAt
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Relatório de atrasos por secretaria.
+     */
+    @Schema(
+            name = "ProjectDelayReport",
+            description = "Indicadores de atraso por secretaria, desconsiderando projetos cancelados."
+    )
+    record DelayReport(
+
+            @Schema(description = "Secretarias com projetos, em ordem de ID.")
+            List<SecretariatDelay> secretariats
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Indicadores de atraso de uma secretaria.
+     */
+    @Schema(
+            name = "ProjectSecretariatDelay",
+            description = "Atraso e tempo restante dos projetos de uma secretaria."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record SecretariatDelay(
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Projetos considerados (todos, exceto os cancelados).", example = "42")
+            long totalProjects,
+
+            @Schema(description = "Projetos com status ATRASADO.", example = "5")
+            long overdueProjects,
+
+            @Schema(description = "Projetos com dias de atraso maior que zero, inclusive os concluídos com atraso.", example = "9")
+            long lateProjects,
+
+            @Schema(description = "Soma dos dias de atraso.", example = "137")
+            long totalDaysLate,
+
+            @Schema(description = "Média dos dias de atraso dos projetos com término previsto.", example = "3.45")
+            Double averageDaysLate,
+
+            @Schema(description = "Média do percentual de tempo restante dos projetos em aberto.", example = "41.8")
+            Double averagePercentageOfTimeRemaining
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Indicadores calculados sobre o snapshot colunar em memória.
+     */
+    @Schema(
+            name = "ProjectPortfolioStats",
+            description = "Projetos por status e histograma de dias de atraso, calculados em memória sobre o snapshot "
+                    + "colunar de projetos, com o tamanho do snapshot."
+    )
+    record PortfolioStats(
+
+            @Schema(description = "Projetos que atendem ao filtro.", example = "1250")
+            long matched,
+
+            @Schema(description = "Projetos filtrados por status, na ordem do fluxo.",
+                    example = "{\"PLANEJADO\": 300, \"EM_ANDAMENTO\": 500, \"ATRASADO\": 50, \"CANCELADO\": 20, \"CONCLUIDO\": 380}")
+            Map<String, Long> byStatus,
+
+            @Schema(description = "Projetos filtrados por faixa de dias de atraso; projetos sem término previsto não entram.",
+                    example = "{\"0\": 900, \"1-7\": 120, \"8-30\": 60, \"31-90\": 25, \"91-365\": 8, \"365+\": 1}")
+            Map<String, Long> daysLate,
+
+            @Schema(description = "Projetos no snapshot.", example = "1250")
+            int snapshotRows,
+
+            @Schema(description = "Memória ocupada pelo snapshot, em bytes.", example = "98304")
+            long snapshotBytes,
+
+            @Schema(description = "Memória do snapshot projetada para um milhão de projetos, em bytes.", example = "78643200")
+            long bytesPerMillionProjects,
+
+            @Schema(description = "Duração da varredura, em microssegundos.", example = "35")
+            long scanMicros
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Carga de trabalho dos responsáveis de uma secretaria em um período.
+     */
+    @Schema(
+            name = "ProjectWorkload",
+            description = "Projetos ativos de cada responsável da secretaria com período previsto sobreposto ao período informado."
+    )
+    record Workload(
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Primeiro dia do período (UTC, inclusivo).", example = "2025-04-01")
+            LocalDate from,
+
+            @Schema(description = "Último dia do período (UTC, inclusivo).", example = "2025-04-30")
+            LocalDate to,
+
+            @Schema(description = "Responsáveis da secretaria, do mais ao menos carregado.")
+            List<AccountableWorkload> accountables
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Carga de trabalho de um responsável.
+     */
+    @Schema(
+            name = "ProjectAccountableWorkload",
+            description = "Quantidade de projetos ativos (PLANEJADO, EM_ANDAMENTO e ATRASADO) do responsável no período."
+    )
+    record AccountableWorkload(
+
+            @Schema(description = "UUID do responsável.", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+            UUID uuid,
+
+            @Schema(description = "Nome do responsável.", example = "Maria Souza")
+            String name,
+
+            @Schema(description = "Cargo do responsável.", example = "Analista")
+            String role,
+
+            @Schema(description = "Projetos ativos no período.", example = "4")
+            long activeProjects
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Caminho crítico dos projetos de uma secretaria.
+     */
+    @Schema(
+            name = "ProjectCriticalPath",
+            description = "Datas mais cedo e mais tarde de cada projeto datado da secretaria, considerando as dependências."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record CriticalPath(
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Maior término mais cedo entre os projetos fora de ciclos.", example = "2025-12-15")
+            LocalDate finish,
+
+            @Schema(description = "Projetos em ordem de início mais cedo; os bloqueados por ciclos aparecem ao final.")
+            List<CriticalPathNode> projects
+
+    ) implements ProjectAnalyticsDTO {}
+
+    /**
+     * Datas de um projeto no caminho crítico.
+     */
+    @Schema(
+            name = "ProjectCriticalPathNode",
+            description = "Datas de um projeto; projetos bloqueados por um ciclo de dependências não têm datas."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record CriticalPathNode(
+
+            @Schema(description = "UUID do projeto.", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+            UUID uuid,
+
+            @Schema(description = "Nome do projeto.", example = "Reforma da Escola Municipal")
+            String name,
+
+            @Schema(description = "Status do projeto.", example = "EM_ANDAMENTO")
+            String status,
+
+            @Schema(description = "Início mais cedo.", example = "2025-03-01")
+            LocalDate earliestStart,
+
+            @Schema(description = "Término mais cedo.", example = "2025-05-30")
+            LocalDate earliestFinish,
+
+            @Schema(description = "Início mais tarde sem atrasar a secretaria.", example = "2025-03-11")
+            LocalDate latestStart,
+
+            @Schema(description = "Término mais tarde sem atrasar a secretaria.", example = "2025-06-09")
+            LocalDate latestFinish,
+
+            @Schema(description = "Folga em dias.", example = "10")
+            Integer slackDays,
+
+            @Schema(description = "Indica se o projeto não tem folga.", example = "false")
+            boolean critical,
+
+            @Schema(description = "Indica se o projeto pertence a um ciclo de dependências ou depende de um.", example = "false")
+            boolean blocked
+
+    ) implements ProjectAnalyticsDTO {}
+}
@@ -0,0 +1,367 @@
+package br.com.facilit.kanban.project.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTOs do quadro Kanban de projetos.
+ *
+ * @see ProjectBoardDTO.Column
+ * @see ProjectBoardDTO.Card
+ * @see ProjectBoardDTO.Event
+ * @see ProjectBoardDTO.Query
+ * @see ProjectBoardDTO.Move
+ * @see ProjectBoardDTO.MoveResult
+ * @see ProjectBoardDTO.Counters
+ * @see ProjectBoardDTO.Reorder
+ * @see ProjectBoardDTO.Position
+ * @see ProjectBoardDTO.WipLimit
+ * @see ProjectBoardDTO.Lane
+ * @see ProjectBoardDTO.Cell
+ * @see ProjectBoardDTO.CellPage
+ * @see ProjectBoardDTO.Deadline
+ */
+@Schema(
+        name = "ProjectBoardDTO",
+        description = "DTO base para o quadro Kanban de Projetos."
+)
+public sealed interface ProjectBoardDTO extends Serializable
+        permits ProjectBoardDTO.Column, ProjectBoardDTO.Card, ProjectBoardDTO.Event,
+                ProjectBoardDTO.Query, ProjectBoardDTO.Move, ProjectBoardDTO.MoveResult,
+                ProjectBoardDTO.Counters, ProjectBoardDTO.Reorder, ProjectBoardDTO.Position,
+                ProjectBoardDTO.WipLimit, ProjectBoardDTO.Lane, ProjectBoardDTO.Cell, ProjectBoardDTO.CellPage,
+                ProjectBoardDTO.Deadline {
+
+    /**
+     * Coluna do quadro, correspondente a um status do projeto.
+     */
+    @Schema(
+            name = "ProjectBoardColumn",
+            description = "Coluna do quadro Kanban com o total de projetos e os primeiros cards."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Column(
+
+            @Schema(description = "Status da coluna.", example = "EM_ANDAMENTO")
+            String status,
+
+            @Schema(description = "Total de projetos na coluna.", example = "42")
+            long total,
+
+            @Schema(description = "Primeiros cards da coluna.")
+            List<Card> cards
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Card de projeto exibido no quadro.
+     */
+    @Schema(
+            name = "ProjectBoardCard",
+            description = "Resumo de um projeto exibido no quadro Kanban."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Card(
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Nome do projeto.", example = "Reforma do Hospital Central")
+            String name,
+
+            @Schema(description = "Data/hora prevista para início do projeto (UTC).", example = "2025-01-01T00:00:00Z")
+            Instant expectedStart,
+
+            @Schema(description = "Data/hora prevista para término do projeto (UTC).", example = "2025-03-01T00:00:00Z")
+            Instant expectedThermal,
+
+            @Schema(description = "Número de dias de atraso do projeto.", example = "2")
+            Integer daysLate,
+
+            @Schema(description = "ID da secretaria do projeto.", example = "1")
+            Long secretariatId
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Alteração do quadro enviada em tempo real.
+     */
+    @Schema(
+            name = "ProjectBoardEvent",
+            description = "Alteração de um projeto no quadro Kanban. RESYNC indica que o cliente deve recarregar o quadro."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Event(
+
+            @Schema(description = "Operação: INSERT, UPDATE, DELETE ou RESYNC.", example = "UPDATE")
+            String op,
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Status após a alteração.", example = "CONCLUIDO")
+            String status,
+
+            @Schema(description = "Status antes da alteração.", example = "EM_ANDAMENTO")
+            String oldStatus,
+
+            @Schema(description = "ID da secretaria do projeto.", example = "1")
+            Long secretariatId
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Parâmetros do quadro enviados pelos clientes RSocket.
+     */
+    @Schema(
+            name = "ProjectBoardQuery",
+            description = "Filtro opcional por secretaria e quantidade de cards por coluna."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Query(
+
+            @Schema(description = "ID da secretaria (opcional).", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Quantidade máxima de cards por coluna.", example = "20")
+            Integer limit
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Movimentação de um card para outra coluna.
+     */
+    @Schema(
+            name = "ProjectBoardMove",
+            description = "Movimentação de um card para um novo status."
+    )
+    record Move(
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Novo status do projeto.", example = "CONCLUIDO")
+            StatusProject status
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Resultado de uma movimentação de card.
+     */
+    @Schema(
+            name = "ProjectBoardMoveResult",
+            description = "Resultado de uma movimentação; em caso de falha apenas o campo error é preenchido além do UUID."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record MoveResult(
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Status gravado.", example = "CONCLUIDO")
+            String status,
+
+            @Schema(description = "Motivo da falha, quando houver.", example = "Projeto não encontrado")
+            String error
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Quantidade de projetos por status, para os indicadores do dashboard.
+     */
+    @Schema(
+            name = "ProjectBoardCounters",
+            description = "Total de projetos e quantidade por status."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Counters(
+
+            @Schema(description = "ID da secretaria, quando filtrado.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Total de projetos.", example = "50")
+            long total,
+
+            @Schema(description = "Quantidade de projetos por status.",
+                    example = "{\"PLANEJADO\": 10, \"EM_ANDAMENTO\": 20}")
+            Map<String, Long> byStatus
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Nova posição de um card na coluna, informada pelos vizinhos.
+     */
+    @Schema(
+            name = "ProjectBoardReorder",
+            description = "Vizinhos do card na nova posição; informe ao menos um."
+    )
+    record Reorder(
+
+            @Schema(description = "UUID do card imediatamente acima (omitir para o topo).",
+                    example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID after,
+
+            @Schema(description = "UUID do card imediatamente abaixo (omitir para o fim).",
+                    example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+            UUID before
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Posição de um card após a reordenação.
+     */
+    @Schema(
+            name = "ProjectBoardPosition",
+            description = "Coluna e chave de ordenação do card."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Position(
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Status (coluna) do projeto.", example = "EM_ANDAMENTO")
+            String status,
+
+            @Schema(description = "Chave de ordenação na coluna.", example = "000000003V")
+            String rank
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Limite de trabalho em andamento (WIP) de uma coluna do quadro.
+     */
+    @Schema(
+            name = "ProjectBoardWipLimit",
+            description = "Quantidade máxima de projetos de uma secretaria em um status."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record WipLimit(
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Status (coluna).", example = "EM_ANDAMENTO")
+            StatusProject status,
+
+            @Schema(description = "Quantidade máxima de projetos na coluna.", example = "5")
+            Integer maxProjects,
+
+            @Schema(description = "Quantidade atual de projetos na coluna (somente leitura).", example = "3",
+                    accessMode = Schema.AccessMode.READ_ONLY)
+            Long current
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Raia do quadro, correspondente a uma secretaria.
+     */
+    @Schema(
+            name = "ProjectBoardLane",
+            description = "Raia do quadro em raias: uma secretaria com uma célula por status."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Lane(
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Nome da secretaria.", example = "Secretaria de Saúde")
+            String secretariatName,
+
+            @Schema(description = "Células da raia, na ordem dos status.")
+            List<Cell> cells
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Célula (secretaria, status) do quadro em raias.
+     */
+    @Schema(
+            name = "ProjectBoardCell",
+            description = "Total de projetos da célula, primeiros cards e cursor para os seguintes."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Cell(
+
+            @Schema(description = "Status da célula.", example = "EM_ANDAMENTO")
+            String status,
+
+            @Schema(description = "Total de projetos na célula.", example = "12")
+            long total,
+
+            @Schema(description = "Primeiros cards da célula.")
+            List<Card> cards,
+
+            @Schema(description = "Cursor dos cards seguintes; ausente se todos foram exibidos.",
+                    example = "MDAwMDAwMDAzVnw0Mg")
+            String cursor
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Página de cards de uma célula do quadro em raias.
+     */
+    @Schema(
+            name = "ProjectBoardCellPage",
+            description = "Cards de uma célula após o cursor informado."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record CellPage(
+
+            @Schema(description = "ID da secretaria.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Status da célula.", example = "EM_ANDAMENTO")
+            String status,
+
+            @Schema(description = "Total de projetos na célula.", example = "12")
+            Long total,
+
+            @Schema(description = "Cards da página.")
+            List<Card> cards,
+
+            @Schema(description = "Cursor da próxima página; ausente na última.", example = "MDAwMDAwMDA2Vnw1MQ")
+            String cursor
+
+    ) implements ProjectBoardDTO {}
+
+    /**
+     * Prazo alcançado por um projeto, enviado em tempo real.
+     */
+    @Schema(
+            name = "ProjectBoardDeadline",
+            description = "Projeto ativo que alcançou o início previsto (START) ou o término previsto (THERM)."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Deadline(
+
+            @Schema(description = "Prazo alcançado: START ou THERM.", example = "THERM")
+            String kind,
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Nome do projeto.", example = "Reforma da Escola Municipal")
+            String name,
+
+            @Schema(description = "Status do projeto.", example = "EM_ANDAMENTO")
+            String status,
+
+            @Schema(description = "ID da secretaria do projeto.", example = "1")
+            Long secretariatId,
+
+            @Schema(description = "Data e hora previstas (UTC).", example = "2025-06-30T00:00:00")
+            LocalDateTime at
+
+    ) implements ProjectBoardDTO {}
+}
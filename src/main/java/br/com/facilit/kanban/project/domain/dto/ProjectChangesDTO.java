@@ -0,0 +1,63 @@
+package br.com.facilit.kanban.project.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTOs da sincronização incremental de projetos.
+ *
+ * @see ProjectChangesDTO.Page
+ * @see ProjectChangesDTO.Change
+ */
+@Schema(
+        name = "ProjectChangesDTO",
+        description = "DTO base para a sincronização incremental de Projetos."
+)
+public sealed interface ProjectChangesDTO extends Serializable
+        permits ProjectChangesDTO.Page, ProjectChangesDTO.Change {
+
+    /**
+     * Alterações após o token informado.
+     */
+    @Schema(
+            name = "ProjectChangesPage",
+            description = "Alterações em ordem e o token a enviar na próxima sincronização."
+    )
+    record Page(
+
+            @Schema(description = "Alterações, da mais antiga para a mais recente.")
+            List<Change> changes,
+
+            @Schema(description = "Token a enviar em since na próxima chamada.", example = "1052.17")
+            String token,
+
+            @Schema(description = "Indica que há mais alterações; repita a chamada com o novo token.", example = "false")
+            boolean hasMore
+
+    ) implements ProjectChangesDTO {}
+
+    /**
+     * Alteração de um projeto.
+     */
+    @Schema(
+            name = "ProjectChange",
+            description = "Projeto criado/alterado (UPSERT) ou excluído (DELETE)."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Change(
+
+            @Schema(description = "Operação: UPSERT ou DELETE.", example = "UPSERT")
+            String op,
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Estado atual do projeto; ausente em exclusões.")
+            ProjectDTO.Response project
+
+    ) implements ProjectChangesDTO {}
+}
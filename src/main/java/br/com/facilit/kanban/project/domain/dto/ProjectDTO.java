@@ -65,11 +65,13 @@ public sealed interface ProjectDTO extends Serializable permits ProjectDTO.Reque
             Instant thermalActual,
 
             @PositiveOrZero(message = "O número de dias em atraso deve ser zero ou positivo")
-            @Schema(description = "Número de dias de atraso do projeto.", example = "2")
+            @Schema(description = "Ignorado: o atraso é calculado pelo servidor a partir das datas.", example = "2",
+                    deprecated = true)
             Integer daysLate,
 
             @PositiveOrZero(message = "O percentual de tempo restante deve ser zero ou positivo")
-            @Schema(description = "Percentual do tempo restante até o prazo final do projeto.", example = "25.7")
+            @Schema(description = "Ignorado: o percentual é calculado pelo servidor a partir das datas.", example = "25.7",
+                    deprecated = true)
             Double percentageOfTimeRemaining,
 
             Long secretariatId
@@ -111,11 +113,11 @@ public sealed interface ProjectDTO extends Serializable permits ProjectDTO.Reque
             Instant thermalActual,
 
             @PositiveOrZero(message = "O número de dias em atraso deve ser zero ou positivo")
-            @Schema(description = "Número de dias de atraso do projeto.", example = "2")
+            @Schema(description = "Número de dias de atraso do projeto, calculado a partir do término previsto e do término real (ou da data atual).", example = "2")
             Integer daysLate,
 
             @PositiveOrZero(message = "O percentual de tempo restante deve ser zero ou positivo")
-            @Schema(description = "Percentual do tempo restante até o prazo final do projeto.", example = "25.7")
+            @Schema(description = "Percentual do tempo restante até o prazo final do projeto, calculado a partir do início e do término previsto.", example = "25.7")
             Double percentageOfTimeRemaining,
 
             Long secretariatId
@@ -0,0 +1,84 @@
+package br.com.facilit.kanban.project.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTOs das dependências entre projetos.
+ *
+ * @see ProjectDependencyDTO.Request
+ * @see ProjectDependencyDTO.Dependency
+ * @see ProjectDependencyDTO.Result
+ */
+@Schema(
+        name = "ProjectDependencyDTO",
+        description = "DTO base para operações com as dependências do Projeto."
+)
+public sealed interface ProjectDependencyDTO extends Serializable
+        permits ProjectDependencyDTO.Request, ProjectDependencyDTO.Dependency, ProjectDependencyDTO.Result {
+
+    /**
+     * Lista de projetos dos quais o projeto passa a depender.
+     */
+    @Schema(
+            name = "ProjectDependencyRequest",
+            description = "Projetos que devem terminar antes do início do projeto."
+    )
+    record Request(
+
+            @NotEmpty(message = "Informe ao menos um projeto")
+            @Size(max = 500, message = "No máximo 500 projetos por requisição")
+            @Schema(description = "UUIDs dos projetos predecessores.",
+                    example = "[\"550e8400-e29b-41d4-a716-446655440000\"]")
+            List<UUID> dependsOn
+
+    ) implements ProjectDependencyDTO {}
+
+    /**
+     * Projeto do qual o projeto consultado depende.
+     */
+    @Schema(
+            name = "ProjectDependency",
+            description = "Projeto predecessor."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Dependency(
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Nome do projeto.", example = "Reforma da Escola Municipal")
+            String name,
+
+            @Schema(description = "Status do projeto.", example = "EM_ANDAMENTO")
+            String status,
+
+            @Schema(description = "Término previsto do projeto.", example = "2025-06-30T00:00:00Z")
+            Instant expectedThermal
+
+    ) implements ProjectDependencyDTO {}
+
+    /**
+     * Resultado de uma operação de vínculo ou remoção.
+     */
+    @Schema(
+            name = "ProjectDependencyResult",
+            description = "Quantidade de dependências alteradas no projeto."
+    )
+    record Result(
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID project,
+
+            @Schema(description = "Quantidade de dependências criadas ou removidas.", example = "2")
+            long affected
+
+    ) implements ProjectDependencyDTO {}
+}
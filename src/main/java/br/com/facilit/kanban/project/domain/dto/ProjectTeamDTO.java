@@ -0,0 +1,86 @@
+package br.com.facilit.kanban.project.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTOs da equipe de um projeto (vínculo entre projeto e responsáveis).
+ *
+ * @see ProjectTeamDTO.Request
+ * @see ProjectTeamDTO.Member
+ * @see ProjectTeamDTO.Result
+ */
+@Schema(
+        name = "ProjectTeamDTO",
+        description = "DTO base para operações com a equipe do Projeto."
+)
+public sealed interface ProjectTeamDTO extends Serializable
+        permits ProjectTeamDTO.Request, ProjectTeamDTO.Member, ProjectTeamDTO.Result {
+
+    /**
+     * Lista de responsáveis a vincular ao projeto.
+     */
+    @Schema(
+            name = "ProjectTeamRequest",
+            description = "Responsáveis a serem vinculados ao projeto."
+    )
+    record Request(
+
+            @NotEmpty(message = "Informe ao menos um responsável")
+            @Size(max = 500, message = "No máximo 500 responsáveis por requisição")
+            @Schema(description = "UUIDs dos responsáveis.",
+                    example = "[\"550e8400-e29b-41d4-a716-446655440000\"]")
+            List<UUID> accountableIds
+
+    ) implements ProjectTeamDTO {}
+
+    /**
+     * Responsável que faz parte da equipe do projeto.
+     */
+    @Schema(
+            name = "ProjectTeamMember",
+            description = "Responsável vinculado ao projeto."
+    )
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Member(
+
+            @Schema(description = "UUID do responsável.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID uuid,
+
+            @Schema(description = "Nome do responsável.", example = "João da Silva")
+            String name,
+
+            @Schema(description = "E-mail do responsável.", example = "joao.silva@gov.br")
+            String email,
+
+            @Schema(description = "Papel do responsável.", example = "Analista")
+            String role,
+
+            @Schema(description = "ID da secretaria do responsável.", example = "1")
+            Long secretariatId
+
+    ) implements ProjectTeamDTO {}
+
+    /**
+     * Resultado de uma operação de vínculo ou desvínculo.
+     */
+    @Schema(
+            name = "ProjectTeamResult",
+            description = "Quantidade de vínculos alterados no projeto."
+    )
+    record Result(
+
+            @Schema(description = "UUID do projeto.", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID project,
+
+            @Schema(description = "Quantidade de vínculos criados ou removidos.", example = "2")
+            long affected
+
+    ) implements ProjectTeamDTO {}
+}
@@ -0,0 +1,73 @@
+package br.com.facilit.kanban.project.domain.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Alteração em um projeto, publicada pelo Postgres no canal {@code project_changes}
+ * (trigger {@code trg_project_notify_change}).
+ *
+ * <p>Alterações na equipe de um projeto são publicadas em outro canal,
+ * {@code project_team_changes} (trigger {@code trg_project_team_notify_*}), com o tipo
+ * {@link #TEAM}; alterações nas dependências, em {@code project_dependency_changes}
+ * (trigger {@code trg_project_dependency_notify_*}), com o tipo {@link #DEPENDENCY}.</p>
+ *
+ * <p>O tipo {@link #RESYNC} não vem do banco: é emitido pela aplicação quando a escuta
+ * do canal é restabelecida, indicando que notificações podem ter sido perdidas e que
+ * os clientes devem recarregar o quadro.</p>
+ *
+ * @param op operação ({@code INSERT}, {@code UPDATE}, {@code DELETE}, {@code TEAM},
+ *           {@code DEPENDENCY} ou {@code RESYNC})
+ * @param uuid UUID do projeto
+ * @param status status após a alteração (ausente em {@code DELETE})
+ * @param oldStatus status antes da alteração (apenas em {@code UPDATE} e {@code DELETE})
+ * @param secretariatId secretaria do projeto
+ * @param oldSecretariatId secretaria antes da alteração (apenas em {@code UPDATE} e {@code DELETE})
+ * @param xid id da transação que alterou o projeto (ausente em {@code TEAM}, {@code DEPENDENCY} e {@code RESYNC})
+ *
+ * @author Antonio Neto
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ProjectChangeEvent(
+        String op,
+        UUID uuid,
+        String status,
+        String oldStatus,
+        Long secretariatId,
+        Long oldSecretariatId,
+        Long xid
+) implements Serializable {
+
+    /** Operação publicada quando a equipe do projeto é alterada. */
+    public static final String TEAM = "TEAM";
+
+    /** Operação publicada quando as dependências do projeto são alteradas. */
+    public static final String DEPENDENCY = "DEPENDENCY";
+
+    /** Operação emitida quando a escuta do canal é (re)estabelecida. */
+    public static final String RESYNC = "RESYNC";
+
+    /** @return evento que orienta os clientes a recarregar o estado completo */
+    public static ProjectChangeEvent resync() {
+        return new ProjectChangeEvent(RESYNC, null, null, null, null, null, null);
+    }
+
+    /** @return {@code true} quando o evento é uma alteração de equipe */
+    public boolean isTeam() {
+        return TEAM.equals(op);
+    }
+
+    /** @return {@code true} quando o evento é uma alteração de dependências */
+    public boolean isDependency() {
+        return DEPENDENCY.equals(op);
+    }
+
+    /** @return {@code true} quando o evento é um pedido de ressincronização */
+    public boolean isResync() {
+        return RESYNC.equals(op);
+    }
+}
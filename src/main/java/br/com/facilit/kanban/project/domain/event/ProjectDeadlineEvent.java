@@ -0,0 +1,37 @@
+package br.com.facilit.kanban.project.domain.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Prazo alcançado por um projeto ativo, emitido pelo agendador de prazos no instante
+ * do início previsto ({@link #START}) ou do término previsto ({@link #THERM}).
+ *
+ * @param kind prazo alcançado ({@code START} ou {@code THERM})
+ * @param uuid UUID do projeto
+ * @param name nome do projeto
+ * @param status status do projeto quando o prazo foi agendado
+ * @param secretariatId secretaria do projeto
+ * @param at data e hora previstas (UTC)
+ *
+ * @author Antonio Neto
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProjectDeadlineEvent(
+        String kind,
+        UUID uuid,
+        String name,
+        String status,
+        Long secretariatId,
+        LocalDateTime at
+) implements Serializable {
+
+    /** Prazo do início previsto ({@code expected_start}). */
+    public static final String START = "START";
+
+    /** Prazo do término previsto ({@code expected_therm}). */
+    public static final String THERM = "THERM";
+}
@@ -0,0 +1,20 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.util.UUID;
+
+/**
+ * Quantidade de projetos ativos de um responsável em um período.
+ *
+ * @param uuid UUID do responsável
+ * @param name nome do responsável
+ * @param role cargo do responsável
+ * @param activeProjects projetos ativos cujo período previsto se sobrepõe ao período consultado
+ *
+ * @author Antonio Neto
+ */
+public record AccountableWorkloadPO(
+        UUID uuid,
+        String name,
+        String role,
+        long activeProjects
+) {}
@@ -1,27 +1,35 @@
 package br.com.facilit.kanban.project.domain.po;
 
-import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.io.Serializable;
 import java.util.Objects;
 
-@Table("project_accountables")
+/**
+ * Representa o vínculo entre um projeto e um responsável (equipe do projeto).
+ *
+ * <p>Mapeia a tabela de relação {@code project_has_accountable}, cuja chave primária é
+ * composta por ({@code project_id}, {@code accountable_id}). Por não possuir chave
+ * substituta, as operações sobre a tabela são feitas em lote pelo
+ * {@link br.com.facilit.kanban.project.infra.repository.ProjectAccountablesRepository}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Table("project_has_accountable")
 public class ProjectAccountablesPO implements Serializable {
 
-    @Id
-    private Long id;
     @Column("project_id")
     private Long projectId;
     @Column("accountable_id")
     private Long accountableId;
 
-    public Long getId() {
-        return id;
+    public ProjectAccountablesPO() {
     }
-    public void setId(Long id) {
-        this.id = id;
+
+    public ProjectAccountablesPO(Long projectId, Long accountableId) {
+        this.projectId = projectId;
+        this.accountableId = accountableId;
     }
 
     public Long getProjectId() {
@@ -42,19 +50,18 @@ public class ProjectAccountablesPO implements Serializable {
     public boolean equals(Object object) {
         if (object == null || getClass() != object.getClass()) return false;
         ProjectAccountablesPO that = (ProjectAccountablesPO) object;
-        return Objects.equals(id, that.id) && Objects.equals(projectId, that.projectId) && Objects.equals(accountableId, that.accountableId);
+        return Objects.equals(projectId, that.projectId) && Objects.equals(accountableId, that.accountableId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, projectId, accountableId);
+        return Objects.hash(projectId, accountableId);
     }
 
     @Override
     public String toString() {
         return "ProjectAccountablesPO{" +
-                "id=" + id +
-                ", projectId=" + projectId +
+                "projectId=" + projectId +
                 ", accountableId=" + accountableId +
                 '}';
     }
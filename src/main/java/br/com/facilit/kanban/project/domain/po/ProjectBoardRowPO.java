@@ -0,0 +1,40 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura de uma linha do quadro Kanban: um card de uma coluna de status,
+ * acompanhado do total de projetos daquela coluna.
+ *
+ * <p>Colunas sem projetos são devolvidas como uma única linha com os campos do card
+ * nulos (ver {@link #isEmpty()}) e {@code total} igual a zero.</p>
+ *
+ * @param status status (coluna) do card
+ * @param total total de projetos na coluna
+ * @param uuid UUID do projeto
+ * @param name nome do projeto
+ * @param expectedStart data prevista de início
+ * @param expectedThermal data prevista de término
+ * @param daysLate dias de atraso
+ * @param secretariatId secretaria do projeto
+ *
+ * @author Antonio Neto
+ */
+public record ProjectBoardRowPO(
+        String status,
+        long total,
+        UUID uuid,
+        String name,
+        Instant expectedStart,
+        Instant expectedThermal,
+        Integer daysLate,
+        Long secretariatId
+) implements Serializable {
+
+    /** @return {@code true} quando a linha representa uma coluna sem projetos */
+    public boolean isEmpty() {
+        return uuid == null;
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Linha de {@code project_cfd_daily}: projetos de uma secretaria em um status ao fim do dia.
+ *
+ * @param day dia (UTC)
+ * @param secretariatId secretaria
+ * @param status status
+ * @param total quantidade de projetos
+ *
+ * @author Antonio Neto
+ */
+public record ProjectCfdRowPO(
+        LocalDate day,
+        Long secretariatId,
+        String status,
+        long total
+) implements Serializable {}
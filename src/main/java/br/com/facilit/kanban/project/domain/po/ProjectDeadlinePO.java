@@ -0,0 +1,31 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Datas previstas de um projeto, carregadas pelo agendador de prazos.
+ *
+ * @param uuid UUID do projeto
+ * @param name nome do projeto
+ * @param status status do projeto
+ * @param secretariatId secretaria do projeto
+ * @param expectedStart início previsto (UTC)
+ * @param expectedTherm término previsto (UTC)
+ *
+ * @author Antonio Neto
+ */
+public record ProjectDeadlinePO(
+        UUID uuid,
+        String name,
+        String status,
+        Long secretariatId,
+        LocalDateTime expectedStart,
+        LocalDateTime expectedTherm
+) {
+
+    /** @return {@code true} se o projeto ainda pode alcançar prazos (não concluído nem cancelado) */
+    public boolean isActive() {
+        return !"CONCLUIDO".equals(status) && !"CANCELADO".equals(status);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.facilit.kanban.project.domain.po;
+
+/**
+ * Agregados de atraso dos projetos de uma secretaria.
+ *
+ * @param secretariatId secretaria
+ * @param totalProjects projetos considerados (todos, exceto os cancelados)
+ * @param overdueProjects projetos com status {@code ATRASADO}
+ * @param lateProjects projetos com dias de atraso maior que zero
+ * @param totalDaysLate soma dos dias de atraso
+ * @param averageDaysLate média dos dias de atraso dos projetos com término previsto, ou {@code null}
+ * @param averagePercentageOfTimeRemaining média do percentual de tempo restante dos projetos em aberto, ou {@code null}
+ *
+ * @author Antonio Neto
+ */
+public record ProjectDelayPO(
+        Long secretariatId,
+        long totalProjects,
+        long overdueProjects,
+        long lateProjects,
+        long totalDaysLate,
+        Double averageDaysLate,
+        Double averagePercentageOfTimeRemaining
+) {}
@@ -0,0 +1,21 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projeto do qual outro projeto depende.
+ *
+ * @param uuid UUID do projeto
+ * @param name nome do projeto
+ * @param status status do projeto
+ * @param expectedThermal término previsto do projeto
+ *
+ * @author Antonio Neto
+ */
+public record ProjectDependencyPO(
+        UUID uuid,
+        String name,
+        String status,
+        Instant expectedThermal
+) {}
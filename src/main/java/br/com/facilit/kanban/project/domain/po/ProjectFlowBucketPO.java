@@ -0,0 +1,20 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+
+/**
+ * Bucket do histograma de lead time ou cycle time de uma secretaria.
+ *
+ * @param secretariatId secretaria
+ * @param metric métrica ({@code LEAD} ou {@code CYCLE})
+ * @param bucket índice do bucket, conforme a função {@code project_flow_bucket}
+ * @param total quantidade de conclusões no bucket
+ *
+ * @author Antonio Neto
+ */
+public record ProjectFlowBucketPO(
+        Long secretariatId,
+        String metric,
+        int bucket,
+        long total
+) implements Serializable {}
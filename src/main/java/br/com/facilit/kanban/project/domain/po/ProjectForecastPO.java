@@ -0,0 +1,26 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resultado da simulação de entrega dos projetos em aberto de uma secretaria.
+ *
+ * @param secretariatId secretaria
+ * @param openProjects projetos em aberto no momento da simulação
+ * @param completedInHistory conclusões no período histórico usado na simulação
+ * @param p50Days dias até a entrega com 50% de confiança, ou {@code null} se além do horizonte
+ * @param p85Days dias até a entrega com 85% de confiança, ou {@code null} se além do horizonte
+ * @param p95Days dias até a entrega com 95% de confiança, ou {@code null} se além do horizonte
+ * @param generatedAt instante (UTC) da simulação
+ *
+ * @author Antonio Neto
+ */
+public record ProjectForecastPO(
+        Long secretariatId,
+        long openProjects,
+        long completedInHistory,
+        Integer p50Days,
+        Integer p85Days,
+        Integer p95Days,
+        LocalDateTime generatedAt
+) {}
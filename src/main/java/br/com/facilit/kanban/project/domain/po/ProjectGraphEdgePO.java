@@ -0,0 +1,14 @@
+package br.com.facilit.kanban.project.domain.po;
+
+/**
+ * Dependência entre dois projetos: {@code projectId} começa após o término de {@code dependsOnId}.
+ *
+ * @param projectId identificador interno do projeto dependente
+ * @param dependsOnId identificador interno do projeto predecessor
+ *
+ * @author Antonio Neto
+ */
+public record ProjectGraphEdgePO(
+        Long projectId,
+        Long dependsOnId
+) {}
@@ -0,0 +1,25 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeto carregado no grafo de dependências de uma secretaria.
+ *
+ * @param id identificador interno
+ * @param uuid UUID do projeto
+ * @param name nome do projeto
+ * @param status status do projeto
+ * @param expectedStart início previsto
+ * @param expectedTherm término previsto
+ *
+ * @author Antonio Neto
+ */
+public record ProjectGraphNodePO(
+        Long id,
+        UUID uuid,
+        String name,
+        String status,
+        LocalDateTime expectedStart,
+        LocalDateTime expectedTherm
+) {}
@@ -0,0 +1,21 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Projeto movido para {@code ATRASADO} pela tarefa de projetos vencidos.
+ *
+ * @param id identificador interno do projeto
+ * @param secretariatId secretaria do projeto
+ * @param oldStatus status anterior à movimentação
+ * @param expectedThermal término previsto do projeto
+ *
+ * @author Antonio Neto
+ */
+public record ProjectOverduePO(
+        Long id,
+        Long secretariatId,
+        String oldStatus,
+        Instant expectedThermal
+) implements Serializable {}
@@ -1,6 +1,7 @@
 package br.com.facilit.kanban.project.domain.po;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -47,7 +48,7 @@ public class ProjectPO implements Serializable {
     private Instant expectedStart;
 
     /** Data e hora prevista para término do projeto (UTC). */
-    @Column("expected_thermal")
+    @Column("expected_therm")
     private Instant expectedThermal;
 
     /** Data e hora real do início do projeto (UTC). */
@@ -58,7 +59,8 @@ public class ProjectPO implements Serializable {
     @Column("thermal_actual")
     private Instant thermalActual;
 
-    /** Quantidade de dias de atraso do projeto com base no prazo previsto. */
+    /** Quantidade de dias de atraso do projeto com base no prazo previsto (calculado em {@code project_view}, não é gravado). */
+    @ReadOnlyProperty
     @Column("days_late")
     private Integer daysLate;
 
@@ -70,13 +72,23 @@ public class ProjectPO implements Serializable {
     @Column("updated_at")
     private LocalDateTime updatedAt;
 
-    /** Percentual restante do tempo esperado para conclusão do projeto. */
-    @Column("percentage_of_tim_remaining")
+    /** Percentual restante do tempo esperado para conclusão do projeto (calculado em {@code project_view}, não é gravado). */
+    @ReadOnlyProperty
+    @Column("percentage_of_time_remaining")
     private Double percentageOfTimeRemaining;
 
     @Column("secretariat_id")
     private Long secretariatId;
 
+    /** Chave fracionária da posição do card na coluna do seu status (ver {@code FractionalRank}). */
+    @Column("rank")
+    private String rank;
+
+    /** Token da última alteração do registro, mantido por trigger (não é gravado pela aplicação). */
+    @ReadOnlyProperty
+    @Column("change_seq")
+    private Long changeSeq;
+
     public ProjectPO() {
     }
 
@@ -223,16 +235,34 @@ public class ProjectPO implements Serializable {
         this.secretariatId = secretariatId;
     }
 
+    /** @return chave de ordenação do card na coluna */
+    public String getRank() {
+        return rank;
+    }
+    /** @param rank define a chave de ordenação do card na coluna */
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+
+    /** @return token da última alteração do registro */
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+    /** @param changeSeq define o token da última alteração do registro */
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     @Override
     public boolean equals(Object object) {
         if (object == null || getClass() != object.getClass()) return false;
         ProjectPO projectPO = (ProjectPO) object;
-        return Objects.equals(id, projectPO.id) && Objects.equals(name, projectPO.name) && Objects.equals(status, projectPO.status) && Objects.equals(uuid, projectPO.uuid) && Objects.equals(expectedStart, projectPO.expectedStart) && Objects.equals(expectedThermal, projectPO.expectedThermal) && Objects.equals(startActual, projectPO.startActual) && Objects.equals(thermalActual, projectPO.thermalActual) && Objects.equals(daysLate, projectPO.daysLate) && Objects.equals(createdAt, projectPO.createdAt) && Objects.equals(updatedAt, projectPO.updatedAt) && Objects.equals(percentageOfTimeRemaining, projectPO.percentageOfTimeRemaining) && Objects.equals(secretariatId, projectPO.secretariatId);
+        return Objects.equals(id, projectPO.id) && Objects.equals(name, projectPO.name) && Objects.equals(status, projectPO.status) && Objects.equals(uuid, projectPO.uuid) && Objects.equals(expectedStart, projectPO.expectedStart) && Objects.equals(expectedThermal, projectPO.expectedThermal) && Objects.equals(startActual, projectPO.startActual) && Objects.equals(thermalActual, projectPO.thermalActual) && Objects.equals(daysLate, projectPO.daysLate) && Objects.equals(createdAt, projectPO.createdAt) && Objects.equals(updatedAt, projectPO.updatedAt) && Objects.equals(percentageOfTimeRemaining, projectPO.percentageOfTimeRemaining) && Objects.equals(secretariatId, projectPO.secretariatId) && Objects.equals(rank, projectPO.rank) && Objects.equals(changeSeq, projectPO.changeSeq);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, status, uuid, expectedStart, expectedThermal, startActual, thermalActual, daysLate, createdAt, updatedAt, percentageOfTimeRemaining, secretariatId);
+        return Objects.hash(id, name, status, uuid, expectedStart, expectedThermal, startActual, thermalActual, daysLate, createdAt, updatedAt, percentageOfTimeRemaining, secretariatId, rank, changeSeq);
     }
 
     @Override
@@ -251,6 +281,8 @@ public class ProjectPO implements Serializable {
                 ", updatedAt=" + updatedAt +
                 ", percentageOfTimeRemaining=" + percentageOfTimeRemaining +
                 ", secretariatId=" + secretariatId +
+                ", rank='" + rank + '\'' +
+                ", changeSeq=" + changeSeq +
                 '}';
     }
 }
@@ -0,0 +1,21 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura da posição de um card no quadro: coluna (status) e chave de ordenação.
+ *
+ * @param id identificador interno do projeto
+ * @param uuid UUID do projeto
+ * @param status status (coluna) do projeto
+ * @param rank chave fracionária da posição na coluna
+ *
+ * @author Antonio Neto
+ */
+public record ProjectRankPO(
+        Long id,
+        UUID uuid,
+        String status,
+        String rank
+) implements Serializable {}
@@ -0,0 +1,33 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Datas do caminho crítico de um projeto.
+ *
+ * @param uuid UUID do projeto
+ * @param name nome do projeto
+ * @param status status do projeto
+ * @param earliestStart início mais cedo, ou {@code null} se bloqueado por um ciclo
+ * @param earliestFinish término mais cedo, ou {@code null} se bloqueado por um ciclo
+ * @param latestStart início mais tarde, ou {@code null} se bloqueado por um ciclo
+ * @param latestFinish término mais tarde, ou {@code null} se bloqueado por um ciclo
+ * @param slackDays folga em dias, ou {@code null} se bloqueado por um ciclo
+ * @param critical {@code true} se o projeto não tem folga
+ * @param blocked {@code true} se o projeto pertence a um ciclo ou depende de um
+ *
+ * @author Antonio Neto
+ */
+public record ProjectScheduleNodePO(
+        UUID uuid,
+        String name,
+        String status,
+        LocalDate earliestStart,
+        LocalDate earliestFinish,
+        LocalDate latestStart,
+        LocalDate latestFinish,
+        Integer slackDays,
+        boolean critical,
+        boolean blocked
+) {}
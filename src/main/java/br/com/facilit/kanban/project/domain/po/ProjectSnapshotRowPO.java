@@ -0,0 +1,27 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Colunas de um projeto mantidas no snapshot colunar em memória.
+ *
+ * @param uuid UUID do projeto
+ * @param status status
+ * @param secretariatId secretaria
+ * @param expectedStart início previsto
+ * @param expectedTherm término previsto
+ * @param startActual início real
+ * @param thermalActual término real
+ *
+ * @author Antonio Neto
+ */
+public record ProjectSnapshotRowPO(
+        UUID uuid,
+        String status,
+        Long secretariatId,
+        LocalDateTime expectedStart,
+        LocalDateTime expectedTherm,
+        LocalDateTime startActual,
+        LocalDateTime thermalActual
+) {}
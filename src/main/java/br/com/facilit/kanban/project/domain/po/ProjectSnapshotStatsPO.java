@@ -0,0 +1,24 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.util.Map;
+
+/**
+ * Resultado de uma varredura do snapshot colunar de projetos.
+ *
+ * @param rows projetos no snapshot
+ * @param matched projetos que atendem ao filtro
+ * @param byStatus projetos filtrados por status, na ordem do fluxo
+ * @param daysLate histograma dos dias de atraso dos projetos filtrados, por faixa
+ * @param footprintBytes memória ocupada pelo snapshot, em bytes
+ * @param scanNanos duração da varredura, em nanossegundos
+ *
+ * @author Antonio Neto
+ */
+public record ProjectSnapshotStatsPO(
+        int rows,
+        long matched,
+        Map<String, Long> byStatus,
+        Map<String, Long> daysLate,
+        long footprintBytes,
+        long scanNanos
+) {}
@@ -0,0 +1,19 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+
+/**
+ * Quantidade de projetos de uma secretaria em um status, mapeando a tabela
+ * {@code project_status_counter}.
+ *
+ * @param secretariatId secretaria dos projetos
+ * @param status status dos projetos
+ * @param total quantidade de projetos
+ *
+ * @author Antonio Neto
+ */
+public record ProjectStatusCounterPO(
+        Long secretariatId,
+        String status,
+        long total
+) implements Serializable {}
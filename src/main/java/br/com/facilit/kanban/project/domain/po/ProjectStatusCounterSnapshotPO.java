@@ -0,0 +1,18 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Conteúdo da tabela {@code project_status_counter} lido em uma única consulta, junto com o
+ * snapshot do Postgres que a consulta enxergou.
+ *
+ * @param snapshot resultado de {@code pg_current_snapshot()} no formato {@code xmin:xmax:xip,...}
+ * @param counters contadores visíveis no snapshot
+ *
+ * @author Antonio Neto
+ */
+public record ProjectStatusCounterSnapshotPO(
+        String snapshot,
+        List<ProjectStatusCounterPO> counters
+) implements Serializable {}
@@ -0,0 +1,46 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura de uma linha do quadro em raias: um card de uma célula
+ * (secretaria, status), acompanhado do total de projetos da célula.
+ *
+ * <p>Células sem projetos são devolvidas como uma única linha com os campos do card
+ * nulos (ver {@link #isEmpty()}).</p>
+ *
+ * @param secretariatId secretaria (raia) do card
+ * @param secretariatName nome da secretaria
+ * @param status status (coluna) do card
+ * @param total total de projetos na célula
+ * @param id identificador interno do projeto, usado no cursor
+ * @param uuid UUID do projeto
+ * @param name nome do projeto
+ * @param expectedStart data prevista de início
+ * @param expectedThermal data prevista de término
+ * @param daysLate dias de atraso
+ * @param rank chave de ordenação do card, usada no cursor
+ *
+ * @author Antonio Neto
+ */
+public record ProjectSwimlaneRowPO(
+        Long secretariatId,
+        String secretariatName,
+        String status,
+        long total,
+        Long id,
+        UUID uuid,
+        String name,
+        Instant expectedStart,
+        Instant expectedThermal,
+        Integer daysLate,
+        String rank
+) implements Serializable {
+
+    /** @return {@code true} quando a linha representa uma célula sem projetos */
+    public boolean isEmpty() {
+        return uuid == null;
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura de um membro da equipe do projeto, resultado do join entre
+ * {@code project_has_accountable} e {@code accountable}.
+ *
+ * <p>Quando o projeto não possui equipe, a consulta devolve uma única instância com
+ * todos os campos nulos (ver {@link #isEmpty()}).</p>
+ *
+ * @param uuid UUID do responsável
+ * @param name nome do responsável
+ * @param email e-mail do responsável
+ * @param role papel do responsável
+ * @param secretariatId secretaria do responsável
+ *
+ * @author Antonio Neto
+ */
+public record ProjectTeamMemberPO(
+        UUID uuid,
+        String name,
+        String email,
+        String role,
+        Long secretariatId
+) implements Serializable {
+
+    /** @return {@code true} quando a linha representa um projeto sem equipe */
+    public boolean isEmpty() {
+        return uuid == null;
+    }
+}
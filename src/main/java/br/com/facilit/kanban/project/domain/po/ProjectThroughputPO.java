@@ -0,0 +1,16 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.time.LocalDate;
+
+/**
+ * Quantidade de projetos concluídos por uma secretaria em um dia (UTC).
+ *
+ * @param day dia
+ * @param total quantidade de conclusões no dia; zero quando não houve conclusões
+ *
+ * @author Antonio Neto
+ */
+public record ProjectThroughputPO(
+        LocalDate day,
+        int total
+) {}
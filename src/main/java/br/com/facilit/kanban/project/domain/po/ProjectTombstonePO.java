@@ -0,0 +1,21 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Registro da exclusão de um projeto, mapeando a tabela {@code project_tombstone}.
+ *
+ * @param projectId identificador interno do projeto excluído
+ * @param uuid UUID do projeto excluído
+ * @param secretariatId secretaria do projeto excluído
+ * @param changeSeq token da transação que excluiu o projeto
+ *
+ * @author Antonio Neto
+ */
+public record ProjectTombstonePO(
+        Long projectId,
+        UUID uuid,
+        Long secretariatId,
+        long changeSeq
+) implements Serializable {}
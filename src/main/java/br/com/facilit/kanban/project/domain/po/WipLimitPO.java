@@ -0,0 +1,19 @@
+package br.com.facilit.kanban.project.domain.po;
+
+import java.io.Serializable;
+
+/**
+ * Limite de trabalho em andamento (WIP) de uma coluna do quadro, mapeando a tabela
+ * {@code wip_limit}.
+ *
+ * @param secretariatId secretaria da coluna
+ * @param status status da coluna
+ * @param maxProjects quantidade máxima de projetos na coluna
+ *
+ * @author Antonio Neto
+ */
+public record WipLimitPO(
+        Long secretariatId,
+        String status,
+        int maxProjects
+) implements Serializable {}
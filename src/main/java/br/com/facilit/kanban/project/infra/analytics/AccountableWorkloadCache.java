@@ -0,0 +1,95 @@
+package br.com.facilit.kanban.project.infra.analytics;
+
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.po.AccountableWorkloadPO;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import br.com.facilit.kanban.project.infra.repository.ProjectAccountablesRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Cache da carga de trabalho dos responsáveis, por secretaria e período.
+ *
+ * <p>A carga de um responsável muda quando um projeto ativo é criado, removido ou alterado
+ * (status ou datas) e quando a equipe de um projeto muda. Ambos chegam por
+ * {@link ProjectChangeListener}, de todas as instâncias. Como um projeto pode ter responsáveis
+ * de outras secretarias, qualquer alteração invalida todas as secretarias; o cache atende as
+ * leituras repetidas entre escritas. Alterações no cadastro de responsáveis não são notificadas
+ * e são cobertas pela expiração em {@code facilit.analytics.workload-ttl}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+public class AccountableWorkloadCache implements SmartLifecycle {
+
+    private final ProjectAccountablesRepository repository;
+    private final ProjectChangeListener projectChangeListener;
+    private final AsyncCache<Key, List<AccountableWorkloadPO>> cache;
+
+    private volatile Disposable subscription;
+
+    public AccountableWorkloadCache(ProjectAccountablesRepository repository,
+                                    ProjectChangeListener projectChangeListener,
+                                    AnalyticsProperties properties) {
+        this.repository = repository;
+        this.projectChangeListener = projectChangeListener;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.workloadCacheSize())
+                .expireAfterWrite(properties.workloadTtl())
+                .buildAsync();
+    }
+
+    /**
+     * Carga de trabalho dos responsáveis da secretaria no período.
+     *
+     * @param secretariatId secretaria
+     * @param from primeiro dia do período (inclusivo)
+     * @param to último dia do período (inclusivo)
+     * @return {@link Mono} com um item por responsável, do mais ao menos carregado
+     */
+    public Mono<List<AccountableWorkloadPO>> get(Long secretariatId, LocalDate from, LocalDate to) {
+        return Mono.fromFuture(() -> cache.get(new Key(secretariatId, from, to), (key, executor) -> repository
+                .findWorkload(key.secretariatId(), key.from().atStartOfDay(), key.to().plusDays(1).atStartOfDay())
+                .collectList()
+                .toFuture()));
+    }
+
+    private void apply(ProjectChangeEvent event) {
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public void start() {
+        subscription = Flux.merge(projectChangeListener.events(), projectChangeListener.teamEvents())
+                .subscribe(this::apply,
+                        error -> log.error("Cache de carga de trabalho interrompido: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+
+    private record Key(Long secretariatId, LocalDate from, LocalDate to) {}
+}
@@ -0,0 +1,47 @@
+package br.com.facilit.kanban.project.infra.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Propriedades de configuração das consolidações diárias de analytics.
+ *
+ * @param rollupInterval intervalo entre as execuções das consolidações
+ * @param settle tempo de espera após a meia-noite (UTC) antes de consolidar o dia anterior,
+ *               para incluir transações que terminam depois da virada do dia
+ * @param delayReportTtl tempo máximo do relatório de atrasos em cache; os valores dependem do relógio
+ *                       e mudam mesmo sem escritas
+ * @param workloadTtl tempo máximo da carga de trabalho em cache; cobre alterações de responsáveis,
+ *                    que não são notificadas
+ * @param workloadCacheSize quantidade máxima de consultas (secretaria e período) de carga de trabalho em cache
+ * @param criticalPathCacheSize quantidade máxima de secretarias com caminho crítico em cache
+ * @param criticalPathTtl tempo máximo do caminho crítico em cache; limita a defasagem se uma
+ *                        notificação não chegar
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.analytics")
+public record AnalyticsProperties(
+        @DefaultValue("PT1H") Duration rollupInterval,
+        @DefaultValue("PT1H") Duration settle,
+        @DefaultValue("PT5M") Duration delayReportTtl,
+        @DefaultValue("PT10M") Duration workloadTtl,
+        @DefaultValue("1000") int workloadCacheSize,
+        @DefaultValue("1000") int criticalPathCacheSize,
+        @DefaultValue("PT15M") Duration criticalPathTtl
+) {
+
+    /**
+     * Último dia encerrado que já pode ser consolidado.
+     *
+     * @param now instante atual em UTC
+     * @return último dia consolidável
+     */
+    public LocalDate lastClosedDay(LocalDateTime now) {
+        return now.minus(settle).toLocalDate().minusDays(1);
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.facilit.kanban.project.infra.analytics;
+
+import br.com.facilit.kanban.project.infra.repository.AnalyticsWatermarkRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectCfdRepository;
+import br.com.facilit.kanban.shared.lock.AdvisoryLockLeadership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Tarefa agendada que grava os dias encerrados do diagrama de fluxo cumulativo
+ * ({@code project_cfd_daily}).
+ *
+ * <p>Cada dia posterior ao último consolidado ({@code analytics_watermark}) é gravado em
+ * transação própria, a partir do dia anterior e das transições do dia. Na primeira execução
+ * o último dia encerrado é gravado a partir de {@code project_status_counter}; o diagrama
+ * começa nesse dia. Na prática grava um dia por noite; execuções atrasadas recuperam os dias
+ * pendentes em ordem. Executada por uma única instância por vez ({@link AdvisoryLockLeadership}).</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCfdSnapshotJob {
+
+    static final String LOCK = "facilit.project.cfd-snapshot";
+
+    private final ProjectCfdRepository cfdRepository;
+    private final AnalyticsWatermarkRepository watermarkRepository;
+    private final AdvisoryLockLeadership leadership;
+    private final TransactionalOperator txOperator;
+    private final AnalyticsProperties properties;
+
+    /**
+     * Grava os dias pendentes do diagrama.
+     *
+     * @return {@link Mono} que completa ao final da gravação
+     */
+    @Scheduled(fixedDelayString = "${facilit.analytics.rollup-interval:PT1H}", initialDelayString = "PT1M")
+    public Mono<Void> snapshot() {
+        return leadership.runAsLeader(LOCK, Mono.defer(this::snapshotPending))
+                .doOnError(error -> log.error("Erro ao consolidar o diagrama de fluxo cumulativo: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<Void> snapshotPending() {
+        LocalDate lastClosed = properties.lastClosedDay(LocalDateTime.now(ZoneOffset.UTC));
+        return watermarkRepository.find(AnalyticsWatermarkRepository.CFD)
+                .flatMap(last -> Flux.fromStream(last.plusDays(1).datesUntil(lastClosed.plusDays(1)))
+                        .concatMap(day -> write(day, cfdRepository.rollupDay(day)))
+                        .count())
+                .switchIfEmpty(Mono.defer(() -> write(lastClosed, cfdRepository.seed(lastClosed)).thenReturn(1L)))
+                .doOnNext(days -> {
+                    if (days > 0) {
+                        log.info("Diagrama de fluxo cumulativo consolidado | dias={}, até={}", days, lastClosed);
+                    }
+                })
+                .then();
+    }
+
+    private Mono<LocalDate> write(LocalDate day, Mono<Long> rows) {
+        return rows.then(watermarkRepository.save(AnalyticsWatermarkRepository.CFD, day))
+                .as(txOperator::transactional)
+                .thenReturn(day);
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.facilit.kanban.project.infra.analytics;
+
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectDelayPO;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import br.com.facilit.kanban.project.infra.repository.ProjectDelayRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Cache do relatório de atrasos por secretaria.
+ *
+ * <p>O relatório é uma única consulta agrupada, executada apenas quando o cache está vazio;
+ * leituras simultâneas aguardam a mesma consulta. Qualquer escrita em {@code project}, de
+ * qualquer instância, chega por {@link ProjectChangeListener} e invalida o relatório, pois
+ * alterações de datas também mudam o atraso. Como o atraso e o tempo restante dependem do
+ * relógio, o relatório também expira após {@code facilit.analytics.delay-report-ttl}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+public class ProjectDelayReportCache implements SmartLifecycle {
+
+    private static final String KEY = "portfolio";
+
+    private final ProjectDelayRepository repository;
+    private final ProjectChangeListener projectChangeListener;
+    private final AsyncCache<String, List<ProjectDelayPO>> cache;
+
+    private volatile Disposable subscription;
+
+    public ProjectDelayReportCache(ProjectDelayRepository repository,
+                                   ProjectChangeListener projectChangeListener,
+                                   AnalyticsProperties properties) {
+        this.repository = repository;
+        this.projectChangeListener = projectChangeListener;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(properties.delayReportTtl())
+                .buildAsync();
+    }
+
+    /**
+     * Relatório de atrasos de todas as secretarias.
+     *
+     * @return {@link Mono} com uma linha por secretaria, em ordem de secretaria
+     */
+    public Mono<List<ProjectDelayPO>> get() {
+        return Mono.fromFuture(() -> cache.get(KEY, (key, executor) -> repository.findBySecretariat()
+                .collectList()
+                .doOnNext(report -> log.debug("Relatório de atrasos recalculado | secretarias={}", report.size()))
+                .toFuture()));
+    }
+
+    private void apply(ProjectChangeEvent event) {
+        cache.synchronous().invalidate(KEY);
+    }
+
+    @Override
+    public void start() {
+        subscription = projectChangeListener.events().subscribe(this::apply,
+                error -> log.error("Cache do relatório de atrasos interrompido: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.facilit.kanban.project.infra.analytics;
+
+import br.com.facilit.kanban.project.infra.repository.AnalyticsWatermarkRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectFlowRepository;
+import br.com.facilit.kanban.shared.lock.AdvisoryLockLeadership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Tarefa agendada que consolida os histogramas diários de lead time e cycle time
+ * ({@code project_flow_daily}) a partir do histórico de status.
+ *
+ * <p>Processa apenas os dias encerrados posteriores ao último dia consolidado
+ * ({@code analytics_watermark}), cada um em transação própria junto com o avanço da marca.
+ * Na primeira execução começa pelo primeiro dia do histórico. Executada por uma única
+ * instância por vez ({@link AdvisoryLockLeadership}).</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectFlowRollupJob {
+
+    static final String LOCK = "facilit.project.flow-rollup";
+
+    private final ProjectFlowRepository flowRepository;
+    private final AnalyticsWatermarkRepository watermarkRepository;
+    private final AdvisoryLockLeadership leadership;
+    private final TransactionalOperator txOperator;
+    private final AnalyticsProperties properties;
+
+    /**
+     * Consolida os dias pendentes.
+     *
+     * @return {@link Mono} que completa ao final da consolidação
+     */
+    @Scheduled(fixedDelayString = "${facilit.analytics.rollup-interval:PT1H}", initialDelayString = "PT1M")
+    public Mono<Void> rollup() {
+        return leadership.runAsLeader(LOCK, Mono.defer(this::rollupPending))
+                .doOnError(error -> log.error("Erro ao consolidar lead time e cycle time: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<Void> rollupPending() {
+        LocalDate lastClosed = properties.lastClosedDay(LocalDateTime.now(ZoneOffset.UTC));
+        return watermarkRepository.find(AnalyticsWatermarkRepository.FLOW)
+                .map(last -> last.plusDays(1))
+                .switchIfEmpty(Mono.defer(() -> flowRepository.findFirstDay()
+                        .map(first -> first.orElse(lastClosed.plusDays(1)))))
+                .flatMapMany(start -> Flux.fromStream(start.datesUntil(lastClosed.plusDays(1))))
+                .concatMap(day -> flowRepository.rollupDay(day)
+                        .then(watermarkRepository.save(AnalyticsWatermarkRepository.FLOW, day))
+                        .as(txOperator::transactional)
+                        .thenReturn(day))
+                .count()
+                .doOnNext(days -> {
+                    if (days > 0) {
+                        log.info("Lead time e cycle time consolidados | dias={}, até={}", days, lastClosed);
+                    }
+                })
+                .then();
+    }
+}
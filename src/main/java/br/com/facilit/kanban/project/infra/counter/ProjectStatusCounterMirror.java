@@ -0,0 +1,218 @@
+package br.com.facilit.kanban.project.infra.counter;
+
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectStatusCounterSnapshotPO;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Espelho em memória da tabela {@code project_status_counter}, usado para servir os
+ * indicadores do dashboard sem consultar o banco.
+ *
+ * <p><strong>Consistência:</strong></p>
+ * <ul>
+ *     <li>A tabela é a fonte da verdade e é mantida na mesma transação das escritas em {@code project}</li>
+ *     <li>O espelho aplica os deltas das notificações de {@link ProjectChangeListener}, que só chegam após
+ *     o commit e cobrem escritas de todas as instâncias</li>
+ *     <li>Na ressincronização do canal (reconexão ou descarte de eventos por assinante lento) e a cada
+ *     {@code facilit.counters.reconcile-interval} o espelho é recarregado da tabela; entre esses pontos
+ *     a leitura é eventual</li>
+ * </ul>
+ *
+ * <p><strong>Recarga sem perder nem repetir deltas:</strong> a tabela é lida junto com o snapshot do
+ * Postgres ({@link TransactionSnapshot}) e cada notificação traz o id da sua transação. Notificações
+ * recebidas durante a leitura são guardadas e, na troca do espelho, aplicadas apenas se a sua transação
+ * não estava visível no snapshot; a mesma regra vale para as notificações que chegam depois da troca.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectStatusCounterMirror implements SmartLifecycle {
+
+    private final ProjectStatusCounterRepository repository;
+    private final ProjectChangeListener projectChangeListener;
+
+    private final Object lock = new Object();
+
+    private volatile Map<Key, AtomicLong> counters = new ConcurrentHashMap<>();
+    private volatile Disposable subscription;
+
+    /** Snapshot da última recarga; notificações de transações visíveis nele já estão nos totais. */
+    private TransactionSnapshot loadedAt = TransactionSnapshot.NONE;
+    /** Notificações recebidas durante a recarga em andamento, ou {@code null} fora de uma recarga. */
+    private List<ProjectChangeEvent> received;
+    /** Indica que uma recarga foi pedida enquanto outra estava em andamento. */
+    private boolean reloadRequested;
+
+    /**
+     * Contadores por status, de uma secretaria ou de todas.
+     *
+     * @param secretariatId secretaria, ou {@code null} para somar todas
+     * @return mapa status → quantidade de projetos
+     */
+    public Map<String, Long> snapshot(Long secretariatId) {
+        Map<String, Long> totals = new HashMap<>();
+        counters.forEach((key, total) -> {
+            if (secretariatId == null || secretariatId.equals(key.secretariatId())) {
+                totals.merge(key.status(), total.get(), Long::sum);
+            }
+        });
+        return totals;
+    }
+
+    /**
+     * Quantidade de projetos de uma coluna (secretaria, status).
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     * @return quantidade conhecida pelo espelho, ou zero se a coluna não tiver projetos
+     */
+    public long count(Long secretariatId, String status) {
+        AtomicLong total = counters.get(new Key(secretariatId, status));
+        return total == null ? 0L : total.get();
+    }
+
+    /**
+     * Recarrega o espelho a partir da tabela.
+     *
+     * <p>Se já houver uma recarga em andamento, uma nova é executada assim que ela terminar, pois a
+     * leitura em andamento pode ter começado antes do motivo do pedido.</p>
+     *
+     * @return {@link Mono} que completa após a troca do espelho
+     */
+    public Mono<Void> reload() {
+        return Mono.defer(() -> {
+            synchronized (lock) {
+                if (received != null) {
+                    reloadRequested = true;
+                    return Mono.empty();
+                }
+                received = new ArrayList<>();
+            }
+            return repository.findAllWithSnapshot()
+                    .doOnNext(this::swap)
+                    .doFinally(signal -> finishReload())
+                    .then();
+        });
+    }
+
+    private void swap(ProjectStatusCounterSnapshotPO loaded) {
+        TransactionSnapshot snapshot = TransactionSnapshot.parse(loaded.snapshot());
+        Map<Key, AtomicLong> fresh = new ConcurrentHashMap<>();
+        loaded.counters().forEach(po -> fresh.put(new Key(po.secretariatId(), po.status()), new AtomicLong(po.total())));
+        synchronized (lock) {
+            int replayed = 0;
+            for (ProjectChangeEvent event : received) {
+                if (!snapshot.includes(event.xid())) {
+                    applyTo(fresh, event);
+                    replayed++;
+                }
+            }
+            counters = fresh;
+            loadedAt = snapshot;
+            log.debug("Contadores de status recarregados | chaves={}, reaplicados={}", fresh.size(), replayed);
+        }
+    }
+
+    private void finishReload() {
+        boolean again;
+        synchronized (lock) {
+            received = null;
+            again = reloadRequested;
+            reloadRequested = false;
+        }
+        if (again) {
+            reconcile().subscribe();
+        }
+    }
+
+    /**
+     * Reconciliação periódica com a tabela.
+     *
+     * @return {@link Mono} que completa ao final da recarga
+     */
+    @Scheduled(fixedDelayString = "${facilit.counters.reconcile-interval:PT5M}")
+    public Mono<Void> reconcile() {
+        return reload()
+                .doOnError(error -> log.error("Erro ao reconciliar contadores de status: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private void apply(ProjectChangeEvent event) {
+        if (event.isResync()) {
+            reconcile().subscribe();
+            return;
+        }
+        synchronized (lock) {
+            if (received != null) {
+                received.add(event);
+            }
+            if (!loadedAt.includes(event.xid())) {
+                applyTo(counters, event);
+            }
+        }
+    }
+
+    private static void applyTo(Map<Key, AtomicLong> target, ProjectChangeEvent event) {
+        switch (event.op()) {
+            case "INSERT" -> add(target, event.secretariatId(), event.status(), 1);
+            case "DELETE" -> add(target, event.oldSecretariatId(), event.oldStatus(), -1);
+            case "UPDATE" -> {
+                if (!Objects.equals(event.oldStatus(), event.status())
+                        || !Objects.equals(event.oldSecretariatId(), event.secretariatId())) {
+                    add(target, event.oldSecretariatId(), event.oldStatus(), -1);
+                    add(target, event.secretariatId(), event.status(), 1);
+                }
+            }
+            default -> log.debug("Operação ignorada pelos contadores: {}", event.op());
+        }
+    }
+
+    private static void add(Map<Key, AtomicLong> target, Long secretariatId, String status, long delta) {
+        if (secretariatId == null || status == null) {
+            return;
+        }
+        target.computeIfAbsent(new Key(secretariatId, status), key -> new AtomicLong()).addAndGet(delta);
+    }
+
+    @Override
+    public void start() {
+        subscription = projectChangeListener.events().subscribe(this::apply,
+                error -> log.error("Espelho de contadores interrompido: {}", error.getMessage(), error));
+        reconcile().subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+
+    private record Key(Long secretariatId, String status) {}
+}
@@ -0,0 +1,55 @@
+package br.com.facilit.kanban.project.infra.counter;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot do Postgres ({@code pg_current_snapshot()}), usado para saber se a alteração de uma
+ * transação já confirmada está contida em uma leitura.
+ *
+ * <p>Para uma transação confirmada com id {@code xid}: se {@code xid < xmin} ela terminou antes
+ * da leitura e está contida; se {@code xid >= xmax} ou se ela estava em andamento ({@code xip})
+ * quando a leitura começou, não está.</p>
+ *
+ * @author Antonio Neto
+ */
+final class TransactionSnapshot {
+
+    /** Snapshot que não contém nenhuma transação, usado antes da primeira carga. */
+    static final TransactionSnapshot NONE = new TransactionSnapshot(0L, 0L, new long[0]);
+
+    private final long xmin;
+    private final long xmax;
+    private final long[] inProgress;
+
+    private TransactionSnapshot(long xmin, long xmax, long[] inProgress) {
+        this.xmin = xmin;
+        this.xmax = xmax;
+        this.inProgress = inProgress;
+    }
+
+    /**
+     * @param text snapshot no formato textual do Postgres, {@code xmin:xmax:xip1,xip2,...}
+     * @return snapshot correspondente
+     */
+    static TransactionSnapshot parse(String text) {
+        String[] parts = text.split(":", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Snapshot inválido: " + text);
+        }
+        long[] inProgress = parts[2].isEmpty()
+                ? new long[0]
+                : Arrays.stream(parts[2].split(",")).mapToLong(Long::parseLong).sorted().toArray();
+        return new TransactionSnapshot(Long.parseLong(parts[0]), Long.parseLong(parts[1]), inProgress);
+    }
+
+    /**
+     * @param xid id de uma transação confirmada, ou {@code null} se desconhecido
+     * @return {@code true} se as alterações da transação estão visíveis no snapshot
+     */
+    boolean includes(Long xid) {
+        if (xid == null || xid >= xmax) {
+            return false;
+        }
+        return xid < xmin || Arrays.binarySearch(inProgress, xid) < 0;
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.facilit.kanban.project.infra.counter;
+
+import br.com.facilit.kanban.project.domain.po.WipLimitPO;
+import br.com.facilit.kanban.project.infra.repository.WipLimitRepository;
+import br.com.facilit.kanban.shared.exception.WipLimitExceededException;
+import br.com.facilit.kanban.shared.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admissão em memória dos limites de WIP por coluna (secretaria, status).
+ *
+ * <p>Recusa a entrada em uma coluna cheia sem consultar o banco: a ocupação é a soma da
+ * quantidade do {@link ProjectStatusCounterMirror} com as reservas em andamento nesta
+ * instância, e cada reserva é feita com {@code compareAndSet}, de modo que requisições
+ * concorrentes nunca ultrapassam o limite juntas. A reserva é liberada ao término da
+ * transação, com commit ou rollback.</p>
+ *
+ * <p><strong>Consistência:</strong></p>
+ * <ul>
+ *     <li>O espelho só recebe o novo projeto quando a notificação do commit chega, e outras
+ *     instâncias não enxergam as reservas desta; a admissão em memória é, portanto, um filtro
+ *     rápido e não a garantia</li>
+ *     <li>A garantia é {@link br.com.facilit.kanban.project.infra.repository.ProjectStatusCounterRepository#admit(Long, String)},
+ *     executada na mesma transação da escrita; se ela recusar, a transação é desfeita</li>
+ *     <li>Os limites são recarregados de {@code wip_limit} a cada {@code facilit.wip.refresh-interval}
+ *     e atualizados localmente após o commit das alterações feitas por esta instância</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WipLimitRegistry {
+
+    private final WipLimitRepository repository;
+    private final ProjectStatusCounterMirror projectStatusCounterMirror;
+
+    private volatile Map<Key, Integer> limits = new ConcurrentHashMap<>();
+    private final Map<Key, AtomicInteger> reservations = new ConcurrentHashMap<>();
+
+    /**
+     * Reserva uma vaga na coluna até o término da transação corrente.
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     * @return {@link Mono} vazio se admitido, ou erro {@link WipLimitExceededException} se a coluna estiver cheia
+     */
+    public Mono<Void> reserve(Long secretariatId, String status) {
+        return Mono.defer(() -> {
+            Key key = new Key(secretariatId, status);
+            Integer limit = limits.get(key);
+            if (limit == null) {
+                return Mono.empty();
+            }
+            AtomicInteger inFlight = reservations.computeIfAbsent(key, k -> new AtomicInteger());
+            int current;
+            do {
+                current = inFlight.get();
+                if (projectStatusCounterMirror.count(secretariatId, status) + current >= limit) {
+                    log.warn("Limite de WIP atingido | secretariatId={}, status={}, limite={}", secretariatId, status, limit);
+                    return Mono.error(new WipLimitExceededException(secretariatId, status));
+                }
+            } while (!inFlight.compareAndSet(current, current + 1));
+            return TransactionCallbacks.afterCompletion(inFlight::decrementAndGet);
+        });
+    }
+
+    /**
+     * Reserva uma vaga na coluna de destino de uma movimentação. Não faz nada quando
+     * origem e destino são iguais.
+     *
+     * @param fromSecretariatId secretaria de origem
+     * @param fromStatus status de origem
+     * @param toSecretariatId secretaria de destino
+     * @param toStatus status de destino
+     * @return {@link Mono} vazio se admitido, ou erro {@link WipLimitExceededException} se o destino estiver cheio
+     */
+    public Mono<Void> reserve(Long fromSecretariatId, String fromStatus, Long toSecretariatId, String toStatus) {
+        if (Objects.equals(fromSecretariatId, toSecretariatId) && Objects.equals(fromStatus, toStatus)) {
+            return Mono.empty();
+        }
+        return reserve(toSecretariatId, toStatus);
+    }
+
+    /**
+     * Limite da coluna conhecido por esta instância.
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     * @return limite, ou {@code null} se a coluna não tiver limite
+     */
+    public Integer limit(Long secretariatId, String status) {
+        return limits.get(new Key(secretariatId, status));
+    }
+
+    /**
+     * Atualiza o limite local da coluna.
+     *
+     * @param limit limite gravado
+     */
+    public void put(WipLimitPO limit) {
+        limits.put(new Key(limit.secretariatId(), limit.status()), limit.maxProjects());
+    }
+
+    /**
+     * Remove o limite local da coluna.
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     */
+    public void remove(Long secretariatId, String status) {
+        limits.remove(new Key(secretariatId, status));
+    }
+
+    /**
+     * Recarga periódica dos limites a partir da tabela, propagando as alterações
+     * feitas por outras instâncias.
+     *
+     * @return {@link Mono} que completa ao final da recarga
+     */
+    @Scheduled(fixedDelayString = "${facilit.wip.refresh-interval:PT1M}")
+    public Mono<Void> refresh() {
+        return repository.findAll()
+                .collectMap(po -> new Key(po.secretariatId(), po.status()), WipLimitPO::maxProjects,
+                        ConcurrentHashMap::new)
+                .doOnNext(loaded -> {
+                    limits = loaded;
+                    log.debug("Limites de WIP recarregados | colunas={}", loaded.size());
+                })
+                .doOnError(error -> log.error("Erro ao recarregar limites de WIP: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private record Key(Long secretariatId, String status) {}
+}
@@ -0,0 +1,24 @@
+package br.com.facilit.kanban.project.infra.deadline;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do agendador de prazos dos projetos.
+ *
+ * @param horizon janela à frente carregada do banco a cada recarga
+ * @param refreshInterval intervalo entre as recargas; deve ser menor que {@code horizon} para que as janelas se sobreponham
+ * @param tickDuration resolução da roda de temporização (atraso máximo de um alerta)
+ * @param ticksPerWheel quantidade de posições da roda de temporização
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.deadline")
+public record DeadlineProperties(
+        @DefaultValue("PT6H") Duration horizon,
+        @DefaultValue("PT1H") Duration refreshInterval,
+        @DefaultValue("PT1S") Duration tickDuration,
+        @DefaultValue("512") int ticksPerWheel
+) {}
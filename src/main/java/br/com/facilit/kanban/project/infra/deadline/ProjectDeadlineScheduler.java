@@ -0,0 +1,254 @@
+package br.com.facilit.kanban.project.infra.deadline;
+
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.event.ProjectDeadlineEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectDeadlinePO;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeProperties;
+import br.com.facilit.kanban.project.infra.repository.ProjectDeadlineRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Agendador em memória dos prazos dos projetos: emite um {@link ProjectDeadlineEvent} quando um
+ * projeto ativo alcança o início previsto ou o término previsto.
+ *
+ * <p><strong>Funcionamento:</strong></p>
+ * <ul>
+ *     <li>Os prazos ficam em uma roda de temporização ({@link HashedWheelTimer}): agendar e cancelar
+ *     custam O(1) e uma única thread avança a roda a cada {@code facilit.deadline.tick-duration}</li>
+ *     <li>Apenas a janela [agora, agora + {@code facilit.deadline.horizon}) é carregada, com uma consulta
+ *     a cada {@code facilit.deadline.refresh-interval}, em vez de consultas a cada minuto</li>
+ *     <li>Alterações de projetos, de qualquer instância, chegam por {@link ProjectChangeListener} e
+ *     reagendam apenas o projeto alterado; {@link #schedule(ProjectDeadlinePO)} permite reagendar
+ *     imediatamente após uma gravação local</li>
+ *     <li>Um prazo é identificado pelo projeto, pelo tipo e pelo instante agendado: alterações que
+ *     mantêm a data (como a troca para {@code ATRASADO} pela tarefa de projetos vencidos) apenas
+ *     atualizam os dados que serão emitidos, sem cancelar o prazo pendente</li>
+ *     <li>Prazos já emitidos permanecem registrados até saírem da janela, para que recargas e
+ *     reagendamentos com as mesmas datas não os emitam de novo</li>
+ * </ul>
+ *
+ * <p>Cada instância mantém a própria roda e entrega os eventos aos seus assinantes.</p>
+ *
+ * <p><strong>Métricas:</strong> {@code facilit.deadline.fired} (prazos emitidos) e
+ * {@code facilit.deadline.scheduled} (prazos na roda).</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+public class ProjectDeadlineScheduler implements SmartLifecycle {
+
+    private final ProjectDeadlineRepository repository;
+    private final ProjectChangeListener projectChangeListener;
+    private final DeadlineProperties properties;
+    private final ProjectChangeProperties changeProperties;
+
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+    private final Sinks.Many<ProjectDeadlineEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final Counter fired;
+
+    private volatile HashedWheelTimer timer;
+    private volatile Disposable subscription;
+
+    public ProjectDeadlineScheduler(ProjectDeadlineRepository repository,
+                                    ProjectChangeListener projectChangeListener,
+                                    DeadlineProperties properties,
+                                    ProjectChangeProperties changeProperties,
+                                    MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.projectChangeListener = projectChangeListener;
+        this.properties = properties;
+        this.changeProperties = changeProperties;
+        this.fired = Counter.builder("facilit.deadline.fired")
+                .description("Prazos de projetos emitidos")
+                .register(meterRegistry);
+        Gauge.builder("facilit.deadline.scheduled", slots, Map::size)
+                .description("Prazos de projetos registrados na roda de temporização")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fluxo compartilhado dos prazos alcançados. Assinantes lentos perdem os eventos mais antigos.
+     *
+     * @return {@link Flux} infinito de prazos
+     */
+    public Flux<ProjectDeadlineEvent> events() {
+        return sink.asFlux()
+                .onBackpressureBuffer(changeProperties.bufferSize(),
+                        dropped -> log.debug("Prazo descartado para assinante lento: {}", dropped),
+                        BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    /**
+     * Reagenda os prazos do projeto com as datas informadas. Datas iguais às já agendadas não
+     * alteram a roda, apenas os dados emitidos; projetos concluídos ou cancelados têm os prazos
+     * cancelados.
+     *
+     * @param project datas previstas do projeto
+     */
+    public void schedule(ProjectDeadlinePO project) {
+        HashedWheelTimer current = timer;
+        if (current != null) {
+            place(current, project, LocalDateTime.now(ZoneOffset.UTC));
+        }
+    }
+
+    /**
+     * Cancela os prazos do projeto.
+     *
+     * @param uuid UUID do projeto
+     */
+    public void cancel(UUID uuid) {
+        remove(new Key(uuid, ProjectDeadlineEvent.START));
+        remove(new Key(uuid, ProjectDeadlineEvent.THERM));
+    }
+
+    private Mono<Void> apply(ProjectChangeEvent event) {
+        HashedWheelTimer current = timer;
+        if (current == null) {
+            return Mono.empty();
+        }
+        if (event.isResync()) {
+            return refresh(current);
+        }
+        if (event.uuid() == null) {
+            return Mono.empty();
+        }
+        if ("DELETE".equals(event.op())) {
+            cancel(event.uuid());
+            return Mono.empty();
+        }
+        return repository.findByUuid(event.uuid())
+                .doOnNext(project -> place(current, project, LocalDateTime.now(ZoneOffset.UTC)))
+                .switchIfEmpty(Mono.fromRunnable(() -> cancel(event.uuid())))
+                .then();
+    }
+
+    private Mono<Void> refresh(HashedWheelTimer current) {
+        LocalDateTime from = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime to = from.plus(properties.horizon());
+        slots.entrySet().removeIf(entry -> entry.getValue().timeout().isExpired()
+                && entry.getValue().at().isBefore(from));
+        return repository.findWithin(from, to)
+                .doOnNext(project -> place(current, project, from))
+                .count()
+                .doOnNext(total -> log.info("Prazos de projetos recarregados | projetos={}, agendados={}, até={}",
+                        total, slots.size(), to))
+                .then();
+    }
+
+    /**
+     * Agenda os dois prazos do projeto. Prazos anteriores a {@code notBefore} são descartados e os
+     * posteriores ao horizonte ficam para a próxima recarga. Um prazo já registrado no mesmo
+     * instante é mantido, com os dados do projeto atualizados.
+     */
+    private void place(HashedWheelTimer current, ProjectDeadlinePO project, LocalDateTime notBefore) {
+        boolean active = project.isActive();
+        place(current, ProjectDeadlineEvent.START, project, active ? project.expectedStart() : null, notBefore);
+        place(current, ProjectDeadlineEvent.THERM, project, active ? project.expectedTherm() : null, notBefore);
+    }
+
+    private void place(HashedWheelTimer current, String kind, ProjectDeadlinePO project,
+                       LocalDateTime at, LocalDateTime notBefore) {
+        Key key = new Key(project.uuid(), kind);
+        ProjectDeadlineEvent event = at == null ? null : new ProjectDeadlineEvent(
+                kind, project.uuid(), project.name(), project.status(), project.secretariatId(), at);
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        slots.compute(key, (unused, slot) -> {
+            if (slot != null && event != null && slot.at().equals(at)) {
+                slot.event().set(event);
+                return slot;
+            }
+            if (slot != null) {
+                slot.timeout().cancel();
+            }
+            if (event == null || at.isBefore(notBefore) || at.isAfter(now.plus(properties.horizon()))) {
+                return null;
+            }
+            long delay = Math.max(0L, Duration.between(now, at).toMillis());
+            AtomicReference<ProjectDeadlineEvent> payload = new AtomicReference<>(event);
+            return new Slot(at, payload, current.newTimeout(timeout -> fire(payload.get()), delay, TimeUnit.MILLISECONDS));
+        });
+    }
+
+    private void remove(Key key) {
+        Slot slot = slots.remove(key);
+        if (slot != null) {
+            slot.timeout().cancel();
+        }
+    }
+
+    private void fire(ProjectDeadlineEvent event) {
+        fired.increment();
+        log.debug("Prazo alcançado: {}", event);
+        sink.tryEmitNext(event);
+    }
+
+    @Override
+    public void start() {
+        timer = new HashedWheelTimer(new DefaultThreadFactory("deadline-wheel", true),
+                properties.tickDuration().toMillis(), TimeUnit.MILLISECONDS, properties.ticksPerWheel());
+        Flux<ProjectChangeEvent> refreshes = Flux.interval(Duration.ZERO, properties.refreshInterval())
+                .onBackpressureDrop()
+                .map(tick -> ProjectChangeEvent.resync());
+        subscription = Flux.merge(refreshes, projectChangeListener.events())
+                .concatMap(event -> apply(event)
+                        .onErrorResume(error -> {
+                            log.error("Erro ao reagendar prazos de projetos: {}", error.getMessage(), error);
+                            return Mono.empty();
+                        }))
+                .subscribe(null, error -> log.error("Agendador de prazos interrompido: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+        HashedWheelTimer wheel = timer;
+        timer = null;
+        if (wheel != null) {
+            wheel.stop();
+        }
+        slots.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+
+    private record Key(UUID uuid, String kind) {}
+
+    /**
+     * Prazo registrado: o instante agendado identifica o prazo; {@code event} guarda os dados mais
+     * recentes do projeto, lidos quando o prazo é alcançado.
+     */
+    private record Slot(LocalDateTime at, AtomicReference<ProjectDeadlineEvent> event, Timeout timeout) {}
+}
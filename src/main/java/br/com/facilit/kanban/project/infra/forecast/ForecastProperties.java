@@ -0,0 +1,28 @@
+package br.com.facilit.kanban.project.infra.forecast;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração da previsão de entrega (Monte Carlo).
+ *
+ * @param trials quantidade de tentativas por simulação
+ * @param historyDays dias encerrados de throughput usados como amostra
+ * @param horizonDays quantidade máxima de dias simulados por tentativa
+ * @param parallelism threads do pool {@code forecastPool}; zero usa a quantidade de processadores
+ * @param cacheSize quantidade máxima de secretarias com previsão em cache
+ * @param cacheTtl tempo máximo de uma previsão em cache, para acompanhar a janela do histórico
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.forecast")
+public record ForecastProperties(
+        @DefaultValue("20000") int trials,
+        @DefaultValue("90") int historyDays,
+        @DefaultValue("1825") int horizonDays,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("1000") int cacheSize,
+        @DefaultValue("PT6H") Duration cacheTtl
+) {}
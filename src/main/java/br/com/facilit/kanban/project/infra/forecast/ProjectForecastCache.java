@@ -0,0 +1,103 @@
+package br.com.facilit.kanban.project.infra.forecast;
+
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectForecastPO;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Cache das previsões de entrega por secretaria.
+ *
+ * <p>Uma previsão só muda quando muda a quantidade de projetos em aberto ou o throughput
+ * da secretaria, ou seja, quando um projeto é criado, removido ou muda de status ou de
+ * secretaria. Essas escritas chegam por {@link ProjectChangeListener}, de todas as instâncias,
+ * e invalidam apenas as secretarias envolvidas; na ressincronização do canal o cache é esvaziado.</p>
+ *
+ * <p>O cache é assíncrono: requisições simultâneas para a mesma secretaria aguardam uma única
+ * simulação. Cada previsão expira após {@code facilit.forecast.cache-ttl}, para acompanhar a
+ * janela do histórico mesmo sem escritas.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+public class ProjectForecastCache implements SmartLifecycle {
+
+    private final ProjectChangeListener projectChangeListener;
+    private final AsyncCache<Long, ProjectForecastPO> cache;
+
+    private volatile Disposable subscription;
+
+    public ProjectForecastCache(ProjectChangeListener projectChangeListener, ForecastProperties properties) {
+        this.projectChangeListener = projectChangeListener;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.cacheSize())
+                .expireAfterWrite(properties.cacheTtl())
+                .buildAsync();
+    }
+
+    /**
+     * Previsão da secretaria, calculada pelo {@code loader} quando não estiver em cache.
+     *
+     * @param secretariatId secretaria
+     * @param loader simulação da secretaria
+     * @return {@link Mono} com a previsão
+     */
+    public Mono<ProjectForecastPO> get(Long secretariatId, Function<Long, Mono<ProjectForecastPO>> loader) {
+        return Mono.fromFuture(() -> cache.get(secretariatId, (key, executor) -> loader.apply(key).toFuture()));
+    }
+
+    private void apply(ProjectChangeEvent event) {
+        switch (event.op()) {
+            case ProjectChangeEvent.RESYNC -> cache.synchronous().invalidateAll();
+            case "INSERT", "DELETE" -> invalidate(event);
+            case "UPDATE" -> {
+                if (!Objects.equals(event.oldStatus(), event.status())
+                        || !Objects.equals(event.oldSecretariatId(), event.secretariatId())) {
+                    invalidate(event);
+                }
+            }
+            default -> log.debug("Operação ignorada pelo cache de previsões: {}", event.op());
+        }
+    }
+
+    private void invalidate(ProjectChangeEvent event) {
+        if (event.secretariatId() != null) {
+            cache.synchronous().invalidate(event.secretariatId());
+        }
+        if (event.oldSecretariatId() != null) {
+            cache.synchronous().invalidate(event.oldSecretariatId());
+        }
+    }
+
+    @Override
+    public void start() {
+        subscription = projectChangeListener.events().subscribe(this::apply,
+                error -> log.error("Cache de previsões interrompido: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.facilit.kanban.project.infra.graph;
+
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectScheduleNodePO;
+import br.com.facilit.kanban.project.infra.analytics.AnalyticsProperties;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cache do caminho crítico por secretaria.
+ *
+ * <p>O resultado depende apenas das datas previstas, dos status e das dependências dos projetos
+ * da secretaria: alterações de projetos e de dependências, de todas as instâncias, chegam por
+ * {@link ProjectChangeListener} e invalidam as secretarias envolvidas. Na ressincronização do
+ * canal, emitida também quando o buffer deste assinante transborda e descarta eventos, o cache é
+ * esvaziado. Como última garantia, cada entrada expira após {@code facilit.analytics.critical-path-ttl}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+public class ProjectScheduleCache implements SmartLifecycle {
+
+    private final ProjectChangeListener projectChangeListener;
+    private final AsyncCache<Long, List<ProjectScheduleNodePO>> cache;
+
+    private volatile Disposable subscription;
+
+    public ProjectScheduleCache(ProjectChangeListener projectChangeListener, AnalyticsProperties properties) {
+        this.projectChangeListener = projectChangeListener;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.criticalPathCacheSize())
+                .expireAfterWrite(properties.criticalPathTtl())
+                .buildAsync();
+    }
+
+    /**
+     * Caminho crítico da secretaria, calculado pelo {@code loader} quando não estiver em cache.
+     *
+     * @param secretariatId secretaria
+     * @param loader cálculo do caminho crítico da secretaria
+     * @return {@link Mono} com as datas de cada projeto
+     */
+    public Mono<List<ProjectScheduleNodePO>> get(Long secretariatId, Function<Long, Mono<List<ProjectScheduleNodePO>>> loader) {
+        return Mono.fromFuture(() -> cache.get(secretariatId, (key, executor) -> loader.apply(key).toFuture()));
+    }
+
+    private void apply(ProjectChangeEvent event) {
+        if (event.isResync()) {
+            cache.synchronous().invalidateAll();
+            return;
+        }
+        if (event.secretariatId() != null) {
+            cache.synchronous().invalidate(event.secretariatId());
+        }
+        if (event.oldSecretariatId() != null) {
+            cache.synchronous().invalidate(event.oldSecretariatId());
+        }
+    }
+
+    @Override
+    public void start() {
+        subscription = Flux.merge(projectChangeListener.events(), projectChangeListener.dependencyEvents())
+                .subscribe(this::apply,
+                        error -> log.error("Cache do caminho crítico interrompido: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.facilit.kanban.project.infra.history;
+
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusHistoryRepository;
+import br.com.facilit.kanban.shared.lock.AdvisoryLockLeadership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Tarefa agendada que mantém as partições mensais de {@code project_status_history}.
+ *
+ * <p>Cria com antecedência as partições dos próximos {@code facilit.status-history.months-ahead}
+ * meses, para que nenhuma linha caia na partição padrão, e desanexa as partições mais antigas
+ * que {@code facilit.status-history.retention-months}. Desanexar é apenas uma alteração de
+ * catálogo: as linhas antigas saem do histórico sem {@code DELETE} nem {@code VACUUM}.</p>
+ *
+ * <p>Se a manutenção atrasar e a partição padrão receber linhas de um mês, a criação da partição
+ * desse mês move as linhas para ela. A tarefa registra um alerta sempre que encontra linhas na
+ * partição padrão e uma falha ao criar a partição de um mês não impede os demais.</p>
+ *
+ * <p>Executada por uma única instância por vez ({@link AdvisoryLockLeadership}).</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectStatusHistoryPartitionJob {
+
+    static final String LOCK = "facilit.project.status-history";
+
+    private final ProjectStatusHistoryRepository repository;
+    private final AdvisoryLockLeadership leadership;
+    private final ProjectStatusHistoryProperties properties;
+
+    /**
+     * Cria as partições futuras e desanexa as expiradas.
+     *
+     * @return {@link Mono} que completa ao final da manutenção
+     */
+    @Scheduled(fixedDelayString = "${facilit.status-history.maintenance-interval:PT12H}",
+            initialDelayString = "PT1M")
+    public Mono<Void> maintain() {
+        return leadership.runAsLeader(LOCK, Mono.defer(this::maintainPartitions))
+                .doOnError(error -> log.error("Erro na manutenção do histórico de status: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<Void> maintainPartitions() {
+        LocalDate month = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+        Mono<Void> check = repository.countDefault()
+                .filter(rows -> rows > 0)
+                .doOnNext(rows -> log.warn("Partição padrão do histórico de status contém {} linhas; "
+                        + "as dos meses mantidos pela tarefa serão movidas para as partições mensais", rows))
+                .then();
+        Mono<Void> create = Flux.range(0, Math.max(0, properties.monthsAhead()) + 1)
+                .map(month::plusMonths)
+                .concatMap(this::createPartition)
+                .then();
+        Mono<Void> detach = properties.retentionMonths() <= 0
+                ? Mono.empty()
+                : repository.detachBefore(month.minusMonths(properties.retentionMonths()))
+                        .doOnNext(name -> log.info("Partição do histórico de status desanexada: {}", name))
+                        .then();
+        return check.then(create).then(detach);
+    }
+
+    private Mono<String> createPartition(LocalDate month) {
+        return repository.createPartition(month)
+                .doOnError(error -> log.error("Erro ao criar a partição {} do histórico de status: {}",
+                        month, error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty());
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.facilit.kanban.project.infra.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração da manutenção das partições de {@code project_status_history}.
+ *
+ * @param maintenanceInterval intervalo entre as execuções da manutenção
+ * @param monthsAhead quantidade de meses futuros com partição criada antecipadamente
+ * @param retentionMonths meses completos mantidos no histórico; partições mais antigas são
+ *                        desanexadas. Zero mantém todas as partições
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.status-history")
+public record ProjectStatusHistoryProperties(
+        @DefaultValue("PT12H") Duration maintenanceInterval,
+        @DefaultValue("2") int monthsAhead,
+        @DefaultValue("0") int retentionMonths
+) {}
@@ -0,0 +1,181 @@
+package br.com.facilit.kanban.project.infra.notification;
+
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Mantém uma única assinatura dos canais {@code project_changes}, {@code project_team_changes} e
+ * {@code project_dependency_changes} por instância e a distribui a todos os interessados (clientes SSE, caches em memória).
+ *
+ * <p><strong>Funcionamento:</strong></p>
+ * <ul>
+ *     <li>Abre uma conexão dedicada, fora do pool, e executa {@code LISTEN} nos canais;
+ *     a conexão fica presa à escuta e por isso não pode ser emprestada do pool</li>
+ *     <li>Cada notificação é convertida em {@link ProjectChangeEvent} e emitida em um
+ *     {@link Sinks.Many} multicast sem buffer próprio</li>
+ *     <li>{@link #events()} entrega as alterações de projetos, {@link #teamEvents()} as de equipe e
+ *     {@link #dependencyEvents()} as de dependências; todos recebem o {@link ProjectChangeEvent#RESYNC}</li>
+ *     <li>Cada assinante recebe um buffer limitado; se ele não acompanhar o ritmo, os
+ *     eventos mais antigos são descartados sem afetar os demais, e o assinante recebe um
+ *     {@link ProjectChangeEvent#RESYNC} antes do próximo evento, pois seu estado derivado
+ *     deixou de refletir o banco</li>
+ *     <li>Se a conexão cair, a escuta é refeita com backoff exponencial e um evento
+ *     {@link ProjectChangeEvent#RESYNC} é emitido, pois notificações podem ter sido perdidas</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+public class ProjectChangeListener implements SmartLifecycle {
+
+    /** Canal usado pela trigger {@code trg_project_notify_change}. */
+    public static final String CHANNEL = "project_changes";
+
+    /** Canal usado pelas triggers {@code trg_project_team_notify_*}. */
+    public static final String TEAM_CHANNEL = "project_team_changes";
+
+    /** Canal usado pelas triggers {@code trg_project_dependency_notify_*}. */
+    public static final String DEPENDENCY_CHANNEL = "project_dependency_changes";
+
+    private final ConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final ProjectChangeProperties properties;
+    private final Sinks.Many<ProjectChangeEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    private volatile Disposable subscription;
+
+    public ProjectChangeListener(R2dbcProperties r2dbcProperties,
+                                 ObjectMapper objectMapper,
+                                 ProjectChangeProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbcProperties.getUrl()).mutate();
+        if (r2dbcProperties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, r2dbcProperties.getUsername());
+        }
+        if (r2dbcProperties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, r2dbcProperties.getPassword());
+        }
+        this.connectionFactory = ConnectionFactories.get(options.build());
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Fluxo de alterações para um novo assinante, com buffer limitado a
+     * {@code facilit.project-changes.buffer-size} eventos. Quando o buffer transborda, um
+     * {@link ProjectChangeEvent#RESYNC} é entregue antes do próximo evento.
+     *
+     * @return {@link Flux} infinito de {@link ProjectChangeEvent}
+     */
+    public Flux<ProjectChangeEvent> events() {
+        return subscribe(event -> !event.isTeam() && !event.isDependency());
+    }
+
+    /**
+     * Fluxo de alterações de equipe para um novo assinante, com o mesmo buffer de {@link #events()}.
+     *
+     * @return {@link Flux} infinito de {@link ProjectChangeEvent} do tipo {@code TEAM} ou {@code RESYNC}
+     */
+    public Flux<ProjectChangeEvent> teamEvents() {
+        return subscribe(event -> event.isTeam() || event.isResync());
+    }
+
+    /**
+     * Fluxo de alterações de dependências para um novo assinante, com o mesmo buffer de {@link #events()}.
+     *
+     * @return {@link Flux} infinito de {@link ProjectChangeEvent} do tipo {@code DEPENDENCY} ou {@code RESYNC}
+     */
+    public Flux<ProjectChangeEvent> dependencyEvents() {
+        return subscribe(event -> event.isDependency() || event.isResync());
+    }
+
+    private Flux<ProjectChangeEvent> subscribe(Predicate<ProjectChangeEvent> filter) {
+        return Flux.defer(() -> {
+            AtomicBoolean overflowed = new AtomicBoolean();
+            return sink.asFlux()
+                    .filter(filter)
+                    .onBackpressureBuffer(properties.bufferSize(),
+                            dropped -> {
+                                if (overflowed.compareAndSet(false, true)) {
+                                    log.warn("Buffer de assinante lento cheio, descartando eventos e ressincronizando");
+                                }
+                            },
+                            BufferOverflowStrategy.DROP_OLDEST)
+                    // O descarte só ocorre quando um novo evento entra no buffer, então sempre há um próximo
+                    // evento para carregar o RESYNC até o assinante
+                    .concatMapIterable(event -> overflowed.getAndSet(false)
+                            ? List.of(ProjectChangeEvent.resync(), event)
+                            : List.of(event), 1);
+        });
+    }
+
+    @Override
+    public void start() {
+        subscription = Flux.usingWhen(
+                        Mono.from(connectionFactory.create()).cast(PostgresqlConnection.class),
+                        this::listen,
+                        PostgresqlConnection::close)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(properties.reconnectMaxBackoff())
+                        .doBeforeRetry(signal -> log.warn("Escuta de {} interrompida, reconectando: {}",
+                                CHANNEL, signal.failure().getMessage())))
+                .subscribe(sink::tryEmitNext,
+                        error -> log.error("Escuta de {} encerrada: {}", CHANNEL, error.getMessage(), error));
+    }
+
+    private Flux<ProjectChangeEvent> listen(PostgresqlConnection connection) {
+        return connection.createStatement("LISTEN " + CHANNEL + "; LISTEN " + TEAM_CHANNEL + "; LISTEN " + DEPENDENCY_CHANNEL)
+                .execute()
+                .flatMap(result -> result.getRowsUpdated())
+                .then(Mono.fromRunnable(() -> log.info("Escutando alterações de projetos nos canais {}, {} e {}",
+                        CHANNEL, TEAM_CHANNEL, DEPENDENCY_CHANNEL)))
+                .thenMany(Flux.just(ProjectChangeEvent.resync())
+                        .concatWith(connection.getNotifications().mapNotNull(this::read))
+                        // O fluxo de notificações só termina se a conexão for fechada: força a reconexão
+                        .concatWith(Mono.error(() -> new IllegalStateException("Conexão de escuta encerrada"))));
+    }
+
+    private ProjectChangeEvent read(Notification notification) {
+        try {
+            return objectMapper.readValue(notification.getParameter(), ProjectChangeEvent.class);
+        } catch (Exception e) {
+            log.warn("Notificação inválida em {}: {}", notification.getName(), notification.getParameter());
+            return null;
+        }
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+}
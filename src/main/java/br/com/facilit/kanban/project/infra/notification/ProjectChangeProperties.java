@@ -0,0 +1,22 @@
+package br.com.facilit.kanban.project.infra.notification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração da escuta de alterações de projetos via LISTEN/NOTIFY.
+ *
+ * @param bufferSize quantidade máxima de eventos mantidos por cliente lento; os mais antigos são descartados
+ * @param heartbeat intervalo entre os comentários de keep-alive enviados aos clientes SSE
+ * @param reconnectMaxBackoff espera máxima entre tentativas de reconectar ao banco
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.project-changes")
+public record ProjectChangeProperties(
+        @DefaultValue("256") int bufferSize,
+        @DefaultValue("PT15S") Duration heartbeat,
+        @DefaultValue("PT30S") Duration reconnectMaxBackoff
+) {}
@@ -0,0 +1,154 @@
+package br.com.facilit.kanban.project.infra.overdue;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.po.ProjectOverduePO;
+import br.com.facilit.kanban.project.domain.po.ProjectStatusCounterPO;
+import br.com.facilit.kanban.project.infra.repository.ProjectOverdueRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectRankRepository;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tarefa agendada que move para {@code ATRASADO} os projetos cujo término previsto já passou
+ * e que não estão concluídos nem cancelados.
+ *
+ * <p><strong>Execução:</strong></p>
+ * <ul>
+ *     <li>Todas as instâncias executam a rodada e dividem o trabalho: os projetos são movidos em
+ *     lotes de {@code facilit.overdue.chunk-size}, cada lote em transação própria, com até
+ *     {@code facilit.overdue.parallelism} lotes simultâneos por instância</li>
+ *     <li>Os lotes são selecionados com {@code FOR UPDATE SKIP LOCKED}: lotes paralelos, da mesma ou de
+ *     outra instância, nunca disputam as mesmas linhas e projetos em edição ficam para a próxima rodada.
+ *     Não há eleição de líder; com mais instâncias a rodada apenas termina antes</li>
+ *     <li>Cada lote obtém o lock compartilhado da coluna {@code ATRASADO} e coloca os cards no fim dela</li>
+ *     <li>Os contadores de status são ajustados na transação do lote, sem aplicar os limites de WIP</li>
+ * </ul>
+ *
+ * <p><strong>Métricas:</strong></p>
+ * <ul>
+ *     <li>{@code facilit.overdue.moved} — projetos movidos (a taxa é a vazão da tarefa)</li>
+ *     <li>{@code facilit.overdue.run} — duração das rodadas da instância</li>
+ *     <li>{@code facilit.overdue.lag} — idade, em segundos, do projeto vencido mais antigo ainda não movido</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+public class ProjectOverdueJob {
+
+    private static final String OVERDUE = StatusProject.ATRASADO.name();
+
+    private final ProjectOverdueRepository overdueRepository;
+    private final ProjectRankRepository rankRepository;
+    private final ProjectStatusCounterRepository counterRepository;
+    private final TransactionalOperator txOperator;
+    private final ProjectOverdueProperties properties;
+
+    private final Counter moved;
+    private final Timer run;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ProjectOverdueJob(ProjectOverdueRepository overdueRepository,
+                             ProjectRankRepository rankRepository,
+                             ProjectStatusCounterRepository counterRepository,
+                             TransactionalOperator txOperator,
+                             ProjectOverdueProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.overdueRepository = overdueRepository;
+        this.rankRepository = rankRepository;
+        this.counterRepository = counterRepository;
+        this.txOperator = txOperator;
+        this.properties = properties;
+        this.moved = Counter.builder("facilit.overdue.moved")
+                .description("Projetos movidos para ATRASADO")
+                .register(meterRegistry);
+        this.run = Timer.builder("facilit.overdue.run")
+                .description("Duração das rodadas da tarefa de projetos vencidos")
+                .register(meterRegistry);
+        Gauge.builder("facilit.overdue.lag", lagSeconds, AtomicLong::get)
+                .description("Idade do projeto vencido mais antigo ainda não movido")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa uma rodada, dividindo os projetos vencidos com as demais instâncias, e atualiza a
+     * medida de atraso.
+     *
+     * @return {@link Mono} que completa ao final da rodada
+     */
+    @Scheduled(fixedDelayString = "${facilit.overdue.interval:PT1M}")
+    public Mono<Void> moveOverdue() {
+        return Mono.defer(this::moveAll)
+                .then(measureLag())
+                .doOnError(error -> log.error("Erro ao mover projetos vencidos: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<Long> moveAll() {
+        long start = System.nanoTime();
+        int chunkSize = Math.max(1, properties.chunkSize());
+        int parallelism = Math.max(1, properties.parallelism());
+        return Flux.range(0, parallelism)
+                .flatMap(worker -> Mono.defer(() -> moveChunk(chunkSize))
+                        .repeat()
+                        .takeUntil(total -> total < chunkSize), parallelism)
+                .reduce(0L, Long::sum)
+                .doOnSuccess(total -> {
+                    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                    run.record(elapsed);
+                    if (total != null && total > 0) {
+                        log.info("Projetos movidos para ATRASADO | total={}, duração={}ms", total, elapsed.toMillis());
+                    }
+                });
+    }
+
+    private Mono<Long> moveChunk(int chunkSize) {
+        return rankRepository.appendRank(OVERDUE)
+                .flatMapMany(rank -> overdueRepository.moveChunk(chunkSize, rank))
+                .collectList()
+                .flatMap(chunk -> counterRepository.applyDeltas(deltas(chunk))
+                        .thenReturn((long) chunk.size()))
+                .as(txOperator::transactional)
+                .doOnNext(moved::increment);
+    }
+
+    private Mono<Void> measureLag() {
+        return overdueRepository.findOldestOverdue()
+                .doOnNext(oldest -> lagSeconds.set(oldest
+                        .map(expected -> Math.max(0L, Duration.between(expected, Instant.now()).toSeconds()))
+                        .orElse(0L)))
+                .then();
+    }
+
+    private static List<ProjectStatusCounterPO> deltas(List<ProjectOverduePO> chunk) {
+        Map<Long, Map<String, Long>> bySecretariat = new HashMap<>();
+        chunk.forEach(project -> {
+            Map<String, Long> statuses = bySecretariat.computeIfAbsent(project.secretariatId(), id -> new HashMap<>());
+            statuses.merge(project.oldStatus(), -1L, Long::sum);
+            statuses.merge(OVERDUE, 1L, Long::sum);
+        });
+        List<ProjectStatusCounterPO> deltas = new ArrayList<>();
+        bySecretariat.forEach((secretariatId, statuses) -> statuses.forEach((status, delta) ->
+                deltas.add(new ProjectStatusCounterPO(secretariatId, status, delta))));
+        return deltas;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.facilit.kanban.project.infra.overdue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração da tarefa que move os projetos vencidos para {@code ATRASADO}.
+ *
+ * @param interval intervalo entre as execuções da tarefa
+ * @param chunkSize quantidade máxima de projetos movidos por lote (uma transação por lote)
+ * @param parallelism quantidade de lotes processados ao mesmo tempo
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.overdue")
+public record ProjectOverdueProperties(
+        @DefaultValue("PT1M") Duration interval,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("4") int parallelism
+) {}
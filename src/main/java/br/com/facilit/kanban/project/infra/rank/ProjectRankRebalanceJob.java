@@ -0,0 +1,49 @@
+package br.com.facilit.kanban.project.infra.rank;
+
+import br.com.facilit.kanban.project.infra.repository.ProjectRankRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tarefa agendada que redistribui as chaves de ordenação das colunas cujas chaves
+ * cresceram além de {@code facilit.rank.max-length}.
+ *
+ * <p>Inserções repetidas no mesmo ponto da coluna aumentam o tamanho das chaves
+ * fracionárias. Cada coluna é rebalanceada em transação própria, com o lock exclusivo
+ * da coluna, preservando a ordem atual dos cards.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectRankRebalanceJob {
+
+    private final ProjectRankRepository projectRankRepository;
+    private final TransactionalOperator txOperator;
+
+    @Value("${facilit.rank.max-length:32}")
+    private int maxLength;
+
+    /**
+     * Rebalanceia as colunas com chaves longas demais.
+     *
+     * @return {@link Mono} que completa ao final do rebalanceamento
+     */
+    @Scheduled(fixedDelayString = "${facilit.rank.rebalance-interval:PT10M}")
+    public Mono<Void> rebalance() {
+        return projectRankRepository.findStatusesToRebalance(maxLength)
+                .concatMap(status -> projectRankRepository.lockColumnExclusive(status)
+                        .then(projectRankRepository.rebalance(status))
+                        .as(txOperator::transactional)
+                        .doOnSuccess(total -> log.info("Coluna rebalanceada | status={}, cards={}", status, total)))
+                .doOnError(error -> log.error("Erro ao rebalancear chaves de ordenação: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+}
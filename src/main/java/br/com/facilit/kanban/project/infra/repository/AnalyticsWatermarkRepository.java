@@ -0,0 +1,62 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Repositório reativo da tabela {@code analytics_watermark}, com o último dia consolidado
+ * por cada tarefa incremental de analytics.
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnalyticsWatermarkRepository {
+
+    /** Consolidação diária de lead time e cycle time ({@code project_flow_daily}). */
+    public static final String FLOW = "project_flow";
+
+    /** Consolidação diária do diagrama de fluxo cumulativo ({@code project_cfd_daily}). */
+    public static final String CFD = "project_cfd";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Último dia consolidado pela tarefa.
+     *
+     * @param name nome da tarefa
+     * @return {@link Mono} com o dia, ou vazio se a tarefa nunca consolidou
+     */
+    public Mono<LocalDate> find(String name) {
+        return databaseClient.sql("SELECT last_day FROM analytics_watermark WHERE name = :name")
+                .bind("name", name)
+                .map(row -> row.get("last_day", LocalDate.class))
+                .one();
+    }
+
+    /**
+     * Grava o último dia consolidado pela tarefa. Deve ser chamado na mesma transação
+     * que grava os dados do dia.
+     *
+     * @param name nome da tarefa
+     * @param lastDay último dia consolidado
+     * @return {@link Mono} vazio ao concluir
+     */
+    public Mono<Void> save(String name, LocalDate lastDay) {
+        return databaseClient.sql("""
+                        INSERT INTO analytics_watermark (name, last_day, updated_at)
+                        VALUES (:name, :lastDay, now())
+                        ON CONFLICT (name) DO UPDATE
+                            SET last_day = EXCLUDED.last_day, updated_at = EXCLUDED.updated_at
+                        """)
+                .bind("name", name)
+                .bind("lastDay", lastDay)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+}
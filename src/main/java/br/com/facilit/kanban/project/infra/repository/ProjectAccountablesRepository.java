@@ -0,0 +1,154 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.AccountableWorkloadPO;
+import br.com.facilit.kanban.project.domain.po.ProjectTeamMemberPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repositório reativo da tabela de relação {@code project_has_accountable}.
+ *
+ * <p>Os vínculos são gravados e removidos em lote, com um único comando SQL por
+ * requisição, independentemente da quantidade de responsáveis informados.</p>
+ *
+ * <p>As consultas leem a tabela {@code accountable}, do módulo de pessoas, apenas para leitura;
+ * o contrato desse acesso compartilhado está descrito em {@link br.com.facilit.kanban.project}.</p>
+ *
+ * <h3>Consultas customizadas</h3>
+ * <ul>
+ *     <li>{@link #assign(Long, Collection)} — {@code INSERT ... SELECT unnest} dos responsáveis</li>
+ *     <li>{@link #unassign(Long, Collection)} — {@code DELETE ... = ANY} dos responsáveis</li>
+ *     <li>{@link #findTeam(UUID)} — equipe do projeto com um único join</li>
+ *     <li>{@link #findWorkload(Long, LocalDateTime, LocalDateTime)} — projetos ativos por responsável, em uma única agregação</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectAccountablesRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Vincula os responsáveis ao projeto. UUIDs inexistentes e vínculos já existentes são ignorados.
+     *
+     * @param projectId identificador interno do projeto
+     * @param accountableUuids UUIDs dos responsáveis
+     * @return {@link Mono} com a quantidade de vínculos criados
+     */
+    public Mono<Long> assign(Long projectId, Collection<UUID> accountableUuids) {
+        return databaseClient.sql("""
+                        INSERT INTO project_has_accountable (project_id, accountable_id)
+                        SELECT :projectId, a.id
+                          FROM unnest(CAST(:accountables AS varchar[])) AS u(uuid)
+                          JOIN accountable a ON a.uuid = u.uuid
+                        ON CONFLICT DO NOTHING
+                        """)
+                .bind("projectId", projectId)
+                .bind("accountables", toArray(accountableUuids))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Remove o vínculo dos responsáveis com o projeto.
+     *
+     * @param projectId identificador interno do projeto
+     * @param accountableUuids UUIDs dos responsáveis
+     * @return {@link Mono} com a quantidade de vínculos removidos
+     */
+    public Mono<Long> unassign(Long projectId, Collection<UUID> accountableUuids) {
+        return databaseClient.sql("""
+                        DELETE FROM project_has_accountable pa
+                         USING accountable a
+                         WHERE pa.project_id = :projectId
+                           AND pa.accountable_id = a.id
+                           AND a.uuid = ANY(CAST(:accountables AS varchar[]))
+                        """)
+                .bind("projectId", projectId)
+                .bind("accountables", toArray(accountableUuids))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Lista a equipe do projeto.
+     *
+     * <p>O projeto é a tabela base do {@code LEFT JOIN}: um projeto sem equipe devolve uma linha
+     * com os campos do responsável nulos, e um projeto inexistente não devolve linhas.</p>
+     *
+     * @param projectUuid UUID do projeto
+     * @return {@link Flux} com uma linha por responsável (ou uma linha vazia se não houver equipe)
+     */
+    public Flux<ProjectTeamMemberPO> findTeam(UUID projectUuid) {
+        return databaseClient.sql("""
+                        SELECT a.uuid, a.name, a.email, a.role, a.secretariat_id
+                          FROM project p
+                          LEFT JOIN project_has_accountable pa ON pa.project_id = p.id
+                          LEFT JOIN accountable a ON a.id = pa.accountable_id
+                         WHERE p.uuid = :uuid
+                         ORDER BY a.name
+                        """)
+                .bind("uuid", projectUuid.toString())
+                .map(row -> {
+                    String uuid = row.get("uuid", String.class);
+                    return new ProjectTeamMemberPO(
+                            uuid == null ? null : UUID.fromString(uuid),
+                            row.get("name", String.class),
+                            row.get("email", String.class),
+                            row.get("role", String.class),
+                            row.get("secretariat_id", Long.class)
+                    );
+                })
+                .all();
+    }
+
+    /**
+     * Quantidade de projetos ativos ({@code PLANEJADO}, {@code EM_ANDAMENTO} e {@code ATRASADO}) de cada
+     * responsável da secretaria cujo período previsto se sobrepõe à janela [{@code from}, {@code to}).
+     *
+     * <p>Uma única agregação: responsáveis sem projetos no período aparecem com zero. A sobreposição
+     * usa a mesma expressão do índice GiST {@code idx_project_period}.</p>
+     *
+     * @param secretariatId secretaria dos responsáveis
+     * @param from início da janela (inclusivo)
+     * @param to fim da janela (exclusivo)
+     * @return {@link Flux} com um item por responsável, do mais ao menos carregado
+     */
+    public Flux<AccountableWorkloadPO> findWorkload(Long secretariatId, LocalDateTime from, LocalDateTime to) {
+        return databaseClient.sql("""
+                        SELECT a.uuid, a.name, a.role, count(p.id) AS active_projects
+                          FROM accountable a
+                          LEFT JOIN project_has_accountable pa ON pa.accountable_id = a.id
+                          LEFT JOIN project p ON p.id = pa.project_id
+                               AND p.status IN ('PLANEJADO', 'EM_ANDAMENTO', 'ATRASADO')
+                               AND p.expected_start IS NOT NULL AND p.expected_therm IS NOT NULL
+                               AND tsrange(p.expected_start, GREATEST(p.expected_start, p.expected_therm), '[]')
+                                   && tsrange(CAST(:from AS timestamp), CAST(:to AS timestamp), '[)')
+                         WHERE a.secretariat_id = :secretariatId
+                         GROUP BY a.id, a.uuid, a.name, a.role
+                         ORDER BY active_projects DESC, a.name
+                        """)
+                .bind("secretariatId", secretariatId)
+                .bind("from", from)
+                .bind("to", to)
+                .map(row -> new AccountableWorkloadPO(
+                        UUID.fromString(row.get("uuid", String.class)),
+                        row.get("name", String.class),
+                        row.get("role", String.class),
+                        row.get("active_projects", Long.class)))
+                .all();
+    }
+
+    private static String[] toArray(Collection<UUID> uuids) {
+        return uuids.stream().map(UUID::toString).distinct().toArray(String[]::new);
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.po.ProjectBoardRowPO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Repositório reativo de leitura do quadro Kanban.
+ *
+ * <p>Todas as colunas do quadro são obtidas com um único comando SQL: os status de
+ * {@link StatusProject} são desaninhados na ordem do enum e cada coluna busca seus primeiros
+ * cards com um {@code LEFT JOIN LATERAL ... LIMIT}, resolvido pelo índice
+ * {@code idx_project_secretariat_status_rank} (ou {@code idx_project_status_rank}, sem filtro
+ * de secretaria) sem ordenar a coluna inteira. O total da coluna vem de
+ * {@code project_status_counter}, sem {@code count(*)} sobre {@code project}.</p>
+ *
+ * <p>Com e sem filtro de secretaria são comandos distintos, escolhidos aqui: um predicado
+ * "parâmetro nulo ou igual" impediria o plano genérico do driver de usar o índice da secretaria.</p>
+ *
+ * <p>Os projetos são lidos de {@code project_view}, com o atraso calculado na consulta.</p>
+ *
+ * <p>As linhas saem ordenadas por coluna e posição, permitindo que sejam agrupadas
+ * em colunas à medida que chegam do banco.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectBoardRepository {
+
+    private static final String[] STATUSES = Arrays.stream(StatusProject.values())
+            .map(Enum::name)
+            .toArray(String[]::new);
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Busca os primeiros cards de cada coluna do quadro.
+     *
+     * @param secretariatId secretaria para filtrar os projetos, ou {@code null} para todas
+     * @param limit quantidade máxima de cards por coluna
+     * @return {@link Flux} com as linhas do quadro, na ordem de {@link StatusProject}
+     */
+    public Flux<ProjectBoardRowPO> findBoard(Long secretariatId, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = secretariatId == null
+                ? databaseClient.sql("""
+                        SELECT s.status,
+                               COALESCE((SELECT CAST(sum(k.total) AS bigint)
+                                           FROM project_status_counter k
+                                          WHERE k.status = s.status), 0) AS total,
+                               c.uuid, c.name, c.expected_start, c.expected_therm, c.days_late, c.secretariat_id
+                          FROM unnest(CAST(:statuses AS varchar[])) WITH ORDINALITY AS s(status, ord)
+                          LEFT JOIN LATERAL (
+                                SELECT p.id, p.uuid, p.name, p.expected_start, p.expected_therm,
+                                       p.days_late, p.secretariat_id, p.rank
+                                  FROM project_view p
+                                 WHERE p.status = s.status
+                                 ORDER BY p.rank, p.id
+                                 LIMIT :limit
+                          ) c ON true
+                         ORDER BY s.ord, c.rank, c.id
+                        """)
+                : databaseClient.sql("""
+                        SELECT s.status, COALESCE(k.total, 0) AS total,
+                               c.uuid, c.name, c.expected_start, c.expected_therm, c.days_late, c.secretariat_id
+                          FROM unnest(CAST(:statuses AS varchar[])) WITH ORDINALITY AS s(status, ord)
+                          LEFT JOIN project_status_counter k ON k.secretariat_id = :secretariatId AND k.status = s.status
+                          LEFT JOIN LATERAL (
+                                SELECT p.id, p.uuid, p.name, p.expected_start, p.expected_therm,
+                                       p.days_late, p.secretariat_id, p.rank
+                                  FROM project_view p
+                                 WHERE p.secretariat_id = :secretariatId AND p.status = s.status
+                                 ORDER BY p.rank, p.id
+                                 LIMIT :limit
+                          ) c ON true
+                         ORDER BY s.ord, c.rank, c.id
+                        """)
+                .bind("secretariatId", secretariatId);
+
+        return spec.bind("statuses", STATUSES)
+                .bind("limit", limit)
+                .map(ProjectBoardRepository::toRow)
+                .all();
+    }
+
+    private static ProjectBoardRowPO toRow(Readable row) {
+        String uuid = row.get("uuid", String.class);
+        return new ProjectBoardRowPO(
+                row.get("status", String.class),
+                row.get("total", Long.class),
+                uuid == null ? null : UUID.fromString(uuid),
+                row.get("name", String.class),
+                row.get("expected_start", Instant.class),
+                row.get("expected_therm", Instant.class),
+                row.get("days_late", Integer.class),
+                row.get("secretariat_id", Long.class)
+        );
+    }
+}
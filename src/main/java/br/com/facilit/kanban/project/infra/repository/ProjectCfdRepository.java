@@ -0,0 +1,128 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectCfdRowPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Repositório reativo do diagrama de fluxo cumulativo ({@code project_cfd_daily}).
+ *
+ * <p>Cada dia é o dia anterior somado ao saldo das transições do dia em
+ * {@code project_status_history} (-1 na origem, +1 no destino): a consolidação lê apenas a
+ * partição do dia e as linhas do dia anterior, nunca a tabela {@code project}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectCfdRepository {
+
+    /** Saldo das transições em [:start, :end) por (secretaria, status). */
+    private static final String TRANSITIONS = """
+            SELECT COALESCE(from_secretariat_id, secretariat_id) AS secretariat_id, from_status AS status, -1 AS total
+              FROM project_status_history
+             WHERE changed_at >= :start AND changed_at < :end AND from_status IS NOT NULL
+             UNION ALL
+            SELECT secretariat_id, to_status, 1
+              FROM project_status_history
+             WHERE changed_at >= :start AND changed_at < :end
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Grava o primeiro dia do diagrama a partir de {@code project_status_counter}, descontando as
+     * transições ocorridas depois do fim do dia. Usado apenas na primeira consolidação.
+     * Deve ser chamado dentro de uma transação.
+     *
+     * @param day dia a gravar
+     * @return {@link Mono} com a quantidade de linhas gravadas
+     */
+    public Mono<Long> seed(LocalDate day) {
+        return clear(day).then(databaseClient.sql("""
+                        INSERT INTO project_cfd_daily (day, secretariat_id, status, total)
+                        SELECT CAST(:day AS date), secretariat_id, status, sum(total)
+                          FROM (SELECT secretariat_id, status, total FROM project_status_counter
+                                 UNION ALL
+                                SELECT secretariat_id, status, -total FROM (%s) AS t) AS d
+                         GROUP BY secretariat_id, status
+                        HAVING sum(total) <> 0
+                        """.formatted(TRANSITIONS))
+                .bind("day", day)
+                .bind("start", day.plusDays(1).atStartOfDay())
+                .bind("end", LocalDateTime.now(ZoneOffset.UTC).plusDays(1))
+                .fetch()
+                .rowsUpdated());
+    }
+
+    /**
+     * Grava o dia a partir do dia anterior e das transições do dia, substituindo o que houver
+     * gravado para ele. Deve ser chamado dentro de uma transação.
+     *
+     * @param day dia a consolidar
+     * @return {@link Mono} com a quantidade de linhas gravadas
+     */
+    public Mono<Long> rollupDay(LocalDate day) {
+        return clear(day).then(databaseClient.sql("""
+                        INSERT INTO project_cfd_daily (day, secretariat_id, status, total)
+                        SELECT CAST(:day AS date), secretariat_id, status, sum(total)
+                          FROM (SELECT secretariat_id, status, total
+                                  FROM project_cfd_daily
+                                 WHERE day = CAST(:day AS date) - 1
+                                 UNION ALL
+                                SELECT secretariat_id, status, total FROM (%s) AS t) AS d
+                         GROUP BY secretariat_id, status
+                        HAVING sum(total) <> 0
+                        """.formatted(TRANSITIONS))
+                .bind("day", day)
+                .bind("start", day.atStartOfDay())
+                .bind("end", day.plusDays(1).atStartOfDay())
+                .fetch()
+                .rowsUpdated());
+    }
+
+    /**
+     * Lista os dias consolidados do intervalo {@code [from, to]}, em ordem de dia e secretaria.
+     *
+     * @param secretariatId secretaria, ou {@code null} para todas
+     * @param from primeiro dia
+     * @param to último dia
+     * @return {@link Flux} com as linhas não nulas do intervalo
+     */
+    public Flux<ProjectCfdRowPO> findDays(Long secretariatId, LocalDate from, LocalDate to) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        SELECT day, secretariat_id, status, total
+                          FROM project_cfd_daily
+                         WHERE day BETWEEN :from AND :to
+                           AND (CAST(:secretariatId AS bigint) IS NULL OR secretariat_id = :secretariatId)
+                         ORDER BY day, secretariat_id, status
+                        """)
+                .bind("from", from)
+                .bind("to", to);
+        spec = secretariatId == null
+                ? spec.bindNull("secretariatId", Long.class)
+                : spec.bind("secretariatId", secretariatId);
+        return spec
+                .map(row -> new ProjectCfdRowPO(
+                        row.get("day", LocalDate.class),
+                        row.get("secretariat_id", Long.class),
+                        row.get("status", String.class),
+                        row.get("total", Long.class)
+                ))
+                .all();
+    }
+
+    private Mono<Long> clear(LocalDate day) {
+        return databaseClient.sql("DELETE FROM project_cfd_daily WHERE day = :day")
+                .bind("day", day)
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectTombstonePO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Repositório reativo da sincronização incremental de projetos.
+ *
+ * <p>O token de alteração ({@code change_seq}) é o id da transação que gravou a linha,
+ * mantido por trigger em {@code project} e {@code project_tombstone}.</p>
+ *
+ * <h3>Consultas customizadas</h3>
+ * <ul>
+ *     <li>{@link #horizon()} — maior token que já pode ser entregue aos clientes</li>
+ *     <li>{@link #findTombstonesAfter(long, long, long, int)} — exclusões após um token</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectChangeRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Horizonte de leitura: o {@code xmin} do snapshot corrente.
+     *
+     * <p>Toda transação com id menor que o horizonte já terminou, portanto alterações com token
+     * menor que ele são definitivas. Transações em andamento gravam tokens maiores ou iguais e
+     * só são entregues na próxima sincronização, o que impede que um cliente avance seu token
+     * por cima de uma alteração ainda não confirmada.</p>
+     *
+     * @return {@link Mono} com o horizonte
+     */
+    public Mono<Long> horizon() {
+        return databaseClient.sql("SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint AS horizon")
+                .map(row -> row.get("horizon", Long.class))
+                .one();
+    }
+
+    /**
+     * Lista as exclusões após a posição ({@code changeSeq}, {@code projectId}), em ordem de alteração.
+     *
+     * @param changeSeq token da última alteração já recebida pelo cliente
+     * @param projectId desempate do token, para alterações da mesma transação
+     * @param horizon limite superior (exclusivo) dos tokens devolvidos
+     * @param limit quantidade máxima de exclusões
+     * @return {@link Flux} com as exclusões
+     */
+    public Flux<ProjectTombstonePO> findTombstonesAfter(long changeSeq, long projectId, long horizon, int limit) {
+        return databaseClient.sql("""
+                        SELECT project_id, uuid, secretariat_id, change_seq
+                          FROM project_tombstone
+                         WHERE (change_seq, project_id) > (:changeSeq, :projectId)
+                           AND change_seq < :horizon
+                         ORDER BY change_seq, project_id
+                         LIMIT :limit
+                        """)
+                .bind("changeSeq", changeSeq)
+                .bind("projectId", projectId)
+                .bind("horizon", horizon)
+                .bind("limit", limit)
+                .map(row -> new ProjectTombstonePO(
+                        row.get("project_id", Long.class),
+                        UUID.fromString(row.get("uuid", String.class)),
+                        row.get("secretariat_id", Long.class),
+                        row.get("change_seq", Long.class)
+                ))
+                .all();
+    }
+}
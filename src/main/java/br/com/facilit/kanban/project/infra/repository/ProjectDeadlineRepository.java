@@ -0,0 +1,79 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectDeadlinePO;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repositório reativo das datas previstas usadas pelo agendador de prazos.
+ *
+ * <h3>Consultas customizadas</h3>
+ * <ul>
+ *     <li>{@link #findWithin(LocalDateTime, LocalDateTime)} — projetos ativos com início ou término previsto na janela</li>
+ *     <li>{@link #findByUuid(UUID)} — datas previstas de um projeto, após uma alteração</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectDeadlineRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Projetos ativos cujo início ou término previsto cai na janela [{@code from}, {@code to}),
+     * atendidos pelos índices parciais {@code idx_project_deadline_start} e {@code idx_project_deadline_therm}.
+     *
+     * @param from início da janela (inclusivo)
+     * @param to fim da janela (exclusivo)
+     * @return {@link Flux} com as datas previstas dos projetos
+     */
+    public Flux<ProjectDeadlinePO> findWithin(LocalDateTime from, LocalDateTime to) {
+        return databaseClient.sql("""
+                        SELECT uuid, name, status, secretariat_id, expected_start, expected_therm
+                          FROM project
+                         WHERE status NOT IN ('CONCLUIDO', 'CANCELADO')
+                           AND ((expected_start >= :from AND expected_start < :to)
+                             OR (expected_therm >= :from AND expected_therm < :to))
+                        """)
+                .bind("from", from)
+                .bind("to", to)
+                .map(ProjectDeadlineRepository::toPO)
+                .all();
+    }
+
+    /**
+     * Datas previstas de um projeto, qualquer que seja o status.
+     *
+     * @param uuid UUID do projeto
+     * @return {@link Mono} com as datas, ou vazio se o projeto não existir
+     */
+    public Mono<ProjectDeadlinePO> findByUuid(UUID uuid) {
+        return databaseClient.sql("""
+                        SELECT uuid, name, status, secretariat_id, expected_start, expected_therm
+                          FROM project
+                         WHERE uuid = :uuid
+                        """)
+                .bind("uuid", uuid.toString())
+                .map(ProjectDeadlineRepository::toPO)
+                .one();
+    }
+
+    private static ProjectDeadlinePO toPO(Row row) {
+        return new ProjectDeadlinePO(
+                UUID.fromString(row.get("uuid", String.class)),
+                row.get("name", String.class),
+                row.get("status", String.class),
+                row.get("secretariat_id", Long.class),
+                row.get("expected_start", LocalDateTime.class),
+                row.get("expected_therm", LocalDateTime.class));
+    }
+}
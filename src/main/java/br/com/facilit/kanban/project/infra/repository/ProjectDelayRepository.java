@@ -0,0 +1,54 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectDelayPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Repositório reativo do relatório de atrasos por secretaria.
+ *
+ * <p>Os agregados saem de uma única consulta agrupada sobre {@code project_view}, com o atraso e
+ * o percentual de tempo restante calculados pelas mesmas funções usadas nas demais leituras.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectDelayRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Agregados de atraso de todas as secretarias.
+     *
+     * @return {@link Flux} com uma linha por secretaria, em ordem de secretaria
+     */
+    public Flux<ProjectDelayPO> findBySecretariat() {
+        return databaseClient.sql("""
+                        SELECT secretariat_id,
+                               count(*) AS total_projects,
+                               count(*) FILTER (WHERE status = 'ATRASADO') AS overdue_projects,
+                               count(*) FILTER (WHERE days_late > 0) AS late_projects,
+                               COALESCE(sum(days_late), 0) AS total_days_late,
+                               round(avg(days_late), 2)::double precision AS average_days_late,
+                               round(avg(percentage_of_time_remaining)
+                                     FILTER (WHERE status IN ('PLANEJADO', 'EM_ANDAMENTO', 'ATRASADO'))::numeric, 2)
+                                     ::double precision AS average_percentage_of_time_remaining
+                          FROM project_view
+                         WHERE status <> 'CANCELADO'
+                         GROUP BY secretariat_id
+                         ORDER BY secretariat_id
+                        """)
+                .map(row -> new ProjectDelayPO(
+                        row.get("secretariat_id", Long.class),
+                        row.get("total_projects", Long.class),
+                        row.get("overdue_projects", Long.class),
+                        row.get("late_projects", Long.class),
+                        row.get("total_days_late", Long.class),
+                        row.get("average_days_late", Double.class),
+                        row.get("average_percentage_of_time_remaining", Double.class)))
+                .all();
+    }
+}
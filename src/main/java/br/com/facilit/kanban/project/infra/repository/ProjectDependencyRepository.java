@@ -0,0 +1,194 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectDependencyPO;
+import br.com.facilit.kanban.project.domain.po.ProjectGraphEdgePO;
+import br.com.facilit.kanban.project.domain.po.ProjectGraphNodePO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repositório reativo da tabela de relação {@code project_dependency}.
+ *
+ * <h3>Consultas customizadas</h3>
+ * <ul>
+ *     <li>{@link #lock()} — serializa as gravações de dependências até o fim da transação</li>
+ *     <li>{@link #add(Long, Collection)} — {@code INSERT ... SELECT} das dependências</li>
+ *     <li>{@link #remove(Long, Collection)} — {@code DELETE ... = ANY} das dependências</li>
+ *     <li>{@link #hasCycle(Long)} — verifica, por consulta recursiva, se o projeto depende de si mesmo</li>
+ *     <li>{@link #findDependencies(UUID)} — dependências diretas do projeto</li>
+ *     <li>{@link #findNodes(Long)} e {@link #findEdges(Long)} — grafo de uma secretaria</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectDependencyRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Obtém o advisory lock de transação das dependências. Sem ele, duas transações
+     * concorrentes poderiam gravar A → B e B → A, cada uma sem enxergar a outra.
+     *
+     * @return {@link Mono} vazio após obter o lock
+     */
+    public Mono<Void> lock() {
+        return databaseClient.sql("SELECT pg_advisory_xact_lock(hashtext('project_dependency'))")
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * Grava as dependências do projeto. UUIDs inexistentes, o próprio projeto e dependências já
+     * existentes são ignorados.
+     *
+     * @param projectId identificador interno do projeto dependente
+     * @param dependsOn UUIDs dos projetos predecessores
+     * @return {@link Mono} com a quantidade de dependências criadas
+     */
+    public Mono<Long> add(Long projectId, Collection<UUID> dependsOn) {
+        return databaseClient.sql("""
+                        INSERT INTO project_dependency (project_id, depends_on_id)
+                        SELECT :projectId, p.id
+                          FROM project p
+                         WHERE p.uuid = ANY(CAST(:dependsOn AS varchar[]))
+                           AND p.id <> :projectId
+                        ON CONFLICT DO NOTHING
+                        """)
+                .bind("projectId", projectId)
+                .bind("dependsOn", toArray(dependsOn))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Remove as dependências do projeto.
+     *
+     * @param projectId identificador interno do projeto dependente
+     * @param dependsOn UUIDs dos projetos predecessores
+     * @return {@link Mono} com a quantidade de dependências removidas
+     */
+    public Mono<Long> remove(Long projectId, Collection<UUID> dependsOn) {
+        return databaseClient.sql("""
+                        DELETE FROM project_dependency d
+                         USING project p
+                         WHERE d.project_id = :projectId
+                           AND d.depends_on_id = p.id
+                           AND p.uuid = ANY(CAST(:dependsOn AS varchar[]))
+                        """)
+                .bind("projectId", projectId)
+                .bind("dependsOn", toArray(dependsOn))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Verifica se o projeto alcança a si mesmo seguindo as dependências.
+     *
+     * @param projectId identificador interno do projeto
+     * @return {@link Mono} com {@code true} se houver ciclo
+     */
+    public Mono<Boolean> hasCycle(Long projectId) {
+        return databaseClient.sql("""
+                        WITH RECURSIVE upstream(id) AS (
+                            SELECT depends_on_id FROM project_dependency WHERE project_id = :projectId
+                            UNION
+                            SELECT d.depends_on_id
+                              FROM project_dependency d
+                              JOIN upstream u ON d.project_id = u.id
+                        )
+                        SELECT EXISTS (SELECT 1 FROM upstream WHERE id = :projectId) AS cycle
+                        """)
+                .bind("projectId", projectId)
+                .map(row -> Boolean.TRUE.equals(row.get("cycle", Boolean.class)))
+                .one();
+    }
+
+    /**
+     * Lista as dependências diretas do projeto.
+     *
+     * @param projectUuid UUID do projeto dependente
+     * @return {@link Flux} com os predecessores, em ordem de término previsto
+     */
+    public Flux<ProjectDependencyPO> findDependencies(UUID projectUuid) {
+        return databaseClient.sql("""
+                        SELECT q.uuid, q.name, q.status, q.expected_therm
+                          FROM project p
+                          JOIN project_dependency d ON d.project_id = p.id
+                          JOIN project q ON q.id = d.depends_on_id
+                         WHERE p.uuid = :uuid
+                         ORDER BY q.expected_therm NULLS LAST, q.name
+                        """)
+                .bind("uuid", projectUuid.toString())
+                .map(row -> {
+                    LocalDateTime therm = row.get("expected_therm", LocalDateTime.class);
+                    return new ProjectDependencyPO(
+                            UUID.fromString(row.get("uuid", String.class)),
+                            row.get("name", String.class),
+                            row.get("status", String.class),
+                            therm == null ? null : therm.toInstant(ZoneOffset.UTC));
+                })
+                .all();
+    }
+
+    /**
+     * Projetos da secretaria que entram no grafo: não cancelados e com início e término previstos.
+     *
+     * @param secretariatId secretaria
+     * @return {@link Flux} com os projetos
+     */
+    public Flux<ProjectGraphNodePO> findNodes(Long secretariatId) {
+        return databaseClient.sql("""
+                        SELECT id, uuid, name, status, expected_start, expected_therm
+                          FROM project
+                         WHERE secretariat_id = :secretariatId
+                           AND status <> 'CANCELADO'
+                           AND expected_start IS NOT NULL AND expected_therm IS NOT NULL
+                        """)
+                .bind("secretariatId", secretariatId)
+                .map(row -> new ProjectGraphNodePO(
+                        row.get("id", Long.class),
+                        UUID.fromString(row.get("uuid", String.class)),
+                        row.get("name", String.class),
+                        row.get("status", String.class),
+                        row.get("expected_start", LocalDateTime.class),
+                        row.get("expected_therm", LocalDateTime.class)))
+                .all();
+    }
+
+    /**
+     * Dependências entre projetos da secretaria.
+     *
+     * @param secretariatId secretaria
+     * @return {@link Flux} com as arestas
+     */
+    public Flux<ProjectGraphEdgePO> findEdges(Long secretariatId) {
+        return databaseClient.sql("""
+                        SELECT d.project_id, d.depends_on_id
+                          FROM project_dependency d
+                          JOIN project p ON p.id = d.project_id
+                          JOIN project q ON q.id = d.depends_on_id
+                         WHERE p.secretariat_id = :secretariatId
+                           AND q.secretariat_id = :secretariatId
+                        """)
+                .bind("secretariatId", secretariatId)
+                .map(row -> new ProjectGraphEdgePO(
+                        row.get("project_id", Long.class),
+                        row.get("depends_on_id", Long.class)))
+                .all();
+    }
+
+    private static String[] toArray(Collection<UUID> uuids) {
+        return uuids.stream().map(UUID::toString).distinct().toArray(String[]::new);
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectFlowBucketPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Repositório reativo dos histogramas diários de lead time e cycle time
+ * ({@code project_flow_daily}).
+ *
+ * <p>Os eventos vêm da função {@code project_flow_events}, que lê apenas as partições de
+ * {@code project_status_history} do intervalo pedido. Dias encerrados são consolidados uma
+ * única vez; o período ainda não consolidado é calculado na leitura.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectFlowRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Primeiro dia com transições no histórico de status.
+     *
+     * @return {@link Mono} com o dia, vazio se o histórico estiver vazio
+     */
+    public Mono<Optional<LocalDate>> findFirstDay() {
+        return databaseClient.sql("SELECT min(changed_at)::date AS first_day FROM project_status_history")
+                .map(row -> Optional.ofNullable(row.get("first_day", LocalDate.class)))
+                .one();
+    }
+
+    /**
+     * Consolida o histograma de um dia, substituindo o que houver gravado para ele.
+     * Deve ser chamado dentro de uma transação.
+     *
+     * @param day dia a consolidar
+     * @return {@link Mono} com a quantidade de linhas gravadas
+     */
+    public Mono<Long> rollupDay(LocalDate day) {
+        Mono<Long> clear = databaseClient.sql("DELETE FROM project_flow_daily WHERE day = :day")
+                .bind("day", day)
+                .fetch()
+                .rowsUpdated();
+        Mono<Long> insert = databaseClient.sql("""
+                        INSERT INTO project_flow_daily (day, secretariat_id, metric, bucket, total)
+                        SELECT day, secretariat_id, metric, bucket, count(*)
+                          FROM project_flow_events(CAST(:day AS timestamp), CAST(:day AS timestamp) + INTERVAL '1 day')
+                         GROUP BY day, secretariat_id, metric, bucket
+                        """)
+                .bind("day", day)
+                .fetch()
+                .rowsUpdated();
+        return clear.then(insert);
+    }
+
+    /**
+     * Soma os histogramas do intervalo {@code [from, to)} por secretaria, métrica e bucket.
+     *
+     * <p>Dias anteriores a {@code rolledUpTo} são lidos de {@code project_flow_daily}; o restante
+     * do intervalo é calculado a partir do histórico de status.</p>
+     *
+     * @param secretariatId secretaria, ou {@code null} para todas
+     * @param from primeiro dia do intervalo
+     * @param to dia seguinte ao último do intervalo
+     * @param rolledUpTo primeiro dia ainda não consolidado
+     * @return {@link Flux} com os buckets não vazios
+     */
+    public Flux<ProjectFlowBucketPO> findHistogram(Long secretariatId, LocalDate from, LocalDate to, LocalDate rolledUpTo) {
+        LocalDate split = rolledUpTo.isBefore(from) ? from : rolledUpTo.isAfter(to) ? to : rolledUpTo;
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        SELECT secretariat_id, metric, bucket, sum(total) AS total
+                          FROM (SELECT secretariat_id, metric, bucket, total
+                                  FROM project_flow_daily
+                                 WHERE day >= :from AND day < :split
+                                 UNION ALL
+                                SELECT secretariat_id, metric, bucket, 1
+                                  FROM project_flow_events(CAST(:split AS timestamp), CAST(:to AS timestamp))) AS f
+                         WHERE CAST(:secretariatId AS bigint) IS NULL
+                            OR f.secretariat_id = :secretariatId
+                         GROUP BY secretariat_id, metric, bucket
+                         ORDER BY secretariat_id, metric, bucket
+                        """)
+                .bind("from", from)
+                .bind("split", split)
+                .bind("to", to);
+        spec = secretariatId == null
+                ? spec.bindNull("secretariatId", Long.class)
+                : spec.bind("secretariatId", secretariatId);
+        return spec
+                .map(row -> new ProjectFlowBucketPO(
+                        row.get("secretariat_id", Long.class),
+                        row.get("metric", String.class),
+                        row.get("bucket", Integer.class),
+                        row.get("total", Long.class)
+                ))
+                .all();
+    }
+}
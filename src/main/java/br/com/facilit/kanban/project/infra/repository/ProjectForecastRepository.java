@@ -0,0 +1,58 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectThroughputPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+/**
+ * Repositório reativo do throughput usado pela previsão de entrega.
+ *
+ * <p>As conclusões são lidas de {@code project_status_history} pelo índice parcial
+ * {@code idx_project_status_history_done}, restrito às transições para {@code CONCLUIDO}. As linhas
+ * {@code CONCLUIDO -> CONCLUIDO}, gravadas quando um projeto concluído troca de secretaria, não são
+ * conclusões e ficam de fora.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectForecastRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Conclusões por dia de uma secretaria, incluindo os dias sem conclusões.
+     *
+     * @param secretariatId secretaria
+     * @param from primeiro dia (inclusivo)
+     * @param toExclusive dia seguinte ao último
+     * @return {@link Flux} com um item por dia, em ordem de dia
+     */
+    public Flux<ProjectThroughputPO> findDailyThroughput(Long secretariatId, LocalDate from, LocalDate toExclusive) {
+        return databaseClient.sql("""
+                        SELECT CAST(d.day AS date) AS day, COALESCE(c.total, 0) AS total
+                          FROM generate_series(CAST(:from AS timestamp), CAST(:to AS timestamp) - interval '1 day',
+                                               interval '1 day') AS d(day)
+                          LEFT JOIN (SELECT date_trunc('day', changed_at) AS day, count(*) AS total
+                                       FROM project_status_history
+                                      WHERE secretariat_id = :secretariatId
+                                        AND to_status = 'CONCLUIDO'
+                                        AND from_status IS DISTINCT FROM 'CONCLUIDO'
+                                        AND changed_at >= CAST(:from AS timestamp)
+                                        AND changed_at < CAST(:to AS timestamp)
+                                      GROUP BY 1) AS c ON c.day = d.day
+                         ORDER BY d.day
+                        """)
+                .bind("secretariatId", secretariatId)
+                .bind("from", from.atStartOfDay())
+                .bind("to", toExclusive.atStartOfDay())
+                .map(row -> new ProjectThroughputPO(
+                        row.get("day", LocalDate.class),
+                        row.get("total", Long.class).intValue()))
+                .all();
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectOverduePO;
+import br.com.facilit.kanban.shared.rank.FractionalRank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repositório reativo dos projetos vencidos: término previsto no passado e status
+ * diferente de {@code CONCLUIDO}, {@code CANCELADO} e {@code ATRASADO}.
+ *
+ * <p>As consultas usam o índice parcial {@code idx_project_overdue}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectOverdueRepository {
+
+    /** Responsável registrado no histórico de status pelas movimentações automáticas. */
+    public static final String ACTOR = "system:overdue";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Move um lote de projetos vencidos para {@code ATRASADO}, em um único comando.
+     *
+     * <p>O lote é selecionado com {@code FOR UPDATE SKIP LOCKED}: linhas bloqueadas por outro
+     * lote ou por uma edição em andamento são puladas, permitindo que vários lotes rodem em
+     * paralelo sem se bloquear. As transições são registradas em {@code project_status_history}
+     * no mesmo comando. Deve ser chamado dentro de uma transação.</p>
+     *
+     * <p>Os cards entram no fim da coluna {@code ATRASADO}, na ordem do término previsto: cada um
+     * recebe a chave {@code rank} informada seguida da sua posição no lote, em largura fixa. Como
+     * todas começam pela chave informada, ficam após o último card da coluna.</p>
+     *
+     * @param size quantidade máxima de projetos do lote
+     * @param rank chave após o último card da coluna, obtida com
+     *             {@link ProjectRankRepository#appendRank(String)}
+     * @return {@link Flux} com os projetos movidos e seus status anteriores
+     */
+    public Flux<ProjectOverduePO> moveChunk(int size, String rank) {
+        return databaseClient.sql("""
+                        WITH due AS (
+                            SELECT id, status AS old_status, expected_therm
+                              FROM project
+                             WHERE expected_therm < now() AT TIME ZONE 'UTC'
+                               AND status NOT IN ('CONCLUIDO', 'CANCELADO', 'ATRASADO')
+                             ORDER BY expected_therm, id
+                             LIMIT :size
+                               FOR UPDATE SKIP LOCKED
+                        ), positioned AS (
+                            SELECT id, old_status,
+                                   row_number() OVER (ORDER BY expected_therm, id) AS position
+                              FROM due
+                        ), moved AS (
+                            UPDATE project p
+                               SET status = 'ATRASADO',
+                                   rank = CAST(:rank AS varchar) || lpad(positioned.position::text, :width, '0') || 'V',
+                                   updated_at = now()
+                              FROM positioned
+                             WHERE p.id = positioned.id
+                            RETURNING p.id, p.secretariat_id, positioned.old_status, p.expected_therm
+                        ), history AS (
+                            INSERT INTO project_status_history (project_id, secretariat_id, from_status, to_status, actor)
+                            SELECT id, secretariat_id, old_status, 'ATRASADO', :actor
+                              FROM moved
+                        )
+                        SELECT id, secretariat_id, old_status, expected_therm FROM moved
+                        """)
+                .bind("size", size)
+                .bind("rank", rank)
+                .bind("width", FractionalRank.SPREAD_WIDTH)
+                .bind("actor", ACTOR)
+                .map(row -> new ProjectOverduePO(
+                        row.get("id", Long.class),
+                        row.get("secretariat_id", Long.class),
+                        row.get("old_status", String.class),
+                        row.get("expected_therm", Instant.class)
+                ))
+                .all();
+    }
+
+    /**
+     * Término previsto do projeto vencido mais antigo que ainda não foi movido.
+     *
+     * @return {@link Mono} com o término previsto, vazio se não houver projetos vencidos
+     */
+    public Mono<Optional<Instant>> findOldestOverdue() {
+        return databaseClient.sql("""
+                        SELECT min(expected_therm) AS oldest
+                          FROM project
+                         WHERE expected_therm < now() AT TIME ZONE 'UTC'
+                           AND status NOT IN ('CONCLUIDO', 'CANCELADO', 'ATRASADO')
+                        """)
+                .map(row -> Optional.ofNullable(row.get("oldest", Instant.class)))
+                .one();
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectRankPO;
+import br.com.facilit.kanban.shared.rank.FractionalRank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repositório reativo da ordem dos cards ({@code project.rank}).
+ *
+ * <p>Reordenações e rebalanceamentos de uma mesma coluna são coordenados por um advisory
+ * lock de transação por status: reordenações usam o modo compartilhado (podem ocorrer em
+ * paralelo, cada uma grava apenas a sua linha) e o rebalanceamento usa o modo exclusivo,
+ * pois reescreve a coluna inteira. Trocas de status também usam o modo compartilhado na
+ * coluna de destino ({@link #appendRank(String)}).</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectRankRepository {
+
+    private static final String LOCK_PREFIX = "project_rank:";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Busca a posição dos projetos informados.
+     *
+     * @param uuids UUIDs dos projetos
+     * @return {@link Flux} com a posição de cada projeto encontrado
+     */
+    public Flux<ProjectRankPO> findByUuids(Collection<UUID> uuids) {
+        return databaseClient.sql("""
+                        SELECT id, uuid, status, rank
+                          FROM project
+                         WHERE uuid = ANY(CAST(:uuids AS varchar[]))
+                        """)
+                .bind("uuids", uuids.stream().map(UUID::toString).distinct().toArray(String[]::new))
+                .map(row -> new ProjectRankPO(
+                        row.get("id", Long.class),
+                        UUID.fromString(row.get("uuid", String.class)),
+                        row.get("status", String.class),
+                        row.get("rank", String.class)
+                ))
+                .all();
+    }
+
+    /**
+     * Maior chave da coluna, usada para inserir cards no fim.
+     *
+     * @param status status (coluna)
+     * @return {@link Mono} com a maior chave, ou vazio se a coluna estiver vazia
+     */
+    public Mono<String> findLastRank(String status) {
+        return databaseClient.sql("SELECT rank FROM project WHERE status = :status ORDER BY rank DESC LIMIT 1")
+                .bind("status", status)
+                .map(row -> row.get("rank", String.class))
+                .one();
+    }
+
+    /**
+     * Bloqueia a coluna em modo compartilhado, como uma reordenação, e gera uma chave após o
+     * último card, para um card que entra na coluna. Deve ser chamado dentro de uma transação.
+     *
+     * @param status status (coluna) de destino
+     * @return {@link Mono} com a nova chave
+     */
+    public Mono<String> appendRank(String status) {
+        return lockColumnShared(status)
+                .then(findLastRank(status))
+                .map(last -> FractionalRank.between(last, null))
+                .defaultIfEmpty(FractionalRank.spread(1));
+    }
+
+    /**
+     * Grava a nova chave do card, desde que ele continue na coluna esperada.
+     *
+     * @param id identificador interno do projeto
+     * @param status coluna esperada
+     * @param rank nova chave
+     * @return {@link Mono} com a quantidade de linhas alteradas (0 se o card mudou de coluna)
+     */
+    public Mono<Long> updateRank(Long id, String status, String rank) {
+        return databaseClient.sql("""
+                        UPDATE project
+                           SET rank = :rank, updated_at = now()
+                         WHERE id = :id AND status = :status
+                        """)
+                .bind("rank", rank)
+                .bind("id", id)
+                .bind("status", status)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Bloqueia a coluna em modo compartilhado até o fim da transação (reordenação).
+     *
+     * @param status status (coluna)
+     * @return {@link Mono} vazio após obter o lock
+     */
+    public Mono<Void> lockColumnShared(String status) {
+        return databaseClient.sql("SELECT pg_advisory_xact_lock_shared(hashtext(:key))")
+                .bind("key", LOCK_PREFIX + status)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * Bloqueia a coluna em modo exclusivo até o fim da transação (rebalanceamento).
+     *
+     * @param status status (coluna)
+     * @return {@link Mono} vazio após obter o lock
+     */
+    public Mono<Void> lockColumnExclusive(String status) {
+        return databaseClient.sql("SELECT pg_advisory_xact_lock(hashtext(:key))")
+                .bind("key", LOCK_PREFIX + status)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * Colunas que possuem alguma chave maior que o limite informado.
+     *
+     * @param maxLength tamanho máximo aceito para uma chave
+     * @return {@link Flux} com os status a rebalancear
+     */
+    public Flux<String> findStatusesToRebalance(int maxLength) {
+        return databaseClient.sql("SELECT DISTINCT status FROM project WHERE length(rank) > :maxLength")
+                .bind("maxLength", maxLength)
+                .map(row -> row.get("status", String.class))
+                .all();
+    }
+
+    /**
+     * Redistribui as chaves da coluna em intervalos regulares, preservando a ordem atual.
+     * Apenas as linhas cuja chave muda são gravadas.
+     *
+     * @param status status (coluna)
+     * @return {@link Mono} com a quantidade de cards regravados
+     */
+    public Mono<Long> rebalance(String status) {
+        return databaseClient.sql("""
+                        UPDATE project p
+                           SET rank = r.rank
+                          FROM (SELECT id,
+                                       lpad(row_number() OVER (ORDER BY rank, id)::text, :width, '0') || 'V' AS rank
+                                  FROM project
+                                 WHERE status = :status) r
+                         WHERE p.id = r.id
+                           AND p.rank <> r.rank
+                        """)
+                .bind("width", FractionalRank.SPREAD_WIDTH)
+                .bind("status", status)
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -4,8 +4,10 @@ import br.com.facilit.kanban.project.domain.po.ProjectPO;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -18,9 +20,18 @@ import java.util.UUID;
  *
  * <p>As operações retornam {@link Mono}, garantindo um fluxo assíncrono e não bloqueante.</p>
  *
+ * <p>As leituras usam a visão {@code project_view}, que calcula {@code days_late} e
+ * {@code percentage_of_time_remaining} no momento da consulta; as escritas continuam
+ * na tabela {@code project}.</p>
+ *
  * <h3>Consultas customizadas</h3>
  * <ul>
  *     <li>{@link #findByUuid(UUID)} — Recupera um projeto através do seu UUID.</li>
+ *     <li>{@link #findCurrentById(Long)} — Relê um projeto recém-gravado com os valores calculados.</li>
+ *     <li>{@link #findByUuidForUpdate(String)} — Recupera um projeto bloqueando a linha até o fim da transação.</li>
+ *     <li>{@link #updateStatus(String, String, String, String)} — Altera o status, posiciona o card na coluna de destino e registra a transição, em um único comando.</li>
+ *     <li>{@link #findChangedAfter(long, long, long, int)} — Projetos alterados após um token de sincronização.</li>
+ *     <li>{@link #findTimeline(LocalDateTime, LocalDateTime)} — Projetos cujo período previsto se sobrepõe a uma janela.</li>
  * </ul>
  */
 @Repository
@@ -32,6 +43,110 @@ public interface ProjectRepository extends ReactiveCrudRepository<ProjectPO, Lon
      * @param uuid identificador único do projeto
      * @return {@link Mono} contendo o projeto encontrado, ou vazio caso não exista
      */
-    @Query("SELECT * FROM project WHERE uuid = :uuid")
+    @Query("SELECT * FROM project_view WHERE uuid = :uuid")
     Mono<ProjectPO> findByUuid(String uuid);
+
+    /**
+     * Busca um projeto pelo identificador interno na visão {@code project_view}, com o atraso e o
+     * percentual de tempo restante calculados. Usado para montar a resposta após uma gravação.
+     *
+     * @param id identificador interno do projeto
+     * @return {@link Mono} contendo o projeto encontrado, ou vazio caso não exista
+     */
+    @Query("SELECT * FROM project_view WHERE id = :id")
+    Mono<ProjectPO> findCurrentById(Long id);
+
+    /**
+     * Busca um projeto pelo UUID com {@code FOR UPDATE}, serializando alterações concorrentes
+     * do mesmo projeto. Deve ser chamado dentro de uma transação.
+     *
+     * @param uuid identificador único do projeto
+     * @return {@link Mono} contendo o projeto encontrado, ou vazio caso não exista
+     */
+    @Query("SELECT * FROM project_view WHERE uuid = :uuid FOR UPDATE")
+    Mono<ProjectPO> findByUuidForUpdate(String uuid);
+
+    /**
+     * Altera apenas o status do projeto e registra a transição em {@code project_status_history},
+     * em um único comando. O {@code RETURNING} usa as mesmas funções de {@code project_view}
+     * para devolver os valores calculados.
+     *
+     * <p>O status anterior é lido no mesmo comando; o chamador deve ter bloqueado a linha com
+     * {@link #findByUuidForUpdate(String)}. Nada é registrado quando o status não muda.</p>
+     *
+     * <p>Quando o card muda de coluna, recebe a chave {@code rank} informada, gerada com
+     * {@link ProjectRankRepository#appendRank(String)} para colocá-lo no fim da coluna de destino;
+     * se o status não muda, a posição atual é mantida.</p>
+     *
+     * @param uuid identificador único do projeto
+     * @param status novo status
+     * @param rank chave do card na coluna de destino
+     * @param actor responsável pela alteração, ou {@code null} se desconhecido
+     * @return {@link Mono} com o projeto atualizado, ou vazio caso não exista
+     */
+    @Query("""
+            WITH changed AS (
+                UPDATE project p
+                   SET status = :status,
+                       rank = CASE WHEN old.status = :status THEN p.rank
+                                   ELSE CAST(:rank AS varchar) COLLATE "C" END,
+                       updated_at = now()
+                  FROM (SELECT id, status FROM project WHERE uuid = :uuid) old
+                 WHERE p.id = old.id
+                RETURNING p.*, old.status AS old_status
+            ), history AS (
+                INSERT INTO project_status_history (project_id, secretariat_id, from_status, to_status, actor)
+                SELECT id, secretariat_id, old_status, status, :actor
+                  FROM changed
+                 WHERE old_status IS DISTINCT FROM status
+            )
+            SELECT id, secretariat_id, name, status, uuid, expected_start, expected_therm, start_actual, thermal_actual,
+                   project_days_late(expected_therm, thermal_actual) AS days_late,
+                   project_percentage_of_time_remaining(expected_start, expected_therm, start_actual, thermal_actual)
+                       AS percentage_of_time_remaining,
+                   created_at, updated_at, rank, change_seq
+              FROM changed
+            """)
+    Mono<ProjectPO> updateStatus(String uuid, String status, String rank, String actor);
+
+    /**
+     * Lista os projetos alterados após a posição ({@code changeSeq}, {@code id}), em ordem de alteração.
+     *
+     * <p>Apenas alterações de transações anteriores a {@code horizon} são devolvidas; ver
+     * {@link ProjectChangeRepository#horizon()}. Usa o índice {@code idx_project_change_seq}.</p>
+     *
+     * @param changeSeq token da última alteração já recebida pelo cliente
+     * @param id desempate do token, para alterações da mesma transação
+     * @param horizon limite superior (exclusivo) dos tokens devolvidos
+     * @param limit quantidade máxima de projetos
+     * @return {@link Flux} com os projetos alterados
+     */
+    @Query("""
+            SELECT * FROM project_view
+             WHERE (change_seq, id) > (:changeSeq, :id)
+               AND change_seq < :horizon
+             ORDER BY change_seq, id
+             LIMIT :limit
+            """)
+    Flux<ProjectPO> findChangedAfter(long changeSeq, long id, long horizon, int limit);
+
+    /**
+     * Lista os projetos cujo período previsto [{@code expected_start}, {@code expected_therm}] se
+     * sobrepõe à janela [{@code from}, {@code to}), em ordem de início previsto.
+     *
+     * <p>A expressão do intervalo é a mesma do índice GiST {@code idx_project_period}, que atende
+     * o operador {@code &&}; projetos sem início ou término previsto não são devolvidos.</p>
+     *
+     * @param from início da janela (inclusivo)
+     * @param to fim da janela (exclusivo)
+     * @return {@link Flux} com os projetos da janela
+     */
+    @Query("""
+            SELECT * FROM project_view
+             WHERE expected_start IS NOT NULL AND expected_therm IS NOT NULL
+               AND tsrange(expected_start, GREATEST(expected_start, expected_therm), '[]')
+                   && tsrange(CAST(:from AS timestamp), CAST(:to AS timestamp), '[)')
+             ORDER BY expected_start, id
+            """)
+    Flux<ProjectPO> findTimeline(LocalDateTime from, LocalDateTime to);
 }
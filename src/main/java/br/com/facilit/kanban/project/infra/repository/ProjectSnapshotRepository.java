@@ -0,0 +1,64 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectSnapshotRowPO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Repositório reativo das colunas de {@code project} mantidas no snapshot colunar em memória.
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectSnapshotRepository {
+
+    private static final String COLUMNS = """
+            SELECT uuid, status, secretariat_id, expected_start, expected_therm, start_actual, thermal_actual
+              FROM project
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Todos os projetos, para a carga completa do snapshot.
+     *
+     * @return {@link Flux} com um item por projeto
+     */
+    public Flux<ProjectSnapshotRowPO> findAll() {
+        return databaseClient.sql(COLUMNS)
+                .map(ProjectSnapshotRepository::read)
+                .all();
+    }
+
+    /**
+     * Estado atual dos projetos informados; UUIDs removidos não devolvem linhas.
+     *
+     * @param uuids UUIDs dos projetos
+     * @return {@link Flux} com um item por projeto existente
+     */
+    public Flux<ProjectSnapshotRowPO> findByUuids(Collection<UUID> uuids) {
+        return databaseClient.sql(COLUMNS + " WHERE uuid = ANY(CAST(:uuids AS varchar[]))")
+                .bind("uuids", uuids.stream().map(UUID::toString).distinct().toArray(String[]::new))
+                .map(ProjectSnapshotRepository::read)
+                .all();
+    }
+
+    private static ProjectSnapshotRowPO read(Readable row) {
+        return new ProjectSnapshotRowPO(
+                UUID.fromString(row.get("uuid", String.class)),
+                row.get("status", String.class),
+                row.get("secretariat_id", Long.class),
+                row.get("expected_start", LocalDateTime.class),
+                row.get("expected_therm", LocalDateTime.class),
+                row.get("start_actual", LocalDateTime.class),
+                row.get("thermal_actual", LocalDateTime.class));
+    }
+}
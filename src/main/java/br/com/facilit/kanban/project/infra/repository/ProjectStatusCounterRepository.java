@@ -0,0 +1,178 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectStatusCounterPO;
+import br.com.facilit.kanban.project.domain.po.ProjectStatusCounterSnapshotPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Repositório reativo da tabela {@code project_status_counter}.
+ *
+ * <p>Os contadores são ajustados com {@code INSERT ... ON CONFLICT DO UPDATE}, somando
+ * o delta ao valor atual. Deve ser chamado na mesma transação que altera {@code project},
+ * para que contador e projeto nunca divirjam. Entradas em uma coluna passam por
+ * {@link #admit(Long, String)}, que aplica o limite de WIP da coluna.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectStatusCounterRepository {
+
+    private static final Comparator<Object[]> KEY_ORDER = Comparator
+            .<Object[], Long>comparing(key -> (Long) key[0])
+            .thenComparing(key -> (String) key[1]);
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Soma {@code delta} ao contador de (secretaria, status).
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     * @param delta valor a somar (negativo para decrementar)
+     * @return {@link Mono} vazio ao concluir
+     */
+    public Mono<Void> increment(Long secretariatId, String status, long delta) {
+        return databaseClient.sql("""
+                        INSERT INTO project_status_counter (secretariat_id, status, total)
+                        VALUES (:secretariatId, :status, :delta)
+                        ON CONFLICT (secretariat_id, status) DO UPDATE
+                            SET total = project_status_counter.total + EXCLUDED.total
+                        """)
+                .bind("secretariatId", secretariatId)
+                .bind("status", status)
+                .bind("delta", delta)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * Aplica vários deltas de uma vez, com um único comando.
+     *
+     * <p>As linhas são bloqueadas na ordem (secretaria, status), a mesma de
+     * {@link #move(Long, String, Long, String)}, evitando deadlock com movimentos simultâneos.
+     * Não consulta os limites de WIP: é usado por transições do sistema, como a movimentação
+     * de projetos vencidos para {@code ATRASADO}.</p>
+     *
+     * @param deltas contadores com o valor a somar em {@code total}
+     * @return {@link Mono} vazio ao concluir
+     */
+    public Mono<Void> applyDeltas(Collection<ProjectStatusCounterPO> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+        List<ProjectStatusCounterPO> ordered = deltas.stream()
+                .sorted(Comparator.comparing(ProjectStatusCounterPO::secretariatId)
+                        .thenComparing(ProjectStatusCounterPO::status))
+                .toList();
+        return databaseClient.sql("""
+                        INSERT INTO project_status_counter (secretariat_id, status, total)
+                        SELECT d.secretariat_id, d.status, d.delta
+                          FROM unnest(CAST(:secretariatIds AS bigint[]), CAST(:statuses AS varchar[]),
+                                      CAST(:deltas AS bigint[])) WITH ORDINALITY AS d(secretariat_id, status, delta, ord)
+                         ORDER BY d.ord
+                        ON CONFLICT (secretariat_id, status) DO UPDATE
+                            SET total = project_status_counter.total + EXCLUDED.total
+                        """)
+                .bind("secretariatIds", ordered.stream().map(ProjectStatusCounterPO::secretariatId).toArray(Long[]::new))
+                .bind("statuses", ordered.stream().map(ProjectStatusCounterPO::status).toArray(String[]::new))
+                .bind("deltas", ordered.stream().map(ProjectStatusCounterPO::total).toArray(Long[]::new))
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * Admite um projeto na coluna (secretaria, status), incrementando o contador apenas
+     * se o limite de WIP da tabela {@code wip_limit} não for ultrapassado.
+     *
+     * <p>É a garantia entre instâncias: o upsert bloqueia a linha do contador, serializando
+     * admissões concorrentes da mesma coluna, e lê o limite na mesma instrução.</p>
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     * @return {@link Mono} com {@code true} se o projeto foi admitido
+     */
+    public Mono<Boolean> admit(Long secretariatId, String status) {
+        return databaseClient.sql("""
+                        INSERT INTO project_status_counter (secretariat_id, status, total)
+                        SELECT :secretariatId, :status, 1
+                         WHERE COALESCE((SELECT w.max_projects FROM wip_limit w
+                                          WHERE w.secretariat_id = :secretariatId AND w.status = :status), 1) >= 1
+                        ON CONFLICT (secretariat_id, status) DO UPDATE
+                            SET total = project_status_counter.total + 1
+                          WHERE project_status_counter.total < COALESCE((SELECT w.max_projects FROM wip_limit w
+                                          WHERE w.secretariat_id = EXCLUDED.secretariat_id
+                                            AND w.status = EXCLUDED.status), 2147483647)
+                        """)
+                .bind("secretariatId", secretariatId)
+                .bind("status", status)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    /**
+     * Move um projeto entre contadores: admite no destino (respeitando o limite de WIP) e
+     * decrementa a origem. Não faz nada quando origem e destino são iguais.
+     *
+     * <p>As duas linhas são sempre bloqueadas na mesma ordem (secretaria, status), evitando
+     * deadlock entre movimentos opostos simultâneos. Se o destino recusar, o chamador deve
+     * desfazer a transação.</p>
+     *
+     * @param fromSecretariatId secretaria de origem
+     * @param fromStatus status de origem
+     * @param toSecretariatId secretaria de destino
+     * @param toStatus status de destino
+     * @return {@link Mono} com {@code true} se o projeto foi admitido no destino
+     */
+    public Mono<Boolean> move(Long fromSecretariatId, String fromStatus, Long toSecretariatId, String toStatus) {
+        if (Objects.equals(fromSecretariatId, toSecretariatId) && Objects.equals(fromStatus, toStatus)) {
+            return Mono.just(Boolean.TRUE);
+        }
+        Mono<Void> release = increment(fromSecretariatId, fromStatus, -1);
+        Mono<Boolean> admit = admit(toSecretariatId, toStatus);
+        return KEY_ORDER.compare(new Object[]{fromSecretariatId, fromStatus}, new Object[]{toSecretariatId, toStatus}) < 0
+                ? release.then(admit)
+                : admit.flatMap(admitted -> admitted ? release.thenReturn(Boolean.TRUE) : Mono.just(Boolean.FALSE));
+    }
+
+    /**
+     * Lê todos os contadores e o snapshot usado pela leitura, em um único comando.
+     *
+     * <p>O snapshot permite decidir, pelo id da transação de cada notificação, se a alteração
+     * notificada já está contida nos totais lidos. O {@code LEFT JOIN} garante uma linha mesmo
+     * com a tabela vazia.</p>
+     *
+     * @return {@link Mono} com os contadores e o snapshot da leitura
+     */
+    public Mono<ProjectStatusCounterSnapshotPO> findAllWithSnapshot() {
+        return databaseClient.sql("""
+                        SELECT s.snapshot, c.secretariat_id, c.status, c.total
+                          FROM (SELECT pg_current_snapshot()::text AS snapshot) s
+                          LEFT JOIN project_status_counter c ON true
+                        """)
+                .map(row -> new SnapshotRow(
+                        row.get("snapshot", String.class),
+                        row.get("secretariat_id") == null ? null : new ProjectStatusCounterPO(
+                                row.get("secretariat_id", Long.class),
+                                row.get("status", String.class),
+                                row.get("total", Long.class))))
+                .all()
+                .collectList()
+                .map(rows -> new ProjectStatusCounterSnapshotPO(
+                        rows.get(0).snapshot(),
+                        rows.stream().map(SnapshotRow::counter).filter(Objects::nonNull).toList()));
+    }
+
+    private record SnapshotRow(String snapshot, ProjectStatusCounterPO counter) {}
+}
@@ -0,0 +1,104 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Repositório reativo da tabela particionada {@code project_status_history}.
+ *
+ * <p>A troca de status ({@link ProjectRepository#updateStatus(String, String, String, String)}) e a
+ * tarefa de projetos vencidos registram a transição no mesmo comando da alteração; este
+ * repositório atende os demais fluxos e a manutenção das partições mensais.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectStatusHistoryRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Registra uma transição de status ou de secretaria. Nada é gravado quando nenhum dos dois muda.
+     *
+     * @param projectId identificador interno do projeto
+     * @param fromSecretariatId secretaria anterior, ou {@code null} na criação
+     * @param secretariatId secretaria do projeto após a alteração
+     * @param fromStatus status anterior, ou {@code null} na criação
+     * @param toStatus novo status
+     * @param actor responsável pela alteração, ou {@code null} se desconhecido
+     * @return {@link Mono} vazio ao concluir
+     */
+    public Mono<Void> append(Long projectId, Long fromSecretariatId, Long secretariatId,
+                             String fromStatus, String toStatus, String actor) {
+        if (fromStatus != null && Objects.equals(fromStatus, toStatus) && Objects.equals(fromSecretariatId, secretariatId)) {
+            return Mono.empty();
+        }
+        Long movedFrom = Objects.equals(fromSecretariatId, secretariatId) ? null : fromSecretariatId;
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        INSERT INTO project_status_history
+                               (project_id, secretariat_id, from_secretariat_id, from_status, to_status, actor)
+                        VALUES (:projectId, :secretariatId, :fromSecretariatId, :fromStatus, :toStatus, :actor)
+                        """)
+                .bind("projectId", projectId)
+                .bind("secretariatId", secretariatId)
+                .bind("toStatus", toStatus);
+        spec = movedFrom == null
+                ? spec.bindNull("fromSecretariatId", Long.class)
+                : spec.bind("fromSecretariatId", movedFrom);
+        spec = fromStatus == null ? spec.bindNull("fromStatus", String.class) : spec.bind("fromStatus", fromStatus);
+        spec = actor == null ? spec.bindNull("actor", String.class) : spec.bind("actor", actor);
+        return spec
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * Cria, se ainda não existir, a partição do mês que contém {@code month}.
+     *
+     * <p>Linhas do mês que já estejam na partição padrão são movidas para a nova partição na
+     * mesma transação.</p>
+     *
+     * @param month qualquer dia do mês desejado
+     * @return {@link Mono} com o nome da partição
+     */
+    public Mono<String> createPartition(LocalDate month) {
+        return databaseClient.sql("SELECT project_status_history_create_partition(:month) AS partition_name")
+                .bind("month", month)
+                .map(row -> row.get("partition_name", String.class))
+                .one();
+    }
+
+    /**
+     * Conta as linhas da partição padrão, que deve permanecer vazia enquanto as partições
+     * mensais são criadas com antecedência.
+     *
+     * @return {@link Mono} com a quantidade de linhas
+     */
+    public Mono<Long> countDefault() {
+        return databaseClient.sql("SELECT count(*) AS total FROM project_status_history_default")
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    /**
+     * Desanexa as partições mensais que terminam até {@code before}. As tabelas desanexadas
+     * continuam existindo, fora do histórico, para arquivamento ou remoção manual.
+     *
+     * @param before data limite (exclusiva) do fim das partições
+     * @return {@link Flux} com os nomes das partições desanexadas
+     */
+    public Flux<String> detachBefore(LocalDate before) {
+        return databaseClient.sql("SELECT project_status_history_detach_before(:before) AS partition_name")
+                .bind("before", before)
+                .map(row -> row.get("partition_name", String.class))
+                .all();
+    }
+}
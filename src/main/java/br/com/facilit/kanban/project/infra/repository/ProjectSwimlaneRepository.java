@@ -0,0 +1,123 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.po.ProjectSwimlaneRowPO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Repositório reativo de leitura do quadro em raias (secretaria × status).
+ *
+ * <p>A matriz inteira é obtida com um único comando SQL: cada secretaria é combinada com os
+ * status de {@link StatusProject}, na ordem do enum, e cada célula busca seus primeiros cards
+ * com um {@code LEFT JOIN LATERAL ... LIMIT}, resolvido pelo índice
+ * {@code idx_project_secretariat_status_rank} sem ordenar a célula inteira. O total da célula
+ * vem de {@code project_status_counter}, sem {@code count(*)} sobre {@code project}. Os cards são
+ * lidos de {@code project_view}, com o atraso calculado na consulta.</p>
+ *
+ * <h3>Consultas customizadas</h3>
+ * <ul>
+ *     <li>{@link #findSwimlanes(int)} — primeiros cards de todas as células</li>
+ *     <li>{@link #findCell(Long, String, String, Long, int)} — próxima página de uma célula</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectSwimlaneRepository {
+
+    private static final String[] STATUSES = Arrays.stream(StatusProject.values())
+            .map(Enum::name)
+            .toArray(String[]::new);
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Busca os primeiros cards de cada célula do quadro em raias.
+     *
+     * @param limit quantidade máxima de cards por célula
+     * @return {@link Flux} com as linhas, ordenadas por secretaria, status e posição
+     */
+    public Flux<ProjectSwimlaneRowPO> findSwimlanes(int limit) {
+        return databaseClient.sql("""
+                        SELECT l.id AS secretariat_id, l.name AS secretariat_name, s.status,
+                               COALESCE(k.total, 0) AS total,
+                               c.id, c.uuid, c.name, c.expected_start, c.expected_therm, c.days_late, c.rank
+                          FROM secretariat l
+                         CROSS JOIN unnest(CAST(:statuses AS varchar[])) WITH ORDINALITY AS s(status, ord)
+                          LEFT JOIN project_status_counter k ON k.secretariat_id = l.id AND k.status = s.status
+                          LEFT JOIN LATERAL (
+                                SELECT p.id, p.uuid, p.name, p.expected_start, p.expected_therm, p.days_late, p.rank
+                                  FROM project_view p
+                                 WHERE p.secretariat_id = l.id AND p.status = s.status
+                                 ORDER BY p.rank, p.id
+                                 LIMIT :limit
+                          ) c ON true
+                         ORDER BY l.name, l.id, s.ord, c.rank, c.id
+                        """)
+                .bind("statuses", STATUSES)
+                .bind("limit", limit)
+                .map(ProjectSwimlaneRepository::toRow)
+                .all();
+    }
+
+    /**
+     * Busca os cards de uma célula após a posição ({@code rank}, {@code id}).
+     *
+     * @param secretariatId secretaria da célula
+     * @param status status da célula
+     * @param afterRank chave do último card já entregue, ou {@code null} para o início
+     * @param afterId identificador do último card já entregue, ou {@code null} para o início
+     * @param limit quantidade máxima de cards
+     * @return {@link Flux} com os cards, na ordem da coluna
+     */
+    public Flux<ProjectSwimlaneRowPO> findCell(Long secretariatId, String status, String afterRank, Long afterId, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                        SELECT p.secretariat_id, NULL AS secretariat_name, p.status,
+                               COALESCE(k.total, 0) AS total,
+                               p.id, p.uuid, p.name, p.expected_start, p.expected_therm, p.days_late, p.rank
+                          FROM project_view p
+                          LEFT JOIN project_status_counter k ON k.secretariat_id = p.secretariat_id AND k.status = p.status
+                         WHERE p.secretariat_id = :secretariatId
+                           AND p.status = :status
+                           AND (CAST(:afterRank AS varchar) IS NULL
+                                OR (p.rank, p.id) > (CAST(:afterRank AS varchar) COLLATE "C", :afterId))
+                         ORDER BY p.rank, p.id
+                         LIMIT :limit
+                        """)
+                .bind("secretariatId", secretariatId)
+                .bind("status", status)
+                .bind("limit", limit);
+
+        spec = afterRank == null
+                ? spec.bindNull("afterRank", String.class).bindNull("afterId", Long.class)
+                : spec.bind("afterRank", afterRank).bind("afterId", afterId);
+
+        return spec.map(ProjectSwimlaneRepository::toRow).all();
+    }
+
+    private static ProjectSwimlaneRowPO toRow(Readable row) {
+        String uuid = row.get("uuid", String.class);
+        return new ProjectSwimlaneRowPO(
+                row.get("secretariat_id", Long.class),
+                row.get("secretariat_name", String.class),
+                row.get("status", String.class),
+                row.get("total", Long.class),
+                row.get("id", Long.class),
+                uuid == null ? null : UUID.fromString(uuid),
+                row.get("name", String.class),
+                row.get("expected_start", Instant.class),
+                row.get("expected_therm", Instant.class),
+                row.get("days_late", Integer.class),
+                row.get("rank", String.class)
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.WipLimitPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositório reativo da tabela {@code wip_limit}.
+ *
+ * <p>A tabela possui chave composta ({@code secretariat_id}, {@code status}), por isso o acesso
+ * é feito com {@link DatabaseClient} em vez de um {@code ReactiveCrudRepository}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class WipLimitRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Define o limite da coluna, criando ou substituindo o valor atual.
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     * @param maxProjects quantidade máxima de projetos
+     * @return {@link Mono} com o limite gravado
+     */
+    public Mono<WipLimitPO> upsert(Long secretariatId, String status, int maxProjects) {
+        return databaseClient.sql("""
+                        INSERT INTO wip_limit (secretariat_id, status, max_projects, updated_at)
+                        VALUES (:secretariatId, :status, :maxProjects, now())
+                        ON CONFLICT (secretariat_id, status) DO UPDATE
+                            SET max_projects = EXCLUDED.max_projects,
+                                updated_at = EXCLUDED.updated_at
+                        """)
+                .bind("secretariatId", secretariatId)
+                .bind("status", status)
+                .bind("maxProjects", maxProjects)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(new WipLimitPO(secretariatId, status, maxProjects));
+    }
+
+    /**
+     * Remove o limite da coluna, que passa a não ter limite.
+     *
+     * @param secretariatId secretaria
+     * @param status status
+     * @return {@link Mono} com {@code true} se havia limite definido
+     */
+    public Mono<Boolean> delete(Long secretariatId, String status) {
+        return databaseClient.sql("DELETE FROM wip_limit WHERE secretariat_id = :secretariatId AND status = :status")
+                .bind("secretariatId", secretariatId)
+                .bind("status", status)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    /**
+     * Lista todos os limites definidos.
+     *
+     * @return {@link Flux} com os limites
+     */
+    public Flux<WipLimitPO> findAll() {
+        return databaseClient.sql("SELECT secretariat_id, status, max_projects FROM wip_limit")
+                .map(row -> new WipLimitPO(
+                        row.get("secretariat_id", Long.class),
+                        row.get("status", String.class),
+                        row.get("max_projects", Integer.class)
+                ))
+                .all();
+    }
+}
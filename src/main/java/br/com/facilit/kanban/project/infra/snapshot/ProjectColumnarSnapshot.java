@@ -0,0 +1,232 @@
+package br.com.facilit.kanban.project.infra.snapshot;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectSnapshotRowPO;
+import br.com.facilit.kanban.project.domain.po.ProjectSnapshotStatsPO;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import br.com.facilit.kanban.project.infra.repository.ProjectSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Snapshot colunar, em memória, das colunas de {@code project} usadas pelos indicadores.
+ *
+ * <p>Os projetos ficam em arrays primitivos ({@link ProjectColumns}): contagens, filtros e
+ * histogramas são varreduras sequenciais na própria instância, sem consultar o Postgres.
+ * Colunas mantidas: status (ordinal), secretaria e as quatro datas em dias desde a época.
+ * Os dias de atraso dependem do relógio e são calculados na varredura, com a mesma regra de
+ * {@code project_days_late}, em vez de gravados.</p>
+ *
+ * <p><strong>Memória:</strong> 41 bytes por projeto nas colunas (UUID em dois {@code long},
+ * status em um {@code byte}, secretaria em um {@code long} e quatro datas em {@code int}) e de
+ * 8 a 16 bytes na tabela hash do UUID, ou seja, cerca de 49 a 57 MB por milhão de projetos,
+ * mais até 50% de folga de crescimento dos arrays.</p>
+ *
+ * <p><strong>Atualização:</strong></p>
+ * <ul>
+ *     <li>As alterações chegam por {@link ProjectChangeListener}, de todas as instâncias, e são
+ *     agrupadas em lotes de até {@code facilit.snapshot.batch-size}; cada lote relê as linhas
+ *     alteradas em uma única consulta e as aplica (ou remove, se não existirem mais)</li>
+ *     <li>Na ressincronização do canal e a cada {@code facilit.snapshot.reload-interval} o snapshot
+ *     é recarregado por completo e substituído, corrigindo notificações descartadas</li>
+ *     <li>Lotes e recargas são processados em sequência, de modo que uma recarga nunca
+ *     sobrescreve uma alteração aplicada depois dela</li>
+ * </ul>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectColumnarSnapshot implements SmartLifecycle {
+
+    /** Limites superiores (inclusivos) das faixas de dias de atraso; a última faixa é aberta. */
+    private static final int[] DAYS_LATE_BOUNDS = {0, 7, 30, 90, 365};
+    private static final String[] DAYS_LATE_LABELS = {"0", "1-7", "8-30", "31-90", "91-365", "365+"};
+
+    private final ProjectSnapshotRepository repository;
+    private final ProjectChangeListener projectChangeListener;
+    private final ProjectSnapshotProperties properties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private ProjectColumns columns = new ProjectColumns(0);
+
+    private volatile Sinks.Many<ProjectChangeEvent> reloads;
+    private volatile Disposable subscription;
+
+    /**
+     * Contagem por status e histograma de dias de atraso dos projetos que atendem ao filtro.
+     *
+     * @param secretariatId secretaria, ou {@code null} para todas
+     * @param status status, ou {@code null} para todos
+     * @param today hoje (UTC), referência para os dias de atraso
+     * @return resultado da varredura
+     */
+    public ProjectSnapshotStatsPO stats(Long secretariatId, StatusProject status, LocalDate today) {
+        long[] byStatus = new long[ProjectColumns.statusCount()];
+        long[] daysLate = new long[DAYS_LATE_LABELS.length];
+        int day = (int) today.toEpochDay();
+        boolean bySecretariat = secretariatId != null;
+        long wantedSecretariat = bySecretariat ? secretariatId : 0L;
+        byte wanted = status == null ? ProjectColumns.UNKNOWN_STATUS : (byte) status.ordinal();
+        long matched = 0;
+        int rows;
+        long footprint;
+        long started = System.nanoTime();
+
+        lock.readLock().lock();
+        try {
+            ProjectColumns current = columns;
+            rows = current.size;
+            footprint = current.footprintBytes();
+            for (int row = 0; row < rows; row++) {
+                byte rowStatus = current.status[row];
+                if ((bySecretariat && current.secretariat[row] != wantedSecretariat)
+                        || (status != null && rowStatus != wanted)
+                        || rowStatus == ProjectColumns.UNKNOWN_STATUS) {
+                    continue;
+                }
+                matched++;
+                byStatus[rowStatus]++;
+                int late = current.daysLate(row, day);
+                if (late != ProjectColumns.NONE) {
+                    daysLate[bucket(late)]++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long elapsed = System.nanoTime() - started;
+        Map<String, Long> statusTotals = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < byStatus.length; ordinal++) {
+            statusTotals.put(ProjectColumns.status(ordinal).name(), byStatus[ordinal]);
+        }
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < daysLate.length; bucket++) {
+            histogram.put(DAYS_LATE_LABELS[bucket], daysLate[bucket]);
+        }
+        return new ProjectSnapshotStatsPO(rows, matched, statusTotals, histogram, footprint, elapsed);
+    }
+
+    /**
+     * Agenda uma recarga completa, processada na sequência das alterações pendentes.
+     */
+    @Scheduled(fixedDelayString = "${facilit.snapshot.reload-interval:PT30M}",
+            initialDelayString = "${facilit.snapshot.reload-interval:PT30M}")
+    public void requestReload() {
+        Sinks.Many<ProjectChangeEvent> current = reloads;
+        if (current != null) {
+            current.tryEmitNext(ProjectChangeEvent.resync());
+        }
+    }
+
+    private Mono<Void> apply(List<ProjectChangeEvent> batch) {
+        if (batch.stream().anyMatch(ProjectChangeEvent::isResync)) {
+            // Se a recarga falhar, a próxima recarga periódica tenta novamente
+            return reload()
+                    .doOnError(error -> log.error("Erro ao recarregar o snapshot de projetos: {}", error.getMessage(), error))
+                    .onErrorResume(error -> Mono.empty());
+        }
+        return refresh(batch)
+                .doOnError(error -> log.error("Erro ao atualizar o snapshot de projetos: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.fromRunnable(this::requestReload));
+    }
+
+    private Mono<Void> reload() {
+        long started = System.nanoTime();
+        return repository.findAll()
+                .collect(() -> new ProjectColumns(columns.size), ProjectColumns::upsert)
+                .doOnNext(loaded -> {
+                    lock.writeLock().lock();
+                    try {
+                        columns = loaded;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    log.info("Snapshot de projetos recarregado | projetos={}, bytes={}, ms={}",
+                            loaded.size, loaded.footprintBytes(), (System.nanoTime() - started) / 1_000_000);
+                })
+                .then();
+    }
+
+    private Mono<Void> refresh(List<ProjectChangeEvent> batch) {
+        Set<UUID> uuids = new HashSet<>();
+        batch.forEach(event -> {
+            if (event.uuid() != null) {
+                uuids.add(event.uuid());
+            }
+        });
+        if (uuids.isEmpty()) {
+            return Mono.empty();
+        }
+        return repository.findByUuids(uuids)
+                .collectList()
+                .doOnNext(rows -> {
+                    lock.writeLock().lock();
+                    try {
+                        for (ProjectSnapshotRowPO row : rows) {
+                            columns.upsert(row);
+                            uuids.remove(row.uuid());
+                        }
+                        uuids.forEach(columns::remove);
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                })
+                .then();
+    }
+
+    private static int bucket(int daysLate) {
+        for (int bucket = 0; bucket < DAYS_LATE_BOUNDS.length; bucket++) {
+            if (daysLate <= DAYS_LATE_BOUNDS[bucket]) {
+                return bucket;
+            }
+        }
+        return DAYS_LATE_BOUNDS.length;
+    }
+
+    @Override
+    public void start() {
+        Sinks.Many<ProjectChangeEvent> sink = Sinks.many().unicast().onBackpressureBuffer();
+        reloads = sink;
+        subscription = Flux.merge(projectChangeListener.events(), sink.asFlux())
+                .bufferTimeout(properties.batchSize(), properties.batchWindow(), true)
+                .concatMap(this::apply)
+                .subscribe(null, error -> log.error("Snapshot de projetos interrompido: {}", error.getMessage(), error));
+        requestReload();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+        reloads = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = subscription;
+        return current != null && !current.isDisposed();
+    }
+}
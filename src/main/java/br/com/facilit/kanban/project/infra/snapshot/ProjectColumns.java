@@ -0,0 +1,241 @@
+package br.com.facilit.kanban.project.infra.snapshot;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.po.ProjectSnapshotRowPO;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Armazenamento colunar dos projetos em arrays primitivos, uma posição por projeto.
+ *
+ * <p>As datas são guardadas em dias desde a época ({@link #NONE} quando ausentes) e o status
+ * pelo ordinal de {@link StatusProject}. O UUID fica em duas colunas {@code long} e é indexado
+ * por uma tabela hash de endereçamento aberto ({@code int[]}, sondagem linear), sem objetos por
+ * projeto. A remoção move o último projeto para a posição liberada, mantendo as colunas densas.</p>
+ *
+ * <p>Não é thread-safe: o acesso é coordenado por {@link ProjectColumnarSnapshot}.</p>
+ *
+ * @author Antonio Neto
+ */
+final class ProjectColumns {
+
+    /** Data ausente. */
+    static final int NONE = Integer.MIN_VALUE;
+
+    /** Status desconhecido pelo enum. */
+    static final byte UNKNOWN_STATUS = -1;
+
+    private static final int EMPTY = -1;
+    private static final StatusProject[] STATUSES = StatusProject.values();
+
+    long[] uuidHigh;
+    long[] uuidLow;
+    byte[] status;
+    long[] secretariat;
+    int[] expectedStart;
+    int[] expectedTherm;
+    int[] startActual;
+    int[] thermalActual;
+    int size;
+
+    private int[] table;
+    private int mask;
+
+    ProjectColumns(int capacity) {
+        int initial = Math.max(16, capacity);
+        uuidHigh = new long[initial];
+        uuidLow = new long[initial];
+        status = new byte[initial];
+        secretariat = new long[initial];
+        expectedStart = new int[initial];
+        expectedTherm = new int[initial];
+        startActual = new int[initial];
+        thermalActual = new int[initial];
+        resizeTable(initial);
+    }
+
+    /**
+     * Insere ou substitui as colunas do projeto.
+     */
+    void upsert(ProjectSnapshotRowPO po) {
+        UUID uuid = po.uuid();
+        int slot = slotOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        int row;
+        if (slot >= 0) {
+            row = table[slot];
+        } else {
+            ensureCapacity(size + 1);
+            row = size++;
+            uuidHigh[row] = uuid.getMostSignificantBits();
+            uuidLow[row] = uuid.getLeastSignificantBits();
+            table[freeSlot(uuidHigh[row], uuidLow[row])] = row;
+        }
+        status[row] = statusOf(po.status());
+        secretariat[row] = po.secretariatId() == null ? 0L : po.secretariatId();
+        expectedStart[row] = epochDay(po.expectedStart());
+        expectedTherm[row] = epochDay(po.expectedTherm());
+        startActual[row] = epochDay(po.startActual());
+        thermalActual[row] = epochDay(po.thermalActual());
+    }
+
+    /**
+     * Remove o projeto, se presente.
+     *
+     * @return {@code true} se o projeto estava no snapshot
+     */
+    boolean remove(UUID uuid) {
+        int slot = slotOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        if (slot < 0) {
+            return false;
+        }
+        int row = table[slot];
+        deleteSlot(slot);
+        int last = --size;
+        if (row != last) {
+            table[slotOf(uuidHigh[last], uuidLow[last])] = row;
+            uuidHigh[row] = uuidHigh[last];
+            uuidLow[row] = uuidLow[last];
+            status[row] = status[last];
+            secretariat[row] = secretariat[last];
+            expectedStart[row] = expectedStart[last];
+            expectedTherm[row] = expectedTherm[last];
+            startActual[row] = startActual[last];
+            thermalActual[row] = thermalActual[last];
+        }
+        return true;
+    }
+
+    /**
+     * Dias de atraso do projeto, com a mesma regra de {@code project_days_late}.
+     *
+     * @param row posição do projeto
+     * @param today hoje (UTC), em dias desde a época
+     * @return dias de atraso, ou {@link #NONE} sem término previsto
+     */
+    int daysLate(int row, int today) {
+        int therm = expectedTherm[row];
+        if (therm == NONE) {
+            return NONE;
+        }
+        int end = thermalActual[row] == NONE ? today : thermalActual[row];
+        return Math.max(0, end - therm);
+    }
+
+    /**
+     * Memória ocupada pelas colunas e pela tabela hash, em bytes (sem cabeçalhos de objeto).
+     */
+    long footprintBytes() {
+        long capacity = uuidHigh.length;
+        return capacity * bytesPerRow() + (long) table.length * Integer.BYTES;
+    }
+
+    /**
+     * Bytes por projeto nas colunas: dois {@code long} do UUID, um {@code byte} de status,
+     * um {@code long} de secretaria e quatro datas em {@code int}.
+     */
+    static int bytesPerRow() {
+        return 2 * Long.BYTES + Byte.BYTES + Long.BYTES + 4 * Integer.BYTES;
+    }
+
+    static int statusCount() {
+        return STATUSES.length;
+    }
+
+    static StatusProject status(int ordinal) {
+        return STATUSES[ordinal];
+    }
+
+    private static byte statusOf(String name) {
+        for (StatusProject candidate : STATUSES) {
+            if (candidate.name().equals(name)) {
+                return (byte) candidate.ordinal();
+            }
+        }
+        return UNKNOWN_STATUS;
+    }
+
+    private static int epochDay(LocalDateTime value) {
+        return value == null ? NONE : (int) value.toLocalDate().toEpochDay();
+    }
+
+    private static int hash(long high, long low) {
+        long h = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int slotOf(long high, long low) {
+        int slot = hash(high, low) & mask;
+        while (table[slot] != EMPTY) {
+            int row = table[slot];
+            if (uuidHigh[row] == high && uuidLow[row] == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int freeSlot(long high, long low) {
+        int slot = hash(high, low) & mask;
+        while (table[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Remoção por deslocamento para trás: as entradas seguintes da mesma sequência de sondagem
+     * ocupam o espaço liberado, sem marcadores de remoção.
+     */
+    private void deleteSlot(int slot) {
+        int free = slot;
+        table[free] = EMPTY;
+        int next = free;
+        while (true) {
+            next = (next + 1) & mask;
+            int row = table[next];
+            if (row == EMPTY) {
+                return;
+            }
+            int home = hash(uuidHigh[row], uuidLow[row]) & mask;
+            boolean stays = free <= next ? free < home && home <= next : free < home || home <= next;
+            if (!stays) {
+                table[free] = row;
+                table[next] = EMPTY;
+                free = next;
+            }
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > uuidHigh.length) {
+            int capacity = Math.max(required, uuidHigh.length + (uuidHigh.length >> 1));
+            uuidHigh = Arrays.copyOf(uuidHigh, capacity);
+            uuidLow = Arrays.copyOf(uuidLow, capacity);
+            status = Arrays.copyOf(status, capacity);
+            secretariat = Arrays.copyOf(secretariat, capacity);
+            expectedStart = Arrays.copyOf(expectedStart, capacity);
+            expectedTherm = Arrays.copyOf(expectedTherm, capacity);
+            startActual = Arrays.copyOf(startActual, capacity);
+            thermalActual = Arrays.copyOf(thermalActual, capacity);
+        }
+        if (required * 2 > table.length) {
+            resizeTable(required);
+        }
+    }
+
+    /**
+     * Recria a tabela hash com ao menos o dobro de posições da quantidade de projetos.
+     */
+    private void resizeTable(int rows) {
+        int length = Integer.highestOneBit(Math.max(16, rows) * 2 - 1) << 1;
+        table = new int[length];
+        Arrays.fill(table, EMPTY);
+        mask = length - 1;
+        for (int row = 0; row < size; row++) {
+            table[freeSlot(uuidHigh[row], uuidLow[row])] = row;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.facilit.kanban.project.infra.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do snapshot colunar de projetos.
+ *
+ * @param batchSize quantidade máxima de alterações relidas do banco em uma consulta
+ * @param batchWindow espera máxima para completar um lote de alterações
+ * @param reloadInterval intervalo entre as recargas completas, que corrigem notificações perdidas
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.snapshot")
+public record ProjectSnapshotProperties(
+        @DefaultValue("256") int batchSize,
+        @DefaultValue("50ms") Duration batchWindow,
+        @DefaultValue("PT30M") Duration reloadInterval
+) {}
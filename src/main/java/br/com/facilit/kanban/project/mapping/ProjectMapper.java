@@ -1,12 +1,29 @@
 package br.com.facilit.kanban.project.mapping;
 
 import br.com.facilit.kanban.project.application.command.*;
+import br.com.facilit.kanban.project.domain.dto.ProjectAnalyticsDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectBoardDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectChangesDTO;
 import br.com.facilit.kanban.project.domain.dto.ProjectDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectDependencyDTO;
+import br.com.facilit.kanban.project.domain.dto.ProjectTeamDTO;
 import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.event.ProjectDeadlineEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectBoardRowPO;
+import br.com.facilit.kanban.project.domain.po.ProjectDeadlinePO;
+import br.com.facilit.kanban.project.domain.po.ProjectDependencyPO;
 import br.com.facilit.kanban.project.domain.po.ProjectPO;
+import br.com.facilit.kanban.project.domain.po.ProjectScheduleNodePO;
+import br.com.facilit.kanban.project.domain.po.ProjectSwimlaneRowPO;
+import br.com.facilit.kanban.project.domain.po.ProjectTeamMemberPO;
+import br.com.facilit.kanban.project.domain.po.ProjectTombstonePO;
+import br.com.facilit.kanban.project.domain.po.WipLimitPO;
 import br.com.facilit.kanban.shared.domain.dto.PageResponse;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -200,6 +217,39 @@ public final class ProjectMapper {
                 );
     }
 
+    public static final class Timeline {
+
+        private Timeline() {}
+
+        public static final Function<ProjectPO, TimelineProjectCommand.Output> PO_TO_OUTPUT =
+                po -> (po == null) ? null : new TimelineProjectCommand.Output(
+                        po.getName(),
+                        po.getStatus(),
+                        po.getUuid(),
+                        po.getExpectedStart(),
+                        po.getExpectedThermal(),
+                        po.getStartActual(),
+                        po.getThermalActual(),
+                        po.getDaysLate(),
+                        po.getPercentageOfTimeRemaining(),
+                        po.getSecretariatId()
+                );
+
+        public static final Function<TimelineProjectCommand.Output, ProjectDTO.Response> OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectDTO.Response(
+                        output.uuid(),
+                        output.name(),
+                        output.status(),
+                        output.expectedStart(),
+                        output.expectedThermal(),
+                        output.startActual(),
+                        output.thermalActual(),
+                        output.daysLate(),
+                        output.percentageOfTimeRemaining(),
+                        output.secretariatId()
+                );
+    }
+
     public static final class Update{
 
         private Update(){}
@@ -261,11 +311,6 @@ public final class ProjectMapper {
 
         private ChangeStatus(){}
 
-        public static final BiFunction<UUID, StatusProject, ChangeStatusProjectCommand.Input> REQUEST_TO_INPUT =
-                (uuid, statusProject) -> (uuid == null) ? null : new ChangeStatusProjectCommand.Input(
-                        uuid, statusProject
-                );
-
         public static final Function<ChangeStatusProjectCommand.Output, ProjectDTO.Response> OUTPUT_TO_RESPONSE =
                 output -> (output == null) ? null : new ProjectDTO.Response(
                         output.uuid(),
@@ -287,9 +332,267 @@ public final class ProjectMapper {
                         po.getUuid()
                 );
 
-        public static final BiFunction<ProjectPO, ChangeStatusProjectCommand.Input, ProjectPO> INPUT_TO_PO =
-                (po, input) -> (input == null) ? null : new ProjectPO(
+    }
+
+    /**
+     * Mapeamentos relacionados à equipe (responsáveis vinculados) do projeto.
+     */
+    public static final class Team{
+
+        private Team(){}
+
+        public static final BiFunction<UUID, ProjectTeamDTO.Request, AssignTeamProjectCommand.Input> REQUEST_TO_ASSIGN_INPUT =
+                (uuid, request) -> (uuid == null || request == null) ? null : new AssignTeamProjectCommand.Input(
+                        uuid, request.accountableIds()
+                );
+
+        public static final BiFunction<UUID, java.util.List<UUID>, UnassignTeamProjectCommand.Input> REQUEST_TO_UNASSIGN_INPUT =
+                (uuid, accountableIds) -> (uuid == null) ? null : new UnassignTeamProjectCommand.Input(
+                        uuid, accountableIds
+                );
+
+        public static final Function<AssignTeamProjectCommand.Output, ProjectTeamDTO.Result> ASSIGN_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectTeamDTO.Result(output.uuid(), output.affected());
+
+        public static final Function<UnassignTeamProjectCommand.Output, ProjectTeamDTO.Result> UNASSIGN_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectTeamDTO.Result(output.uuid(), output.affected());
+
+        public static final Function<ProjectTeamMemberPO, ListTeamProjectCommand.Output> PO_TO_OUTPUT =
+                po -> (po == null) ? null : new ListTeamProjectCommand.Output(
+                        po.uuid(),
+                        po.name(),
+                        po.email(),
+                        po.role(),
+                        po.secretariatId()
+                );
+
+        public static final Function<ListTeamProjectCommand.Output, ProjectTeamDTO.Member> OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectTeamDTO.Member(
+                        output.uuid(),
+                        output.name(),
+                        output.email(),
+                        output.role(),
+                        output.secretariatId()
+                );
+    }
+
+    /**
+     * Mapeamentos relacionados aos prazos dos projetos.
+     */
+    public static final class Deadline {
+
+        private Deadline() {}
+
+        public static final Function<ProjectPO, ProjectDeadlinePO> PO_TO_DEADLINE =
+                po -> (po == null) ? null : new ProjectDeadlinePO(
+                        po.getUuid(),
+                        po.getName(),
+                        po.getStatus(),
+                        po.getSecretariatId(),
+                        po.getExpectedStart() == null ? null : LocalDateTime.ofInstant(po.getExpectedStart(), ZoneOffset.UTC),
+                        po.getExpectedThermal() == null ? null : LocalDateTime.ofInstant(po.getExpectedThermal(), ZoneOffset.UTC)
+                );
+
+        public static final Function<ProjectDeadlineEvent, DeadlineEventsProjectCommand.Output> EVENT_TO_OUTPUT =
+                event -> (event == null) ? null : new DeadlineEventsProjectCommand.Output(
+                        event.kind(),
+                        event.uuid(),
+                        event.name(),
+                        event.status(),
+                        event.secretariatId(),
+                        event.at()
+                );
+
+        public static final Function<DeadlineEventsProjectCommand.Output, ProjectBoardDTO.Deadline> OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.Deadline(
+                        output.kind(),
+                        output.uuid(),
+                        output.name(),
+                        output.status(),
+                        output.secretariatId(),
+                        output.at()
+                );
+    }
+
+    /**
+     * Mapeamentos relacionados às dependências entre projetos.
+     */
+    public static final class Dependency {
+
+        private Dependency() {}
+
+        public static final BiFunction<UUID, ProjectDependencyDTO.Request, AddDependencyProjectCommand.Input> REQUEST_TO_ADD_INPUT =
+                (uuid, request) -> (uuid == null || request == null) ? null : new AddDependencyProjectCommand.Input(
+                        uuid, request.dependsOn()
+                );
+
+        public static final BiFunction<UUID, java.util.List<UUID>, RemoveDependencyProjectCommand.Input> REQUEST_TO_REMOVE_INPUT =
+                (uuid, dependsOn) -> (uuid == null) ? null : new RemoveDependencyProjectCommand.Input(
+                        uuid, dependsOn
+                );
+
+        public static final Function<AddDependencyProjectCommand.Output, ProjectDependencyDTO.Result> ADD_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectDependencyDTO.Result(output.uuid(), output.affected());
+
+        public static final Function<RemoveDependencyProjectCommand.Output, ProjectDependencyDTO.Result> REMOVE_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectDependencyDTO.Result(output.uuid(), output.affected());
+
+        public static final Function<ProjectDependencyPO, ListDependencyProjectCommand.Output> PO_TO_OUTPUT =
+                po -> (po == null) ? null : new ListDependencyProjectCommand.Output(
+                        po.uuid(),
+                        po.name(),
+                        po.status(),
+                        po.expectedThermal()
+                );
+
+        public static final Function<ListDependencyProjectCommand.Output, ProjectDependencyDTO.Dependency> OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectDependencyDTO.Dependency(
+                        output.uuid(),
+                        output.name(),
+                        output.status(),
+                        output.expectedThermal()
+                );
+
+        public static final Function<ProjectScheduleNodePO, CriticalPathProjectCommand.Node> SCHEDULE_TO_NODE =
+                po -> (po == null) ? null : new CriticalPathProjectCommand.Node(
+                        po.uuid(),
+                        po.name(),
+                        po.status(),
+                        po.earliestStart(),
+                        po.earliestFinish(),
+                        po.latestStart(),
+                        po.latestFinish(),
+                        po.slackDays(),
+                        po.critical(),
+                        po.blocked()
+                );
+    }
+
+    /**
+     * Mapeamentos relacionados ao quadro Kanban.
+     */
+    public static final class Board{
+
+        private Board(){}
+
+        public static final Function<ProjectBoardRowPO, BoardProjectCommand.Card> PO_TO_CARD =
+                po -> (po == null) ? null : new BoardProjectCommand.Card(
+                        po.uuid(),
+                        po.name(),
+                        po.expectedStart(),
+                        po.expectedThermal(),
+                        po.daysLate(),
+                        po.secretariatId()
+                );
+
+        public static final Function<BoardProjectCommand.Card, ProjectBoardDTO.Card> CARD_TO_RESPONSE =
+                card -> (card == null) ? null : new ProjectBoardDTO.Card(
+                        card.uuid(),
+                        card.name(),
+                        card.expectedStart(),
+                        card.expectedThermal(),
+                        card.daysLate(),
+                        card.secretariatId()
+                );
+
+        public static final Function<BoardProjectCommand.Output, ProjectBoardDTO.Column> OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.Column(
+                        output.status(),
+                        output.total(),
+                        output.cards().stream().map(CARD_TO_RESPONSE).toList()
+                );
+
+        public static final Function<CountersProjectCommand.Output, ProjectBoardDTO.Counters> COUNTERS_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.Counters(
+                        output.secretariatId(),
+                        output.total(),
+                        output.byStatus()
+                );
+
+        public static final BiFunction<UUID, ProjectBoardDTO.Reorder, ReorderProjectCommand.Input> REORDER_TO_INPUT =
+                (uuid, request) -> (uuid == null || request == null) ? null : new ReorderProjectCommand.Input(
+                        uuid,
+                        request.after(),
+                        request.before()
+                );
+
+        public static final Function<ReorderProjectCommand.Output, ProjectBoardDTO.Position> REORDER_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.Position(
+                        output.uuid(),
+                        output.status(),
+                        output.rank()
+                );
+
+        public static final Function<ProjectChangeEvent, BoardEventsProjectCommand.Output> EVENT_TO_OUTPUT =
+                event -> (event == null) ? null : new BoardEventsProjectCommand.Output(
+                        event.op(),
+                        event.uuid(),
+                        event.status(),
+                        event.oldStatus(),
+                        event.secretariatId()
+                );
+
+        public static final Function<BoardEventsProjectCommand.Output, ProjectBoardDTO.Event> EVENT_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.Event(
+                        output.op(),
+                        output.uuid(),
+                        output.status(),
+                        output.oldStatus(),
+                        output.secretariatId()
+                );
+    }
+
+    /**
+     * Mapeamentos relacionados aos limites de WIP do quadro.
+     */
+    public static final class WipLimit {
+
+        private WipLimit() {}
+
+        public static final Function<ProjectBoardDTO.WipLimit, SetWipLimitProjectCommand.Input> REQUEST_TO_SET_INPUT =
+                request -> (request == null) ? null : new SetWipLimitProjectCommand.Input(
+                        request.secretariatId(),
+                        request.status(),
+                        request.maxProjects()
+                );
+
+        public static final Function<WipLimitPO, SetWipLimitProjectCommand.Output> PO_TO_SET_OUTPUT =
+                po -> (po == null) ? null : new SetWipLimitProjectCommand.Output(
+                        po.secretariatId(),
+                        po.status(),
+                        po.maxProjects()
+                );
+
+        public static final Function<SetWipLimitProjectCommand.Output, ProjectBoardDTO.WipLimit> SET_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.WipLimit(
+                        output.secretariatId(),
+                        StatusProject.valueOf(output.status()),
+                        output.maxProjects(),
+                        null
+                );
+
+        public static final Function<ListWipLimitProjectCommand.Output, ProjectBoardDTO.WipLimit> LIST_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.WipLimit(
+                        output.secretariatId(),
+                        StatusProject.valueOf(output.status()),
+                        output.maxProjects(),
+                        output.current()
+                );
+    }
+
+    /**
+     * Mapeamentos relacionados à sincronização incremental de projetos.
+     */
+    public static final class Changes {
+
+        private Changes() {}
+
+        public static final Function<ProjectPO, ChangesProjectCommand.Change> PO_TO_CHANGE =
+                po -> (po == null) ? null : new ChangesProjectCommand.Change(
+                        ChangesProjectCommand.UPSERT,
+                        po.getChangeSeq(),
                         po.getId(),
+                        po.getUuid(),
                         po.getName(),
                         po.getStatus(),
                         po.getExpectedStart(),
@@ -301,5 +604,199 @@ public final class ProjectMapper {
                         po.getSecretariatId()
                 );
 
+        public static final Function<ProjectTombstonePO, ChangesProjectCommand.Change> TOMBSTONE_TO_CHANGE =
+                po -> (po == null) ? null : new ChangesProjectCommand.Change(
+                        ChangesProjectCommand.DELETE,
+                        po.changeSeq(),
+                        po.projectId(),
+                        po.uuid(),
+                        null, null, null, null, null, null, null, null,
+                        po.secretariatId()
+                );
+
+        public static final Function<ChangesProjectCommand.Change, ProjectChangesDTO.Change> CHANGE_TO_RESPONSE =
+                change -> (change == null) ? null : new ProjectChangesDTO.Change(
+                        change.op(),
+                        change.uuid(),
+                        ChangesProjectCommand.DELETE.equals(change.op()) ? null : new ProjectDTO.Response(
+                                change.uuid(),
+                                change.name(),
+                                change.status(),
+                                change.expectedStart(),
+                                change.expectedThermal(),
+                                change.startActual(),
+                                change.thermalActual(),
+                                change.daysLate(),
+                                change.percentageOfTimeRemaining(),
+                                change.secretariatId()
+                        )
+                );
+
+        public static final Function<ChangesProjectCommand.Output, ProjectChangesDTO.Page> OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectChangesDTO.Page(
+                        output.changes().stream().map(CHANGE_TO_RESPONSE).toList(),
+                        output.token(),
+                        output.hasMore()
+                );
+    }
+
+    /**
+     * Mapeamentos relacionados ao quadro em raias (secretaria × status).
+     */
+    public static final class Swimlane {
+
+        private Swimlane() {}
+
+        public static final Function<ProjectSwimlaneRowPO, BoardProjectCommand.Card> PO_TO_CARD =
+                po -> (po == null) ? null : new BoardProjectCommand.Card(
+                        po.uuid(),
+                        po.name(),
+                        po.expectedStart(),
+                        po.expectedThermal(),
+                        po.daysLate(),
+                        po.secretariatId()
+                );
+
+        public static final Function<SwimlanesProjectCommand.Cell, ProjectBoardDTO.Cell> CELL_TO_RESPONSE =
+                cell -> (cell == null) ? null : new ProjectBoardDTO.Cell(
+                        cell.status(),
+                        cell.total(),
+                        cell.cards().stream().map(Board.CARD_TO_RESPONSE).toList(),
+                        cell.cursor()
+                );
+
+        public static final Function<SwimlanesProjectCommand.Output, ProjectBoardDTO.Lane> OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.Lane(
+                        output.secretariatId(),
+                        output.secretariatName(),
+                        output.cells().stream().map(CELL_TO_RESPONSE).toList()
+                );
+
+        public static final Function<CellProjectCommand.Output, ProjectBoardDTO.CellPage> CELL_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectBoardDTO.CellPage(
+                        output.secretariatId(),
+                        output.status(),
+                        output.total(),
+                        output.cards().stream().map(Board.CARD_TO_RESPONSE).toList(),
+                        output.cursor()
+                );
+    }
+
+    /**
+     * Mapeamentos relacionados aos indicadores de fluxo.
+     */
+    public static final class Analytics {
+
+        private Analytics() {}
+
+        public static final Function<FlowMetricsProjectCommand.Percentiles, ProjectAnalyticsDTO.Percentiles> PERCENTILES_TO_RESPONSE =
+                percentiles -> (percentiles == null) ? null : new ProjectAnalyticsDTO.Percentiles(
+                        percentiles.count(),
+                        percentiles.p50(),
+                        percentiles.p85(),
+                        percentiles.p95()
+                );
+
+        public static final Function<FlowMetricsProjectCommand.Output, ProjectAnalyticsDTO.Flow> FLOW_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectAnalyticsDTO.Flow(
+                        output.from(),
+                        output.to(),
+                        output.secretariats().stream()
+                                .map(flow -> new ProjectAnalyticsDTO.SecretariatFlow(
+                                        flow.secretariatId(),
+                                        PERCENTILES_TO_RESPONSE.apply(flow.leadTime()),
+                                        PERCENTILES_TO_RESPONSE.apply(flow.cycleTime())))
+                                .toList()
+                );
+
+        public static final Function<CfdProjectCommand.Output, ProjectAnalyticsDTO.CfdDay> CFD_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectAnalyticsDTO.CfdDay(
+                        output.day(),
+                        output.secretariatId(),
+                        output.byStatus()
+                );
+
+        public static final Function<ForecastProjectCommand.Output, ProjectAnalyticsDTO.Forecast> FORECAST_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectAnalyticsDTO.Forecast(
+                        output.secretariatId(),
+                        output.openProjects(),
+                        output.trials(),
+                        output.historyDays(),
+                        output.completedInHistory(),
+                        output.p50(),
+                        output.p85(),
+                        output.p95(),
+                        output.generatedAt()
+                );
+
+        public static final Function<DelayReportProjectCommand.Delay, ProjectAnalyticsDTO.SecretariatDelay> DELAY_TO_RESPONSE =
+                delay -> (delay == null) ? null : new ProjectAnalyticsDTO.SecretariatDelay(
+                        delay.secretariatId(),
+                        delay.totalProjects(),
+                        delay.overdueProjects(),
+                        delay.lateProjects(),
+                        delay.totalDaysLate(),
+                        delay.averageDaysLate(),
+                        delay.averagePercentageOfTimeRemaining()
+                );
+
+        public static final Function<DelayReportProjectCommand.Output, ProjectAnalyticsDTO.DelayReport> DELAY_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectAnalyticsDTO.DelayReport(
+                        output.secretariats().stream()
+                                .map(DELAY_TO_RESPONSE)
+                                .toList()
+                );
+
+        public static final Function<PortfolioStatsProjectCommand.Output, ProjectAnalyticsDTO.PortfolioStats> PORTFOLIO_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectAnalyticsDTO.PortfolioStats(
+                        output.matched(),
+                        output.byStatus(),
+                        output.daysLate(),
+                        output.snapshotRows(),
+                        output.snapshotBytes(),
+                        output.bytesPerMillionProjects(),
+                        output.scanMicros()
+                );
+
+        public static final Function<WorkloadProjectCommand.Accountable, ProjectAnalyticsDTO.AccountableWorkload> ACCOUNTABLE_WORKLOAD_TO_RESPONSE =
+                accountable -> (accountable == null) ? null : new ProjectAnalyticsDTO.AccountableWorkload(
+                        accountable.uuid(),
+                        accountable.name(),
+                        accountable.role(),
+                        accountable.activeProjects()
+                );
+
+        public static final Function<WorkloadProjectCommand.Output, ProjectAnalyticsDTO.Workload> WORKLOAD_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectAnalyticsDTO.Workload(
+                        output.secretariatId(),
+                        output.from(),
+                        output.to(),
+                        output.accountables().stream()
+                                .map(ACCOUNTABLE_WORKLOAD_TO_RESPONSE)
+                                .toList()
+                );
+
+        public static final Function<CriticalPathProjectCommand.Node, ProjectAnalyticsDTO.CriticalPathNode> CRITICAL_PATH_NODE_TO_RESPONSE =
+                node -> (node == null) ? null : new ProjectAnalyticsDTO.CriticalPathNode(
+                        node.uuid(),
+                        node.name(),
+                        node.status(),
+                        node.earliestStart(),
+                        node.earliestFinish(),
+                        node.latestStart(),
+                        node.latestFinish(),
+                        node.slackDays(),
+                        node.critical(),
+                        node.blocked()
+                );
+
+        public static final Function<CriticalPathProjectCommand.Output, ProjectAnalyticsDTO.CriticalPath> CRITICAL_PATH_OUTPUT_TO_RESPONSE =
+                output -> (output == null) ? null : new ProjectAnalyticsDTO.CriticalPath(
+                        output.secretariatId(),
+                        output.finish(),
+                        output.projects().stream()
+                                .map(CRITICAL_PATH_NODE_TO_RESPONSE)
+                                .toList()
+                );
     }
 }
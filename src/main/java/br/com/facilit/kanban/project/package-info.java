@@ -1,7 +1,24 @@
+/**
+ * Módulo de projetos: cadastro, quadro Kanban, equipe e indicadores.
+ *
+ * <h3>Acesso à tabela {@code accountable}</h3>
+ * <p>O módulo não depende de classes do módulo de pessoas, mas as consultas de equipe e de carga de
+ * trabalho ({@link br.com.facilit.kanban.project.infra.repository.ProjectAccountablesRepository})
+ * leem a tabela {@code accountable} diretamente em SQL. A decisão é intencional: o join com
+ * {@code project_has_accountable} resolve a equipe e a carga em uma única consulta, o que uma chamada
+ * ao {@code AccountablePort} por projeto não permitiria. As regras do acesso compartilhado são:</p>
+ * <ul>
+ *     <li>somente leitura — {@code accountable} é gravada apenas pelo módulo de pessoas</li>
+ *     <li>apenas as colunas {@code id}, {@code uuid}, {@code name}, {@code email}, {@code role} e
+ *     {@code secretariat_id}; alterá-las exige revisar também este módulo</li>
+ *     <li>o índice {@code idx_accountable_secretariat} (V17) existe para a consulta de carga deste módulo</li>
+ * </ul>
+ * <p>O sentido segue o do contexto: projeto referencia responsável, nunca o contrário.</p>
+ */
 @ApplicationModule(
         type = ApplicationModule.Type.OPEN,
         displayName = "Project"
 )
 package br.com.facilit.kanban.project;
 
-import org.springframework.modulith.ApplicationModule;
\ No newline at end of file
+import org.springframework.modulith.ApplicationModule;
@@ -1,6 +1,8 @@
 package br.com.facilit.kanban.shared.aop;
 
 
+import org.springframework.transaction.annotation.Isolation;
+
 import java.lang.annotation.*;
 
 /**
@@ -12,12 +14,25 @@ import java.lang.annotation.*;
  * <p>Somente métodos que retornam {@link reactor.core.publisher.Mono} ou {@link reactor.core.publisher.Flux}
  * são suportados. Métodos com outros tipos de retorno lançarão uma exceção em tempo de execução.</p>
  *
+ * <p>Transações {@link #readOnly() somente leitura} são direcionadas à réplica de leitura, quando
+ * configurada em {@code facilit.replica.url}. Se o método for chamado dentro de uma transação já
+ * existente, ele participa dela e os atributos são ignorados.</p>
+ *
+ * <p>A réplica é assíncrona: uma leitura nela pode não enxergar escritas já confirmadas no primário,
+ * inclusive as do próprio cliente instantes antes. Use {@code readOnly} apenas em consultas que
+ * toleram essa defasagem; consultas que precisam refletir a última escrita ficam no primário.</p>
+ *
  * <p>Exemplo de uso:</p>
  * <pre>{@code
  * @ReactiveTransactional
  * public Mono<Void> salvarEntidade(Entidade e) {
  *     return repository.save(e).then();
  * }
+ *
+ * @ReactiveTransactional(readOnly = true, timeout = 5)
+ * public Flux<Entidade> listar() {
+ *     return repository.findAll();
+ * }
  * }</pre>
  *
  * @see ReactiveTransactionalAspect
@@ -26,4 +41,20 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface ReactiveTransactional {
+
+    /**
+     * @return {@code true} para uma transação somente leitura, executada na réplica quando configurada
+     */
+    boolean readOnly() default false;
+
+    /**
+     * @return nível de isolamento da transação; {@link Isolation#DEFAULT} usa o do banco
+     */
+    Isolation isolation() default Isolation.DEFAULT;
+
+    /**
+     * @return tempo máximo da transação, em segundos; ao estourar, a transação é desfeita.
+     * {@code -1} não limita
+     */
+    int timeout() default -1;
 }
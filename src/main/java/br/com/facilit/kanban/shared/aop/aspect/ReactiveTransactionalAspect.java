@@ -1,22 +1,61 @@
 package br.com.facilit.kanban.shared.aop.aspect;
 
+import br.com.facilit.kanban.shared.aop.ReactiveTransactional;
+import br.com.facilit.kanban.shared.transaction.ReadOnlyRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.util.UUID;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Aspecto responsável por aplicar transações reativas em métodos
  * anotados com {@link br.com.facilit.kanban.shared.aop.ReactiveTransactional}.
  *
  * <p>Este aspecto utiliza um {@link TransactionalOperator} para garantir
- * rollback automático em caso de erro dentro do pipeline reativo.</p>
+ * rollback automático em caso de erro dentro do pipeline reativo. Métodos sem atributos usam o
+ * operador compartilhado; para cada combinação de {@code readOnly}, {@code isolation} e
+ * {@code timeout} é criado, uma única vez, um operador com a definição correspondente.</p>
+ *
+ * <p>Transações somente leitura marcam o contexto do Reactor com {@link ReadOnlyRouting}, para que a
+ * conexão seja obtida da réplica de leitura, e o {@code timeout} é aplicado dentro da transação:
+ * ao estourar, o erro desfaz a transação.</p>
+ *
+ * <p><strong>Custo por chamada:</strong> a anotação, o operador, o timeout e os timers de cada método
+ * são resolvidos na primeira chamada e guardados em {@link TxMetadata}; as chamadas seguintes fazem
+ * apenas uma consulta ao mapa. O identificador da transação é um contador e os logs do ciclo de vida
+ * são emitidos em {@code DEBUG}, montados somente quando esse nível está habilitado. A medição de
+ * duração acrescenta um {@code defer}, um {@code doFinally} e duas leituras do relógio por chamada e
+ * por isso é opcional. O benchmark {@code ReactiveTransactionalAspectBenchmark} (perfil Maven
+ * {@code jmh}) compara este caminho, com e sem medição, ao anterior.</p>
+ *
+ * <h3>Métricas</h3>
+ * <ul>
+ *     <li>{@code facilit.transaction} — duração das transações, com as tags {@code method},
+ *     {@code readOnly} e {@code outcome} ({@code commit}, {@code rollback} ou {@code cancel}).
+ *     Registrada apenas com {@code facilit.transaction.metrics-enabled=true}</li>
+ * </ul>
  *
  * <p>Suporta os seguintes tipos de retorno:
  * <ul>
@@ -34,49 +73,188 @@ import java.util.UUID;
 public class ReactiveTransactionalAspect {
 
     private final TransactionalOperator txOperator;
+    private final ReactiveTransactionManager txManager;
+    private final MeterRegistry meterRegistry;
+    private final boolean metricsEnabled;
+    private final Map<ReactiveTransactional, TransactionalOperator> operators = new ConcurrentHashMap<>();
+    private final Map<Method, TxMetadata> metadata = new ConcurrentHashMap<>();
+    private final AtomicLong txIds = new AtomicLong();
 
     /**
      * Construtor para injetar o operador transacional reativo.
      *
      * @param txOperator operador transacional usado para controle transacional
+     * @param txManager gerenciador usado para os operadores com atributos
+     * @param meterRegistry registro das métricas de duração das transações
+     * @param metricsEnabled se a duração das transações é medida
      */
-    public ReactiveTransactionalAspect(TransactionalOperator txOperator) {
+    public ReactiveTransactionalAspect(TransactionalOperator txOperator,
+                                       ReactiveTransactionManager txManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${facilit.transaction.metrics-enabled:false}") boolean metricsEnabled) {
         this.txOperator = txOperator;
+        this.txManager = txManager;
+        this.meterRegistry = meterRegistry;
+        this.metricsEnabled = metricsEnabled;
     }
 
     /**
      * Intercepta métodos anotados com {@link br.com.facilit.kanban.shared.aop.ReactiveTransactional} e aplica
      * transação reativa.
      *
-     * <p>Logs estruturados são gerados para facilitar rastreamento e auditoria.</p>
-     *
      * @param pjp ponto de execução interceptado
      * @return pipeline reativo envolvido em transação
      * @throws Throwable caso ocorra falha antes de criar o pipeline
      */
-    @Around("@annotation(ReactiveTransactional)")
+    @Around("@annotation(br.com.facilit.kanban.shared.aop.ReactiveTransactional)")
     public Object applyTransaction(ProceedingJoinPoint pjp) throws Throwable {
-        String txId = UUID.randomUUID().toString();
-        log.info("🔄 Iniciando transação reativa | txId={}", txId);
-
+        TxMetadata tx = metadataFor(pjp);
         Object result = pjp.proceed();
 
         if (result instanceof Mono<?> monoResult) {
-            return monoResult
-                    .doOnSubscribe(s -> log.info("📌 Executando Mono | txId={}", txId))
-                    .doOnError(err -> log.error("❌ Rollback Mono | txId={} | motivo={}", txId, err.getMessage()))
-                    .doOnSuccess(v -> log.info("✅ Commit Mono | txId={}", txId))
-                    .as(txOperator::transactional);
+            Mono<?> mono = log.isDebugEnabled() ? traced(monoResult, tx) : monoResult;
+            mono = (tx.timeout() == null ? mono : mono.timeout(tx.timeout())).as(tx.operator()::transactional);
+            mono = tx.metered() ? timed(mono, tx) : mono;
+            return tx.readOnly() ? mono.contextWrite(ReadOnlyRouting::enable) : mono;
         }
 
         if (result instanceof Flux<?> fluxResult) {
-            return fluxResult
-                    .doOnSubscribe(s -> log.info("📌 Executando Flux | txId={}", txId))
-                    .doOnError(err -> log.error("❌ Rollback Flux | txId={} | motivo={}", txId, err.getMessage()))
-                    .doOnComplete(() -> log.info("✅ Commit Flux | txId={}", txId))
-                    .as(txOperator::transactional);
+            Flux<?> flux = log.isDebugEnabled() ? traced(fluxResult, tx) : fluxResult;
+            flux = (tx.timeout() == null ? flux : within(flux, tx.timeout())).as(tx.operator()::transactional);
+            flux = tx.metered() ? timed(flux, tx) : flux;
+            return tx.readOnly() ? flux.contextWrite(ReadOnlyRouting::enable) : flux;
         }
 
         throw new IllegalStateException("@ReactiveTransactional só pode ser usado com Mono ou Flux.");
     }
+
+    private TxMetadata metadataFor(ProceedingJoinPoint pjp) {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        TxMetadata tx = metadata.get(method);
+        return tx != null ? tx : metadata.computeIfAbsent(method, key -> resolve(key, pjp.getTarget()));
+    }
+
+    private TxMetadata resolve(Method method, Object target) {
+        Method specific = target == null ? method : AopUtils.getMostSpecificMethod(method, target.getClass());
+        ReactiveTransactional transactional = AnnotationUtils.findAnnotation(specific, ReactiveTransactional.class);
+        if (transactional == null) {
+            transactional = AnnotationUtils.findAnnotation(method, ReactiveTransactional.class);
+        }
+        if (transactional == null) {
+            throw new IllegalStateException("@ReactiveTransactional não encontrada em " + method);
+        }
+
+        String name = specific.getDeclaringClass().getSimpleName() + "." + specific.getName();
+        boolean readOnly = transactional.readOnly();
+        Duration timeout = transactional.timeout() > 0 ? Duration.ofSeconds(transactional.timeout()) : null;
+        log.debug("Metadados transacionais resolvidos | method={}, readOnly={}, timeout={}", name, readOnly, timeout);
+        if (!metricsEnabled) {
+            return new TxMetadata(name, operatorFor(transactional), readOnly, timeout, null, null, null);
+        }
+        return new TxMetadata(name, operatorFor(transactional), readOnly, timeout,
+                timer(name, readOnly, "commit"),
+                timer(name, readOnly, "rollback"),
+                timer(name, readOnly, "cancel"));
+    }
+
+    private Timer timer(String method, boolean readOnly, String outcome) {
+        return Timer.builder("facilit.transaction")
+                .description("Duração das transações reativas")
+                .tag("method", method)
+                .tag("readOnly", String.valueOf(readOnly))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private TransactionalOperator operatorFor(ReactiveTransactional transactional) {
+        if (!transactional.readOnly()
+                && transactional.isolation() == Isolation.DEFAULT
+                && transactional.timeout() == TransactionDefinition.TIMEOUT_DEFAULT) {
+            return txOperator;
+        }
+        return operators.computeIfAbsent(transactional, attributes -> {
+            DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+            definition.setReadOnly(attributes.readOnly());
+            definition.setIsolationLevel(attributes.isolation().value());
+            definition.setTimeout(attributes.timeout());
+            return TransactionalOperator.create(txManager, definition);
+        });
+    }
+
+    private <T> Mono<T> traced(Mono<T> mono, TxMetadata tx) {
+        long txId = txIds.incrementAndGet();
+        return mono
+                .doOnSubscribe(s -> log.debug("Executando Mono | txId={}, method={}", txId, tx.name()))
+                .doOnError(err -> log.debug("Rollback Mono | txId={} | motivo={}", txId, err.getMessage()))
+                .doOnSuccess(v -> log.debug("Commit Mono | txId={}", txId));
+    }
+
+    private <T> Flux<T> traced(Flux<T> flux, TxMetadata tx) {
+        long txId = txIds.incrementAndGet();
+        return flux
+                .doOnSubscribe(s -> log.debug("Executando Flux | txId={}, method={}", txId, tx.name()))
+                .doOnError(err -> log.debug("Rollback Flux | txId={} | motivo={}", txId, err.getMessage()))
+                .doOnComplete(() -> log.debug("Commit Flux | txId={}", txId));
+    }
+
+    /**
+     * Mede da assinatura até o término; o {@code defer} dá a cada assinatura o seu próprio início.
+     */
+    private static <T> Mono<T> timed(Mono<T> mono, TxMetadata tx) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono.doFinally(signal -> tx.record(signal, System.nanoTime() - start));
+        });
+    }
+
+    private static <T> Flux<T> timed(Flux<T> flux, TxMetadata tx) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return flux.doFinally(signal -> tx.record(signal, System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * Limita a duração total do fluxo: {@link Flux#timeout(Duration)} mede apenas o intervalo entre itens.
+     */
+    private static <T> Flux<T> within(Flux<T> flux, Duration timeout) {
+        return Flux.defer(() -> {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            return flux.timeout(Mono.delay(timeout),
+                    item -> Mono.delay(Duration.ofNanos(Math.max(0L, deadline - System.nanoTime()))));
+        });
+    }
+
+    /**
+     * Metadados de um método transacional, resolvidos uma única vez.
+     *
+     * @param name nome usado na tag {@code method} e nos logs
+     * @param operator operador com a definição da transação
+     * @param readOnly se a transação é somente leitura
+     * @param timeout tempo máximo da transação, ou {@code null} sem limite
+     * @param commit timer das transações confirmadas, ou {@code null} sem medição
+     * @param rollback timer das transações desfeitas por erro, ou {@code null} sem medição
+     * @param cancel timer das transações canceladas pelo assinante, ou {@code null} sem medição
+     */
+    private record TxMetadata(String name,
+                              TransactionalOperator operator,
+                              boolean readOnly,
+                              Duration timeout,
+                              Timer commit,
+                              Timer rollback,
+                              Timer cancel) {
+
+        boolean metered() {
+            return commit != null;
+        }
+
+        void record(SignalType signal, long nanos) {
+            Timer timer = switch (signal) {
+                case ON_ERROR -> rollback;
+                case CANCEL -> cancel;
+                default -> commit;
+            };
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
 }
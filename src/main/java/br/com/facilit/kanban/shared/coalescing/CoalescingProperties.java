@@ -0,0 +1,18 @@
+package br.com.facilit.kanban.shared.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do agrupamento de escritas ({@link WriteCoalescer}).
+ *
+ * @param window janela em que escritas sucessivas para a mesma chave são agrupadas
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("PT0.3S") Duration window
+) {}
@@ -0,0 +1,125 @@
+package br.com.facilit.kanban.shared.coalescing;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Agrupa em memória escritas sucessivas para a mesma chave dentro de uma janela de tempo,
+ * gravando apenas o último valor.
+ *
+ * <p><strong>Funcionamento:</strong></p>
+ * <ol>
+ *     <li>A primeira escrita de uma chave abre uma janela e agenda a gravação para o fim dela</li>
+ *     <li>Escritas seguintes na mesma janela apenas substituem o valor pendente</li>
+ *     <li>Ao fim da janela a chave sai do mapa e o último valor é gravado pelo {@code writer}</li>
+ *     <li>Todos os clientes que escreveram na janela recebem o mesmo resultado, por meio de
+ *     um único {@link Sinks.One} por chave</li>
+ * </ol>
+ *
+ * <p><strong>Garantias de durabilidade:</strong></p>
+ * <ul>
+ *     <li>Nenhum cliente recebe confirmação antes do {@code writer} concluir; se o {@code writer}
+ *     é transacional, a confirmação só ocorre após o commit</li>
+ *     <li>Valores pendentes vivem apenas em memória: se a aplicação cair durante a janela, eles
+ *     são perdidos, mas os clientes correspondentes não foram confirmados e recebem erro de conexão</li>
+ *     <li>Os valores intermediários da janela nunca são gravados; cada cliente recebe o valor
+ *     efetivamente persistido, que pode ser diferente do que enviou</li>
+ *     <li>Se a gravação falha, inclusive com uma exceção lançada pelo próprio {@code writer}, todos os
+ *     clientes da janela recebem o mesmo erro</li>
+ *     <li>O agrupamento é local à instância: com várias réplicas, a última gravação vence no banco</li>
+ *     <li>Cancelar a requisição não cancela a gravação agendada</li>
+ * </ul>
+ *
+ * @param <K> tipo da chave (ex.: UUID do projeto)
+ * @param <V> tipo do valor escrito
+ * @param <R> tipo do resultado devolvido aos clientes
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+public class WriteCoalescer<K, V, R> {
+
+    private final Map<K, Pending<V, R>> pending = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final BiFunction<K, V, Mono<R>> writer;
+    private final Scheduler scheduler;
+
+    /**
+     * @param window duração da janela de agrupamento
+     * @param writer função que grava o último valor de uma chave
+     */
+    public WriteCoalescer(Duration window, BiFunction<K, V, Mono<R>> writer) {
+        this(window, writer, Schedulers.parallel());
+    }
+
+    WriteCoalescer(Duration window, BiFunction<K, V, Mono<R>> writer, Scheduler scheduler) {
+        this.window = window;
+        this.writer = writer;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Registra uma escrita para a chave.
+     *
+     * @param key chave agrupadora
+     * @param value novo valor
+     * @return {@link Mono} com o resultado da gravação da janela a que a escrita pertence
+     */
+    public Mono<R> submit(K key, V value) {
+        return Mono.defer(() -> {
+            Pending<V, R> slot = pending.compute(key, (k, current) -> {
+                if (current == null) {
+                    Pending<V, R> created = new Pending<>(value);
+                    Mono.delay(window, scheduler)
+                            .subscribe(tick -> flush(k, created));
+                    return created;
+                }
+                current.value = value;
+                current.merged++;
+                return current;
+            });
+            return slot.sink.asMono();
+        });
+    }
+
+    /**
+     * @return quantidade de chaves com escrita pendente
+     */
+    public int pendingKeys() {
+        return pending.size();
+    }
+
+    private void flush(K key, Pending<V, R> slot) {
+        // Remove a chave dentro do lock do mapa: a partir daqui nenhuma escrita altera este slot
+        pending.remove(key, slot);
+        V value = slot.value;
+        log.debug("Gravando escrita agrupada | key={}, escritas={}", key, slot.merged);
+
+        // defer: uma exceção lançada pelo writer vira sinal de erro em vez de escapar do agendamento
+        Mono.defer(() -> writer.apply(key, value))
+                .subscribe(
+                        result -> slot.sink.tryEmitValue(result),
+                        error -> slot.sink.tryEmitError(error),
+                        () -> slot.sink.tryEmitEmpty()
+                );
+    }
+
+    private static final class Pending<V, R> {
+
+        private final Sinks.One<R> sink = Sinks.one();
+        private V value;
+        private int merged = 1;
+
+        private Pending(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package br.com.facilit.kanban.shared.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 @Configuration
 @EnableAsync
@@ -21,4 +24,21 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Pool dedicado às simulações de previsão de entrega, separado do event loop do Netty
+     * e do {@link ForkJoinPool#commonPool()}.
+     *
+     * @param parallelism quantidade de threads; zero usa a quantidade de processadores
+     * @return pool de fork/join
+     */
+    @Bean(name = "forecastPool", destroyMethod = "shutdown")
+    public ForkJoinPool forecastPool(@Value("${facilit.forecast.parallelism:0}") int parallelism) {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(size, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Forecast-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.facilit.kanban.shared.config;
+
+import br.com.facilit.kanban.shared.transaction.ReadOnlyRoutingConnectionFactory;
+import br.com.facilit.kanban.shared.transaction.ReplicaProperties;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração da réplica de leitura, ativada apenas quando {@code facilit.replica.url} é informada.
+ *
+ * <p>Substitui o {@link ConnectionFactory} criado pelo Spring Boot por um
+ * {@link ReadOnlyRoutingConnectionFactory} com dois pools: o do primário, montado a partir de
+ * {@code spring.r2dbc.*}, e o da réplica, a partir de {@code facilit.replica.*}. O
+ * {@code R2dbcTransactionManager}, o {@code DatabaseClient} e os repositórios passam a usar o
+ * roteamento sem nenhuma alteração.</p>
+ *
+ * <p>Para testar localmente, o serviço {@code postgres-replica} do {@code compose.yaml} é uma
+ * réplica em streaming do serviço {@code postgres}, exposta na porta 5433.</p>
+ *
+ * @author Antonio Neto
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "facilit.replica", name = "url")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Cria o {@link ConnectionFactory} com roteamento entre primário e réplica.
+     *
+     * @param r2dbcProperties propriedades do primário
+     * @param replicaProperties propriedades da réplica
+     * @return fábrica de conexões com roteamento das transações somente leitura
+     */
+    @Bean
+    public ReadOnlyRoutingConnectionFactory connectionFactory(R2dbcProperties r2dbcProperties,
+                                                              ReplicaProperties replicaProperties) {
+        R2dbcProperties.Pool pool = r2dbcProperties.getPool();
+        ConnectionPool primary = pool("primary",
+                r2dbcProperties.getUrl(), r2dbcProperties.getUsername(), r2dbcProperties.getPassword(),
+                pool.getInitialSize(), pool.getMaxSize(), pool.getMaxIdleTime());
+        ConnectionPool replica = pool("replica",
+                replicaProperties.url(),
+                replicaProperties.username() != null ? replicaProperties.username() : r2dbcProperties.getUsername(),
+                replicaProperties.password() != null ? replicaProperties.password() : r2dbcProperties.getPassword(),
+                replicaProperties.initialSize(), replicaProperties.maxSize(), replicaProperties.maxIdleTime());
+        return new ReadOnlyRoutingConnectionFactory(primary, replica);
+    }
+
+    private static ConnectionPool pool(String name, String url, String username, String password,
+                                       int initialSize, int maxSize, Duration maxIdleTime) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name(name)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .build());
+    }
+}
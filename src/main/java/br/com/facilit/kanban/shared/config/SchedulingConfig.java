@@ -0,0 +1,18 @@
+package br.com.facilit.kanban.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita a execução de tarefas agendadas ({@code @Scheduled}) na aplicação.
+ *
+ * <p>Os métodos agendados podem retornar {@link reactor.core.publisher.Mono} ou
+ * {@link reactor.core.publisher.Flux}; nesse caso o Spring se inscreve no publisher
+ * a cada disparo, sem bloquear a thread do agendador.</p>
+ *
+ * @author Antonio Neto
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,12 @@
 package br.com.facilit.kanban.shared.config;
 
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.rsocket.RSocketMessageHandlerCustomizer;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 
 @Configuration
 public class ValidationConfig {
@@ -16,4 +19,16 @@ public class ValidationConfig {
         messageSource.setFallbackToSystemLocale(false);
         return messageSource;
     }
-}
\ No newline at end of file
+
+    /**
+     * Aplica ao RSocket a mesma validação de beans dos endpoints REST: sem um validador configurado,
+     * o {@code @Valid} em parâmetros {@code @Payload} é ignorado.
+     *
+     * @param validator validador da aplicação
+     * @return customizador do {@link org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler}
+     */
+    @Bean
+    public RSocketMessageHandlerCustomizer rSocketValidationCustomizer(Validator validator) {
+        return handler -> handler.setValidator(new SpringValidatorAdapter(validator));
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.facilit.kanban.shared.exception;
+
+public class BusinessRuleException extends RuntimeException {
+    public BusinessRuleException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.facilit.kanban.shared.exception;
+
+public class IdempotencyKeyReusedException extends BusinessRuleException {
+    public IdempotencyKeyReusedException(String key) {
+        super("A Idempotency-Key " + key + " já foi usada com uma requisição diferente");
+    }
+}
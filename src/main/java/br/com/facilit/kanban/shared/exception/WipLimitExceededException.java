@@ -0,0 +1,11 @@
+package br.com.facilit.kanban.shared.exception;
+
+public class WipLimitExceededException extends BusinessRuleException {
+    public WipLimitExceededException(String message) {
+        super(message);
+    }
+
+    public WipLimitExceededException(Long secretariatId, String status) {
+        this("Limite de WIP atingido para a coluna " + status + " da secretaria " + secretariatId);
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.facilit.kanban.shared.forecast;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Simulação de Monte Carlo do prazo de entrega a partir do throughput diário histórico.
+ *
+ * <p>Cada tentativa sorteia, com reposição, dias do histórico e acumula as entregas desses
+ * dias até atingir a quantidade de itens; o resultado da tentativa é a quantidade de dias
+ * sorteados. As tentativas são divididas em blocos executados em um {@link ForkJoinPool}; cada
+ * bloco usa seu próprio {@link SplittableRandom}, derivado do gerador do bloco pai, e grava em
+ * sua faixa de um {@code int[]} compartilhado, sem sincronização nem boxing.</p>
+ *
+ * @author Antonio Neto
+ */
+public final class ThroughputSimulation {
+
+    /** Resultado de uma tentativa que não concluiu os itens dentro do horizonte. */
+    public static final int NOT_FINISHED = Integer.MAX_VALUE;
+
+    private static final int BLOCK = 1024;
+
+    private ThroughputSimulation() {}
+
+    /**
+     * Executa as tentativas no pool informado.
+     *
+     * <p>Bloqueia a thread chamadora até o fim da simulação; deve ser chamado de uma thread do
+     * próprio {@code pool} ou de outra thread que possa bloquear, nunca do event loop.</p>
+     *
+     * @param pool pool onde as tentativas são executadas
+     * @param history entregas por dia no período histórico
+     * @param items quantidade de itens a entregar
+     * @param trials quantidade de tentativas
+     * @param horizon quantidade máxima de dias simulados por tentativa
+     * @param seed semente do gerador
+     * @return dias de cada tentativa, em ordem crescente; {@link #NOT_FINISHED} quando o horizonte é atingido
+     */
+    public static int[] run(ForkJoinPool pool, int[] history, int items, int trials, int horizon, long seed) {
+        int[] days = new int[trials];
+        if (items <= 0) {
+            return days;
+        }
+        if (Arrays.stream(history).noneMatch(delivered -> delivered > 0)) {
+            Arrays.fill(days, NOT_FINISHED);
+            return days;
+        }
+        pool.invoke(new Trials(history, items, horizon, days, 0, trials, new SplittableRandom(seed)));
+        Arrays.sort(days);
+        return days;
+    }
+
+    /**
+     * Percentil de um resultado ordenado de {@link #run}.
+     *
+     * @param sortedDays dias das tentativas, em ordem crescente
+     * @param quantile quantil entre 0 e 1
+     * @return dias do percentil, ou {@link #NOT_FINISHED}
+     */
+    public static int percentile(int[] sortedDays, double quantile) {
+        if (sortedDays.length == 0) {
+            return NOT_FINISHED;
+        }
+        int index = (int) Math.ceil(quantile * sortedDays.length) - 1;
+        return sortedDays[Math.max(0, Math.min(sortedDays.length - 1, index))];
+    }
+
+    private static final class Trials extends RecursiveAction {
+
+        private final int[] history;
+        private final int items;
+        private final int horizon;
+        private final int[] days;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        private Trials(int[] history, int items, int horizon, int[] days, int from, int to, SplittableRandom random) {
+            this.history = history;
+            this.items = items;
+            this.horizon = horizon;
+            this.days = days;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BLOCK) {
+                simulate();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Trials(history, items, horizon, days, from, middle, random.split()),
+                    new Trials(history, items, horizon, days, middle, to, random.split()));
+        }
+
+        private void simulate() {
+            int size = history.length;
+            for (int trial = from; trial < to; trial++) {
+                int delivered = 0;
+                int day = 0;
+                while (delivered < items && day < horizon) {
+                    delivered += history[random.nextInt(size)];
+                    day++;
+                }
+                days[trial] = delivered >= items ? day : NOT_FINISHED;
+            }
+        }
+    }
+}
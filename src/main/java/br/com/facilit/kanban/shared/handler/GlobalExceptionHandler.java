@@ -1,6 +1,8 @@
 package br.com.facilit.kanban.shared.handler;
 
+import br.com.facilit.kanban.shared.exception.BusinessRuleException;
 import br.com.facilit.kanban.shared.exception.ClientAlreadyExistsException;
+import br.com.facilit.kanban.shared.exception.InvalidRequestException;
 import br.com.facilit.kanban.shared.exception.NotFoundResourceException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -76,6 +78,23 @@ public class GlobalExceptionHandler  { //extends ResponseEntityExceptionHandler
         return problemDetail;
     }
 
+    /**
+     * Trata exceções de requisições inválidas detectadas fora da validação de beans, como headers
+     * com formato ou tamanho não suportado.
+     *
+     * @param ex exceção com a descrição do problema na requisição.
+     * @return uma resposta {@link ProblemDetail} com status 400.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ProblemDetail handleInvalidRequestException(InvalidRequestException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Requisição inválida");
+        problemDetail.setType(URI.create("https://api.seusistema.com/errors/validacao"));
+        problemDetail.setDetail(ex.getMessage());
+
+        return problemDetail;
+    }
+
     /**
      * Trata exceções lançadas quando um cliente já existe no sistema.
      *
@@ -103,6 +122,22 @@ public class GlobalExceptionHandler  { //extends ResponseEntityExceptionHandler
         return problemDetail;
     }
 
+    /**
+     * Trata exceções lançadas quando a operação viola uma regra de negócio.
+     *
+     * @param ex exceção com a descrição da regra violada.
+     * @return uma resposta {@link ProblemDetail} com status 422 (Entidade não processável).
+     */
+    @ExceptionHandler(BusinessRuleException.class)
+    public ProblemDetail handleBusinessRuleException(BusinessRuleException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.UNPROCESSABLE_ENTITY);
+        problemDetail.setTitle("Regra de negócio violada");
+        problemDetail.setType(URI.create("https://api.seusistema.com/errors/business-rule"));
+        problemDetail.setDetail(ex.getMessage());
+
+        return problemDetail;
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleException(Exception ex) {
         ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,118 @@
+package br.com.facilit.kanban.shared.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Repositório reativo da tabela {@code idempotency_key}.
+ *
+ * <p>A tabela possui chave composta ({@code scope}, {@code request_key}), por isso o acesso
+ * é feito com {@link DatabaseClient} em vez de um {@code ReactiveCrudRepository}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Tenta reservar a chave para a requisição corrente.
+     *
+     * <p>Se a chave já existe e ainda não expirou, nada é alterado. Se outra transação estiver
+     * inserindo a mesma chave, o Postgres bloqueia este comando até que ela termine, o que evita
+     * que duas requisições simultâneas executem o mesmo caso de uso.</p>
+     *
+     * @param scope escopo da chave (ex.: {@code project})
+     * @param key valor do header {@code Idempotency-Key}
+     * @param requestHash impressão digital do corpo da requisição
+     * @param ttl tempo de vida da chave
+     * @return {@link Mono} com {@code true} se a chave foi reservada por esta requisição
+     */
+    public Mono<Boolean> reserve(String scope, String key, String requestHash, Duration ttl) {
+        return databaseClient.sql("""
+                        INSERT INTO idempotency_key (scope, request_key, request_hash, created_at, expires_at)
+                        VALUES (:scope, :key, :hash, now(), now() + make_interval(secs => :ttl))
+                        ON CONFLICT (scope, request_key) DO UPDATE
+                            SET request_hash = EXCLUDED.request_hash,
+                                created_at = EXCLUDED.created_at,
+                                expires_at = EXCLUDED.expires_at,
+                                response_body = NULL
+                          WHERE idempotency_key.expires_at < now()
+                        """)
+                .bind("scope", scope)
+                .bind("key", key)
+                .bind("hash", requestHash)
+                .bind("ttl", ttl.toSeconds())
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    /**
+     * Grava a resposta serializada associada à chave.
+     *
+     * @param scope escopo da chave
+     * @param key valor do header {@code Idempotency-Key}
+     * @param responseBody resposta serializada em JSON
+     * @return {@link Mono} vazio ao concluir
+     */
+    public Mono<Void> complete(String scope, String key, String responseBody) {
+        return databaseClient.sql("""
+                        UPDATE idempotency_key
+                           SET response_body = :body
+                         WHERE scope = :scope AND request_key = :key
+                        """)
+                .bind("body", responseBody)
+                .bind("scope", scope)
+                .bind("key", key)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /**
+     * Recupera a resposta gravada para a chave, junto com a impressão digital da requisição original.
+     *
+     * @param scope escopo da chave
+     * @param key valor do header {@code Idempotency-Key}
+     * @return {@link Mono} com a resposta gravada, ou vazio caso não exista
+     */
+    public Mono<StoredResponse> findResponse(String scope, String key) {
+        return databaseClient.sql("""
+                        SELECT request_hash, response_body
+                          FROM idempotency_key
+                         WHERE scope = :scope AND request_key = :key AND response_body IS NOT NULL
+                        """)
+                .bind("scope", scope)
+                .bind("key", key)
+                .map(row -> new StoredResponse(
+                        row.get("request_hash", String.class),
+                        row.get("response_body", String.class)))
+                .one();
+    }
+
+    /**
+     * Remove as chaves cujo tempo de vida já expirou.
+     *
+     * @return {@link Mono} com a quantidade de chaves removidas
+     */
+    public Mono<Long> deleteExpired() {
+        return databaseClient.sql("DELETE FROM idempotency_key WHERE expires_at < now()")
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Resposta gravada para uma chave.
+     *
+     * @param requestHash impressão digital da requisição que reservou a chave ({@code null} em chaves antigas)
+     * @param body resposta serializada em JSON
+     */
+    public record StoredResponse(String requestHash, String body) {}
+}
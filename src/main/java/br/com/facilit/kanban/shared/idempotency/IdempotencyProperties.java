@@ -0,0 +1,24 @@
+package br.com.facilit.kanban.shared.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do suporte ao header {@code Idempotency-Key}.
+ *
+ * @param ttl tempo de vida de uma chave no banco; após expirar ela pode ser reutilizada
+ * @param localCacheSize quantidade máxima de respostas mantidas no cache local
+ * @param localCacheTtl tempo de vida das respostas no cache local
+ * @param purgeInterval intervalo entre as limpezas das chaves expiradas
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("PT24H") Duration ttl,
+        @DefaultValue("10000") long localCacheSize,
+        @DefaultValue("PT10M") Duration localCacheTtl,
+        @DefaultValue("PT1H") Duration purgeInterval
+) {}
@@ -0,0 +1,36 @@
+package br.com.facilit.kanban.shared.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tarefa agendada que remove as chaves de idempotência expiradas.
+ *
+ * <p>O intervalo é definido por {@code facilit.idempotency.purge-interval}.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyPurgeJob {
+
+    private final IdempotencyKeyRepository repository;
+
+    /**
+     * Remove as chaves cujo {@code expires_at} já passou.
+     *
+     * @return {@link Mono} que completa ao final da limpeza
+     */
+    @Scheduled(fixedDelayString = "${facilit.idempotency.purge-interval:PT1H}")
+    public Mono<Void> purgeExpired() {
+        return repository.deleteExpired()
+                .doOnSuccess(total -> log.info("Chaves de idempotência expiradas removidas: {}", total))
+                .doOnError(error -> log.error("Erro ao remover chaves de idempotência: {}", error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.facilit.kanban.shared.idempotency;
+
+import br.com.facilit.kanban.shared.exception.IdempotencyKeyReusedException;
+import br.com.facilit.kanban.shared.exception.InvalidRequestException;
+import br.com.facilit.kanban.shared.transaction.TransactionCallbacks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Aplica a semântica do header {@code Idempotency-Key} aos endpoints de criação.
+ *
+ * <p><strong>Fluxo:</strong></p>
+ * <ol>
+ *     <li>Sem chave, o caso de uso é executado normalmente</li>
+ *     <li>Repetições recentes são respondidas pelo cache local, sem tocar no banco nem no caso de uso</li>
+ *     <li>Caso contrário a chave é reservada na tabela {@code idempotency_key}; quem reserva executa
+ *     o caso de uso e grava a resposta, quem não reserva devolve a resposta gravada</li>
+ *     <li>Após o commit, a resposta é colocada no cache local</li>
+ * </ol>
+ *
+ * <p>A chave é limitada a {@value #MAX_KEY_LENGTH} caracteres, o tamanho da coluna
+ * {@code request_key}; chaves maiores são rejeitadas com 400. Junto com a chave é gravado o SHA-256
+ * do corpo da requisição: repetir a chave com um corpo diferente é rejeitado com 422, em vez de
+ * devolver a resposta de outra requisição.</p>
+ *
+ * <p>Deve ser chamado dentro de um método anotado com
+ * {@link br.com.facilit.kanban.shared.aop.ReactiveTransactional}, para que a reserva da chave,
+ * o insert do caso de uso e a gravação da resposta ocorram na mesma transação: se o insert falhar,
+ * a chave também é desfeita e o cliente pode repetir a requisição.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    /** Nome do header HTTP que carrega a chave de idempotência. */
+    public static final String HEADER = "Idempotency-Key";
+
+    /** Tamanho máximo da chave, igual ao da coluna {@code idempotency_key.request_key}. */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Cache<String, CachedResponse> localCache;
+
+    public IdempotencyService(IdempotencyKeyRepository repository,
+                              ObjectMapper objectMapper,
+                              IdempotencyProperties properties) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.localCacheSize())
+                .expireAfterWrite(properties.localCacheTtl())
+                .build();
+    }
+
+    /**
+     * Executa a ação de forma idempotente para a chave informada.
+     *
+     * @param scope escopo da chave, normalmente o recurso (ex.: {@code project})
+     * @param key valor do header {@code Idempotency-Key}; quando nulo ou vazio a ação é executada sempre
+     * @param request corpo da requisição, usado para detectar a reutilização da chave com outro conteúdo
+     * @param responseType tipo da resposta, usado para desserializar respostas gravadas
+     * @param action ação que executa o caso de uso
+     * @param <T> tipo da resposta
+     * @return {@link Mono} com a resposta original ou a resposta gravada anteriormente
+     */
+    public <T> Mono<T> execute(String scope, String key, Object request, Class<T> responseType, Supplier<Mono<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new InvalidRequestException(
+                    "O header " + HEADER + " deve ter no máximo " + MAX_KEY_LENGTH + " caracteres"));
+        }
+
+        return Mono.fromCallable(() -> fingerprint(request))
+                .flatMap(requestHash -> execute(scope, key, requestHash, responseType, action));
+    }
+
+    private <T> Mono<T> execute(String scope, String key, String requestHash,
+                                Class<T> responseType, Supplier<Mono<T>> action) {
+        String cacheKey = scope + ':' + key;
+        CachedResponse cached = localCache.getIfPresent(cacheKey);
+        if (cached != null && responseType.isInstance(cached.response())) {
+            if (!cached.requestHash().equals(requestHash)) {
+                return Mono.error(new IdempotencyKeyReusedException(key));
+            }
+            log.debug("Resposta idempotente servida pelo cache local | scope={}, key={}", scope, key);
+            return Mono.just(responseType.cast(cached.response()));
+        }
+
+        return repository.reserve(scope, key, requestHash, properties.ttl())
+                .flatMap(reserved -> reserved
+                        ? action.get().flatMap(response -> store(scope, key, response))
+                        : replay(scope, key, requestHash, responseType))
+                .flatMap(response -> TransactionCallbacks.afterCommit(
+                                () -> localCache.put(cacheKey, new CachedResponse(requestHash, response)))
+                        .thenReturn(response));
+    }
+
+    private <T> Mono<T> store(String scope, String key, T response) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(response))
+                .flatMap(body -> repository.complete(scope, key, body))
+                .thenReturn(response);
+    }
+
+    private <T> Mono<T> replay(String scope, String key, String requestHash, Class<T> responseType) {
+        return repository.findResponse(scope, key)
+                .flatMap(stored -> {
+                    if (stored.requestHash() != null && !stored.requestHash().equals(requestHash)) {
+                        log.warn("Idempotency-Key reutilizada com outra requisição | scope={}, key={}", scope, key);
+                        return Mono.error(new IdempotencyKeyReusedException(key));
+                    }
+                    log.info("Requisição repetida, devolvendo resposta gravada | scope={}, key={}", scope, key);
+                    return Mono.just(read(stored.body(), responseType));
+                });
+    }
+
+    private <T> T read(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (Exception e) {
+            throw new IllegalStateException("Resposta idempotente inválida", e);
+        }
+    }
+
+    private String fingerprint(Object request) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(request);
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    }
+
+    /**
+     * Resposta mantida no cache local, com a impressão digital da requisição que a gerou.
+     */
+    private record CachedResponse(String requestHash, Object response) {}
+}
@@ -0,0 +1,69 @@
+package br.com.facilit.kanban.shared.lock;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Eleição de líder entre instâncias com advisory lock transacional do Postgres.
+ *
+ * <p>Antes de executar a tarefa, uma conexão do pool abre uma transação e tenta obter
+ * {@code pg_try_advisory_xact_lock(hashtext(nome))}, sem esperar. Quem obtém o lock executa
+ * a tarefa; as demais instâncias não fazem nada nesta rodada e tentam de novo na próxima.
+ * Ao final a transação do lock é confirmada (ou desfeita, em erro ou cancelamento), o que
+ * libera o lock. Se a instância líder cair, o Postgres encerra a transação junto com a
+ * conexão e outra instância assume na rodada seguinte.</p>
+ *
+ * <p>Por ser transacional, o lock nunca sobrevive ao fim da transação: diferente do lock de
+ * sessão, uma falha ao liberá-lo não devolve ao pool uma conexão que ainda o segura.</p>
+ *
+ * <p>A conexão do lock fica reservada, em uma transação sem escritas, durante a execução; o
+ * trabalho em si usa as demais conexões do pool, com transações próprias. A duração da tarefa
+ * deve ficar abaixo de {@code idle_in_transaction_session_timeout}, quando configurado.</p>
+ *
+ * @author Antonio Neto
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdvisoryLockLeadership {
+
+    private final ConnectionFactory connectionFactory;
+
+    /**
+     * Executa a tarefa apenas se esta instância for eleita líder para {@code name}.
+     *
+     * @param name nome do lock, único por tarefa
+     * @param work tarefa a executar
+     * @param <T> tipo do resultado
+     * @return {@link Mono} com o resultado da tarefa, ou vazio se outra instância for a líder
+     */
+    public <T> Mono<T> runAsLeader(String name, Mono<T> work) {
+        return Mono.usingWhen(
+                Mono.from(connectionFactory.create()),
+                connection -> Mono.usingWhen(
+                        Mono.from(connection.beginTransaction()).thenReturn(connection),
+                        locked -> tryLock(locked, name)
+                                .flatMap(acquired -> {
+                                    if (!acquired) {
+                                        log.debug("Outra instância é líder | lock={}", name);
+                                        return Mono.<T>empty();
+                                    }
+                                    return work;
+                                }),
+                        Connection::commitTransaction,
+                        (locked, error) -> locked.rollbackTransaction(),
+                        Connection::rollbackTransaction),
+                Connection::close);
+    }
+
+    private Mono<Boolean> tryLock(Connection connection, String name) {
+        return Mono.from(connection.createStatement("SELECT pg_try_advisory_xact_lock(hashtext($1))")
+                        .bind("$1", name)
+                        .execute())
+                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Boolean.class))));
+    }
+}
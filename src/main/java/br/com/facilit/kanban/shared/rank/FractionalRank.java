@@ -0,0 +1,96 @@
+package br.com.facilit.kanban.shared.rank;
+
+/**
+ * Chaves de ordenação fracionárias em base 62, no estilo LexoRank.
+ *
+ * <p>Uma chave é uma fração em base 62 ({@code 0-9A-Za-z}) escrita sem o "0," inicial: a
+ * ordem lexicográfica das chaves, com collation {@code "C"}, é a ordem numérica das frações.
+ * Sempre existe uma chave entre duas chaves distintas, portanto mover um card exige gravar
+ * apenas a chave do card movido.</p>
+ *
+ * <p>Chaves válidas não terminam em {@code '0'}; é isso que garante espaço entre quaisquer
+ * duas chaves. Inserções repetidas no mesmo ponto aumentam o tamanho das chaves, que devem
+ * ser redistribuídas periodicamente ({@link #spread(long)}).</p>
+ *
+ * @author Antonio Neto
+ */
+public final class FractionalRank {
+
+    /** Dígitos em ordem crescente, compatível com a collation {@code "C"} do Postgres. */
+    public static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    /** Quantidade de dígitos usados por {@link #spread(long)}. */
+    public static final int SPREAD_WIDTH = 9;
+
+    private static final int BASE = DIGITS.length();
+
+    private FractionalRank() {}
+
+    /**
+     * Gera uma chave estritamente entre {@code lower} e {@code upper}.
+     *
+     * @param lower chave anterior, ou {@code null} para o início da coluna
+     * @param upper chave seguinte, ou {@code null} para o fim da coluna
+     * @return nova chave
+     * @throws IllegalArgumentException se {@code lower >= upper} ou se alguma chave for inválida
+     */
+    public static String between(String lower, String upper) {
+        String a = lower == null ? "" : lower;
+        validate(a);
+        if (upper != null) {
+            validate(upper);
+            if (a.compareTo(upper) >= 0) {
+                throw new IllegalArgumentException("Chave inferior deve ser menor que a superior: " + lower + " >= " + upper);
+            }
+        }
+        return midpoint(a, upper);
+    }
+
+    /**
+     * Chave de largura fixa para a posição {@code position} de uma coluna redistribuída.
+     * Equivalente ao cálculo feito em SQL pelo rebalanceamento: {@code lpad(position, 9, '0') || 'V'}.
+     *
+     * @param position posição (a partir de 1)
+     * @return chave correspondente
+     */
+    public static String spread(long position) {
+        String digits = Long.toString(position);
+        return "0".repeat(Math.max(0, SPREAD_WIDTH - digits.length())) + digits + 'V';
+    }
+
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            int n = 0;
+            while (n < b.length() && digitAt(a, n) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.length() > n ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b == null ? BASE : DIGITS.indexOf(b.charAt(0));
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static char digitAt(String key, int index) {
+        return index < key.length() ? key.charAt(index) : '0';
+    }
+
+    private static void validate(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Caractere inválido na chave de ordenação: " + key);
+            }
+        }
+        if (!key.isEmpty() && key.charAt(key.length() - 1) == '0') {
+            throw new IllegalArgumentException("Chave de ordenação não pode terminar em '0': " + key);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.facilit.kanban.shared.rank;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor de paginação por chave ({@code rank}, {@code id}) de uma coluna ordenada com
+ * {@link FractionalRank}.
+ *
+ * <p>O cursor é a posição do último card entregue, codificada em Base64 URL-safe para ser
+ * tratada como opaca pelos clientes. A próxima página é lida com
+ * {@code (rank, id) > (:rank, :id)}, aproveitando o índice da coluna, sem {@code OFFSET}.</p>
+ *
+ * @param rank chave de ordenação do último card entregue
+ * @param id identificador interno do último card entregue, para desempate
+ *
+ * @author Antonio Neto
+ */
+public record RankCursor(String rank, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Codifica o cursor.
+     *
+     * @return cursor opaco
+     */
+    public String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor gerado por {@link #encode()}.
+     *
+     * @param cursor cursor opaco
+     * @return posição representada pelo cursor
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static RankCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        return new RankCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+    }
+}
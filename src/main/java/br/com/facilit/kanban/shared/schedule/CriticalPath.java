@@ -0,0 +1,142 @@
+package br.com.facilit.kanban.shared.schedule;
+
+import java.util.Arrays;
+
+/**
+ * Método do caminho crítico (CPM) sobre um grafo de dependências em arrays primitivos.
+ *
+ * <p>Os nós são índices de {@code 0} a {@code n - 1} e as arestas vão do predecessor para o
+ * sucessor. As arestas são organizadas em listas de adjacência compactas ({@code offsets} e
+ * {@code successors}, formato CSR) e a ordem topológica é obtida pelo algoritmo de Kahn.
+ * Em seguida:</p>
+ * <ul>
+ *     <li>Ida, em ordem topológica: início mais cedo = maior valor entre o início mínimo do nó e os
+ *     términos mais cedo dos predecessores; término mais cedo = início + duração</li>
+ *     <li>Volta, em ordem inversa: término mais tarde = menor início mais tarde dos sucessores
+ *     (ou o término do grafo); início mais tarde = término - duração</li>
+ *     <li>Folga = início mais tarde - início mais cedo; folga zero indica nó crítico</li>
+ * </ul>
+ *
+ * <p>Nós que pertencem a um ciclo, ou que dependem de um, nunca chegam a grau de entrada zero
+ * e ficam marcados como bloqueados, sem datas calculadas.</p>
+ *
+ * @author Antonio Neto
+ */
+public final class CriticalPath {
+
+    /** Valor das datas de nós bloqueados. */
+    public static final int BLOCKED = Integer.MIN_VALUE;
+
+    private CriticalPath() {}
+
+    /**
+     * Resultado do cálculo, indexado pelo nó. Datas em dias (a unidade de {@code notBefore}).
+     *
+     * @param order nós em ordem topológica; apenas as {@code resolved} primeiras posições são válidas
+     * @param resolved quantidade de nós fora de ciclos
+     * @param earliestStart início mais cedo
+     * @param earliestFinish término mais cedo
+     * @param latestStart início mais tarde
+     * @param latestFinish término mais tarde
+     * @param finish término do grafo (maior término mais cedo), ou {@link #BLOCKED} sem nós resolvidos
+     */
+    public record Schedule(
+            int[] order,
+            int resolved,
+            int[] earliestStart,
+            int[] earliestFinish,
+            int[] latestStart,
+            int[] latestFinish,
+            int finish
+    ) {
+
+        /** @return {@code true} se o nó pertence a um ciclo ou depende de um */
+        public boolean blocked(int node) {
+            return earliestStart[node] == BLOCKED;
+        }
+
+        /** @return folga do nó, ou {@link #BLOCKED} */
+        public int slack(int node) {
+            return blocked(node) ? BLOCKED : latestStart[node] - earliestStart[node];
+        }
+    }
+
+    /**
+     * Calcula as datas do grafo.
+     *
+     * @param duration duração de cada nó
+     * @param notBefore início mínimo de cada nó
+     * @param predecessors origem de cada aresta
+     * @param successors destino de cada aresta, na mesma posição de {@code predecessors}
+     * @return datas de cada nó
+     */
+    public static Schedule compute(int[] duration, int[] notBefore, int[] predecessors, int[] successors) {
+        int n = duration.length;
+        int m = predecessors.length;
+
+        int[] offsets = new int[n + 1];
+        int[] indegree = new int[n];
+        for (int edge = 0; edge < m; edge++) {
+            offsets[predecessors[edge] + 1]++;
+            indegree[successors[edge]]++;
+        }
+        for (int node = 0; node < n; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+        int[] adjacency = new int[m];
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int edge = 0; edge < m; edge++) {
+            adjacency[cursor[predecessors[edge]]++] = successors[edge];
+        }
+
+        int[] order = new int[n];
+        int tail = 0;
+        for (int node = 0; node < n; node++) {
+            if (indegree[node] == 0) {
+                order[tail++] = node;
+            }
+        }
+
+        int[] earliestStart = Arrays.copyOf(notBefore, n);
+        int[] earliestFinish = new int[n];
+        int finish = BLOCKED;
+        for (int head = 0; head < tail; head++) {
+            int node = order[head];
+            earliestFinish[node] = earliestStart[node] + duration[node];
+            finish = Math.max(finish, earliestFinish[node]);
+            for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                int next = adjacency[i];
+                earliestStart[next] = Math.max(earliestStart[next], earliestFinish[node]);
+                if (--indegree[next] == 0) {
+                    order[tail++] = next;
+                }
+            }
+        }
+        int resolved = tail;
+
+        int[] latestStart = new int[n];
+        int[] latestFinish = new int[n];
+        Arrays.fill(latestStart, BLOCKED);
+        Arrays.fill(latestFinish, BLOCKED);
+        for (int position = resolved - 1; position >= 0; position--) {
+            int node = order[position];
+            int latest = finish;
+            for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                int next = adjacency[i];
+                if (latestStart[next] != BLOCKED) {
+                    latest = Math.min(latest, latestStart[next]);
+                }
+            }
+            latestFinish[node] = latest;
+            latestStart[node] = latest - duration[node];
+        }
+
+        for (int node = 0; node < n; node++) {
+            if (indegree[node] > 0) {
+                earliestStart[node] = BLOCKED;
+                earliestFinish[node] = BLOCKED;
+            }
+        }
+        return new Schedule(order, resolved, earliestStart, earliestFinish, latestStart, latestFinish, finish);
+    }
+}
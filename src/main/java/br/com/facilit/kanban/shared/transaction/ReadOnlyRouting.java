@@ -0,0 +1,41 @@
+package br.com.facilit.kanban.shared.transaction;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Marcação, no contexto do Reactor, das transações somente leitura.
+ *
+ * <p>O aspecto de {@link br.com.facilit.kanban.shared.aop.ReactiveTransactional} grava a marcação
+ * abaixo do operador transacional, para que ela já esteja visível quando a transação obtém a conexão;
+ * {@link ReadOnlyRoutingConnectionFactory} a lê para escolher o pool. Fora de uma transação somente
+ * leitura o contexto não tem a marcação e a conexão vem do primário.</p>
+ *
+ * @author Antonio Neto
+ */
+public final class ReadOnlyRouting {
+
+    /** Chave de roteamento da réplica de leitura. */
+    public static final String REPLICA = "replica";
+
+    private static final String KEY = ReadOnlyRouting.class.getName();
+
+    private ReadOnlyRouting() {}
+
+    /**
+     * Marca o contexto como somente leitura.
+     *
+     * @param context contexto do Reactor
+     * @return contexto com a marcação
+     */
+    public static Context enable(Context context) {
+        return context.put(KEY, REPLICA);
+    }
+
+    /**
+     * @return {@link Mono} com {@link #REPLICA} se o contexto corrente for somente leitura, ou vazio
+     */
+    public static Mono<Object> currentKey() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrDefault(KEY, null)));
+    }
+}
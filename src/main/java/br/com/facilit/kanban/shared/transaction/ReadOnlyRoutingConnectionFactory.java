@@ -0,0 +1,42 @@
+package br.com.facilit.kanban.shared.transaction;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * {@link io.r2dbc.spi.ConnectionFactory} que direciona as transações somente leitura para o pool
+ * da réplica e todo o resto (escritas, consultas fora de transação, LISTEN, advisory locks) para
+ * o pool do primário.
+ *
+ * <p>A escolha é feita a cada conexão obtida, a partir de {@link ReadOnlyRouting#currentKey()}.</p>
+ *
+ * @author Antonio Neto
+ */
+public class ReadOnlyRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    private final ConnectionPool primary;
+    private final ConnectionPool replica;
+
+    public ReadOnlyRoutingConnectionFactory(ConnectionPool primary, ConnectionPool replica) {
+        this.primary = primary;
+        this.replica = replica;
+        setTargetConnectionFactories(Map.of(ReadOnlyRouting.REPLICA, replica));
+        setDefaultTargetConnectionFactory(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return ReadOnlyRouting.currentKey();
+    }
+
+    @Override
+    public void destroy() {
+        replica.dispose();
+        primary.dispose();
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.facilit.kanban.shared.transaction;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração da réplica de leitura do Postgres.
+ *
+ * <p>Sem {@code url}, a réplica não é usada e todas as transações vão para o primário.</p>
+ *
+ * @param url URL R2DBC da réplica
+ * @param username usuário da réplica; sem valor, usa {@code spring.r2dbc.username}
+ * @param password senha da réplica; sem valor, usa {@code spring.r2dbc.password}
+ * @param initialSize conexões abertas na inicialização do pool da réplica
+ * @param maxSize tamanho máximo do pool da réplica
+ * @param maxIdleTime tempo máximo de uma conexão ociosa no pool da réplica
+ *
+ * @author Antonio Neto
+ */
+@ConfigurationProperties("facilit.replica")
+public record ReplicaProperties(
+        String url,
+        String username,
+        String password,
+        @DefaultValue("5") int initialSize,
+        @DefaultValue("20") int maxSize,
+        @DefaultValue("PT30M") Duration maxIdleTime
+) {}
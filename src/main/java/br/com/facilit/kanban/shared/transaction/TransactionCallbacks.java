@@ -0,0 +1,67 @@
+package br.com.facilit.kanban.shared.transaction;
+
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Utilitário para registrar ações que só devem ocorrer depois que a transação
+ * reativa corrente for confirmada (commit).
+ *
+ * <p>Útil para atualizar estruturas em memória (caches, contadores) apenas quando
+ * o banco de dados já refletir a alteração. Quando não existe transação ativa no
+ * contexto do Reactor, a ação é executada imediatamente.</p>
+ *
+ * @author Antonio Neto
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {}
+
+    /**
+     * Agenda a ação para depois do commit da transação corrente.
+     *
+     * @param action ação a ser executada após o commit
+     * @return {@link Mono} que completa assim que a ação for registrada (ou executada)
+     */
+    public static Mono<Void> afterCommit(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .map(manager -> {
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(action);
+                        }
+                    });
+                    return Boolean.TRUE;
+                })
+                .onErrorResume(NoTransactionException.class, error -> Mono.empty())
+                .switchIfEmpty(Mono.<Void>fromRunnable(action).thenReturn(Boolean.FALSE))
+                .then();
+    }
+
+    /**
+     * Agenda a ação para o término da transação corrente, seja por commit ou rollback.
+     *
+     * @param action ação a ser executada ao término da transação
+     * @return {@link Mono} que completa assim que a ação for registrada (ou executada)
+     */
+    public static Mono<Void> afterCompletion(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .map(manager -> {
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCompletion(int status) {
+                            return Mono.fromRunnable(action);
+                        }
+                    });
+                    return Boolean.TRUE;
+                })
+                .onErrorResume(NoTransactionException.class, error -> Mono.empty())
+                .switchIfEmpty(Mono.<Void>fromRunnable(action).thenReturn(Boolean.FALSE))
+                .then();
+    }
+}
@@ -0,0 +1,60 @@
+-- =============================
+-- Atraso e percentual de tempo restante calculados na leitura.
+--
+-- Os valores dependem do relógio, então gravá-los exigiria reescrever todas as
+-- linhas diariamente e eles ficariam desatualizados entre as execuções. As
+-- funções abaixo são a única definição do cálculo: a view project_view é usada
+-- nas leituras e o UPDATE de status as usa no RETURNING. Por serem funções SQL
+-- STABLE de uma única expressão, o planner as expande na consulta.
+--
+-- As datas são gravadas em UTC (TIMESTAMP sem fuso), por isso o "agora" é
+-- now() AT TIME ZONE 'UTC'.
+-- =============================
+
+-- Dias de atraso em relação ao término previsto: até o término real, se houver,
+-- ou até hoje. Nulo sem término previsto; zero se ainda estiver no prazo.
+CREATE OR REPLACE FUNCTION project_days_late(expected_therm TIMESTAMP, thermal_actual TIMESTAMP)
+RETURNS INT AS $$
+    SELECT CASE
+               WHEN expected_therm IS NULL THEN NULL
+               ELSE GREATEST(0, COALESCE(thermal_actual, now() AT TIME ZONE 'UTC')::date - expected_therm::date)
+           END
+$$ LANGUAGE sql STABLE;
+
+-- Percentual (0 a 100) do intervalo entre o início (real, ou previsto) e o término
+-- previsto que ainda resta. Nulo quando o intervalo não pode ser calculado.
+CREATE OR REPLACE FUNCTION project_percentage_of_time_remaining(expected_start TIMESTAMP,
+                                                                expected_therm TIMESTAMP,
+                                                                start_actual TIMESTAMP,
+                                                                thermal_actual TIMESTAMP)
+RETURNS DOUBLE PRECISION AS $$
+    SELECT CASE
+               WHEN expected_therm IS NULL
+                    OR COALESCE(start_actual, expected_start) IS NULL
+                    OR expected_therm <= COALESCE(start_actual, expected_start) THEN NULL
+               ELSE round((100 * GREATEST(0, LEAST(1,
+                        extract(epoch FROM expected_therm - COALESCE(thermal_actual, now() AT TIME ZONE 'UTC'))
+                        / extract(epoch FROM expected_therm - COALESCE(start_actual, expected_start)))))::numeric, 2)::double precision
+           END
+$$ LANGUAGE sql STABLE;
+
+-- Visão simples (sem agregação) sobre project: filtros, ordenações e FOR UPDATE
+-- continuam usando os índices e bloqueando as linhas da tabela.
+CREATE VIEW project_view AS
+SELECT p.id,
+       p.secretariat_id,
+       p.name,
+       p.status,
+       p.uuid,
+       p.expected_start,
+       p.expected_therm,
+       p.start_actual,
+       p.thermal_actual,
+       project_days_late(p.expected_therm, p.thermal_actual) AS days_late,
+       project_percentage_of_time_remaining(p.expected_start, p.expected_therm,
+                                            p.start_actual, p.thermal_actual) AS percentage_of_time_remaining,
+       p.created_at,
+       p.updated_at,
+       p.rank,
+       p.change_seq
+  FROM project p;
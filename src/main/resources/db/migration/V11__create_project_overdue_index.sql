@@ -0,0 +1,8 @@
+-- =============================
+-- Índice parcial dos projetos que ainda podem atrasar, usado pela tarefa que move
+-- os projetos vencidos para ATRASADO (ORDER BY expected_therm LIMIT ... SKIP LOCKED)
+-- e pela medição do atraso da tarefa. Projetos concluídos, cancelados ou já
+-- atrasados ficam fora do índice.
+-- =============================
+CREATE INDEX idx_project_overdue ON project (expected_therm, id)
+    WHERE status NOT IN ('CONCLUIDO', 'CANCELADO', 'ATRASADO');
@@ -0,0 +1,70 @@
+-- =============================
+-- TABELA: project_status_history
+-- Histórico somente de inserção das transições de status dos projetos, base para
+-- lead time e cycle time. Particionada por mês de changed_at (UTC): partições
+-- antigas são removidas com DETACH PARTITION, sem DELETE nem VACUUM da tabela.
+-- Não há chave estrangeira para project: o histórico sobrevive à exclusão do projeto.
+-- =============================
+CREATE TABLE project_status_history (
+    id BIGINT GENERATED ALWAYS AS IDENTITY,
+    project_id BIGINT NOT NULL,
+    secretariat_id BIGINT NOT NULL,
+    from_status VARCHAR(45),
+    to_status VARCHAR(45) NOT NULL,
+    changed_at TIMESTAMP NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    actor VARCHAR(200),
+
+    PRIMARY KEY (id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+CREATE INDEX idx_project_status_history_project ON project_status_history (project_id, changed_at);
+
+-- Recebe linhas de meses sem partição própria; deve permanecer vazia enquanto
+-- a tarefa de manutenção cria as partições com antecedência.
+CREATE TABLE project_status_history_default PARTITION OF project_status_history DEFAULT;
+
+-- =============================
+-- Cria, se ainda não existir, a partição do mês que contém "month".
+-- Retorna o nome da partição.
+-- =============================
+CREATE FUNCTION project_status_history_create_partition(month DATE) RETURNS TEXT
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    start_at TIMESTAMP := date_trunc('month', month);
+    partition_name TEXT := 'project_status_history_' || to_char(start_at, 'YYYY_MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF project_status_history FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, start_at, start_at + INTERVAL '1 month');
+    RETURN partition_name;
+END;
+$$;
+
+-- =============================
+-- Desanexa as partições mensais que terminam até "before". As tabelas continuam
+-- existindo, fora do histórico, para arquivamento ou DROP manual.
+-- Retorna os nomes das partições desanexadas.
+-- =============================
+CREATE FUNCTION project_status_history_detach_before(before DATE) RETURNS SETOF TEXT
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name TEXT;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+          FROM pg_inherits i
+          JOIN pg_class c ON c.oid = i.inhrelid
+         WHERE i.inhparent = 'project_status_history'::regclass
+           AND c.relname ~ '^project_status_history_[0-9]{4}_[0-9]{2}$'
+           AND to_date(right(c.relname, 7), 'YYYY_MM') + INTERVAL '1 month' <= before
+         ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE project_status_history DETACH PARTITION %I', partition_name);
+        RETURN NEXT partition_name;
+    END LOOP;
+END;
+$$;
+
+SELECT project_status_history_create_partition(((now() AT TIME ZONE 'UTC') + make_interval(months => n))::date)
+  FROM generate_series(0, 2) AS n;
@@ -0,0 +1,64 @@
+-- =============================
+-- Lead time e cycle time por dia, a partir do histórico de status.
+--
+-- Cada conclusão (transição para CONCLUIDO) gera um evento por métrica:
+--   LEAD  = conclusão - criação do projeto
+--   CYCLE = conclusão - primeira entrada em EM_ANDAMENTO (ou start_actual)
+-- Os tempos são guardados como histograma em buckets logarítmicos de horas
+-- (erro relativo de ~10%), que podem ser somados entre dias e secretarias: os
+-- percentis de qualquer janela saem da soma das linhas diárias, sem reler
+-- o histórico.
+-- =============================
+
+-- Bucket de uma duração em horas: floor(ln(1 + horas) / ln(1.1)).
+CREATE OR REPLACE FUNCTION project_flow_bucket(hours DOUBLE PRECISION)
+RETURNS INT AS $$
+    SELECT floor(ln(1 + GREATEST(hours, 0)) / ln(1.1))::int
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Eventos de lead time e cycle time das conclusões em [from_at, to_at).
+CREATE OR REPLACE FUNCTION project_flow_events(from_at TIMESTAMP, to_at TIMESTAMP)
+RETURNS TABLE (day DATE, secretariat_id BIGINT, metric VARCHAR, bucket INT) AS $$
+    SELECT h.changed_at::date, h.secretariat_id, m.metric, project_flow_bucket(m.hours)
+      FROM project_status_history h
+      LEFT JOIN project p ON p.id = h.project_id
+     CROSS JOIN LATERAL (VALUES
+               ('LEAD'::varchar, extract(epoch FROM h.changed_at - p.created_at) / 3600),
+               ('CYCLE'::varchar, extract(epoch FROM h.changed_at - COALESCE(
+                       (SELECT min(s.changed_at)
+                          FROM project_status_history s
+                         WHERE s.project_id = h.project_id
+                           AND s.to_status = 'EM_ANDAMENTO'
+                           AND s.changed_at <= h.changed_at),
+                       p.start_actual)) / 3600)
+           ) AS m(metric, hours)
+     WHERE h.to_status = 'CONCLUIDO'
+       AND h.changed_at >= from_at
+       AND h.changed_at < to_at
+       AND m.hours >= 0
+$$ LANGUAGE sql STABLE;
+
+-- =============================
+-- TABELA: project_flow_daily
+-- Histograma diário por (secretaria, métrica). Cada dia é gravado uma única vez,
+-- depois de encerrado, pela tarefa de consolidação.
+-- =============================
+CREATE TABLE project_flow_daily (
+    day DATE NOT NULL,
+    secretariat_id BIGINT NOT NULL,
+    metric VARCHAR(10) NOT NULL,
+    bucket SMALLINT NOT NULL,
+    total INT NOT NULL,
+
+    PRIMARY KEY (day, secretariat_id, metric, bucket)
+);
+
+-- =============================
+-- TABELA: analytics_watermark
+-- Último dia consolidado por cada tarefa incremental de analytics.
+-- =============================
+CREATE TABLE analytics_watermark (
+    name VARCHAR(45) PRIMARY KEY,
+    last_day DATE NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
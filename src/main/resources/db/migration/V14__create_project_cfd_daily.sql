@@ -0,0 +1,26 @@
+-- =============================
+-- Diagrama de fluxo cumulativo (CFD): quantidade de projetos por
+-- (dia, secretaria, status) ao fim de cada dia (UTC).
+--
+-- O histórico de status passa a registrar também a criação do projeto
+-- (from_status nulo) e a troca de secretaria (from_secretariat_id), para que
+-- cada dia seja o dia anterior somado às transições do dia, sem reler project.
+-- =============================
+ALTER TABLE project_status_history ADD COLUMN from_secretariat_id BIGINT;
+
+COMMENT ON COLUMN project_status_history.from_status IS 'Status anterior; nulo na criação do projeto';
+COMMENT ON COLUMN project_status_history.from_secretariat_id IS 'Secretaria anterior, quando a transição também troca a secretaria';
+
+-- =============================
+-- TABELA: project_cfd_daily
+-- Uma linha por (dia, secretaria, status) com projetos; combinações sem projetos
+-- não são gravadas. Cada dia é gravado uma única vez pela tarefa de consolidação.
+-- =============================
+CREATE TABLE project_cfd_daily (
+    day DATE NOT NULL,
+    secretariat_id BIGINT NOT NULL,
+    status VARCHAR(45) NOT NULL,
+    total BIGINT NOT NULL,
+
+    PRIMARY KEY (day, secretariat_id, status)
+);
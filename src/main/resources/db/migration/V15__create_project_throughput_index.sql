@@ -0,0 +1,7 @@
+-- =============================
+-- Índice parcial das conclusões no histórico de status, usado pela previsão de
+-- entrega para ler o throughput diário de uma secretaria sem percorrer as demais
+-- transições das partições.
+-- =============================
+CREATE INDEX idx_project_status_history_done ON project_status_history (secretariat_id, changed_at)
+    WHERE to_status = 'CONCLUIDO';
@@ -0,0 +1,13 @@
+-- =============================
+-- Índice GiST do período previsto dos projetos, usado pela linha do tempo
+-- (GET /api/projects/timeline). A consulta busca projetos cujo intervalo
+-- [expected_start, expected_therm] se sobrepõe à janela pedida; um B-tree sobre
+-- as duas colunas só atende um dos limites, enquanto o GiST atende o operador &&.
+--
+-- A expressão precisa ser idêntica à da consulta. GREATEST evita erro de
+-- construção do intervalo quando o término previsto é anterior ao início;
+-- projetos sem alguma das datas ficam fora do índice e da linha do tempo.
+-- =============================
+CREATE INDEX idx_project_period ON project
+    USING gist (tsrange(expected_start, GREATEST(expected_start, expected_therm), '[]'))
+    WHERE expected_start IS NOT NULL AND expected_therm IS NOT NULL;
@@ -0,0 +1,45 @@
+-- =============================
+-- Carga de trabalho dos responsáveis (GET /api/analytics/workload).
+--
+-- A consulta parte dos responsáveis de uma secretaria e segue os vínculos até os
+-- projetos; a chave primária de project_has_accountable começa por project_id e
+-- não atende esse sentido do join.
+-- =============================
+CREATE INDEX idx_accountable_secretariat ON accountable (secretariat_id);
+CREATE INDEX idx_project_has_accountable_accountable ON project_has_accountable (accountable_id, project_id);
+
+-- =============================
+-- Notificação de alterações de equipe via LISTEN/NOTIFY, no canal
+-- project_team_changes. Triggers por comando, com tabela de transição: o
+-- vínculo e a remoção em lote geram uma notificação por projeto, e não por
+-- responsável. Remoções em cascata (projeto ou responsável removido) também
+-- disparam a trigger; projetos já removidos não são notificados aqui, pois a
+-- remoção já é publicada em project_changes.
+-- =============================
+CREATE OR REPLACE FUNCTION notify_project_team_change() RETURNS trigger AS $$
+DECLARE
+    changed record;
+BEGIN
+    FOR changed IN
+        SELECT p.uuid, p.secretariat_id
+          FROM project p
+         WHERE p.id IN (SELECT project_id FROM changed_rows)
+    LOOP
+        PERFORM pg_notify('project_team_changes', json_build_object(
+            'op', 'TEAM',
+            'uuid', changed.uuid,
+            'secretariatId', changed.secretariat_id)::text);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_project_team_notify_insert
+    AFTER INSERT ON project_has_accountable
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_project_team_change();
+
+CREATE TRIGGER trg_project_team_notify_delete
+    AFTER DELETE ON project_has_accountable
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_project_team_change();
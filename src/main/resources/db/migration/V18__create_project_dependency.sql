@@ -0,0 +1,56 @@
+-- =============================
+-- TABELA DE RELAÇÃO: project_dependency
+-- O projeto project_id só pode começar após o término de depends_on_id.
+-- Ciclos são recusados pela aplicação, que serializa as gravações com um
+-- advisory lock de transação antes de verificar o grafo.
+-- =============================
+CREATE TABLE project_dependency (
+    project_id BIGINT NOT NULL,
+    depends_on_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+
+    PRIMARY KEY (project_id, depends_on_id),
+    CONSTRAINT ck_project_dependency_self CHECK (project_id <> depends_on_id),
+
+    FOREIGN KEY (project_id)
+        REFERENCES project(id)
+        ON DELETE CASCADE,
+
+    FOREIGN KEY (depends_on_id)
+        REFERENCES project(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_project_dependency_depends_on ON project_dependency (depends_on_id, project_id);
+
+-- =============================
+-- Notificação de alterações de dependências via LISTEN/NOTIFY, no canal
+-- project_dependency_changes, uma por projeto dependente alterado no comando.
+-- =============================
+CREATE OR REPLACE FUNCTION notify_project_dependency_change() RETURNS trigger AS $$
+DECLARE
+    changed record;
+BEGIN
+    FOR changed IN
+        SELECT p.uuid, p.secretariat_id
+          FROM project p
+         WHERE p.id IN (SELECT project_id FROM changed_rows)
+    LOOP
+        PERFORM pg_notify('project_dependency_changes', json_build_object(
+            'op', 'DEPENDENCY',
+            'uuid', changed.uuid,
+            'secretariatId', changed.secretariat_id)::text);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_project_dependency_notify_insert
+    AFTER INSERT ON project_dependency
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_project_dependency_change();
+
+CREATE TRIGGER trg_project_dependency_notify_delete
+    AFTER DELETE ON project_dependency
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_project_dependency_change();
@@ -0,0 +1,14 @@
+-- =============================
+-- Índices parciais das datas previstas dos projetos ativos, usados pelo agendador de
+-- prazos (ProjectDeadlineScheduler). A cada recarga do horizonte, a consulta busca os
+-- projetos cujo início ou término previsto cai na janela [agora, agora + horizonte);
+-- com um índice por coluna o Postgres combina as duas faixas em um BitmapOr.
+--
+-- idx_project_overdue não atende o término: exclui os projetos ATRASADO, que ainda
+-- podem ter um término previsto futuro após uma repactuação de datas.
+-- =============================
+CREATE INDEX idx_project_deadline_start ON project (expected_start)
+    WHERE status NOT IN ('CONCLUIDO', 'CANCELADO');
+
+CREATE INDEX idx_project_deadline_therm ON project (expected_therm)
+    WHERE status NOT IN ('CONCLUIDO', 'CANCELADO');
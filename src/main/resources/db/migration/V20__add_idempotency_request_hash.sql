@@ -0,0 +1,9 @@
+-- =============================
+-- Impressão digital (SHA-256 do corpo serializado) da requisição que reservou cada
+-- Idempotency-Key. Uma repetição com a mesma chave e corpo diferente é rejeitada
+-- com 422 em vez de devolver a resposta da primeira requisição.
+--
+-- Chaves gravadas antes desta versão ficam com NULL e continuam sendo repetidas
+-- sem verificação até expirarem.
+-- =============================
+ALTER TABLE idempotency_key ADD COLUMN request_hash CHAR(64);
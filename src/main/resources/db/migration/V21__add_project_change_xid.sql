@@ -0,0 +1,36 @@
+-- =============================
+-- Inclui na notificação o id da transação (xid8) que alterou o projeto.
+--
+-- O espelho em memória dos contadores (ProjectStatusCounterMirror) recarrega a
+-- tabela project_status_counter junto com pg_current_snapshot(); com o xid de
+-- cada notificação ele sabe se a alteração já está contida na recarga ou se
+-- ainda precisa ser aplicada, sem contar duas vezes nem perder deltas que
+-- chegam durante a consulta.
+-- =============================
+CREATE OR REPLACE FUNCTION notify_project_change() RETURNS trigger AS $$
+DECLARE
+    payload json;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        payload := json_build_object(
+            'op', TG_OP,
+            'uuid', OLD.uuid,
+            'oldStatus', OLD.status,
+            'secretariatId', OLD.secretariat_id,
+            'oldSecretariatId', OLD.secretariat_id,
+            'xid', pg_current_xact_id()::text::bigint);
+    ELSE
+        payload := json_build_object(
+            'op', TG_OP,
+            'uuid', NEW.uuid,
+            'status', NEW.status,
+            'oldStatus', CASE WHEN TG_OP = 'UPDATE' THEN OLD.status END,
+            'secretariatId', NEW.secretariat_id,
+            'oldSecretariatId', CASE WHEN TG_OP = 'UPDATE' THEN OLD.secretariat_id END,
+            'xid', pg_current_xact_id()::text::bigint);
+    END IF;
+
+    PERFORM pg_notify('project_changes', payload::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
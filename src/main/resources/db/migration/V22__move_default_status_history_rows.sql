@@ -0,0 +1,47 @@
+-- =============================
+-- Cria a partição mensal mesmo quando a partição padrão já recebeu linhas do mês.
+--
+-- Se a tarefa de manutenção atrasar, as transições do mês sem partição caem em
+-- project_status_history_default e o CREATE TABLE ... PARTITION OF passa a falhar
+-- em toda execução. Nesse caso a partição é criada como tabela avulsa, as linhas
+-- do mês são movidas da partição padrão para ela e só então ela é anexada, tudo
+-- na mesma transação. Os ids são preservados.
+-- =============================
+CREATE OR REPLACE FUNCTION project_status_history_create_partition(month DATE) RETURNS TEXT
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    start_at TIMESTAMP := date_trunc('month', month);
+    end_at TIMESTAMP := date_trunc('month', month) + INTERVAL '1 month';
+    partition_name TEXT := 'project_status_history_' || to_char(start_at, 'YYYY_MM');
+    moved BIGINT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM project_status_history_default
+                    WHERE changed_at >= start_at AND changed_at < end_at) THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF project_status_history FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, start_at, end_at);
+        RETURN partition_name;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE project_status_history INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('WITH moved AS (
+                        DELETE FROM project_status_history_default
+                         WHERE changed_at >= %L AND changed_at < %L
+                     RETURNING id, project_id, secretariat_id, from_secretariat_id,
+                               from_status, to_status, changed_at, actor)
+                    INSERT INTO %I (id, project_id, secretariat_id, from_secretariat_id,
+                                    from_status, to_status, changed_at, actor)
+                    SELECT id, project_id, secretariat_id, from_secretariat_id,
+                           from_status, to_status, changed_at, actor
+                      FROM moved', start_at, end_at, partition_name);
+    GET DIAGNOSTICS moved = ROW_COUNT;
+    EXECUTE format('ALTER TABLE project_status_history ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, start_at, end_at);
+    RAISE WARNING 'project_status_history: % linhas movidas da partição padrão para %', moved, partition_name;
+    RETURN partition_name;
+END;
+$$;
@@ -0,0 +1,38 @@
+-- =============================
+-- A troca de secretaria de um projeto concluído grava no histórico uma linha
+-- CONCLUIDO -> CONCLUIDO (V14). Ela registra a mudança de secretaria, não uma
+-- nova conclusão: lead time e cycle time passam a contar apenas as transições
+-- que chegam a CONCLUIDO vindas de outro status.
+-- =============================
+CREATE OR REPLACE FUNCTION project_flow_events(from_at TIMESTAMP, to_at TIMESTAMP)
+RETURNS TABLE (day DATE, secretariat_id BIGINT, metric VARCHAR, bucket INT) AS $$
+    SELECT h.changed_at::date, h.secretariat_id, m.metric, project_flow_bucket(m.hours)
+      FROM project_status_history h
+      LEFT JOIN project p ON p.id = h.project_id
+     CROSS JOIN LATERAL (VALUES
+               ('LEAD'::varchar, extract(epoch FROM h.changed_at - p.created_at) / 3600),
+               ('CYCLE'::varchar, extract(epoch FROM h.changed_at - COALESCE(
+                       (SELECT min(s.changed_at)
+                          FROM project_status_history s
+                         WHERE s.project_id = h.project_id
+                           AND s.to_status = 'EM_ANDAMENTO'
+                           AND s.changed_at <= h.changed_at),
+                       p.start_actual)) / 3600)
+           ) AS m(metric, hours)
+     WHERE h.to_status = 'CONCLUIDO'
+       AND h.from_status IS DISTINCT FROM 'CONCLUIDO'
+       AND h.changed_at >= from_at
+       AND h.changed_at < to_at
+       AND m.hours >= 0
+$$ LANGUAGE sql STABLE;
+
+-- Reconsolida os dias já gravados em project_flow_daily, que podem conter as
+-- conclusões falsas. Sem marca de consolidação não há dias gravados.
+DELETE FROM project_flow_daily
+ WHERE day <= (SELECT last_day FROM analytics_watermark WHERE name = 'project_flow');
+
+INSERT INTO project_flow_daily (day, secretariat_id, metric, bucket, total)
+SELECT day, secretariat_id, metric, bucket, count(*)
+  FROM project_flow_events('-infinity',
+                           (SELECT last_day + 1 FROM analytics_watermark WHERE name = 'project_flow'))
+ GROUP BY day, secretariat_id, metric, bucket;
@@ -0,0 +1,10 @@
+-- =============================
+-- O throughput da previsão de entrega deixa de contar as linhas CONCLUIDO ->
+-- CONCLUIDO gravadas na troca de secretaria de projetos concluídos (ver V23).
+-- O índice parcial das conclusões (V15) passa a ter o mesmo predicado da
+-- consulta, para continuar sendo usado por ela.
+-- =============================
+DROP INDEX idx_project_status_history_done;
+
+CREATE INDEX idx_project_status_history_done ON project_status_history (secretariat_id, changed_at)
+    WHERE to_status = 'CONCLUIDO' AND from_status IS DISTINCT FROM 'CONCLUIDO';
@@ -0,0 +1,17 @@
+-- =============================
+-- TABELA: idempotency_key
+-- Guarda a resposta de cada POST enviado com o header Idempotency-Key,
+-- permitindo que repetições do cliente devolvam o mesmo resultado.
+-- =============================
+CREATE TABLE idempotency_key (
+    scope VARCHAR(45) NOT NULL,
+    request_key VARCHAR(255) NOT NULL,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+
+    PRIMARY KEY (scope, request_key)
+);
+
+-- Usado pela limpeza periódica das chaves expiradas
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
@@ -0,0 +1,13 @@
+-- =============================
+-- Normaliza os status legados da carga inicial para os valores de StatusProject,
+-- permitindo que o quadro Kanban agrupe os projetos por status.
+-- =============================
+UPDATE project SET status = 'EM_ANDAMENTO' WHERE status = 'Em andamento';
+UPDATE project SET status = 'PLANEJADO'    WHERE status = 'Em planejamento';
+UPDATE project SET status = 'CONCLUIDO'    WHERE status = 'Concluído';
+UPDATE project SET status = 'ATRASADO'     WHERE status = 'Atrasado';
+UPDATE project SET status = 'CANCELADO'    WHERE status = 'Cancelado';
+
+-- Usado pelo quadro Kanban (GET /api/board), filtrado ou não por secretaria
+CREATE INDEX idx_project_status_name ON project (status, name, id);
+CREATE INDEX idx_project_secretariat_status_name ON project (secretariat_id, status, name, id);
@@ -0,0 +1,32 @@
+-- =============================
+-- Notificação de alterações em project via LISTEN/NOTIFY.
+-- O Postgres só entrega a notificação no commit da transação, então os
+-- ouvintes nunca veem alterações desfeitas por rollback.
+-- =============================
+CREATE OR REPLACE FUNCTION notify_project_change() RETURNS trigger AS $$
+DECLARE
+    payload json;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        payload := json_build_object(
+            'op', TG_OP,
+            'uuid', OLD.uuid,
+            'oldStatus', OLD.status,
+            'secretariatId', OLD.secretariat_id);
+    ELSE
+        payload := json_build_object(
+            'op', TG_OP,
+            'uuid', NEW.uuid,
+            'status', NEW.status,
+            'oldStatus', CASE WHEN TG_OP = 'UPDATE' THEN OLD.status END,
+            'secretariatId', NEW.secretariat_id);
+    END IF;
+
+    PERFORM pg_notify('project_changes', payload::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_project_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON project
+    FOR EACH ROW EXECUTE FUNCTION notify_project_change();
@@ -0,0 +1,48 @@
+-- =============================
+-- TABELA: project_status_counter
+-- Quantidade de projetos por (secretaria, status), mantida pelos casos de uso
+-- na mesma transação da escrita em project. Evita GROUP BY sobre project a
+-- cada carga dos indicadores do dashboard.
+-- =============================
+CREATE TABLE project_status_counter (
+    secretariat_id BIGINT NOT NULL,
+    status VARCHAR(45) NOT NULL,
+    total BIGINT NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (secretariat_id, status)
+);
+
+INSERT INTO project_status_counter (secretariat_id, status, total)
+SELECT secretariat_id, status, count(*)
+  FROM project
+ GROUP BY secretariat_id, status;
+
+-- =============================
+-- Inclui a secretaria anterior na notificação, permitindo que o espelho em memória
+-- dos contadores acompanhe projetos que mudam de secretaria.
+-- =============================
+CREATE OR REPLACE FUNCTION notify_project_change() RETURNS trigger AS $$
+DECLARE
+    payload json;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        payload := json_build_object(
+            'op', TG_OP,
+            'uuid', OLD.uuid,
+            'oldStatus', OLD.status,
+            'secretariatId', OLD.secretariat_id,
+            'oldSecretariatId', OLD.secretariat_id);
+    ELSE
+        payload := json_build_object(
+            'op', TG_OP,
+            'uuid', NEW.uuid,
+            'status', NEW.status,
+            'oldStatus', CASE WHEN TG_OP = 'UPDATE' THEN OLD.status END,
+            'secretariatId', NEW.secretariat_id,
+            'oldSecretariatId', CASE WHEN TG_OP = 'UPDATE' THEN OLD.secretariat_id END);
+    END IF;
+
+    PERFORM pg_notify('project_changes', payload::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
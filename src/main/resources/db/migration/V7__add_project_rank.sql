@@ -0,0 +1,19 @@
+-- =============================
+-- Ordem dos cards dentro de cada coluna (status) do quadro Kanban.
+-- rank é uma chave fracionária em base 62 (ver FractionalRank): mover um card
+-- grava apenas a chave do card movido. A collation "C" faz a ordem do banco
+-- coincidir com a ordem das chaves na aplicação.
+-- =============================
+ALTER TABLE project ADD COLUMN rank VARCHAR(255) COLLATE "C" NOT NULL DEFAULT 'V';
+
+-- Distribui as chaves dos projetos existentes seguindo a ordem atual (nome)
+UPDATE project p
+   SET rank = lpad(r.position::text, 9, '0') || 'V'
+  FROM (SELECT id, row_number() OVER (PARTITION BY status ORDER BY name, id) AS position
+          FROM project) r
+ WHERE p.id = r.id;
+
+DROP INDEX idx_project_status_name;
+DROP INDEX idx_project_secretariat_status_name;
+CREATE INDEX idx_project_status_rank ON project (status, rank, id);
+CREATE INDEX idx_project_secretariat_status_rank ON project (secretariat_id, status, rank, id);
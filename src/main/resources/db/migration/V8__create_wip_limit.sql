@@ -0,0 +1,19 @@
+-- =============================
+-- TABELA: wip_limit
+-- Limite de trabalho em andamento (WIP) por (secretaria, status). Sem registro,
+-- a coluna não tem limite. A admissão é garantida pelo upsert condicional em
+-- project_status_counter, que lê este limite na mesma instrução.
+-- =============================
+CREATE TABLE wip_limit (
+    secretariat_id BIGINT NOT NULL,
+    status VARCHAR(45) NOT NULL,
+    max_projects INT NOT NULL CHECK (max_projects >= 0),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (secretariat_id, status),
+
+    CONSTRAINT fk_wip_limit_secretariat
+            FOREIGN KEY (secretariat_id)
+            REFERENCES secretariat(id)
+            ON DELETE CASCADE
+);
@@ -0,0 +1,54 @@
+-- =============================
+-- Sincronização incremental de projetos (GET /api/projects/changes).
+--
+-- change_seq guarda o id da transação (xid8) que gravou a linha por último.
+-- Diferente de um valor de sequence, ele permite saber quais alterações já
+-- estão confirmadas: toda transação com id menor que o xmin do snapshot
+-- corrente já terminou, então a leitura devolve apenas change_seq < xmin e
+-- nenhuma alteração com token menor pode aparecer depois.
+-- =============================
+ALTER TABLE project ADD COLUMN change_seq BIGINT;
+
+UPDATE project SET change_seq = pg_current_xact_id()::text::bigint;
+
+ALTER TABLE project ALTER COLUMN change_seq SET NOT NULL;
+
+CREATE INDEX idx_project_change_seq ON project (change_seq, id);
+
+CREATE OR REPLACE FUNCTION set_project_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_project_change_seq
+    BEFORE INSERT OR UPDATE ON project
+    FOR EACH ROW EXECUTE FUNCTION set_project_change_seq();
+
+-- =============================
+-- TABELA: project_tombstone
+-- Registro das exclusões de projetos, para que a sincronização incremental
+-- informe aos clientes quais projetos devem ser removidos.
+-- =============================
+CREATE TABLE project_tombstone (
+    project_id BIGINT PRIMARY KEY,
+    uuid VARCHAR(45) NOT NULL,
+    secretariat_id BIGINT,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_project_tombstone_change_seq ON project_tombstone (change_seq, project_id);
+
+CREATE OR REPLACE FUNCTION record_project_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO project_tombstone (project_id, uuid, secretariat_id, change_seq)
+    VALUES (OLD.id, OLD.uuid, OLD.secretariat_id, pg_current_xact_id()::text::bigint);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_project_tombstone
+    AFTER DELETE ON project
+    FOR EACH ROW EXECUTE FUNCTION record_project_tombstone();
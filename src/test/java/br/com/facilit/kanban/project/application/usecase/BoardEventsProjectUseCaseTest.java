@@ -0,0 +1,82 @@
+package br.com.facilit.kanban.project.application.usecase;
+
+import br.com.facilit.kanban.project.application.command.BoardEventsProjectCommand;
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoardEventsProjectUseCaseTest {
+
+    private static final Long ORIGIN = 1L;
+    private static final Long DESTINATION = 2L;
+    private static final Long OTHER = 3L;
+
+    private final Sinks.Many<ProjectChangeEvent> events = Sinks.many().replay().all();
+
+    private BoardEventsProjectUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        ProjectChangeListener listener = mock(ProjectChangeListener.class);
+        when(listener.events()).thenReturn(events.asFlux());
+        useCase = new BoardEventsProjectUseCase(listener);
+    }
+
+    private List<BoardEventsProjectCommand.Output> received(Long secretariatId) {
+        return useCase.execute(new BoardEventsProjectCommand.Input(secretariatId)).collectList().block();
+    }
+
+    private void moveBetweenSecretariats(UUID uuid) {
+        events.tryEmitNext(new ProjectChangeEvent("UPDATE", uuid, "EM_ANDAMENTO", "EM_ANDAMENTO", DESTINATION, ORIGIN, 10L));
+        events.tryEmitComplete();
+    }
+
+    @Test
+    void projectLeavingASecretariat_isDeliveredToClientsOfTheOrigin() {
+        UUID uuid = UUID.randomUUID();
+        moveBetweenSecretariats(uuid);
+
+        assertThat(received(ORIGIN))
+                .singleElement()
+                .satisfies(output -> {
+                    assertThat(output.uuid()).isEqualTo(uuid);
+                    assertThat(output.secretariatId()).isEqualTo(DESTINATION);
+                });
+    }
+
+    @Test
+    void projectEnteringASecretariat_isDeliveredToClientsOfTheDestination() {
+        UUID uuid = UUID.randomUUID();
+        moveBetweenSecretariats(uuid);
+
+        assertThat(received(DESTINATION))
+                .extracting(BoardEventsProjectCommand.Output::uuid)
+                .containsExactly(uuid);
+    }
+
+    @Test
+    void projectMove_isNotDeliveredToUnrelatedSecretariats() {
+        moveBetweenSecretariats(UUID.randomUUID());
+
+        assertThat(received(OTHER)).isEmpty();
+    }
+
+    @Test
+    void resync_isDeliveredToEveryClient() {
+        events.tryEmitNext(ProjectChangeEvent.resync());
+        events.tryEmitComplete();
+
+        assertThat(received(OTHER))
+                .extracting(BoardEventsProjectCommand.Output::op)
+                .containsExactly(ProjectChangeEvent.RESYNC);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.facilit.kanban.project.infra.counter;
+
+import br.com.facilit.kanban.project.domain.event.ProjectChangeEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectStatusCounterPO;
+import br.com.facilit.kanban.project.domain.po.ProjectStatusCounterSnapshotPO;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import br.com.facilit.kanban.project.infra.repository.ProjectStatusCounterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectStatusCounterMirrorTest {
+
+    private static final Long SECRETARIAT = 1L;
+
+    private final Sinks.Many<ProjectChangeEvent> events = Sinks.many().unicast().onBackpressureBuffer();
+    private final Sinks.One<ProjectStatusCounterSnapshotPO> firstLoad = Sinks.one();
+    private final Sinks.One<ProjectStatusCounterSnapshotPO> secondLoad = Sinks.one();
+
+    private ProjectStatusCounterRepository repository;
+    private ProjectStatusCounterMirror mirror;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProjectStatusCounterRepository.class);
+        ProjectChangeListener listener = mock(ProjectChangeListener.class);
+        when(listener.events()).thenReturn(events.asFlux());
+        when(repository.findAllWithSnapshot()).thenReturn(firstLoad.asMono(), secondLoad.asMono());
+
+        mirror = new ProjectStatusCounterMirror(repository, listener);
+        mirror.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mirror.stop();
+    }
+
+    private static ProjectChangeEvent insert(String status, long xid) {
+        return new ProjectChangeEvent("INSERT", UUID.randomUUID(), status, null, SECRETARIAT, null, xid);
+    }
+
+    private static ProjectChangeEvent move(String from, String to, long xid) {
+        return new ProjectChangeEvent("UPDATE", UUID.randomUUID(), to, from, SECRETARIAT, SECRETARIAT, xid);
+    }
+
+    private static ProjectStatusCounterSnapshotPO load(String snapshot, long planejado) {
+        return new ProjectStatusCounterSnapshotPO(snapshot,
+                List.of(new ProjectStatusCounterPO(SECRETARIAT, "PLANEJADO", planejado)));
+    }
+
+    @Test
+    void deltasReceivedDuringReload_areAppliedOnlyWhenNotInTheSnapshot() {
+        events.tryEmitNext(insert("PLANEJADO", 90));               // antes do xmin: já está na carga
+        events.tryEmitNext(insert("PLANEJADO", 105));              // em andamento durante a leitura
+        events.tryEmitNext(move("PLANEJADO", "EM_ANDAMENTO", 120)); // depois do xmax
+
+        firstLoad.tryEmitValue(load("100:110:105", 5));
+
+        assertThat(mirror.count(SECRETARIAT, "PLANEJADO")).isEqualTo(5);
+        assertThat(mirror.count(SECRETARIAT, "EM_ANDAMENTO")).isEqualTo(1);
+    }
+
+    @Test
+    void lateNotificationOfTransactionInTheSnapshot_isNotCountedTwice() {
+        firstLoad.tryEmitValue(load("100:110:", 5));
+
+        events.tryEmitNext(insert("PLANEJADO", 95));
+        assertThat(mirror.count(SECRETARIAT, "PLANEJADO")).isEqualTo(5);
+
+        events.tryEmitNext(insert("PLANEJADO", 130));
+        assertThat(mirror.count(SECRETARIAT, "PLANEJADO")).isEqualTo(6);
+    }
+
+    @Test
+    void resync_reloadsFromTheTable() {
+        firstLoad.tryEmitValue(load("100:110:", 5));
+
+        events.tryEmitNext(ProjectChangeEvent.resync());
+        secondLoad.tryEmitValue(load("200:200:", 8));
+
+        verify(repository, times(2)).findAllWithSnapshot();
+        assertThat(mirror.count(SECRETARIAT, "PLANEJADO")).isEqualTo(8);
+    }
+
+    @Test
+    void reloadRequestedDuringReload_runsAgainAfterIt() {
+        events.tryEmitNext(ProjectChangeEvent.resync());
+        verify(repository, times(1)).findAllWithSnapshot();
+
+        firstLoad.tryEmitValue(load("100:110:", 5));
+        verify(repository, times(2)).findAllWithSnapshot();
+
+        secondLoad.tryEmitValue(load("150:150:", 7));
+        assertThat(mirror.count(SECRETARIAT, "PLANEJADO")).isEqualTo(7);
+    }
+}
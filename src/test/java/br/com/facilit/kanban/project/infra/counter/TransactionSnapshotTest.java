@@ -0,0 +1,57 @@
+package br.com.facilit.kanban.project.infra.counter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionSnapshotTest {
+
+    @Test
+    void transactionsBeforeXmin_areIncluded() {
+        TransactionSnapshot snapshot = TransactionSnapshot.parse("100:110:105,107");
+
+        assertThat(snapshot.includes(1L)).isTrue();
+        assertThat(snapshot.includes(99L)).isTrue();
+    }
+
+    @Test
+    void transactionsAtOrAfterXmax_areNotIncluded() {
+        TransactionSnapshot snapshot = TransactionSnapshot.parse("100:110:105,107");
+
+        assertThat(snapshot.includes(110L)).isFalse();
+        assertThat(snapshot.includes(500L)).isFalse();
+    }
+
+    @Test
+    void transactionsInProgressAtReadTime_areNotIncluded() {
+        TransactionSnapshot snapshot = TransactionSnapshot.parse("100:110:107,105");
+
+        assertThat(snapshot.includes(105L)).isFalse();
+        assertThat(snapshot.includes(107L)).isFalse();
+        assertThat(snapshot.includes(100L)).isTrue();
+        assertThat(snapshot.includes(106L)).isTrue();
+        assertThat(snapshot.includes(109L)).isTrue();
+    }
+
+    @Test
+    void snapshotWithoutTransactionsInProgress_isParsed() {
+        TransactionSnapshot snapshot = TransactionSnapshot.parse("100:100:");
+
+        assertThat(snapshot.includes(99L)).isTrue();
+        assertThat(snapshot.includes(100L)).isFalse();
+    }
+
+    @Test
+    void unknownTransaction_isNeverIncluded() {
+        assertThat(TransactionSnapshot.parse("100:110:").includes(null)).isFalse();
+        assertThat(TransactionSnapshot.NONE.includes(0L)).isFalse();
+        assertThat(TransactionSnapshot.NONE.includes(42L)).isFalse();
+    }
+
+    @Test
+    void malformedSnapshot_isRejected() {
+        assertThatThrownBy(() -> TransactionSnapshot.parse("100:110"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.facilit.kanban.project.infra.deadline;
+
+import br.com.facilit.kanban.project.domain.event.ProjectDeadlineEvent;
+import br.com.facilit.kanban.project.domain.po.ProjectDeadlinePO;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeListener;
+import br.com.facilit.kanban.project.infra.notification.ProjectChangeProperties;
+import br.com.facilit.kanban.project.infra.repository.ProjectDeadlineRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectDeadlineSchedulerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final UUID uuid = UUID.randomUUID();
+
+    private ProjectDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ProjectDeadlineRepository repository = mock(ProjectDeadlineRepository.class);
+        ProjectChangeListener listener = mock(ProjectChangeListener.class);
+        when(repository.findWithin(any(), any())).thenReturn(Flux.empty());
+        when(listener.events()).thenReturn(Flux.never());
+
+        scheduler = new ProjectDeadlineScheduler(repository, listener,
+                new DeadlineProperties(Duration.ofHours(6), Duration.ofHours(1), Duration.ofMillis(10), 64),
+                new ProjectChangeProperties(256, Duration.ofSeconds(15), Duration.ofSeconds(30)),
+                new SimpleMeterRegistry());
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    private ProjectDeadlinePO project(String status, LocalDateTime therm) {
+        return new ProjectDeadlinePO(uuid, "Projeto", status, 1L, null, therm);
+    }
+
+    private static LocalDateTime inMillis(long millis) {
+        return LocalDateTime.now(ZoneOffset.UTC).plus(Duration.ofMillis(millis));
+    }
+
+    @Test
+    void statusChangeAtTheSameInstant_keepsTheTimeoutAndEmitsTheLatestData() {
+        LocalDateTime therm = inMillis(300);
+
+        StepVerifier.create(scheduler.events())
+                .then(() -> {
+                    scheduler.schedule(project("EM_ANDAMENTO", therm));
+                    scheduler.schedule(project("ATRASADO", therm));
+                })
+                .assertNext(event -> {
+                    assertThat(event.kind()).isEqualTo(ProjectDeadlineEvent.THERM);
+                    assertThat(event.uuid()).isEqualTo(uuid);
+                    assertThat(event.at()).isEqualTo(therm);
+                    assertThat(event.status()).isEqualTo("ATRASADO");
+                })
+                .expectNoEvent(Duration.ofMillis(300))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void newInstant_replacesThePendingTimeout() {
+        StepVerifier.create(scheduler.events())
+                .expectSubscription()
+                .then(() -> {
+                    scheduler.schedule(project("EM_ANDAMENTO", inMillis(200)));
+                    scheduler.schedule(project("EM_ANDAMENTO", inMillis(Duration.ofHours(1).toMillis())));
+                })
+                .expectNoEvent(Duration.ofMillis(800))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void earlierInstant_firesAtTheNewInstant() {
+        LocalDateTime earlier = inMillis(200);
+
+        StepVerifier.create(scheduler.events())
+                .then(() -> {
+                    scheduler.schedule(project("EM_ANDAMENTO", inMillis(Duration.ofHours(1).toMillis())));
+                    scheduler.schedule(project("EM_ANDAMENTO", earlier));
+                })
+                .assertNext(event -> assertThat(event.at()).isEqualTo(earlier))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void sameInstantAfterFiring_isNotEmittedAgain() {
+        LocalDateTime therm = inMillis(100);
+
+        StepVerifier.create(scheduler.events())
+                .then(() -> scheduler.schedule(project("EM_ANDAMENTO", therm)))
+                .assertNext(event -> assertThat(event.status()).isEqualTo("EM_ANDAMENTO"))
+                .then(() -> scheduler.schedule(project("ATRASADO", therm)))
+                .expectNoEvent(Duration.ofMillis(500))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void finishedProject_cancelsThePendingTimeout() {
+        LocalDateTime therm = inMillis(200);
+
+        StepVerifier.create(scheduler.events())
+                .expectSubscription()
+                .then(() -> {
+                    scheduler.schedule(project("EM_ANDAMENTO", therm));
+                    scheduler.schedule(project("CONCLUIDO", therm));
+                })
+                .expectNoEvent(Duration.ofMillis(800))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+}
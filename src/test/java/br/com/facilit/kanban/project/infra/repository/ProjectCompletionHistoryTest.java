@@ -0,0 +1,157 @@
+package br.com.facilit.kanban.project.infra.repository;
+
+import br.com.facilit.kanban.project.domain.po.ProjectThroughputPO;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de integração das leituras de conclusões em {@code project_status_history} contra o serviço
+ * {@code postgres} do {@code compose.yaml}, com as migrações já aplicadas.
+ *
+ * <p>Só roda com {@code SPRING_R2DBC_URL} definida. Cada teste grava em uma transação desfeita ao
+ * final, sem deixar dados no banco.</p>
+ */
+@EnabledIfEnvironmentVariable(named = "SPRING_R2DBC_URL", matches = ".+")
+class ProjectCompletionHistoryTest {
+
+    private static DatabaseClient databaseClient;
+    private static TransactionalOperator txOperator;
+
+    @BeforeAll
+    static void connect() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(System.getenv("SPRING_R2DBC_URL")).mutate()
+                .option(ConnectionFactoryOptions.USER, Objects.requireNonNullElse(System.getenv("SPRING_R2DBC_USERNAME"), "facilit"))
+                .option(ConnectionFactoryOptions.PASSWORD, Objects.requireNonNullElse(System.getenv("SPRING_R2DBC_PASSWORD"), "password"))
+                .build();
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options);
+        databaseClient = DatabaseClient.create(connectionFactory);
+        txOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    /** Cria duas secretarias e um projeto concluído na primeira e executa o cenário em uma transação desfeita. */
+    private static <T> T inRollback(Function<Scenario, Mono<T>> work) {
+        return txOperator.execute(tx -> {
+                    tx.setRollbackOnly();
+                    return insertSecretariat("Origem")
+                            .flatMap(from -> insertSecretariat("Destino")
+                                    .flatMap(to -> insertProject(from)
+                                            .map(project -> new Scenario(project, from, to))))
+                            .flatMap(work);
+                })
+                .single()
+                .block();
+    }
+
+    private static Mono<Long> insertSecretariat(String name) {
+        return databaseClient.sql("INSERT INTO secretariat (name, created_at) VALUES (:name, now()) RETURNING id")
+                .bind("name", name)
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    private static Mono<Long> insertProject(Long secretariatId) {
+        return databaseClient.sql("""
+                        INSERT INTO project (secretariat_id, name, status, created_at, start_actual)
+                        VALUES (:secretariatId, 'Projeto concluído', 'CONCLUIDO',
+                                (now() AT TIME ZONE 'UTC') - INTERVAL '10 days',
+                                (now() AT TIME ZONE 'UTC') - INTERVAL '5 days')
+                        RETURNING id
+                        """)
+                .bind("secretariatId", secretariatId)
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    /** Conclusão do projeto na secretaria de origem, uma hora atrás. */
+    private static Mono<Void> complete(Scenario scenario) {
+        return databaseClient.sql("""
+                        INSERT INTO project_status_history (project_id, secretariat_id, from_status, to_status, changed_at)
+                        VALUES (:projectId, :secretariatId, 'EM_ANDAMENTO', 'CONCLUIDO',
+                                (now() AT TIME ZONE 'UTC') - INTERVAL '1 hour')
+                        """)
+                .bind("projectId", scenario.project())
+                .bind("secretariatId", scenario.from())
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    /** Troca de secretaria do projeto concluído, registrada como em {@code UpdateProjectUseCase}. */
+    private static Mono<Void> move(Scenario scenario) {
+        return databaseClient.sql("UPDATE project SET secretariat_id = :to WHERE id = :projectId")
+                .bind("to", scenario.to())
+                .bind("projectId", scenario.project())
+                .fetch()
+                .rowsUpdated()
+                .then(new ProjectStatusHistoryRepository(databaseClient)
+                        .append(scenario.project(), scenario.from(), scenario.to(), "CONCLUIDO", "CONCLUIDO", null));
+    }
+
+    /** Eventos de {@code project_flow_events} do último dia, como "ORIGEM:LEAD" ou "DESTINO:CYCLE". */
+    private static Mono<List<String>> flowEvents(Scenario scenario) {
+        return databaseClient.sql("""
+                        SELECT CASE WHEN secretariat_id = :from THEN 'ORIGEM' ELSE 'DESTINO' END || ':' || metric AS event
+                          FROM project_flow_events((now() AT TIME ZONE 'UTC') - INTERVAL '1 day',
+                                                   (now() AT TIME ZONE 'UTC') + INTERVAL '1 day')
+                         WHERE secretariat_id IN (:from, :to)
+                        """)
+                .bind("from", scenario.from())
+                .bind("to", scenario.to())
+                .map(row -> row.get("event", String.class))
+                .all()
+                .collectList();
+    }
+
+    /** Conclusões de ontem a hoje (UTC) da secretaria, somadas pela leitura da previsão de entrega. */
+    private static Mono<Integer> throughput(Long secretariatId) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        return new ProjectForecastRepository(databaseClient)
+                .findDailyThroughput(secretariatId, today.minusDays(1), today.plusDays(1))
+                .map(ProjectThroughputPO::total)
+                .reduce(0, Integer::sum);
+    }
+
+    @Test
+    void completion_isCountedOnceInItsSecretariat() {
+        List<String> events = inRollback(scenario -> complete(scenario).then(flowEvents(scenario)));
+
+        assertThat(events).containsExactlyInAnyOrder("ORIGEM:LEAD", "ORIGEM:CYCLE");
+    }
+
+    @Test
+    void secretariatMoveOfACompletedProject_isNotACompletion() {
+        List<String> events = inRollback(scenario -> complete(scenario)
+                .then(move(scenario))
+                .then(flowEvents(scenario)));
+
+        assertThat(events).containsExactlyInAnyOrder("ORIGEM:LEAD", "ORIGEM:CYCLE");
+    }
+
+    @Test
+    void secretariatMoveOfACompletedProject_addsNoThroughputToTheDestination() {
+        List<Integer> totals = inRollback(scenario -> complete(scenario)
+                .then(move(scenario))
+                .then(throughput(scenario.from()))
+                .flatMap(origin -> throughput(scenario.to()).map(destination -> List.of(origin, destination))));
+
+        assertThat(totals).containsExactly(1, 0);
+    }
+
+    private record Scenario(Long project, Long from, Long to) {}
+}
@@ -0,0 +1,139 @@
+package br.com.facilit.kanban.project.infra.snapshot;
+
+import br.com.facilit.kanban.project.domain.enums.StatusProject;
+import br.com.facilit.kanban.project.domain.po.ProjectSnapshotRowPO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectColumnsTest {
+
+    private static ProjectSnapshotRowPO row(UUID uuid, long secretariatId) {
+        return new ProjectSnapshotRowPO(uuid, StatusProject.EM_ANDAMENTO.name(), secretariatId,
+                null, LocalDateTime.of(2026, 1, 10, 0, 0), null, null);
+    }
+
+    private static int rowOf(ProjectColumns columns, UUID uuid) {
+        for (int row = 0; row < columns.size; row++) {
+            if (columns.uuidHigh[row] == uuid.getMostSignificantBits()
+                    && columns.uuidLow[row] == uuid.getLeastSignificantBits()) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    void upsertOfAnExistingProject_replacesItsColumnsInPlace() {
+        ProjectColumns columns = new ProjectColumns(0);
+        UUID uuid = UUID.randomUUID();
+
+        columns.upsert(row(uuid, 1L));
+        columns.upsert(row(uuid, 2L));
+
+        assertThat(columns.size).isEqualTo(1);
+        assertThat(columns.secretariat[0]).isEqualTo(2L);
+        assertThat(columns.status[0]).isEqualTo((byte) StatusProject.EM_ANDAMENTO.ordinal());
+    }
+
+    @Test
+    void removedProject_canBeReinsertedAndTheLastRowFillsTheGap() {
+        ProjectColumns columns = new ProjectColumns(0);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        columns.upsert(row(first, 1L));
+        columns.upsert(row(second, 2L));
+        columns.upsert(row(third, 3L));
+
+        assertThat(columns.remove(first)).isTrue();
+        assertThat(columns.remove(first)).isFalse();
+        assertThat(columns.size).isEqualTo(2);
+        assertThat(rowOf(columns, third)).isZero();
+        assertThat(columns.secretariat[0]).isEqualTo(3L);
+
+        columns.upsert(row(first, 4L));
+
+        assertThat(columns.size).isEqualTo(3);
+        assertThat(columns.remove(second)).isTrue();
+        assertThat(columns.remove(third)).isTrue();
+        assertThat(columns.remove(first)).isTrue();
+        assertThat(columns.size).isZero();
+    }
+
+    @Test
+    void deletesKeepEveryRemainingProjectReachable() {
+        // Até 16 projetos em 32 posições: colisões e sequências que dão a volta na tabela são
+        // frequentes, exercitando o deslocamento para trás em todos os casos.
+        Random random = new Random(20260101L);
+        ProjectColumns columns = new ProjectColumns(0);
+        Map<UUID, Long> expected = new HashMap<>();
+        List<UUID> live = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            if (live.size() < 16 && (live.isEmpty() || random.nextBoolean())) {
+                UUID uuid = new UUID(random.nextLong(), random.nextLong());
+                long secretariatId = random.nextInt(1000);
+                columns.upsert(row(uuid, secretariatId));
+                expected.put(uuid, secretariatId);
+                live.add(uuid);
+            } else {
+                UUID uuid = live.remove(random.nextInt(live.size()));
+                expected.remove(uuid);
+                assertThat(columns.remove(uuid)).isTrue();
+                assertThat(columns.remove(uuid)).isFalse();
+            }
+
+            assertThat(columns.size).isEqualTo(expected.size());
+            for (Map.Entry<UUID, Long> entry : expected.entrySet()) {
+                // Um upsert só não cria linha se o projeto for encontrado pela tabela hash.
+                columns.upsert(row(entry.getKey(), entry.getValue()));
+                assertThat(columns.size).isEqualTo(expected.size());
+                int row = rowOf(columns, entry.getKey());
+                assertThat(row).isNotNegative();
+                assertThat(columns.secretariat[row]).isEqualTo(entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    void growingPastTheInitialCapacity_keepsEveryProject() {
+        ProjectColumns columns = new ProjectColumns(0);
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UUID.randomUUID();
+            uuids.add(uuid);
+            columns.upsert(row(uuid, i));
+        }
+
+        assertThat(columns.size).isEqualTo(1000);
+        for (int i = 0; i < uuids.size(); i++) {
+            assertThat(columns.remove(uuids.get(i))).as("projeto %d", i).isTrue();
+        }
+        assertThat(columns.size).isZero();
+    }
+
+    @Test
+    void daysLate_countsFromTheExpectedEndUntilTodayOrTheActualEnd() {
+        ProjectColumns columns = new ProjectColumns(0);
+        columns.upsert(row(UUID.randomUUID(), 1L));
+        int therm = (int) LocalDateTime.of(2026, 1, 10, 0, 0).toLocalDate().toEpochDay();
+
+        assertThat(columns.daysLate(0, therm - 3)).isZero();
+        assertThat(columns.daysLate(0, therm + 5)).isEqualTo(5);
+
+        columns.thermalActual[0] = therm + 2;
+        assertThat(columns.daysLate(0, therm + 5)).isEqualTo(2);
+
+        columns.expectedTherm[0] = ProjectColumns.NONE;
+        assertThat(columns.daysLate(0, therm + 5)).isEqualTo(ProjectColumns.NONE);
+    }
+}
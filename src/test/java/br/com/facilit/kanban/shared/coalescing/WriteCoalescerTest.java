@@ -0,0 +1,122 @@
+package br.com.facilit.kanban.shared.coalescing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteCoalescerTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(300);
+
+    private VirtualTimeScheduler scheduler;
+    private final List<String> writes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    private WriteCoalescer<Integer, String, String> coalescer() {
+        return new WriteCoalescer<>(WINDOW, (key, value) -> {
+            writes.add(key + "=" + value);
+            return Mono.just(value.toUpperCase());
+        }, scheduler);
+    }
+
+    @Test
+    void writesWithinWindow_areMergedIntoLastValue() {
+        WriteCoalescer<Integer, String, String> coalescer = coalescer();
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        coalescer.submit(1, "a").subscribe(results::add);
+        coalescer.submit(1, "b").subscribe(results::add);
+        scheduler.advanceTimeBy(WINDOW.minusMillis(1));
+        coalescer.submit(1, "c").subscribe(results::add);
+
+        assertThat(writes).isEmpty();
+        assertThat(coalescer.pendingKeys()).isEqualTo(1);
+
+        scheduler.advanceTimeBy(Duration.ofMillis(1));
+
+        assertThat(writes).containsExactly("1=c");
+        assertThat(results).containsExactly("C", "C", "C");
+        assertThat(coalescer.pendingKeys()).isZero();
+    }
+
+    @Test
+    void differentKeys_areWrittenSeparately() {
+        WriteCoalescer<Integer, String, String> coalescer = coalescer();
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        coalescer.submit(1, "a").subscribe(results::add);
+        coalescer.submit(2, "b").subscribe(results::add);
+        scheduler.advanceTimeBy(WINDOW);
+
+        assertThat(writes).containsExactlyInAnyOrder("1=a", "2=b");
+        assertThat(results).containsExactlyInAnyOrder("A", "B");
+    }
+
+    @Test
+    void writeAfterFlush_opensNewWindow() {
+        WriteCoalescer<Integer, String, String> coalescer = coalescer();
+
+        coalescer.submit(1, "a").subscribe();
+        scheduler.advanceTimeBy(WINDOW);
+        coalescer.submit(1, "b").subscribe();
+        scheduler.advanceTimeBy(WINDOW);
+
+        assertThat(writes).containsExactly("1=a", "1=b");
+    }
+
+    @Test
+    void writerError_isDeliveredToEveryClientOfTheWindow() {
+        WriteCoalescer<Integer, String, String> coalescer = new WriteCoalescer<>(WINDOW,
+                (key, value) -> Mono.error(new IllegalStateException("falha")), scheduler);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        coalescer.submit(1, "a").subscribe(value -> {}, errors::add);
+        coalescer.submit(1, "b").subscribe(value -> {}, errors::add);
+        scheduler.advanceTimeBy(WINDOW);
+
+        assertThat(errors).hasSize(2).allMatch(IllegalStateException.class::isInstance);
+    }
+
+    @Test
+    void writerThrowing_isDeliveredToEveryClientOfTheWindow() {
+        WriteCoalescer<Integer, String, String> coalescer = new WriteCoalescer<>(WINDOW, (key, value) -> {
+            throw new IllegalStateException("falha");
+        }, scheduler);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        coalescer.submit(1, "a").subscribe(value -> {}, errors::add);
+        coalescer.submit(1, "b").subscribe(value -> {}, errors::add);
+        scheduler.advanceTimeBy(WINDOW);
+
+        assertThat(errors).hasSize(2).allMatch(IllegalStateException.class::isInstance);
+        assertThat(coalescer.pendingKeys()).isZero();
+    }
+
+    @Test
+    void submitIsLazy_untilSubscribed() {
+        WriteCoalescer<Integer, String, String> coalescer = coalescer();
+
+        coalescer.submit(1, "a");
+        scheduler.advanceTimeBy(WINDOW);
+
+        assertThat(writes).isEmpty();
+        assertThat(coalescer.pendingKeys()).isZero();
+    }
+}
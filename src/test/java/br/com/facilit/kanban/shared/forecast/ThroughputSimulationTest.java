@@ -0,0 +1,89 @@
+package br.com.facilit.kanban.shared.forecast;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThroughputSimulationTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void constantThroughput_finishesOnTheSameDayInEveryTrial() {
+        int[] days = ThroughputSimulation.run(pool, new int[]{2}, 5, 5000, 100, 42L);
+
+        assertThat(days).hasSize(5000).containsOnly(3);
+    }
+
+    @Test
+    void result_isSortedAndBoundedByTheFastestAndSlowestDays() {
+        int[] history = {0, 1, 3};
+        int[] days = ThroughputSimulation.run(pool, history, 6, 10_000, 1000, 7L);
+
+        assertThat(days).isSorted();
+        assertThat(days[0]).isGreaterThanOrEqualTo(2);
+        assertThat(days[days.length - 1]).isLessThan(ThroughputSimulation.NOT_FINISHED);
+    }
+
+    @Test
+    void sameSeed_givesTheSameResultRegardlessOfThePoolSize() {
+        int[] history = {0, 1, 2, 4, 0, 3};
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            int[] parallel = ThroughputSimulation.run(pool, history, 20, 8192, 365, 99L);
+            int[] sequential = ThroughputSimulation.run(single, history, 20, 8192, 365, 99L);
+
+            assertThat(parallel).isEqualTo(sequential);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void historyWithoutDeliveries_neverFinishes() {
+        int[] days = ThroughputSimulation.run(pool, new int[]{0, 0}, 3, 10, 30, 1L);
+
+        assertThat(days).containsOnly(ThroughputSimulation.NOT_FINISHED);
+    }
+
+    @Test
+    void trialsBeyondTheHorizon_areNotFinished() {
+        int[] days = ThroughputSimulation.run(pool, new int[]{1}, 10, 10, 5, 1L);
+
+        assertThat(days).containsOnly(ThroughputSimulation.NOT_FINISHED);
+    }
+
+    @Test
+    void noItems_takesZeroDays() {
+        assertThat(ThroughputSimulation.run(pool, new int[]{1}, 0, 4, 10, 1L)).containsOnly(0);
+    }
+
+    @Test
+    void percentile_picksTheNearestRankAndClampsTheQuantile() {
+        int[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertThat(ThroughputSimulation.percentile(sorted, 0.5)).isEqualTo(5);
+        assertThat(ThroughputSimulation.percentile(sorted, 0.85)).isEqualTo(9);
+        assertThat(ThroughputSimulation.percentile(sorted, 0.0)).isEqualTo(1);
+        assertThat(ThroughputSimulation.percentile(sorted, 1.0)).isEqualTo(10);
+    }
+
+    @Test
+    void percentileOfNoTrials_isNotFinished() {
+        assertThat(ThroughputSimulation.percentile(new int[0], 0.5)).isEqualTo(ThroughputSimulation.NOT_FINISHED);
+    }
+}
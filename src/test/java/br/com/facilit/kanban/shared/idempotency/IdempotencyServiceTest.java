@@ -0,0 +1,114 @@
+package br.com.facilit.kanban.shared.idempotency;
+
+import br.com.facilit.kanban.shared.exception.IdempotencyKeyReusedException;
+import br.com.facilit.kanban.shared.exception.InvalidRequestException;
+import br.com.facilit.kanban.shared.idempotency.IdempotencyKeyRepository.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    record Body(String name) {}
+
+    private IdempotencyKeyRepository repository;
+    private IdempotencyService service;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IdempotencyKeyRepository.class);
+        service = new IdempotencyService(repository, new ObjectMapper(),
+                new IdempotencyProperties(Duration.ofHours(24), 100, Duration.ofMinutes(10), Duration.ofHours(1)));
+    }
+
+    private Mono<String> action() {
+        return Mono.fromSupplier(() -> "created-" + executions.incrementAndGet());
+    }
+
+    @Test
+    void keyLongerThanColumn_isRejectedWithoutTouchingDatabase() {
+        String key = "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1);
+
+        StepVerifier.create(service.execute("project", key, new Body("a"), String.class, this::action))
+                .expectError(InvalidRequestException.class)
+                .verify();
+
+        verify(repository, never()).reserve(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void keyAtColumnLimit_isAccepted() {
+        String key = "k".repeat(IdempotencyService.MAX_KEY_LENGTH);
+        when(repository.reserve(eq("project"), eq(key), anyString(), any())).thenReturn(Mono.just(true));
+        when(repository.complete(eq("project"), eq(key), anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.execute("project", key, new Body("a"), String.class, this::action))
+                .expectNext("created-1")
+                .verifyComplete();
+    }
+
+    @Test
+    void repeatWithSameBody_isServedFromLocalCache() {
+        when(repository.reserve(anyString(), anyString(), anyString(), any())).thenReturn(Mono.just(true));
+        when(repository.complete(anyString(), anyString(), anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.execute("project", "key-1", new Body("a"), String.class, this::action))
+                .expectNext("created-1")
+                .verifyComplete();
+        StepVerifier.create(service.execute("project", "key-1", new Body("a"), String.class, this::action))
+                .expectNext("created-1")
+                .verifyComplete();
+
+        verify(repository, times(1)).reserve(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void repeatWithDifferentBody_isRejectedByLocalCache() {
+        when(repository.reserve(anyString(), anyString(), anyString(), any())).thenReturn(Mono.just(true));
+        when(repository.complete(anyString(), anyString(), anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.execute("project", "key-1", new Body("a"), String.class, this::action))
+                .expectNext("created-1")
+                .verifyComplete();
+        StepVerifier.create(service.execute("project", "key-1", new Body("b"), String.class, this::action))
+                .expectError(IdempotencyKeyReusedException.class)
+                .verify();
+    }
+
+    @Test
+    void storedResponseWithDifferentHash_isRejected() {
+        when(repository.reserve(anyString(), anyString(), anyString(), any())).thenReturn(Mono.just(false));
+        when(repository.findResponse("project", "key-1"))
+                .thenReturn(Mono.just(new StoredResponse("0".repeat(64), "\"created-0\"")));
+
+        StepVerifier.create(service.execute("project", "key-1", new Body("a"), String.class, this::action))
+                .expectError(IdempotencyKeyReusedException.class)
+                .verify();
+    }
+
+    @Test
+    void storedResponseWithoutHash_isReplayed() {
+        when(repository.reserve(anyString(), anyString(), anyString(), any())).thenReturn(Mono.just(false));
+        when(repository.findResponse("project", "key-1"))
+                .thenReturn(Mono.just(new StoredResponse(null, "\"created-0\"")));
+
+        StepVerifier.create(service.execute("project", "key-1", new Body("a"), String.class, this::action))
+                .expectNext("created-0")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.facilit.kanban.shared.rank;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FractionalRankTest {
+
+    private static void assertBetween(String lower, String key, String upper) {
+        assertThat(key).doesNotEndWith("0");
+        if (lower != null) {
+            assertThat(key).isGreaterThan(lower);
+        }
+        if (upper != null) {
+            assertThat(key).isLessThan(upper);
+        }
+    }
+
+    @Test
+    void emptyColumn_getsTheMiddleDigit() {
+        assertThat(FractionalRank.between(null, null)).isEqualTo("V");
+    }
+
+    @Test
+    void keyBetweenDistantDigits_isASingleDigit() {
+        assertThat(FractionalRank.between("1", "3")).isEqualTo("2");
+        assertThat(FractionalRank.between("V", "z")).hasSize(1);
+    }
+
+    @Test
+    void keyBetweenAdjacentDigits_growsByOneDigit() {
+        assertThat(FractionalRank.between("1", "2")).isEqualTo("1V");
+        assertThat(FractionalRank.between("V", "W")).isEqualTo("VV");
+    }
+
+    @Test
+    void keyBetweenPrefixAndExtension_staysBelowTheExtension() {
+        String key = FractionalRank.between("1", "11");
+
+        assertThat(key).isEqualTo("10V");
+        assertBetween("1", key, "11");
+    }
+
+    @Test
+    void keyAtTheStartOfTheColumn_isBelowTheLowestDigit() {
+        assertThat(FractionalRank.between(null, "1")).isEqualTo("0V");
+        assertThat(FractionalRank.between(null, "01")).isEqualTo("00V");
+    }
+
+    @Test
+    void keyAtTheEndOfTheColumn_isAboveTheHighestDigit() {
+        assertThat(FractionalRank.between("z", null)).isEqualTo("zV");
+        assertThat(FractionalRank.between("zz", null)).isEqualTo("zzV");
+    }
+
+    @Test
+    void keyBetweenSpreadKeys_fitsBetweenNeighbours() {
+        String lower = FractionalRank.spread(1);
+        String upper = FractionalRank.spread(2);
+
+        assertBetween(lower, FractionalRank.between(lower, upper), upper);
+    }
+
+    @Test
+    void spread_matchesTheSqlRebalance() {
+        assertThat(FractionalRank.spread(1)).isEqualTo("000000001V");
+        assertThat(FractionalRank.spread(123456789)).isEqualTo("123456789V");
+        assertThat(FractionalRank.spread(9)).isLessThan(FractionalRank.spread(10));
+    }
+
+    @Test
+    void repeatedInsertionsAtTheTop_stayOrdered() {
+        String upper = FractionalRank.between(null, null);
+        for (int i = 0; i < 1_000; i++) {
+            String key = FractionalRank.between(null, upper);
+            assertBetween(null, key, upper);
+            upper = key;
+        }
+    }
+
+    @Test
+    void repeatedInsertionsAtTheBottom_stayOrdered() {
+        String lower = FractionalRank.between(null, null);
+        for (int i = 0; i < 1_000; i++) {
+            String key = FractionalRank.between(lower, null);
+            assertBetween(lower, key, null);
+            lower = key;
+        }
+    }
+
+    @Test
+    void randomInsertions_keepLexicographicOrder() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position == 0 ? null : keys.get(position - 1);
+            String upper = position == keys.size() ? null : keys.get(position);
+            String key = FractionalRank.between(lower, upper);
+            assertBetween(lower, key, upper);
+            keys.add(position, key);
+        }
+
+        assertThat(keys).isSorted();
+        assertThat(new HashSet<>(keys)).hasSize(keys.size());
+    }
+
+    @Test
+    void lowerNotBelowUpper_isRejected() {
+        assertThatThrownBy(() -> FractionalRank.between("2", "1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalRank.between("V", "V")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void invalidKeys_areRejected() {
+        assertThatThrownBy(() -> FractionalRank.between("10", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalRank.between(null, "a-b")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
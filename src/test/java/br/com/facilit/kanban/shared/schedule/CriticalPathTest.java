@@ -0,0 +1,115 @@
+package br.com.facilit.kanban.shared.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CriticalPathTest {
+
+    @Test
+    void diamond_hasZeroSlackOnTheLongestBranch() {
+        // 0 -> 1 -> 3 e 0 -> 2 -> 3; o ramo por 1 é o mais longo
+        CriticalPath.Schedule schedule = CriticalPath.compute(
+                new int[]{1, 5, 2, 1},
+                new int[]{0, 0, 0, 0},
+                new int[]{0, 0, 1, 2},
+                new int[]{1, 2, 3, 3});
+
+        assertThat(schedule.resolved()).isEqualTo(4);
+        assertThat(schedule.earliestStart()).containsExactly(0, 1, 1, 6);
+        assertThat(schedule.earliestFinish()).containsExactly(1, 6, 3, 7);
+        assertThat(schedule.latestStart()).containsExactly(0, 1, 4, 6);
+        assertThat(schedule.latestFinish()).containsExactly(1, 6, 6, 7);
+        assertThat(schedule.finish()).isEqualTo(7);
+        assertThat(schedule.slack(0)).isZero();
+        assertThat(schedule.slack(1)).isZero();
+        assertThat(schedule.slack(2)).isEqualTo(3);
+        assertThat(schedule.slack(3)).isZero();
+    }
+
+    @Test
+    void notBefore_delaysTheNodeAndItsSuccessors() {
+        CriticalPath.Schedule schedule = CriticalPath.compute(
+                new int[]{2, 3},
+                new int[]{0, 4},
+                new int[]{0},
+                new int[]{1});
+
+        assertThat(schedule.earliestStart()).containsExactly(0, 4);
+        assertThat(schedule.finish()).isEqualTo(7);
+        assertThat(schedule.slack(0)).isEqualTo(2);
+        assertThat(schedule.slack(1)).isZero();
+    }
+
+    @Test
+    void independentNode_hasSlackUntilTheGraphFinish() {
+        CriticalPath.Schedule schedule = CriticalPath.compute(
+                new int[]{2, 3, 1},
+                new int[]{0, 0, 0},
+                new int[]{0},
+                new int[]{1});
+
+        assertThat(schedule.finish()).isEqualTo(5);
+        assertThat(schedule.slack(2)).isEqualTo(4);
+    }
+
+    @Test
+    void cycleAndItsDependents_areBlocked() {
+        // 0 <-> 1 formam um ciclo, 2 depende de 1, 3 é independente
+        CriticalPath.Schedule schedule = CriticalPath.compute(
+                new int[]{1, 1, 1, 2},
+                new int[]{0, 0, 0, 0},
+                new int[]{0, 1, 1},
+                new int[]{1, 0, 2});
+
+        assertThat(schedule.resolved()).isEqualTo(1);
+        assertThat(schedule.order()[0]).isEqualTo(3);
+        assertThat(schedule.blocked(0)).isTrue();
+        assertThat(schedule.blocked(1)).isTrue();
+        assertThat(schedule.blocked(2)).isTrue();
+        assertThat(schedule.blocked(3)).isFalse();
+        assertThat(schedule.slack(2)).isEqualTo(CriticalPath.BLOCKED);
+        assertThat(schedule.earliestFinish()[2]).isEqualTo(CriticalPath.BLOCKED);
+        assertThat(schedule.latestStart()[2]).isEqualTo(CriticalPath.BLOCKED);
+        assertThat(schedule.finish()).isEqualTo(2);
+        assertThat(schedule.slack(3)).isZero();
+    }
+
+    @Test
+    void predecessorOfACycle_ignoresTheBlockedSuccessor() {
+        // 2 -> 0 e 0 <-> 1: o nó 2 é resolvido, mas o sucessor bloqueado não limita seu término
+        CriticalPath.Schedule schedule = CriticalPath.compute(
+                new int[]{1, 1, 3},
+                new int[]{0, 0, 0},
+                new int[]{2, 0, 1},
+                new int[]{0, 1, 0});
+
+        assertThat(schedule.resolved()).isEqualTo(1);
+        assertThat(schedule.blocked(2)).isFalse();
+        assertThat(schedule.latestFinish()[2]).isEqualTo(3);
+        assertThat(schedule.slack(2)).isZero();
+        assertThat(schedule.blocked(0)).isTrue();
+        assertThat(schedule.blocked(1)).isTrue();
+    }
+
+    @Test
+    void selfLoop_isBlocked() {
+        CriticalPath.Schedule schedule = CriticalPath.compute(
+                new int[]{1},
+                new int[]{0},
+                new int[]{0},
+                new int[]{0});
+
+        assertThat(schedule.resolved()).isZero();
+        assertThat(schedule.blocked(0)).isTrue();
+        assertThat(schedule.finish()).isEqualTo(CriticalPath.BLOCKED);
+    }
+
+    @Test
+    void emptyGraph_hasNoFinish() {
+        CriticalPath.Schedule schedule = CriticalPath.compute(new int[0], new int[0], new int[0], new int[0]);
+
+        assertThat(schedule.resolved()).isZero();
+        assertThat(schedule.finish()).isEqualTo(CriticalPath.BLOCKED);
+    }
+}
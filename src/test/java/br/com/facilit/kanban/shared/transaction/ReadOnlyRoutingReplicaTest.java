@@ -0,0 +1,139 @@
+package br.com.facilit.kanban.shared.transaction;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de integração do roteamento para a réplica contra os serviços {@code postgres} e
+ * {@code postgres-replica} do {@code compose.yaml}, com as migrações já aplicadas.
+ *
+ * <p>Só roda com {@code FACILIT_REPLICA_URL} definida; o primário vem de {@code SPRING_R2DBC_URL},
+ * com o endereço local do Compose como padrão.</p>
+ */
+@EnabledIfEnvironmentVariable(named = "FACILIT_REPLICA_URL", matches = ".+")
+class ReadOnlyRoutingReplicaTest {
+
+    private static final String SCOPE = "replica-test";
+    private static final Duration MAX_LAG = Duration.ofSeconds(10);
+
+    private static ReadOnlyRoutingConnectionFactory connectionFactory;
+    private static DatabaseClient databaseClient;
+    private static TransactionalOperator readWrite;
+    private static TransactionalOperator readOnly;
+
+    @BeforeAll
+    static void connect() {
+        String primaryUrl = Objects.requireNonNullElse(System.getenv("SPRING_R2DBC_URL"),
+                "r2dbc:postgresql://localhost:5432/facilit-kanban");
+        connectionFactory = new ReadOnlyRoutingConnectionFactory(
+                pool("primary", primaryUrl), pool("replica", System.getenv("FACILIT_REPLICA_URL")));
+        connectionFactory.afterPropertiesSet();
+        databaseClient = DatabaseClient.create(connectionFactory);
+
+        R2dbcTransactionManager txManager = new R2dbcTransactionManager(connectionFactory);
+        readWrite = TransactionalOperator.create(txManager);
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        readOnly = TransactionalOperator.create(txManager, definition);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        databaseClient.sql("DELETE FROM idempotency_key WHERE scope = :scope")
+                .bind("scope", SCOPE)
+                .fetch()
+                .rowsUpdated()
+                .block();
+        connectionFactory.destroy();
+    }
+
+    private static ConnectionPool pool(String name, String url) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, Objects.requireNonNullElse(System.getenv("SPRING_R2DBC_USERNAME"), "facilit"))
+                .option(ConnectionFactoryOptions.PASSWORD, Objects.requireNonNullElse(System.getenv("SPRING_R2DBC_PASSWORD"), "password"))
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name(name)
+                .maxSize(2)
+                .build());
+    }
+
+    /** Executa a consulta como o aspecto executa um método {@code readOnly}. */
+    private static <T> Mono<T> onReplica(Mono<T> query) {
+        return query.as(readOnly::transactional).contextWrite(ReadOnlyRouting::enable);
+    }
+
+    private static Mono<Boolean> inRecovery() {
+        return databaseClient.sql("SELECT pg_is_in_recovery() AS standby")
+                .map(row -> row.get("standby", Boolean.class))
+                .one();
+    }
+
+    private static Mono<Long> countKey(String key) {
+        return databaseClient.sql("SELECT count(*) AS total FROM idempotency_key WHERE scope = :scope AND request_key = :key")
+                .bind("scope", SCOPE)
+                .bind("key", key)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    @Test
+    void readOnlyTransaction_runsOnTheReplicaAndEverythingElseOnThePrimary() {
+        assertThat(onReplica(inRecovery()).block()).isTrue();
+        assertThat(inRecovery().as(readWrite::transactional).block()).isFalse();
+        assertThat(inRecovery().block()).isFalse();
+    }
+
+    @Test
+    void writeIsVisibleOnThePrimaryAtOnceAndOnTheReplicaWithinTheReplicationLag() {
+        String key = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        databaseClient.sql("""
+                        INSERT INTO idempotency_key (scope, request_key, created_at, expires_at)
+                        VALUES (:scope, :key, :now, :expires)
+                        """)
+                .bind("scope", SCOPE)
+                .bind("key", key)
+                .bind("now", now)
+                .bind("expires", now.plusMinutes(5))
+                .fetch()
+                .rowsUpdated()
+                .as(readWrite::transactional)
+                .block();
+        long written = System.nanoTime();
+
+        // Leitura logo após a escrita: no primário é garantida (por isso a listagem fica nele).
+        assertThat(countKey(key).as(readWrite::transactional).block()).isEqualTo(1L);
+
+        // Na réplica a escrita aparece depois do atraso de replicação, que precisa ser limitado.
+        Long replicated = onReplica(countKey(key))
+                .filter(total -> total > 0)
+                .repeatWhenEmpty(attempts -> attempts.delayElements(Duration.ofMillis(20)))
+                .timeout(MAX_LAG)
+                .block();
+        Duration lag = Duration.ofNanos(System.nanoTime() - written);
+
+        assertThat(replicated).isEqualTo(1L);
+        assertThat(lag).isLessThan(MAX_LAG);
+    }
+}